@@ -0,0 +1,27 @@
+package com.studora.bench;
+
+import com.studora.dto.analytics.TopicMasteryDto;
+import com.studora.service.AnalyticsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalyticsBenchmark {
+
+    private AnalyticsService analyticsService;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        analyticsService = db.bean(AnalyticsService.class);
+    }
+
+    @Benchmark
+    public Page<TopicMasteryDto> disciplinasMastery() {
+        return analyticsService.getDisciplinasMastery(null, null, PageRequest.of(0, 20), "masteryScore", "desc");
+    }
+}
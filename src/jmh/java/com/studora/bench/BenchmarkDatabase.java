@@ -0,0 +1,67 @@
+package com.studora.bench;
+
+import com.studora.StudoraApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Application context over a {@link DatasetGenerator} database, shared by all benchmarks of a fork.
+ * <p>
+ * The database lives in {@code target/bench} and is named after its scale and seed, so it is
+ * only generated on the first run for a given pair ({@code -p scale=...} / {@code -p seed=...}).
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    @Param("1")
+    public double scale;
+
+    @Param("42")
+    public long seed;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        Path dir = Path.of("target", "bench");
+        Files.createDirectories(dir);
+        Path file = dir.resolve("studora-" + scale + "-" + seed + ".db");
+        if (Files.notExists(file)) {
+            DatasetGenerator.generate(file, scale, seed);
+        }
+
+        context = new SpringApplicationBuilder(StudoraApplication.class)
+                .web(WebApplicationType.NONE)
+                // Command-line arguments, so they win over application.properties
+                .run("--spring.datasource.url=jdbc:sqlite:" + file + "?journal_mode=WAL&synchronous=NORMAL",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.hibernate.stat=WARN");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public TransactionTemplate transactions() {
+        return bean(TransactionTemplate.class);
+    }
+}
@@ -0,0 +1,26 @@
+package com.studora.bench;
+
+import com.studora.dto.MetricsLevel;
+import com.studora.dto.concurso.ConcursoDetailDto;
+import com.studora.service.ConcursoService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConcursoBenchmark {
+
+    private ConcursoService concursoService;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        concursoService = db.bean(ConcursoService.class);
+    }
+
+    @Benchmark
+    public ConcursoDetailDto concursoDetailFull() {
+        return concursoService.getConcursoDetailById(1L, MetricsLevel.FULL);
+    }
+}
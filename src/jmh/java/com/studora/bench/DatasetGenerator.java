@@ -0,0 +1,362 @@
+package com.studora.bench;
+
+import com.studora.util.StringUtils;
+import org.flywaydb.core.Flyway;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds a production-shaped SQLite database for load tests and benchmarks.
+ * <p>
+ * The schema is migrated up to V12 with Flyway, filled with batched JDBC inserts, and then
+ * migrated to the latest version, so V13 builds the daily roll-up from the generated respostas.
+ * Every value comes from a {@link Random} seeded with {@code seed}: the same scale and seed
+ * give the same rows, with dates relative to the day of generation.
+ * <p>
+ * At scale 1: 50k questões with 2–5 alternativas, 500k respostas, 20k estudos and 400
+ * concursos over a fixed taxonomy of 20 disciplinas, 160 temas and 960 subtemas. Questão
+ * popularity, answer recency and subtema usage are skewed towards a few hot items.
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.studora.bench.DatasetGenerator -Dexec.args="target/load.db 2 42"
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    private static final int DISCIPLINAS = 20;
+    private static final int TEMAS_POR_DISCIPLINA = 8;
+    private static final int SUBTEMAS_POR_TEMA = 6;
+    private static final int SUBTEMAS = DISCIPLINAS * TEMAS_POR_DISCIPLINA * SUBTEMAS_POR_TEMA;
+    private static final int BANCAS = 15;
+    private static final int INSTITUICOES = 80;
+    private static final int CARGOS = 120;
+    private static final String[] AREAS = {"Fiscal", "Policial", "Tribunais", "Controle", "Saúde", "Educação", "Bancária", "TI"};
+    private static final String[] NIVEIS = {"SUPERIOR", "MEDIO", "FUNDAMENTAL"};
+
+    private static final int BATCH = 10_000;
+    private static final DateTimeFormatter CREATED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final double scale;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).plusHours(23);
+
+    // Per questão (0-based index): first alternativa id, alternativa count and ordem of the correct one
+    private long[] primeiraAlternativa;
+    private int[] alternativas;
+    private int[] corretaOrdem;
+    private double[] facilidade;
+
+    private DatasetGenerator(double scale, long seed) {
+        this.scale = scale;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Uso: DatasetGenerator <arquivo.db> [escala=1] [seed=42]");
+            System.exit(1);
+        }
+        Path file = Path.of(args[0]);
+        double scale = args.length > 1 ? Double.parseDouble(args[1]) : 1;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        long start = System.nanoTime();
+        generate(file, scale, seed);
+        System.out.printf("%s gerado em %d ms%n", file, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** Creates {@code file}, which must not exist yet. */
+    public static void generate(Path file, double scale, long seed) throws SQLException, java.io.IOException {
+        if (Files.exists(file)) throw new IllegalArgumentException(file + " já existe");
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        // Bulk-load settings for this process only: no journal, no fsync, and a page cache large
+        // enough to hold the resposta indexes (also used by Flyway while V13 backfills the roll-up)
+        String url = "jdbc:sqlite:" + file + "?journal_mode=OFF&synchronous=OFF&cache_size=-524288&temp_store=MEMORY";
+
+        migrate(url, "12");
+        try (Connection connection = DriverManager.getConnection(url)) {
+            connection.setAutoCommit(false);
+            new DatasetGenerator(scale, seed).populate(connection);
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+        migrate(url, "latest");
+    }
+
+    private static void migrate(String url, String target) {
+        Flyway.configure()
+                .dataSource(url, "", "")
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private void populate(Connection c) throws SQLException {
+        int concursos = scaled(400);
+        int questoes = scaled(50_000);
+
+        // Building each index once at the end is much cheaper than maintaining it row by row
+        Map<String, String> indexes = dropIndexes(c);
+        referenceData(c);
+        int[] concursoCargos = concursos(c, concursos);
+        questoes(c, questoes, concursos, concursoCargos);
+        respostas(c, scaled(500_000));
+        estudos(c, scaled(20_000));
+        try (Statement st = c.createStatement()) {
+            for (String ddl : indexes.values()) st.execute(ddl);
+        }
+    }
+
+    /** Drops the explicitly created indexes (not the ones backing constraints) and returns their DDL by name. */
+    private static Map<String, String> dropIndexes(Connection c) throws SQLException {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        try (Statement st = c.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT name, sql FROM sqlite_master WHERE type = 'index' AND sql IS NOT NULL")) {
+                while (rs.next()) indexes.put(rs.getString("name"), rs.getString("sql"));
+            }
+            for (String name : indexes.keySet()) st.execute("DROP INDEX \"" + name + "\"");
+        }
+        return indexes;
+    }
+
+    private void referenceData(Connection c) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement("INSERT INTO banca (id, nome, nome_normalized, sigla, sigla_normalized) VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= BANCAS; id++) {
+                String nome = "Banca Examinadora " + id;
+                bind(ps, id, nome, StringUtils.normalizeForSearch(nome), "BE" + id, "be" + id);
+            }
+            ps.executeBatch();
+        }
+        try (PreparedStatement ps = c.prepareStatement("INSERT INTO instituicao (id, nome, nome_normalized, area, area_normalized, sigla, sigla_normalized) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= INSTITUICOES; id++) {
+                String nome = "Instituição " + id;
+                String area = AREAS[id % AREAS.length];
+                bind(ps, id, nome, StringUtils.normalizeForSearch(nome), area, StringUtils.normalizeForSearch(area), "INST" + id, "inst" + id);
+            }
+            ps.executeBatch();
+        }
+        try (PreparedStatement ps = c.prepareStatement("INSERT INTO cargo (id, nome, nome_normalized, nivel, area, area_normalized) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= CARGOS; id++) {
+                String nome = "Cargo " + id;
+                String area = AREAS[(id / 3) % AREAS.length];
+                bind(ps, id, nome, StringUtils.normalizeForSearch(nome), NIVEIS[id % NIVEIS.length], area, StringUtils.normalizeForSearch(area));
+            }
+            ps.executeBatch();
+        }
+
+        try (PreparedStatement disciplina = c.prepareStatement("INSERT INTO disciplina (id, nome, nome_normalized) VALUES (?, ?, ?)");
+             PreparedStatement tema = c.prepareStatement("INSERT INTO tema (id, disciplina_id, nome, nome_normalized) VALUES (?, ?, ?, ?)");
+             PreparedStatement subtema = c.prepareStatement("INSERT INTO subtema (id, tema_id, nome, nome_normalized) VALUES (?, ?, ?, ?)")) {
+            int temaId = 0;
+            int subtemaId = 0;
+            for (int d = 1; d <= DISCIPLINAS; d++) {
+                String nome = "Disciplina " + d;
+                bind(disciplina, d, nome, StringUtils.normalizeForSearch(nome));
+                for (int t = 0; t < TEMAS_POR_DISCIPLINA; t++) {
+                    String nomeTema = "Tema " + d + "." + (t + 1);
+                    bind(tema, ++temaId, d, nomeTema, StringUtils.normalizeForSearch(nomeTema));
+                    for (int s = 0; s < SUBTEMAS_POR_TEMA; s++) {
+                        String nomeSubtema = "Subtema " + d + "." + (t + 1) + "." + (s + 1);
+                        bind(subtema, ++subtemaId, temaId, nomeSubtema, StringUtils.normalizeForSearch(nomeSubtema));
+                    }
+                }
+            }
+            disciplina.executeBatch();
+            tema.executeBatch();
+            subtema.executeBatch();
+        }
+    }
+
+    /** Per concurso (0-based): id of its first concurso_cargo * 8 + how many it has (at most 4). */
+    private int[] concursos(Connection c, int concursos) throws SQLException {
+        int[] concursoCargos = new int[concursos];
+        try (PreparedStatement concurso = c.prepareStatement("INSERT INTO concurso (id, instituicao_id, banca_id, ano, mes, data_prova, finalizado) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement concursoCargo = c.prepareStatement("INSERT INTO concurso_cargo (id, concurso_id, cargo_id, inscrito) VALUES (?, ?, ?, ?)");
+             PreparedStatement cargoSubtema = c.prepareStatement("INSERT INTO concurso_cargo_subtema (concurso_cargo_id, subtema_id) VALUES (?, ?)")) {
+            int concursoCargoId = 0;
+            for (int i = 0; i < concursos; i++) {
+                // (instituição, banca, ano) is unique by construction; the month is free
+                int ano = 2010 + (i / (INSTITUICOES * BANCAS)) % 16;
+                int mes = 1 + random.nextInt(12);
+                bind(concurso, i + 1, i % INSTITUICOES + 1, (i / INSTITUICOES) % BANCAS + 1, ano, mes,
+                        String.format("%d-%02d-15 09:00:00", ano, mes), ano < 2024 ? 1 : 0);
+
+                int cargos = 1 + random.nextInt(4);
+                int firstCargo = random.nextInt(CARGOS);
+                concursoCargos[i] = (concursoCargoId + 1) * 8 + cargos;
+                for (int k = 0; k < cargos; k++) {
+                    bind(concursoCargo, ++concursoCargoId, i + 1, (firstCargo + k * 7) % CARGOS + 1, random.nextInt(20) == 0 ? 1 : 0);
+                    // Each edital covers a contiguous block of subtemas
+                    int first = random.nextInt(SUBTEMAS);
+                    int count = 10 + random.nextInt(31);
+                    for (int s = 0; s < count; s++) {
+                        bind(cargoSubtema, concursoCargoId, (first + s) % SUBTEMAS + 1);
+                    }
+                }
+                flushEvery(i, concurso, concursoCargo, cargoSubtema);
+            }
+            concurso.executeBatch();
+            concursoCargo.executeBatch();
+            cargoSubtema.executeBatch();
+        }
+        return concursoCargos;
+    }
+
+    private void questoes(Connection c, int questoes, int concursos, int[] concursoCargos) throws SQLException {
+        primeiraAlternativa = new long[questoes];
+        alternativas = new int[questoes];
+        corretaOrdem = new int[questoes];
+        facilidade = new double[questoes];
+
+        // Some subtemas are much more common than others
+        int[] subtemaRank = permutation(SUBTEMAS);
+
+        try (PreparedStatement questao = c.prepareStatement("INSERT INTO questao (id, concurso_id, enunciado, anulada, desatualizada, autoral, image_url) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement alternativa = c.prepareStatement("INSERT INTO alternativa (id, questao_id, ordem, texto, correta, justificativa) VALUES (?, ?, ?, ?, ?, ?)");
+             PreparedStatement questaoSubtema = c.prepareStatement("INSERT INTO questao_subtema (questao_id, subtema_id) VALUES (?, ?)");
+             PreparedStatement questaoCargo = c.prepareStatement("INSERT INTO questao_cargo (questao_id, concurso_cargo_id) VALUES (?, ?)")) {
+            long alternativaId = 0;
+            for (int i = 0; i < questoes; i++) {
+                long id = i + 1;
+                boolean autoral = random.nextInt(50) == 0;
+                int concurso = random.nextInt(concursos);
+                bind(questao, id, autoral ? null : concurso + 1, enunciado(id), random.nextInt(100) == 0 ? 1 : 0,
+                        random.nextInt(200) == 0 ? 1 : 0, autoral ? 1 : 0, random.nextInt(25) == 0 ? "/img/q" + id + ".png" : null);
+
+                // 30% Certo/Errado, the rest multiple choice with 4 or 5 alternativas
+                int count = random.nextInt(10) < 3 ? 2 : 4 + random.nextInt(2);
+                int correta = 1 + random.nextInt(count);
+                primeiraAlternativa[i] = alternativaId + 1;
+                alternativas[i] = count;
+                corretaOrdem[i] = correta;
+                facilidade[i] = random.nextDouble();
+                for (int ordem = 1; ordem <= count; ordem++) {
+                    bind(alternativa, ++alternativaId, id, ordem, "Alternativa " + ordem + " da questão " + id,
+                            ordem == correta ? 1 : 0, random.nextInt(3) == 0 ? "Justificativa da alternativa " + ordem : null);
+                }
+
+                int subtema = subtemaRank[skewed(SUBTEMAS, 1.8)];
+                bind(questaoSubtema, id, subtema + 1);
+                if (random.nextInt(7) == 0) {
+                    // A second subtema of the same tema
+                    int vizinho = subtema - subtema % SUBTEMAS_POR_TEMA + (subtema + 1) % SUBTEMAS_POR_TEMA;
+                    bind(questaoSubtema, id, vizinho + 1);
+                }
+
+                if (!autoral) {
+                    int first = concursoCargos[concurso] / 8;
+                    int cargos = concursoCargos[concurso] % 8;
+                    int linked = 1 + random.nextInt(cargos);
+                    for (int k = 0; k < linked; k++) bind(questaoCargo, id, first + k);
+                }
+                flushEvery(i, questao, alternativa, questaoSubtema, questaoCargo);
+            }
+            questao.executeBatch();
+            alternativa.executeBatch();
+            questaoSubtema.executeBatch();
+            questaoCargo.executeBatch();
+        }
+    }
+
+    private void respostas(Connection c, int respostas) throws SQLException {
+        int questoes = alternativas.length;
+        // A few questões are answered over and over, most only once or never
+        int[] popularidade = permutation(questoes);
+
+        // Recent days are busier than old ones; ids grow with created_at as they do in production
+        long[] minutosAtras = new long[respostas];
+        for (int i = 0; i < respostas; i++) minutosAtras[i] = (long) (730 * 24 * 60 * Math.pow(random.nextDouble(), 2));
+        Arrays.sort(minutosAtras);
+
+        try (PreparedStatement ps = c.prepareStatement("INSERT INTO resposta (questao_id, alternativa_id, justificativa, dificuldade_id, tempo_resposta_segundos, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < respostas; i++) {
+                int q = popularidade[skewed(questoes, 2.5)];
+                boolean acertou = random.nextDouble() < 0.3 + 0.6 * facilidade[q];
+                int ordem = acertou ? corretaOrdem[q] : outraOrdem(q);
+                int dificuldade = acertou ? 1 + random.nextInt(2) : 3 + random.nextInt(2);
+                int tempo = 15 + (int) (random.nextDouble() * random.nextDouble() * 300);
+                String createdAt = CREATED_AT.format(now.minusMinutes(minutosAtras[respostas - 1 - i]));
+                bind(ps, q + 1, primeiraAlternativa[q] + ordem - 1, random.nextInt(10) == 0 ? "Anotação" : null,
+                        dificuldade, tempo, createdAt, createdAt);
+                flushEvery(i, ps);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void estudos(Connection c, int estudos) throws SQLException {
+        int[] subtemaRank = permutation(SUBTEMAS);
+        try (PreparedStatement ps = c.prepareStatement("INSERT INTO estudo_subtema (subtema_id, created_at, updated_at) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < estudos; i++) {
+                String createdAt = CREATED_AT.format(now.minusMinutes((long) (365 * 24 * 60 * Math.pow(random.nextDouble(), 1.5))));
+                bind(ps, subtemaRank[skewed(SUBTEMAS, 2.0)] + 1, createdAt, createdAt);
+                flushEvery(i, ps);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private int outraOrdem(int q) {
+        int ordem = 1 + random.nextInt(alternativas[q] - 1);
+        return ordem >= corretaOrdem[q] ? ordem + 1 : ordem;
+    }
+
+    private String enunciado(long id) {
+        StringBuilder sb = new StringBuilder("Questão ").append(id).append(": ");
+        int palavras = 20 + random.nextInt(120);
+        for (int w = 0; w < palavras; w++) sb.append("termo").append(random.nextInt(5000)).append(' ');
+        return sb.toString().trim();
+    }
+
+    /** Index in [0, n) biased towards 0; the larger the exponent, the stronger the skew. */
+    private int skewed(int n, double exponent) {
+        return Math.min(n - 1, (int) (n * Math.pow(random.nextDouble(), exponent)));
+    }
+
+    private int[] permutation(int n) {
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) p[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = p[i];
+            p[i] = p[j];
+            p[j] = tmp;
+        }
+        return p;
+    }
+
+    private int scaled(int base) {
+        return Math.max(1, (int) Math.round(base * scale));
+    }
+
+    private static void bind(PreparedStatement ps, Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) ps.setNull(i + 1, Types.NULL);
+            else ps.setObject(i + 1, values[i]);
+        }
+        ps.addBatch();
+    }
+
+    private static void flushEvery(int i, PreparedStatement... statements) throws SQLException {
+        if ((i + 1) % BATCH != 0) return;
+        for (PreparedStatement ps : statements) ps.executeBatch();
+    }
+}
@@ -0,0 +1,93 @@
+package com.studora.bench;
+
+import com.studora.common.constants.AppConstants;
+import com.studora.dto.PageResponse;
+import com.studora.dto.questao.QuestaoDetailDto;
+import com.studora.dto.questao.QuestaoFilter;
+import com.studora.dto.questao.QuestaoRandomFilter;
+import com.studora.dto.questao.QuestaoSummaryDto;
+import com.studora.service.QuestaoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuestaoBenchmark {
+
+    private static final Sort NEWEST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final int DEEP_OFFSET = 5_000;
+
+    private QuestaoService questaoService;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        questaoService = db.bean(QuestaoService.class);
+        deepCursor = questaoService.findAfter(new QuestaoFilter(), NEWEST, DEEP_OFFSET, null).getNext();
+    }
+
+    @Benchmark
+    public Page<QuestaoSummaryDto> findAllByDisciplinaAndBanca() {
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setDisciplinaId(1L);
+        filter.setBancaId(1L);
+        filter.setAnulada(false);
+        return questaoService.findAll(filter, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Page<QuestaoSummaryDto> findAllByCargoNivel() {
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setCargoNivel(com.studora.entity.NivelCargo.SUPERIOR);
+        return questaoService.findAll(filter, PageRequest.of(5, 20));
+    }
+
+    // The same deep page by OFFSET (plus COUNT) and by keyset cursor; the cursor one should match page 0
+    @Benchmark
+    public Page<QuestaoSummaryDto> deepPageByOffset() {
+        return questaoService.findAll(new QuestaoFilter(), PageRequest.of(DEEP_OFFSET / 20, 20, NEWEST));
+    }
+
+    @Benchmark
+    public PageResponse<QuestaoSummaryDto> deepPageByCursor() {
+        return questaoService.findAfter(new QuestaoFilter(), NEWEST, 20, deepCursor);
+    }
+
+    @Benchmark
+    public PageResponse<QuestaoSummaryDto> firstPageByCursor() {
+        return questaoService.findAfter(new QuestaoFilter(), NEWEST, 20, null);
+    }
+
+    // Full-text search ranked by relevance, alone and combined with a taxonomy filter
+    @Benchmark
+    public Page<QuestaoSummaryDto> searchByRelevance() {
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setQ("termo123 termo77");
+        return questaoService.findAll(filter, relevance());
+    }
+
+    @Benchmark
+    public Page<QuestaoSummaryDto> searchSingleTermInDisciplina() {
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setQ("termo123");
+        filter.setDisciplinaId(1L);
+        return questaoService.findAll(filter, relevance());
+    }
+
+    private static PageRequest relevance() {
+        return PageRequest.of(0, 20, Sort.by(Sort.Order.desc(AppConstants.SORT_RELEVANCIA), Sort.Order.desc("id")));
+    }
+
+    // Should stay flat as questoes grows: the filter's id array is cached and a pick is an index lookup
+    @Benchmark
+    public QuestaoDetailDto randomQuestao() {
+        QuestaoRandomFilter filter = new QuestaoRandomFilter();
+        filter.setDisciplinaId(1L);
+        return questaoService.getRandomQuestao(filter);
+    }
+}
@@ -0,0 +1,50 @@
+package com.studora.bench;
+
+import com.studora.dto.request.SimuladoGenerationRequest;
+import com.studora.service.SimuladoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimuladoBenchmark {
+
+    private SimuladoService simuladoService;
+    private TransactionTemplate transactions;
+    private SimuladoGenerationRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        simuladoService = db.bean(SimuladoService.class);
+        transactions = db.transactions();
+
+        request = new SimuladoGenerationRequest();
+        request.setNome("Benchmark");
+        request.setBancaId(1L);
+        request.setCargoId(1L);
+        request.setAreas(List.of("Fiscal"));
+        request.setDisciplinas(List.of(selection(1L, 20), selection(2L, 20)));
+        request.setTemas(List.of(selection(31L, 10)));
+        request.setSubtemas(List.of(selection(501L, 5)));
+    }
+
+    // Rolled back so the database does not grow between invocations
+    @Benchmark
+    public Long gerarSimulado() {
+        return transactions.execute(status -> {
+            status.setRollbackOnly();
+            return simuladoService.gerarSimulado(request);
+        });
+    }
+
+    private static SimuladoGenerationRequest.ItemSelection selection(Long id, int quantidade) {
+        SimuladoGenerationRequest.ItemSelection item = new SimuladoGenerationRequest.ItemSelection();
+        item.setId(id);
+        item.setQuantidade(quantidade);
+        return item;
+    }
+}
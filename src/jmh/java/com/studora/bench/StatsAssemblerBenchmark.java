@@ -0,0 +1,32 @@
+package com.studora.bench;
+
+import com.studora.dto.MetricsLevel;
+import com.studora.dto.QuestaoStatsDto;
+import com.studora.service.StatsAssembler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatsAssemblerBenchmark {
+
+    @Param({"DISCIPLINA", "TEMA", "SUBTEMA", "BANCA", "INSTITUICAO", "CARGO"})
+    public String scopeType;
+
+    @Param({"SUMMARY", "FULL"})
+    public MetricsLevel metrics;
+
+    private StatsAssembler statsAssembler;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        statsAssembler = db.bean(StatsAssembler.class);
+    }
+
+    @Benchmark
+    public QuestaoStatsDto buildStats() {
+        return statsAssembler.buildStats(1L, scopeType, metrics);
+    }
+}
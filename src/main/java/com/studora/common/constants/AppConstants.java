@@ -20,6 +20,11 @@ public final class AppConstants {
     public static final String DEFAULT_PAGE_SIZE_STR = "20";
     public static final int DEFAULT_PAGE_NUMBER = 0;
     public static final String DEFAULT_PAGE_NUMBER_STR = "0";
+
+    /**
+     * Sort key for ordering questões by full-text relevance (only meaningful with a search term).
+     */
+    public static final String SORT_RELEVANCIA = "relevancia";
     
     // ========================================
     // General Validation
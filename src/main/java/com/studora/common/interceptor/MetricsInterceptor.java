@@ -0,0 +1,54 @@
+package com.studora.common.interceptor;
+
+import com.studora.common.metrics.HandlerMetricsRegistry;
+import com.studora.common.metrics.RequestMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Records latency and Hibernate work of every controller method in {@link HandlerMetricsRegistry}.
+ */
+public class MetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_NANOS_ATTR = MetricsInterceptor.class.getName() + ".start";
+    private static final String WORK_ATTR = MetricsInterceptor.class.getName() + ".work";
+
+    private final HandlerMetricsRegistry registry;
+
+    public MetricsInterceptor(HandlerMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_NANOS_ATTR, System.nanoTime());
+            RequestMetrics.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        // The servlet thread is released; keep what it did and stop counting on it
+        RequestMetrics work = RequestMetrics.end();
+        if (work != null) request.setAttribute(WORK_ATTR, work);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler, @Nullable Exception ex) {
+        Long start = (Long) request.getAttribute(START_NANOS_ATTR);
+        if (start == null || !(handler instanceof HandlerMethod method)) return;
+
+        RequestMetrics work = (RequestMetrics) request.getAttribute(WORK_ATTR);
+        RequestMetrics current = RequestMetrics.end();
+        if (work == null) work = current;
+
+        registry.record(method.getBeanType().getSimpleName() + "#" + method.getMethod().getName(),
+                System.nanoTime() - start, work);
+    }
+}
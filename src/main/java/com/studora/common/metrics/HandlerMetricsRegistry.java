@@ -0,0 +1,67 @@
+package com.studora.common.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and Hibernate work aggregated per handler method ({@code Controller#method}).
+ */
+public class HandlerMetricsRegistry {
+
+    private final Map<String, HandlerMetrics> handlers = new ConcurrentHashMap<>();
+
+    public record Snapshot(String handler, long requests, double p50Ms, double p95Ms, double p99Ms, double maxMs,
+                           long statements, double statementsPerRequest, long maxStatements,
+                           long entitiesLoaded, long collectionsFetched, long cacheHits, long cacheMisses) {}
+
+    public void record(String handler, long elapsedNanos, RequestMetrics work) {
+        HandlerMetrics metrics = handlers.computeIfAbsent(handler, key -> new HandlerMetrics());
+        metrics.latencyMicros.record(elapsedNanos / 1_000);
+        if (work == null) return;
+        metrics.statements.add(work.getStatements());
+        metrics.maxStatements.accumulateAndGet(work.getStatements(), Math::max);
+        metrics.entitiesLoaded.add(work.getEntitiesLoaded());
+        metrics.collectionsFetched.add(work.getCollectionsFetched());
+        metrics.cacheHits.add(work.getCacheHits());
+        metrics.cacheMisses.add(work.getCacheMisses());
+    }
+
+    public List<Snapshot> snapshot() {
+        return handlers.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparing(Snapshot::handler))
+                .toList();
+    }
+
+    public void reset() {
+        handlers.clear();
+    }
+
+    private static final class HandlerMetrics {
+        private final LatencyHistogram latencyMicros = new LatencyHistogram();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+        private final LongAdder entitiesLoaded = new LongAdder();
+        private final LongAdder collectionsFetched = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder cacheMisses = new LongAdder();
+
+        Snapshot snapshot(String handler) {
+            long requests = latencyMicros.count();
+            long totalStatements = statements.sum();
+            return new Snapshot(handler, requests,
+                    millis(latencyMicros.percentile(0.50)), millis(latencyMicros.percentile(0.95)),
+                    millis(latencyMicros.percentile(0.99)), millis(latencyMicros.max()),
+                    totalStatements, requests == 0 ? 0 : (double) totalStatements / requests, maxStatements.get(),
+                    entitiesLoaded.sum(), collectionsFetched.sum(), cacheHits.sum(), cacheMisses.sum());
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
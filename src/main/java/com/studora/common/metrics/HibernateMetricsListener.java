@@ -0,0 +1,21 @@
+package com.studora.common.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Counts prepared statements and second-level cache lookups of each session.
+ * <p>
+ * Registered through {@code hibernate.session.events.auto}, so Hibernate creates one per session.
+ */
+public class HibernateMetricsListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        RequestMetrics.statementPrepared();
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestMetrics.cacheGet(hit);
+    }
+}
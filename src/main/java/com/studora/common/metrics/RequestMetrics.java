@@ -0,0 +1,71 @@
+package com.studora.common.metrics;
+
+/**
+ * Hibernate work done by the request running on the current thread.
+ * <p>
+ * {@link #begin()} and {@link #end()} are called by the web interceptor; the Hibernate listeners
+ * only count while a request is open on their thread, so startup and background work are ignored.
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entitiesLoaded;
+    private long collectionsFetched;
+    private long cacheHits;
+    private long cacheMisses;
+
+    public static void begin() {
+        CURRENT.set(new RequestMetrics());
+    }
+
+    /** Detaches and returns the counters of the current thread, or null when no request was open. */
+    public static RequestMetrics end() {
+        RequestMetrics metrics = CURRENT.get();
+        CURRENT.remove();
+        return metrics;
+    }
+
+    static void statementPrepared() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) metrics.statements++;
+    }
+
+    static void entityLoaded() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) metrics.entitiesLoaded++;
+    }
+
+    static void collectionFetched() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) metrics.collectionsFetched++;
+    }
+
+    static void cacheGet(boolean hit) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics == null) return;
+        if (hit) metrics.cacheHits++;
+        else metrics.cacheMisses++;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getCollectionsFetched() {
+        return collectionsFetched;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+}
@@ -0,0 +1,161 @@
+package com.studora.config;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Size-bounded LRU cache with an optional time-to-live.
+ * <p>
+ * Each entry is tagged with the ids its value was computed from (see {@code tagger}), so writes
+ * can drop only the entries that depend on the rows they touched via {@link #evictTagged}.
+ */
+public class BoundedCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Function<Object, Set<Long>> tagger;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<Object>> keysByTag = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public BoundedCache(String name, int maxEntries, Duration ttl, Function<Object, Set<Long>> tagger) {
+        this(name, maxEntries, ttl, tagger, Clock.systemUTC());
+    }
+
+    public BoundedCache(String name, int maxEntries, Duration ttl, Function<Object, Set<Long>> tagger, Clock clock) {
+        super(true);
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl == null || ttl.isZero() || ttl.isNegative() ? null : ttl;
+        this.tagger = tagger;
+        this.clock = clock;
+    }
+
+    private record Entry(Object value, long expiresAt, Set<Long> tags) {}
+
+    public record Stats(String name, int size, int maxEntries, long hits, long misses, long evictions, double hitRate) {}
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    @Override
+    protected synchronized Object lookup(Object key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() < clock.millis()) {
+            remove(key);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public synchronized void put(Object key, Object value) {
+        remove(key);
+        Set<Long> tags = value == null || tagger == null ? Set.of() : tagger.apply(value);
+        long expiresAt = ttl == null ? Long.MAX_VALUE : clock.millis() + ttl.toMillis();
+        entries.put(key, new Entry(toStoreValue(value), expiresAt, tags));
+        for (Long tag : tags) {
+            keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key);
+        }
+        while (entries.size() > maxEntries) {
+            remove(entries.keySet().iterator().next());
+            evictions++;
+        }
+    }
+
+    @Override
+    public synchronized ValueWrapper putIfAbsent(Object key, Object value) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() >= clock.millis()) {
+            return toValueWrapper(entry.value());
+        }
+        put(key, value);
+        return null;
+    }
+
+    /** Whether a live entry exists, without counting a hit or a miss. */
+    public synchronized boolean contains(Object key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.expiresAt() >= clock.millis();
+    }
+
+    @Override
+    public synchronized void evict(Object key) {
+        remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        keysByTag.clear();
+    }
+
+    /** Drops every entry whose value was built from any of the given ids. */
+    public synchronized void evictTagged(Collection<Long> ids) {
+        for (Long id : ids) {
+            Set<Object> keys = keysByTag.get(id);
+            if (keys != null) {
+                new ArrayList<>(keys).forEach(this::remove);
+            }
+        }
+    }
+
+    public synchronized Stats getStats() {
+        long requests = hits + misses;
+        double hitRate = requests == 0 ? 0.0 : (double) hits / requests;
+        return new Stats(name, entries.size(), maxEntries, hits, misses, evictions, hitRate);
+    }
+
+    private void remove(Object key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) return;
+        for (Long tag : entry.tags()) {
+            Set<Object> keys = keysByTag.get(tag);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) keysByTag.remove(tag);
+            }
+        }
+    }
+}
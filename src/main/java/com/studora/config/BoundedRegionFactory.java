@@ -0,0 +1,136 @@
+package com.studora.config;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache whose entity and query regions are {@link BoundedCache}s.
+ * <p>
+ * Entities read inside a transaction are only cached once it commits: SQLite hands the ids of
+ * rolled-back inserts out again, so a row seen by a rolled-back transaction must never be cached.
+ * The timestamps region is unbounded, as dropping one of its entries would let stale query results through.
+ */
+public class BoundedRegionFactory extends RegionFactoryTemplate {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Map<String, BoundedCache> regions = new ConcurrentHashMap<>();
+    private volatile SessionFactoryImplementor sessionFactory;
+
+    public BoundedRegionFactory(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+    }
+
+    /** Size and evictions of each entity and query region; hits and misses come from Hibernate's statistics. */
+    public List<BoundedCache.Stats> getStats() {
+        Statistics statistics = sessionFactory == null ? null : sessionFactory.getStatistics();
+        List<BoundedCache.Stats> stats = new ArrayList<>();
+        regions.forEach((name, cache) -> {
+            BoundedCache.Stats own = cache.getStats();
+            CacheRegionStatistics region = statistics != null && statistics.isStatisticsEnabled()
+                    ? statistics.getCacheRegionStatistics(name)
+                    : null;
+            long hits = region == null ? 0 : region.getHitCount();
+            long misses = region == null ? 0 : region.getMissCount();
+            double hitRate = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+            stats.add(new BoundedCache.Stats(name, own.size(), own.maxEntries(), hits, misses, own.evictions(), hitRate));
+        });
+        return stats;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.clear();
+        sessionFactory = null;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new Storage(region(regionConfig.getRegionName()), true);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new Storage(region(regionName), false);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        this.sessionFactory = sessionFactory;
+        return new Storage(new BoundedCache(regionName, Integer.MAX_VALUE, null, null), false);
+    }
+
+    private BoundedCache region(String name) {
+        return regions.computeIfAbsent(name, n -> new BoundedCache(n, maxEntries, ttl, null));
+    }
+
+    private static class Storage implements DomainDataStorageAccess {
+
+        private final BoundedCache cache;
+        private final boolean putLoadsAfterCommit;
+
+        Storage(BoundedCache cache, boolean putLoadsAfterCommit) {
+            this.cache = cache;
+            this.putLoadsAfterCommit = putLoadsAfterCommit;
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            Cache.ValueWrapper value = cache.get(key);
+            return value == null ? null : value.get();
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            // Locks taken by writers apply at once; what a running transaction read waits for its commit
+            if (putLoadsAfterCommit && !(value instanceof SoftLock)
+                    && session.isTransactionInProgress() && session.isEventSource()) {
+                session.asEventSource().getActionQueue().registerProcess((success, s) -> {
+                    if (success) cache.putIfAbsent(key, value);
+                });
+                return;
+            }
+            cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.contains(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.clear();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.evict(key);
+        }
+
+        @Override
+        public void release() {
+            cache.clear();
+        }
+    }
+}
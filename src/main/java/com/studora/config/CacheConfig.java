@@ -0,0 +1,76 @@
+package com.studora.config;
+
+import com.studora.dto.banca.BancaSummaryDto;
+import com.studora.dto.disciplina.DisciplinaSummaryDto;
+import com.studora.dto.subtema.SubtemaSummaryDto;
+import com.studora.dto.tema.TemaSummaryDto;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Stats caches whose entries can be invalidated per id. Each maps the cached list/page to
+     * the ids of the scopes it contains, which are the ids {@code StatsCacheInvalidator} evicts by.
+     */
+    private static final Map<String, Function<Object, Set<Long>>> TAGGERS = Map.of(
+            "disciplina-stats", idsOf(DisciplinaSummaryDto.class, DisciplinaSummaryDto::getId),
+            "tema-stats", idsOf(TemaSummaryDto.class, TemaSummaryDto::getId),
+            "subtema-stats", idsOf(SubtemaSummaryDto.class, SubtemaSummaryDto::getId),
+            "banca-stats", idsOf(BancaSummaryDto.class, BancaSummaryDto::getId)
+    );
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "simple", matchIfMissing = true)
+    public CacheManager cacheManager(@Value("${studora.cache.max-entries:500}") int maxEntries,
+                                     @Value("${studora.cache.ttl:30m}") Duration ttl) {
+        return new AbstractCacheManager() {
+            @Override
+            protected Collection<? extends Cache> loadCaches() {
+                List<Cache> caches = new ArrayList<>();
+                TAGGERS.forEach((name, tagger) -> caches.add(new BoundedCache(name, maxEntries, ttl, tagger)));
+                return caches;
+            }
+
+            @Override
+            protected Cache getMissingCache(String name) {
+                return new BoundedCache(name, maxEntries, ttl, null);
+            }
+        };
+    }
+
+    /** Second-level cache of the reference entities (banca, instituição, cargo, disciplina, tema, subtema). */
+    @Bean
+    public BoundedRegionFactory secondLevelCacheRegionFactory(@Value("${studora.cache.l2.max-entries:1000}") int maxEntries,
+                                                              @Value("${studora.cache.l2.ttl:1h}") Duration ttl) {
+        return new BoundedRegionFactory(maxEntries, ttl);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(BoundedRegionFactory regionFactory) {
+        return properties -> properties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+    }
+
+    private static <T> Function<Object, Set<Long>> idsOf(Class<T> type, Function<T, Long> id) {
+        return value -> {
+            if (!(value instanceof Iterable<?> items)) return Set.of();
+            Set<Long> ids = new HashSet<>();
+            for (Object item : items) {
+                if (type.isInstance(item)) ids.add(id.apply(type.cast(item)));
+            }
+            return ids;
+        };
+    }
+}
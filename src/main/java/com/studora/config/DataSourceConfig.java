@@ -0,0 +1,95 @@
+package com.studora.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * SQLite has one write lock per database, so writers on separate connections only end up retrying
+ * on SQLITE_BUSY. Writes therefore share a single connection and wait for it in the pool, while
+ * read-only transactions use their own pool with {@code PRAGMA query_only}; in WAL mode those
+ * readers never wait for the writer.
+ * <p>
+ * The routing happens on the first statement of a transaction: {@link LazyConnectionDataSourceProxy}
+ * hands out the read pool when the transaction was started with {@code readOnly = true}. Work outside
+ * a transaction goes to the writer.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource readDataSource(DataSourceProperties properties,
+                                           @Qualifier("writeDataSource") HikariDataSource writeDataSource,
+                                           @Value("${studora.datasource.read.maximum-pool-size:8}") int maximumPoolSize) {
+        HikariDataSource read = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        read.setPoolName("StudoraReadPool");
+        read.setMaximumPoolSize(maximumPoolSize);
+        read.setConnectionTimeout(writeDataSource.getConnectionTimeout());
+        read.setIdleTimeout(writeDataSource.getIdleTimeout());
+        read.setMaxLifetime(writeDataSource.getMaxLifetime());
+        // sqlite-jdbc can only open a connection read-only, not switch it, so guard it with the pragma
+        read.setConnectionInitSql("PRAGMA query_only = 1");
+        return read;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") HikariDataSource writeDataSource,
+                                 @Qualifier("readDataSource") HikariDataSource readDataSource,
+                                 @Value("${studora.datasource.write.max-queued:64}") int maxQueued) {
+        writeDataSource.setMaximumPoolSize(1);
+        writeDataSource.setMinimumIdle(1);
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(new WriteQueue(writeDataSource, maxQueued));
+        routing.setReadOnlyDataSource(readDataSource);
+        // Known up front, so the proxy does not borrow a connection to find out
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        return routing;
+    }
+
+    /**
+     * Fails fast once {@code maxQueued} threads are already waiting for the writer, rather than
+     * letting each of them sit out the pool's connection timeout.
+     */
+    static class WriteQueue extends DelegatingDataSource {
+
+        private final HikariDataSource writer;
+        private final int maxQueued;
+
+        WriteQueue(HikariDataSource writer, int maxQueued) {
+            super(writer);
+            this.writer = writer;
+            this.maxQueued = maxQueued;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            HikariPoolMXBean pool = writer.getHikariPoolMXBean();
+            if (pool != null && pool.getThreadsAwaitingConnection() >= maxQueued) {
+                throw new SQLTransientConnectionException(
+                        "Fila de escrita cheia: " + pool.getThreadsAwaitingConnection() + " operações aguardando", "08001");
+            }
+            return writer.getConnection();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.studora.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * SQLite-specific SQL functions usable from JPQL and Criteria queries.
+ * <p>
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class SqliteFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        // questao_fts_match(questao.id, expression): the questão matches the FTS5 expression
+        functionContributions.getFunctionRegistry().registerPattern(
+                "questao_fts_match",
+                "(?1 in (select rowid from questao_fts where questao_fts match ?2))",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+        // questao_fts_rank(questao.id, expression): BM25 score of the questão for the FTS5 expression,
+        // lower is more relevant; the enunciado weighs twice as much as the alternativas
+        functionContributions.getFunctionRegistry().registerPattern(
+                "questao_fts_rank",
+                "(select bm25(questao_fts, 2.0, 1.0) from questao_fts where questao_fts match ?2 and rowid = ?1)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
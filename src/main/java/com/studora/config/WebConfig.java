@@ -1,7 +1,10 @@
 package com.studora.config;
 
 import com.studora.common.interceptor.LoggingInterceptor;
+import com.studora.common.interceptor.MetricsInterceptor;
+import com.studora.common.metrics.HandlerMetricsRegistry;
 import com.studora.util.StringUtils;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -24,6 +27,12 @@ public class WebConfig implements WebMvcConfigurer {
         this.loggingInterceptor = loggingInterceptor;
     }
 
+    // Declared here rather than scanned so that web slice tests get it along with the interceptor
+    @Bean
+    public HandlerMetricsRegistry handlerMetricsRegistry() {
+        return new HandlerMetricsRegistry();
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -41,6 +50,7 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor);
+        registry.addInterceptor(new MetricsInterceptor(handlerMetricsRegistry()));
     }
 
     @InitBinder
@@ -0,0 +1,51 @@
+package com.studora.controller.operational;
+
+import com.studora.config.BoundedCache;
+import com.studora.config.BoundedRegionFactory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.cache.CacheManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Exposes hit/miss/eviction counters of the in-memory caches, including the Hibernate second-level cache regions.
+ */
+@RestController
+@Tag(name = "Operational", description = "Endpoints para monitoramento e operação do sistema")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+    private final BoundedRegionFactory regionFactory;
+
+    public CacheController(CacheManager cacheManager, BoundedRegionFactory regionFactory) {
+        this.cacheManager = cacheManager;
+        this.regionFactory = regionFactory;
+    }
+
+    @Operation(
+        summary = "Estatísticas dos caches",
+        description = "Retorna tamanho, limite, acertos, falhas e remoções de cada cache em memória, " +
+                      "incluindo as regiões do cache de segundo nível do Hibernate (entidades e consultas).",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+        }
+    )
+    @GetMapping("/cache/stats")
+    public List<BoundedCache.Stats> stats() {
+        Stream<BoundedCache.Stats> caches = cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .filter(BoundedCache.class::isInstance)
+                .map(cache -> ((BoundedCache) cache).getStats());
+        return Stream.concat(caches, regionFactory.getStats().stream())
+                .sorted(Comparator.comparing(BoundedCache.Stats::name))
+                .toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.studora.controller.operational;
+
+import com.studora.common.metrics.HandlerMetricsRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Exposes per-endpoint latency percentiles and Hibernate work since startup (or the last reset).
+ */
+@RestController
+@Tag(name = "Operational", description = "Endpoints para monitoramento e operação do sistema")
+public class MetricsController {
+
+    private final HandlerMetricsRegistry registry;
+
+    public MetricsController(HandlerMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Operation(
+        summary = "Métricas por endpoint",
+        description = "Retorna, para cada método de controller, o número de requisições, a latência " +
+                      "(p50, p95, p99 e máxima, em ms) e o trabalho do Hibernate: statements executados " +
+                      "(total, média e máximo por requisição), entidades carregadas, coleções inicializadas " +
+                      "e acertos/falhas do cache de segundo nível.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Métricas retornadas com sucesso")
+        }
+    )
+    @GetMapping("/metrics/handlers")
+    public List<HandlerMetricsRegistry.Snapshot> handlers() {
+        return registry.snapshot();
+    }
+
+    @Operation(
+        summary = "Zerar métricas por endpoint",
+        responses = {
+            @ApiResponse(responseCode = "204", description = "Métricas zeradas")
+        }
+    )
+    @DeleteMapping("/metrics/handlers")
+    public ResponseEntity<Void> reset() {
+        registry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
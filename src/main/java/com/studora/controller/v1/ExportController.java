@@ -0,0 +1,115 @@
+package com.studora.controller.v1;
+
+import com.studora.dto.questao.QuestaoFilter;
+import com.studora.service.ExportService;
+import com.studora.service.ExportService.Formato;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/export")
+@RequiredArgsConstructor
+@Tag(name = "Exportação", description = "Exportação completa ou incremental dos dados em NDJSON ou CSV")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @Operation(
+        summary = "Exportar questões",
+        description = "Transmite as questões que atendem aos filtros, com alternativas (incluindo o gabarito), subtemas e cargos, " +
+                      "ordenadas por ID. Com 'since', apenas as alteradas a partir dessa data. " +
+                      "A resposta é comprimida com gzip quando o cliente envia Accept-Encoding: gzip.",
+        responses = @ApiResponse(responseCode = "200", description = "Exportação transmitida",
+            content = @Content(mediaType = "application/x-ndjson",
+                examples = @ExampleObject(value = "{\"id\": 1, \"concursoId\": 10, \"enunciado\": \"Questão 1?\", \"anulada\": false, \"desatualizada\": false, \"autoral\": false, \"imageUrl\": null, \"subtemaIds\": [5], \"cargoIds\": [1], \"alternativas\": [{\"id\": 1, \"ordem\": 1, \"texto\": \"Certo\", \"correta\": true, \"justificativa\": null}], \"createdAt\": \"2026-01-10T10:00:00\", \"updatedAt\": \"2026-01-10T10:00:00\"}")))
+    )
+    @GetMapping("/questoes")
+    public ResponseEntity<StreamingResponseBody> exportQuestoes(
+            @ParameterObject @Valid QuestaoFilter filter,
+            @Parameter(description = "Apenas registros alterados a partir desta data (ISO-8601)", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Formato: ndjson ou csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("questoes", Formato.of(format), acceptEncoding,
+                (formato, out) -> exportService.exportQuestoes(filter, since, formato, out));
+    }
+
+    @Operation(
+        summary = "Exportar respostas",
+        description = "Transmite todas as respostas ordenadas por ID, indicando se a alternativa escolhida era a correta. " +
+                      "Com 'since', apenas as criadas a partir dessa data.",
+        responses = @ApiResponse(responseCode = "200", description = "Exportação transmitida",
+            content = @Content(mediaType = "application/x-ndjson",
+                examples = @ExampleObject(value = "{\"id\": 1, \"questaoId\": 1, \"alternativaId\": 3, \"correta\": true, \"simuladoId\": null, \"dificuldade\": \"FACIL\", \"tempoRespostaSegundos\": 45, \"justificativa\": null, \"createdAt\": \"2026-01-10T10:00:00\"}")))
+    )
+    @GetMapping("/respostas")
+    public ResponseEntity<StreamingResponseBody> exportRespostas(
+            @Parameter(description = "Apenas registros criados a partir desta data (ISO-8601)", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Formato: ndjson ou csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("respostas", Formato.of(format), acceptEncoding,
+                (formato, out) -> exportService.exportRespostas(since, formato, out));
+    }
+
+    @Operation(
+        summary = "Exportar simulados",
+        description = "Transmite todos os simulados ordenados por ID, com as questões na ordem do simulado. " +
+                      "Com 'since', apenas os alterados a partir dessa data.",
+        responses = @ApiResponse(responseCode = "200", description = "Exportação transmitida",
+            content = @Content(mediaType = "application/x-ndjson",
+                examples = @ExampleObject(value = "{\"id\": 1, \"nome\": \"Simulado 1\", \"bancaId\": 1, \"cargoId\": null, \"nivel\": null, \"ignorarRespondidas\": false, \"includeAutoral\": false, \"questaoIds\": [4, 2, 9], \"startedAt\": \"2026-01-10T10:00:00\", \"finishedAt\": null, \"createdAt\": \"2026-01-10T10:00:00\", \"updatedAt\": \"2026-01-10T10:00:00\"}")))
+    )
+    @GetMapping("/simulados")
+    public ResponseEntity<StreamingResponseBody> exportSimulados(
+            @Parameter(description = "Apenas registros alterados a partir desta data (ISO-8601)", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Formato: ndjson ou csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("simulados", Formato.of(format), acceptEncoding,
+                (formato, out) -> exportService.exportSimulados(since, formato, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String nome, Formato formato, String acceptEncoding,
+                                                         BiConsumer<Formato, OutputStream> export) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                export.accept(formato, compressed);
+                compressed.finish();
+            } else {
+                export.accept(formato, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.contentType + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nome + "." + formato.extension + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response.body(body);
+    }
+}
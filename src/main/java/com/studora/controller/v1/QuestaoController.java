@@ -18,7 +18,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -77,22 +76,27 @@ public class QuestaoController {
     public ResponseEntity<PageResponse<QuestaoSummaryDto>> getQuestoes(
             @ParameterObject @Valid QuestaoFilter filter,
             @Parameter(hidden = true) @PageableDefault(size = AppConstants.DEFAULT_PAGE_SIZE) Pageable pageable,
-            @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Campo de ordenação. Padrão: 'relevancia' quando há busca textual (q), 'id' caso contrário.")
+            @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "DESC") String direction,
             @Parameter(description = "Se verdadeiro, força a exibição do gabarito mesmo sem respostas recentes.")
-            @RequestParam(required = false, defaultValue = "false") boolean admin) {
+            @RequestParam(required = false, defaultValue = "false") boolean admin,
+            @Parameter(description = "Ativa a paginação por cursor: vazio para a primeira página, depois o valor de 'next' da página anterior. Não calcula totais e ignora 'page'.")
+            @RequestParam(required = false) String after) {
         
+        if (sort == null) {
+            boolean hasQuery = filter.getQ() != null && !filter.getQ().isBlank();
+            sort = hasQuery && after == null ? AppConstants.SORT_RELEVANCIA : "id";
+        }
         Pageable finalPageable = PaginationUtils.applyPrioritySort(pageable, sort, direction, Map.of(), List.of());
-        Page<QuestaoSummaryDto> questoes = questaoService.findAll(filter, finalPageable);
+        PageResponse<QuestaoSummaryDto> questoes = after != null
+                ? questaoService.findAfter(filter, finalPageable.getSort(), finalPageable.getPageSize(), after)
+                : new PageResponse<>(questaoService.findAll(filter, finalPageable));
         
         if (!admin) {
             // Apply visibility rules by nulling fields for those that should be hidden
-            java.time.LocalDateTime monthAgo = java.time.LocalDateTime.now().minusMonths(1);
             questoes.getContent().forEach(q -> {
-                boolean hasRecent = q.getRespostas() != null && q.getRespostas().stream()
-                        .anyMatch(r -> r.getCreatedAt() != null && r.getCreatedAt().isAfter(monthAgo));
-                
-                if (!hasRecent) {
+                if (!answeredWithinAMonth(q.getUltimaRespostaEm())) {
                     if (q.getAlternativas() != null) {
                         q.getAlternativas().forEach(alt -> {
                             alt.setCorreta(null);
@@ -104,7 +108,7 @@ public class QuestaoController {
             });
         }
 
-        return ResponseEntity.ok(new PageResponse<>(questoes));
+        return ResponseEntity.ok(questoes);
     }
 
     @Operation(
@@ -185,14 +189,7 @@ public class QuestaoController {
         MappingJacksonValue wrapper = new MappingJacksonValue(questao);
         
         // Logic: Visible ONLY if has a response more recent than a month
-        boolean hasRecent = false;
-        if (questao.getRespostas() != null && !questao.getRespostas().isEmpty()) {
-            java.time.LocalDateTime monthAgo = java.time.LocalDateTime.now().minusMonths(1);
-            hasRecent = questao.getRespostas().stream()
-                    .anyMatch(r -> r.getCreatedAt() != null && r.getCreatedAt().isAfter(monthAgo));
-        }
-        
-        if (hasRecent) {
+        if (answeredWithinAMonth(questao.getUltimaRespostaEm())) {
             wrapper.setSerializationView(com.studora.dto.Views.QuestaoVisivel.class);
         } else {
             wrapper.setSerializationView(com.studora.dto.Views.QuestaoOculta.class);
@@ -201,6 +198,10 @@ public class QuestaoController {
         return wrapper;
     }
 
+    private static boolean answeredWithinAMonth(java.time.LocalDateTime ultimaRespostaEm) {
+        return ultimaRespostaEm != null && ultimaRespostaEm.isAfter(java.time.LocalDateTime.now().minusMonths(1));
+    }
+
     @Operation(
         summary = "Criar nova questão",
         responses = {
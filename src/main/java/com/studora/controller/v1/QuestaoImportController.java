@@ -0,0 +1,47 @@
+package com.studora.controller.v1;
+
+import com.studora.dto.questao.QuestaoImportResultDto;
+import com.studora.service.QuestaoImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/questoes")
+@RequiredArgsConstructor
+@Tag(name = "Questoes", description = "Endpoints para gerenciamento de questões")
+public class QuestaoImportController {
+
+    private final QuestaoImportService questaoImportService;
+
+    @Operation(
+        summary = "Importar questões em lote",
+        description = "Recebe NDJSON com um objeto de criação de questão por linha, com as mesmas regras de POST /questoes. " +
+                      "As linhas são lidas em fluxo e gravadas em lotes; linhas inválidas são ignoradas e relatadas com o número da linha.",
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                examples = @ExampleObject(value = "{\"autoral\": true, \"enunciado\": \"Questão 1?\", \"subtemaIds\": [5], \"alternativas\": [{\"ordem\": 1, \"texto\": \"Certo\", \"correta\": true}, {\"ordem\": 2, \"texto\": \"Errado\", \"correta\": false}]}\n" +
+                                          "{\"concursoId\": 10, \"cargos\": [1], \"enunciado\": \"Questão 2?\", \"subtemaIds\": [5], \"alternativas\": [{\"ordem\": 1, \"texto\": \"A\", \"correta\": false}, {\"ordem\": 2, \"texto\": \"B\", \"correta\": true}]}"))),
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = QuestaoImportResultDto.class),
+                    examples = @ExampleObject(value = "{\"linhas\": 3, \"importadas\": 2, \"erros\": [{\"linha\": 2, \"mensagem\": \"Uma questão não anulada deve ter exatamente uma alternativa correta\"}]}")))
+        }
+    )
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public QuestaoImportResultDto importQuestoes(InputStream body) throws IOException {
+        return questaoImportService.importNdjson(body);
+    }
+}
@@ -54,9 +54,14 @@ public class RespostaController {
     public ResponseEntity<PageResponse<RespostaSummaryDto>> getAllRespostas(
             @Parameter(hidden = true) @PageableDefault(size = AppConstants.DEFAULT_PAGE_SIZE) Pageable pageable,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            @Parameter(description = "Ativa a paginação por cursor: vazio para a primeira página, depois o valor de 'next' da página anterior. Não calcula totais e ignora 'page'.")
+            @RequestParam(required = false) String after) {
         
         Pageable finalPageable = PaginationUtils.applyPrioritySort(pageable, sort, direction, Map.of(), List.of());
+        if (after != null) {
+            return ResponseEntity.ok(respostaService.findAfter(finalPageable.getSort(), finalPageable.getPageSize(), after));
+        }
         Page<RespostaSummaryDto> respostas = respostaService.findAll(finalPageable);
         return ResponseEntity.ok(new PageResponse<>(respostas));
     }
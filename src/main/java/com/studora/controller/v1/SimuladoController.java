@@ -7,7 +7,11 @@ import com.studora.dto.simulado.SimuladoDetailDto;
 import com.studora.dto.simulado.SimuladoSummaryDto;
 import com.studora.dto.PostResponseDto;
 import com.studora.dto.request.SimuladoGenerationRequest;
+import com.studora.dto.request.SimuladoRespostasRequest;
+import com.studora.dto.resposta.RespostaLoteDto;
+import com.studora.service.RespostaLoteService;
 import com.studora.service.SimuladoService;
+import com.studora.util.PaginationUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 public class SimuladoController {
 
     private final SimuladoService simuladoService;
+    private final RespostaLoteService respostaLoteService;
 
     @GetMapping
     @JsonView(Views.Geracao.class)
@@ -46,12 +51,16 @@ public class SimuladoController {
             examples = @ExampleObject(value = "{\"type\": \"about:blank\", \"title\": \"Recurso não encontrado\", \"status\": 404, \"detail\": \"Nenhum simulado encontrado\", \"instance\": \"/api/v1/simulados\", \"timestamp\": \"2026-02-08T18:00:00Z\"}")
         ))
     public PageResponse<SimuladoSummaryDto> listSimulados(
-            @Parameter(hidden = true) @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
-        org.springframework.data.domain.Page<SimuladoSummaryDto> page = simuladoService.findAll(pageable);
-        if (page.isEmpty()) {
+            @Parameter(hidden = true) @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "Ativa a paginação por cursor: vazio para a primeira página, depois o valor de 'next' da página anterior. Não calcula totais e ignora 'page'.")
+            @RequestParam(required = false) String after) {
+        PageResponse<SimuladoSummaryDto> page = after != null
+                ? simuladoService.findAfter(PaginationUtils.withIdTieBreaker(pageable.getSort()), pageable.getPageSize(), after)
+                : new PageResponse<>(simuladoService.findAll(pageable));
+        if (page.getContent().isEmpty()) {
             throw new com.studora.exception.ResourceNotFoundException("Nenhum simulado encontrado");
         }
-        return new PageResponse<>(page);
+        return page;
     }
 
     @PostMapping("/gerar")
@@ -152,6 +161,35 @@ public class SimuladoController {
         return simuladoService.iniciarSimulado(id);
     }
 
+    @PostMapping("/{id}/respostas")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+        summary = "Registrar várias respostas do simulado",
+        description = "Grava todas as respostas em uma única transação e, se solicitado, finaliza o simulado na mesma chamada. Se alguma resposta for inválida, nenhuma é gravada.",
+        responses = {
+            @ApiResponse(responseCode = "201", description = "Respostas registradas",
+                content = @Content(
+                    schema = @Schema(implementation = RespostaLoteDto.class),
+                    examples = @ExampleObject(value = "{\"respostas\": [{\"id\": 10, \"questaoId\": 1, \"alternativaId\": 3, \"correta\": true, \"simuladoId\": 1, \"dificuldade\": \"MEDIA\"}], \"resultado\": null}")
+                )),
+            @ApiResponse(responseCode = "404", description = "Simulado não encontrado",
+                content = @Content(mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetail.class),
+                    examples = @ExampleObject(
+                        value = "{\"type\":\"about:blank\",\"title\":\"Recurso não encontrado\",\"status\":404,\"detail\":\"Não foi possível encontrar Simulado com ID: '1'\",\"instance\":\"/api/v1/simulados/1/respostas\"}"
+                    ))),
+            @ApiResponse(responseCode = "422", description = "Resposta inválida ou simulado já finalizado",
+                content = @Content(mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetail.class),
+                    examples = @ExampleObject(
+                        value = "{\"type\":\"about:blank\",\"title\":\"Entidade não processável\",\"status\":422,\"detail\":\"A alternativa ID 7 não pertence à questão ID 1\",\"instance\":\"/api/v1/simulados/1/respostas\"}"
+                    )))
+        }
+    )
+    public RespostaLoteDto createRespostas(@PathVariable Long id, @Valid @RequestBody SimuladoRespostasRequest request) {
+        return respostaLoteService.createRespostas(id, request);
+    }
+
     @PatchMapping("/{id}/finalizar")
     @JsonView(Views.Summary.class)
     @Operation(
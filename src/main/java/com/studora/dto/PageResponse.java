@@ -1,5 +1,6 @@
 package com.studora.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.studora.dto.Views;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -17,6 +18,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Estrutura simplificada para respostas paginadas")
 public class PageResponse<T> {
 
@@ -24,26 +26,30 @@ public class PageResponse<T> {
     @JsonView(Views.Summary.class)
     private List<T> content;
 
-    @Schema(description = "Número da página atual (0..N)", example = AppConstants.DEFAULT_PAGE_NUMBER_STR)
+    @Schema(description = "Número da página atual (0..N). Ausente na paginação por cursor.", example = AppConstants.DEFAULT_PAGE_NUMBER_STR)
     @JsonView(Views.Summary.class)
-    private int pageNumber;
+    private Integer pageNumber;
     
     @Schema(description = "Tamanho da página", example = AppConstants.DEFAULT_PAGE_SIZE_STR)
     @JsonView(Views.Summary.class)
     private int pageSize;
 
-    @Schema(description = "Total de elementos em todas as páginas", example = "100")
+    @Schema(description = "Total de elementos em todas as páginas. Ausente na paginação por cursor.", example = "100")
     @JsonView(Views.Summary.class)
-    private long totalElements;
+    private Long totalElements;
 
-    @Schema(description = "Total de páginas disponíveis", example = "5")
+    @Schema(description = "Total de páginas disponíveis. Ausente na paginação por cursor.", example = "5")
     @JsonView(Views.Summary.class)
-    private int totalPages;
+    private Integer totalPages;
 
     @Schema(description = "Indica se esta é a última página", example = "false")
     @JsonView(Views.Summary.class)
     private boolean last;
 
+    @Schema(description = "Cursor da próxima página, a ser enviado no parâmetro 'after'. Presente apenas na paginação por cursor quando há mais elementos.")
+    @JsonView(Views.Summary.class)
+    private String next;
+
     public PageResponse(Page<T> page) {
         this.content = page.getContent();
         this.pageNumber = page.getNumber();
@@ -52,4 +58,16 @@ public class PageResponse<T> {
         this.totalPages = page.getTotalPages();
         this.last = page.isLast();
     }
+
+    /**
+     * A keyset page: no page number or totals, since no COUNT is run.
+     */
+    public static <T> PageResponse<T> cursor(List<T> content, int pageSize, String next) {
+        PageResponse<T> response = new PageResponse<>();
+        response.content = content;
+        response.pageSize = pageSize;
+        response.last = next == null;
+        response.next = next;
+        return response;
+    }
 }
@@ -1,5 +1,6 @@
 package com.studora.dto.questao;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.studora.dto.Views;
 import com.studora.dto.concurso.ConcursoSummaryDto;
@@ -66,4 +67,9 @@ public class QuestaoDetailDto {
     @Schema(description = "Histórico de respostas para esta questão. (Visível apenas se a questão foi respondida nos últimos 30 dias)")
     @JsonView(Views.RespostaVisivel.class)
     private List<RespostaSummaryDto> respostas;
+
+    // Decides whether the gabarito is shown; not part of the payload
+    @JsonIgnore
+    @Schema(hidden = true)
+    private java.time.LocalDateTime ultimaRespostaEm;
 }
\ No newline at end of file
@@ -1,12 +1,19 @@
 package com.studora.dto.questao;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
 @Schema(description = "DTO para filtragem dinâmica de questões")
 public class QuestaoFilter {
 
+    @Schema(description = "Busca textual no enunciado e nas alternativas (texto e justificativa). " +
+            "Ignora acentos e maiúsculas; todos os termos devem aparecer. Sem 'sort', ordena por relevância.",
+            example = "habeas corpus")
+    @Size(max = 200, message = "A busca deve ter no máximo 200 caracteres")
+    private String q;
+
     @Schema(description = "Filtrar por ID da banca organizadora", example = "1")
     private Long bancaId;
 
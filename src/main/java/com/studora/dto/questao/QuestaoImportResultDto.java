@@ -0,0 +1,37 @@
+package com.studora.dto.questao;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "Resultado da importação em lote de questões")
+public class QuestaoImportResultDto {
+
+    @Schema(description = "Linhas não vazias lidas", example = "10000")
+    private int linhas;
+
+    @Schema(description = "Questões gravadas", example = "9998")
+    private int importadas;
+
+    @Schema(description = "Linhas rejeitadas e o motivo")
+    private List<Erro> erros = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Erro de uma linha da importação")
+    public static class Erro {
+
+        @Schema(description = "Número da linha no arquivo (a partir de 1)", example = "42")
+        private int linha;
+
+        @Schema(description = "Motivo da rejeição", example = "Uma questão não anulada deve ter exatamente uma alternativa correta")
+        private String mensagem;
+    }
+}
@@ -1,5 +1,6 @@
 package com.studora.dto.questao;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.studora.dto.Views;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -60,4 +61,9 @@ public class QuestaoSummaryDto {
     @Schema(description = "Histórico de respostas para esta questão. (Visível apenas se a questão foi respondida nos últimos 30 dias)")
     @JsonView(Views.RespostaVisivel.class)
     private List<com.studora.dto.resposta.RespostaSummaryDto> respostas;
+
+    // Decides whether the gabarito is shown; not part of the payload
+    @JsonIgnore
+    @Schema(hidden = true)
+    private java.time.LocalDateTime ultimaRespostaEm;
 }
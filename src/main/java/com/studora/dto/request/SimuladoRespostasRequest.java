@@ -0,0 +1,20 @@
+package com.studora.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import java.util.List;
+
+@Schema(description = "Request DTO para envio de várias respostas de um simulado de uma só vez")
+@Data
+public class SimuladoRespostasRequest {
+
+    @NotEmpty(message = "Ao menos uma resposta é obrigatória")
+    @Valid
+    @Schema(description = "Respostas às questões do simulado; o simuladoId de cada uma, se informado, deve ser o do simulado", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<RespostaCreateRequest> respostas;
+
+    @Schema(description = "Finaliza o simulado após registrar as respostas; se restarem questões sem resposta, nada é gravado", example = "false")
+    private boolean finalizar;
+}
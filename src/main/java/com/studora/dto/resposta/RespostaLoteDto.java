@@ -0,0 +1,21 @@
+package com.studora.dto.resposta;
+
+import com.studora.dto.simulado.SimuladoResultadoDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Schema(description = "Respostas registradas de uma só vez em um simulado")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RespostaLoteDto {
+
+    @Schema(description = "Respostas criadas, na ordem do envio")
+    private List<RespostaDetailDto> respostas;
+
+    @Schema(description = "Resultado do simulado, quando finalizado na mesma chamada")
+    private SimuladoResultadoDto resultado;
+}
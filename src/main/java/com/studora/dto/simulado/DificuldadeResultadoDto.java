@@ -0,0 +1,22 @@
+package com.studora.dto.simulado;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.studora.dto.Views;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Respostas de um simulado finalizado em um nível de dificuldade")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DificuldadeResultadoDto {
+    @Schema(description = "Questões respondidas com esta dificuldade", example = "12")
+    @JsonView(Views.Summary.class)
+    private int questoes;
+
+    @Schema(description = "Acertos entre elas", example = "9")
+    @JsonView(Views.Summary.class)
+    private int acertos;
+}
@@ -0,0 +1,30 @@
+package com.studora.dto.simulado;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.studora.dto.Views;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Schema(description = "Resultado de uma disciplina dentro de um simulado finalizado")
+@Data
+public class DisciplinaResultadoDto {
+    @Schema(description = "ID único da disciplina", example = "1")
+    @JsonView(Views.Summary.class)
+    private Long id;
+
+    @Schema(description = "Nome da disciplina ao finalizar o simulado", example = "Direito Constitucional")
+    @JsonView(Views.Summary.class)
+    private String nome;
+
+    @Schema(description = "Questões respondidas da disciplina", example = "10")
+    @JsonView(Views.Summary.class)
+    private int questoes;
+
+    @Schema(description = "Acertos na disciplina", example = "8")
+    @JsonView(Views.Summary.class)
+    private int acertos;
+
+    @Schema(description = "Tempo médio por questão em segundos", example = "75")
+    @JsonView(Views.Summary.class)
+    private Integer tempoMedioSegundos;
+}
@@ -60,6 +60,10 @@ public class SimuladoDetailDto {
     @JsonView(Views.Geracao.class)
     private java.util.List<SubtemaSimuladoDto> subtemas;
 
+    @Schema(description = "Resultado calculado ao finalizar o simulado; nulo enquanto não finalizado")
+    @JsonView(Views.Summary.class)
+    private SimuladoResultadoDto resultado;
+
     @Schema(description = "Questões associadas ao simulado")
     @JsonView(Views.RespostaOculta.class)
     private List<QuestaoSummaryDto> questoes;
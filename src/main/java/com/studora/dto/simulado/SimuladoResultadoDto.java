@@ -0,0 +1,41 @@
+package com.studora.dto.simulado;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.studora.dto.Views;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Resultado de um simulado finalizado, considerando a última resposta de cada questão")
+@Data
+public class SimuladoResultadoDto {
+
+    @Schema(description = "Total de questões respondidas", example = "40")
+    @JsonView(Views.Summary.class)
+    private int totalQuestoes;
+
+    @Schema(description = "Total de acertos", example = "31")
+    @JsonView(Views.Summary.class)
+    private int acertos;
+
+    @Schema(description = "Percentual de acertos", example = "77.5")
+    @JsonView(Views.Summary.class)
+    private double percentualAcerto;
+
+    @Schema(description = "Tempo total de resposta em segundos", example = "3600")
+    @JsonView(Views.Summary.class)
+    private int tempoTotalSegundos;
+
+    @Schema(description = "Tempo médio por questão em segundos", example = "90")
+    @JsonView(Views.Summary.class)
+    private Integer tempoMedioSegundos;
+
+    @Schema(description = "Resultado por disciplina")
+    @JsonView(Views.Summary.class)
+    private List<DisciplinaResultadoDto> porDisciplina;
+
+    @Schema(description = "Distribuição das respostas por dificuldade")
+    @JsonView(Views.Summary.class)
+    private Map<String, DificuldadeResultadoDto> porDificuldade;
+}
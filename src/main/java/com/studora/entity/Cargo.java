@@ -3,6 +3,8 @@ package com.studora.entity;
 import com.studora.util.StringUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -12,6 +14,7 @@ import lombok.ToString;
 @Setter
 @ToString
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Schema(description = "Entidade que representa um cargo público")
 public class Cargo extends BaseEntity {
     @Id
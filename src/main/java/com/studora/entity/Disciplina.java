@@ -3,8 +3,11 @@ package com.studora.entity;
 import com.studora.util.StringUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "disciplina")
 @Schema(description = "Entidade que representa uma disciplina")
 public class Disciplina extends BaseEntity {
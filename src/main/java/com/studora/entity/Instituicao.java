@@ -3,6 +3,8 @@ package com.studora.entity;
 import com.studora.util.StringUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -11,6 +13,7 @@ import lombok.ToString;
 @Setter
 @ToString
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Schema(description = "Entidade que representa uma instituição organizadora ou contratante")
 public class Instituicao extends BaseEntity {
 
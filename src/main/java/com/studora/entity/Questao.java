@@ -2,6 +2,7 @@ package com.studora.entity;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -12,6 +13,7 @@ import java.util.Set;
         @Index(name = "idx_questao_concurso", columnList = "concurso_id"),
         @Index(name = "idx_questao_anulada", columnList = "anulada"),
         @Index(name = "idx_questao_autoral", columnList = "autoral"),
+        @Index(name = "idx_questao_created_at", columnList = "created_at"),
     }
 )
 @Schema(description = "Entidade que representa uma questão de um concurso")
@@ -91,6 +93,10 @@ public class Questao extends BaseEntity {
     @Schema(description = "Associações entre a questão e cargos do concurso")
     private Set<QuestaoCargo> questaoCargos = new LinkedHashSet<>();
 
+    @org.hibernate.annotations.Formula("(SELECT s.last_answered_at FROM questao_resposta_summary s WHERE s.questao_id = id)")
+    @Schema(description = "Data da resposta mais recente (nula se nunca respondida)", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime ultimaRespostaEm;
+
     // Constructors
     public Questao() {}
 
@@ -164,6 +170,10 @@ public class Questao extends BaseEntity {
         this.respostas = respostas;
     }
 
+    public LocalDateTime getUltimaRespostaEm() {
+        return ultimaRespostaEm;
+    }
+
     public Set<Subtema> getSubtemas() {
         return subtemas;
     }
@@ -0,0 +1,32 @@
+package com.studora.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+/**
+ * Attempts and latest answer of a questão; there is no row until it is first answered.
+ * Maintained by database triggers on resposta and alternativa (see V17), so it is read-only here.
+ */
+@Getter
+@Entity
+@org.hibernate.annotations.Immutable
+@Table(name = "questao_resposta_summary")
+public class QuestaoRespostaSummary {
+
+    @Id
+    @Column(name = "questao_id")
+    private Long questaoId;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "correct_count", nullable = false)
+    private Integer correctCount;
+
+    @Column(name = "last_answered_at", nullable = false)
+    private LocalDateTime lastAnsweredAt;
+
+    @Column(name = "last_correct", nullable = false, columnDefinition = "INTEGER")
+    private Boolean lastCorrect;
+}
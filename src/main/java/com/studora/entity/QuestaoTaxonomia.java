@@ -0,0 +1,38 @@
+package com.studora.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import java.io.Serializable;
+
+/**
+ * One row per subtema of a questão, with the subtema's tema and disciplina copied alongside.
+ * Maintained by database triggers (see V16), so it is read-only here.
+ */
+@Getter
+@Entity
+@org.hibernate.annotations.Immutable
+@IdClass(QuestaoTaxonomia.Key.class)
+@Table(name = "questao_taxonomia")
+public class QuestaoTaxonomia {
+
+    @Id
+    @Column(name = "questao_id")
+    private Long questaoId;
+
+    @Id
+    @Column(name = "subtema_id")
+    private Long subtemaId;
+
+    @Column(name = "tema_id", nullable = false)
+    private Long temaId;
+
+    @Column(name = "disciplina_id", nullable = false)
+    private Long disciplinaId;
+
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long questaoId;
+        private Long subtemaId;
+    }
+}
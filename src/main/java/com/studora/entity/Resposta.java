@@ -36,6 +36,10 @@ public class Resposta extends BaseEntity {
     @Schema(description = "Alternativa escolhida como resposta")
     private Alternativa alternativaEscolhida;
 
+    @Column(nullable = false, columnDefinition = "INTEGER")
+    @Schema(description = "Indica se a alternativa escolhida era a correta no momento da resposta", example = "true")
+    private Boolean correta = false;
+
     @Column(columnDefinition = "TEXT")
     @Schema(description = "Raciocínio ou comentário do usuário para esta tentativa", example = "Achei que era a B por causa de...")
     private String justificativa;
@@ -59,7 +63,7 @@ public class Resposta extends BaseEntity {
 
     public Resposta(Questao questao, Alternativa alternativaEscolhida) {
         this.questao = questao;
-        this.alternativaEscolhida = alternativaEscolhida;
+        setAlternativaEscolhida(alternativaEscolhida);
     }
 
     // Getters and Setters
@@ -85,6 +89,11 @@ public class Resposta extends BaseEntity {
 
     public void setAlternativaEscolhida(Alternativa alternativaEscolhida) {
         this.alternativaEscolhida = alternativaEscolhida;
+        this.correta = alternativaEscolhida != null && Boolean.TRUE.equals(alternativaEscolhida.getCorreta());
+    }
+
+    public Boolean getCorreta() {
+        return correta;
     }
 
     public String getJustificativa() {
@@ -0,0 +1,50 @@
+package com.studora.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "resposta_agregado_diario",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_resposta_agregado_diario", columnNames = {"escopo", "escopo_id", "dificuldade_id", "dia"})
+    }
+)
+@Schema(description = "Contadores diários de respostas pré-agregados por escopo e dificuldade")
+public class RespostaAgregadoDiario {
+
+    public enum Escopo { GERAL, DISCIPLINA, SUBTEMA }
+
+    /** Valor de dificuldade_id usado quando a resposta não informa dificuldade. */
+    public static final int SEM_DIFICULDADE = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Escopo escopo;
+
+    @Column(name = "escopo_id", nullable = false)
+    private Long escopoId;
+
+    @Column(name = "dificuldade_id", nullable = false)
+    private Integer dificuldadeId;
+
+    @Column(nullable = false, length = 10)
+    private String dia;
+
+    @Column(nullable = false)
+    private Long total;
+
+    @Column(nullable = false)
+    private Long corretas;
+
+    @Column(name = "tempo_total", nullable = false)
+    private Long tempoTotal;
+}
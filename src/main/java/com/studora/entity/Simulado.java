@@ -8,9 +8,10 @@ import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
-@Table(name = "simulado")
+@Table(name = "simulado", indexes = @Index(name = "idx_simulado_created_at", columnList = "created_at"))
 @Getter
 @Setter
 @ToString(exclude = "questoes")
@@ -42,7 +43,9 @@ public class Simulado extends BaseEntity {
     @Schema(description = "ID do cargo de preferência usado na geração")
     private Long cargoId;
 
+    // Listing a page of simulados loads each selection for the whole page in one query
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "simulado_area", joinColumns = @JoinColumn(name = "simulado_id"))
     @Column(name = "area")
     @Schema(description = "Áreas de preferência usadas na geração")
@@ -62,20 +65,39 @@ public class Simulado extends BaseEntity {
     private Boolean includeAutoral = false;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "simulado_disciplina", joinColumns = @JoinColumn(name = "simulado_id"))
     @Schema(description = "Seleção de disciplinas usadas na geração")
     private java.util.List<SimuladoItemSelection> disciplinas;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "simulado_tema", joinColumns = @JoinColumn(name = "simulado_id"))
     @Schema(description = "Seleção de temas usados na geração")
     private java.util.List<SimuladoItemSelection> temas;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "simulado_subtema", joinColumns = @JoinColumn(name = "simulado_id"))
     @Schema(description = "Seleção de subtemas usados na geração")
     private java.util.List<SimuladoItemSelection> subtemas;
 
+    @Embedded
+    @Schema(description = "Resultado calculado ao finalizar o simulado")
+    private SimuladoResultado resultado;
+
+    @ElementCollection
+    @CollectionTable(name = "simulado_resultado_disciplina", joinColumns = @JoinColumn(name = "simulado_id"))
+    @OrderBy("disciplinaNome")
+    @Schema(description = "Resultado por disciplina, calculado ao finalizar o simulado")
+    private java.util.List<SimuladoResultadoDisciplina> resultadoPorDisciplina = new java.util.ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "simulado_resultado_dificuldade", joinColumns = @JoinColumn(name = "simulado_id"))
+    @OrderBy("dificuldade")
+    @Schema(description = "Distribuição das respostas por dificuldade, calculada ao finalizar o simulado")
+    private java.util.List<SimuladoResultadoDificuldade> resultadoPorDificuldade = new java.util.ArrayList<>();
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "simulado_questao",
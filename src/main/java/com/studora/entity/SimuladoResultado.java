@@ -0,0 +1,27 @@
+package com.studora.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Score of a finished simulado, over the last resposta to each of its questões. */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimuladoResultado {
+
+    @Column(name = "resultado_questoes")
+    private Integer questoes;
+
+    @Column(name = "resultado_acertos")
+    private Integer acertos;
+
+    @Column(name = "resultado_tempo_total_segundos")
+    private Integer tempoTotalSegundos;
+
+    @Column(name = "resultado_tempo_medio_segundos")
+    private Integer tempoMedioSegundos;
+}
@@ -0,0 +1,25 @@
+package com.studora.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimuladoResultadoDificuldade {
+
+    @Convert(converter = DificuldadeConverter.class)
+    @Column(name = "dificuldade_id", nullable = false)
+    private Dificuldade dificuldade;
+
+    @Column(nullable = false)
+    private int questoes;
+
+    @Column(nullable = false)
+    private int acertos;
+}
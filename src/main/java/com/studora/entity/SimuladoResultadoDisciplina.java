@@ -0,0 +1,29 @@
+package com.studora.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimuladoResultadoDisciplina {
+
+    @Column(name = "disciplina_id", nullable = false)
+    private Long disciplinaId;
+
+    @Column(name = "disciplina_nome", nullable = false)
+    private String disciplinaNome;
+
+    @Column(nullable = false)
+    private int questoes;
+
+    @Column(nullable = false)
+    private int acertos;
+
+    @Column(name = "tempo_medio_segundos")
+    private Integer tempoMedioSegundos;
+}
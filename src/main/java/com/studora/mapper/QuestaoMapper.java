@@ -20,7 +20,7 @@ public interface QuestaoMapper {
     @Mapping(target = "alternativas", source = "alternativas")
     @Mapping(target = "respostas", source = "respostas")
     @Mapping(target = "subtemas", source = "subtemas")
-    @Mapping(target = "respondida", expression = "java(questao.getRespostas() != null && !questao.getRespostas().isEmpty())")
+    @Mapping(target = "respondida", expression = "java(questao.getUltimaRespostaEm() != null)")
     @Mapping(target = "autoral", source = "autoral")
     QuestaoSummaryDto toSummaryDto(Questao questao);
 
@@ -29,7 +29,7 @@ public interface QuestaoMapper {
     @Mapping(target = "subtemas", source = "subtemas")
     @Mapping(target = "cargos", source = "questaoCargos")
     @Mapping(target = "respostas", source = "respostas")
-    @Mapping(target = "respondida", expression = "java(questao.getRespostas() != null && !questao.getRespostas().isEmpty())")
+    @Mapping(target = "respondida", expression = "java(questao.getUltimaRespostaEm() != null)")
     @Mapping(target = "autoral", source = "autoral")
     QuestaoDetailDto toDetailDto(Questao questao);
 
@@ -12,13 +12,11 @@ public interface RespostaMapper {
 
     @Mapping(target = "questaoId", source = "questao.id")
     @Mapping(target = "alternativaId", source = "alternativaEscolhida.id")
-    @Mapping(target = "correta", source = "alternativaEscolhida.correta")
     @Mapping(target = "simuladoId", source = "simulado.id")
     RespostaSummaryDto toSummaryDto(Resposta resposta);
 
     @Mapping(target = "questaoId", source = "questao.id")
     @Mapping(target = "alternativaId", source = "alternativaEscolhida.id")
-    @Mapping(target = "correta", source = "alternativaEscolhida.correta")
     @Mapping(target = "simuladoId", source = "simulado.id")
     @Mapping(target = "alternativas", source = "questao.alternativas")
     RespostaDetailDto toDetailDto(Resposta resposta);
@@ -26,6 +24,7 @@ public interface RespostaMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "questao", ignore = true)
     @Mapping(target = "alternativaEscolhida", ignore = true)
+    @Mapping(target = "correta", ignore = true)
     @Mapping(target = "simulado", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
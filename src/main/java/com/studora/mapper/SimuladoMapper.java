@@ -14,14 +14,22 @@ public interface SimuladoMapper {
     SimuladoSummaryDto toSummaryDto(Simulado simulado);
 
     @Mapping(target = "questoes", source = "questoes")
+    @Mapping(target = "resultado", ignore = true)
     SimuladoDetailDto toDetailDto(Simulado simulado);
 
+    @Mapping(target = "questoes", ignore = true)
+    @Mapping(target = "resultado", ignore = true)
+    SimuladoDetailDto toDetailDtoWithoutQuestoes(Simulado simulado);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "startedAt", ignore = true)
     @Mapping(target = "finishedAt", ignore = true)
     @Mapping(target = "questoes", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "resultado", ignore = true)
+    @Mapping(target = "resultadoPorDisciplina", ignore = true)
+    @Mapping(target = "resultadoPorDificuldade", ignore = true)
     @Mapping(target = "bancaId", source = "banca.id")
     @Mapping(target = "cargoId", source = "cargo.id")
     Simulado toEntity(SimuladoSummaryDto dto);
@@ -4,6 +4,7 @@ import com.studora.entity.Alternativa;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +12,9 @@ public interface AlternativaRepository extends JpaRepository<Alternativa, Long>
     List<Alternativa> findByQuestaoIdOrderByOrdemAsc(Long questaoId);
     List<Alternativa> findByQuestaoIdAndCorretaTrue(Long questaoId);
 
+    @org.springframework.data.jpa.repository.Query("SELECT a FROM Alternativa a JOIN FETCH a.questao q WHERE q.id IN :questaoIds ORDER BY q.id, a.ordem")
+    List<Alternativa> findByQuestaoIdInWithQuestao(@org.springframework.data.repository.query.Param("questaoIds") Collection<Long> questaoIds);
+
     @org.springframework.data.jpa.repository.Modifying
     @org.springframework.transaction.annotation.Transactional
     @org.springframework.data.jpa.repository.Query("DELETE FROM Alternativa a WHERE a.questao.id = :questaoId")
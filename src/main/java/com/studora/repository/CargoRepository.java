@@ -2,8 +2,11 @@ package com.studora.repository;
 
 import com.studora.entity.Cargo;
 import com.studora.entity.NivelCargo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
@@ -20,6 +23,7 @@ public interface CargoRepository extends JpaRepository<Cargo, Long> {
 
     org.springframework.data.domain.Page<Cargo> findByNomeNormalizedContaining(String nomeNormalized, org.springframework.data.domain.Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT c.area FROM Cargo c WHERE c.area IS NOT NULL")
     List<String> findDistinctAreas();
 
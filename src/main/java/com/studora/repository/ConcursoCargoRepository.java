@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ConcursoCargoRepository extends JpaRepository<ConcursoCargo, Long> {
@@ -22,4 +23,8 @@ public interface ConcursoCargoRepository extends JpaRepository<ConcursoCargo, Lo
 
     @Query("SELECT cc FROM ConcursoCargo cc WHERE cc.concurso.id IN :concursoIds AND cc.inscrito = true")
     List<ConcursoCargo> findAllInscribedByConcursoIds(@Param("concursoIds") List<Long> concursoIds);
+
+    // Rows: concursoId, cargoId, concursoCargoId
+    @Query("SELECT cc.concurso.id, cc.cargo.id, cc.id FROM ConcursoCargo cc WHERE cc.concurso.id IN :concursoIds")
+    List<Object[]> findIdRowsByConcursoIds(@Param("concursoIds") Collection<Long> concursoIds);
 }
@@ -67,4 +67,7 @@ public interface EstudoSubtemaRepository extends JpaRepository<EstudoSubtema, Lo
 
     @Query("SELECT e.subtema.tema.disciplina.id, COUNT(DISTINCT e.subtema.tema.id) FROM EstudoSubtema e WHERE e.subtema.tema.disciplina.id IN :disciplinaIds GROUP BY e.subtema.tema.disciplina.id")
     List<Object[]> countDistinctStudiedTemasByDisciplinaIds(@Param("disciplinaIds") List<Long> disciplinaIds);
+
+    @Query("SELECT e.subtema.id FROM EstudoSubtema e WHERE e.id = :id")
+    Optional<Long> findSubtemaIdById(@Param("id") Long id);
 }
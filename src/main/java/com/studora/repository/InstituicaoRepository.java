@@ -1,11 +1,14 @@
 package com.studora.repository;
 
 import com.studora.entity.Instituicao;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -20,6 +23,7 @@ public interface InstituicaoRepository extends JpaRepository<Instituicao, Long>
     Page<Instituicao> findByNomeNormalizedContaining(String nomeNormalized, Pageable pageable);
     Page<Instituicao> findByNomeNormalizedContainingOrSiglaNormalizedContaining(String nomeNormalized, String siglaNormalized, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT i.area FROM Instituicao i WHERE i.area IS NOT NULL")
     List<String> findDistinctAreas();
 
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,19 +27,43 @@ public interface QuestaoRepository extends JpaRepository<Questao, Long>, JpaSpec
            "LEFT JOIN FETCH q.concurso")
     List<Questao> findAllWithDetails();
 
+    /**
+     * Loads the questões with everything the summary DTO needs, one collection per query.
+     * A single fetch join would return alternativas × subtemas × cargos × respostas rows per
+     * questão; the separate queries fill the same persistence context instead.
+     */
+    default List<Questao> findByIdsWithDetails(List<Long> ids) {
+        List<Questao> questoes = findByIdsWithAlternativas(ids);
+        findByIdsWithSubtemas(ids);
+        findByIdsWithCargos(ids);
+        findByIdsWithRespostas(ids);
+        return questoes;
+    }
+
+    @Query("SELECT DISTINCT q FROM Questao q " +
+           "LEFT JOIN FETCH q.concurso " +
+           "LEFT JOIN FETCH q.alternativas " +
+           "WHERE q.id IN :ids")
+    List<Questao> findByIdsWithAlternativas(@Param("ids") List<Long> ids);
+
     @Query("SELECT DISTINCT q FROM Questao q " +
-           "LEFT JOIN FETCH q.alternativas a " +
            "LEFT JOIN FETCH q.subtemas s " +
            "LEFT JOIN FETCH s.tema st " +
            "LEFT JOIN FETCH st.disciplina " +
+           "WHERE q.id IN :ids")
+    List<Questao> findByIdsWithSubtemas(@Param("ids") List<Long> ids);
+
+    @Query("SELECT DISTINCT q FROM Questao q " +
            "LEFT JOIN FETCH q.questaoCargos qc " +
            "LEFT JOIN FETCH qc.concursoCargo cc " +
            "LEFT JOIN FETCH cc.cargo " +
-           "LEFT JOIN FETCH q.concurso " +
+           "WHERE q.id IN :ids")
+    List<Questao> findByIdsWithCargos(@Param("ids") List<Long> ids);
+
+    @Query("SELECT DISTINCT q FROM Questao q " +
            "LEFT JOIN FETCH q.respostas r " +
-           "LEFT JOIN FETCH r.alternativaEscolhida " +
            "WHERE q.id IN :ids")
-    List<Questao> findByIdsWithDetails(@Param("ids") List<Long> ids);
+    List<Questao> findByIdsWithRespostas(@Param("ids") List<Long> ids);
 
     @Query("SELECT DISTINCT q FROM Questao q " +
            "LEFT JOIN FETCH q.alternativas a " +
@@ -50,7 +75,6 @@ public interface QuestaoRepository extends JpaRepository<Questao, Long>, JpaSpec
            "LEFT JOIN FETCH cc.cargo " +
            "LEFT JOIN FETCH q.concurso " +
            "LEFT JOIN FETCH q.respostas r " +
-           "LEFT JOIN FETCH r.alternativaEscolhida " +
            "WHERE q.id = :id")
     Optional<Questao> findByIdWithDetails(@Param("id") Long id);
 
@@ -59,10 +83,10 @@ public interface QuestaoRepository extends JpaRepository<Questao, Long>, JpaSpec
     @Query("SELECT s.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.id IN :ids GROUP BY s.id")
     List<Object[]> countQuestoesBySubtemaIds(@Param("ids") List<Long> ids);
 
-    @Query("SELECT s.tema.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.tema.id IN :ids GROUP BY s.tema.id")
+    @Query("SELECT qt.temaId, COUNT(DISTINCT q.id) FROM Questao q JOIN QuestaoTaxonomia qt ON qt.questaoId = q.id WHERE qt.temaId IN :ids GROUP BY qt.temaId")
     List<Object[]> countQuestoesByTemaIds(@Param("ids") List<Long> ids);
 
-    @Query("SELECT s.tema.disciplina.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.tema.disciplina.id IN :ids GROUP BY s.tema.disciplina.id")
+    @Query("SELECT qt.disciplinaId, COUNT(DISTINCT q.id) FROM Questao q JOIN QuestaoTaxonomia qt ON qt.questaoId = q.id WHERE qt.disciplinaId IN :ids GROUP BY qt.disciplinaId")
     List<Object[]> countQuestoesByDisciplinaIds(@Param("ids") List<Long> ids);
 
     @Query("SELECT c.banca.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c WHERE c.banca.id IN :ids AND q.anulada = false GROUP BY c.banca.id")
@@ -74,125 +98,55 @@ public interface QuestaoRepository extends JpaRepository<Questao, Long>, JpaSpec
     @Query("SELECT qc.concursoCargo.cargo.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.questaoCargos qc WHERE qc.concursoCargo.cargo.id IN :ids AND q.anulada = false GROUP BY qc.concursoCargo.cargo.id")
     List<Object[]> countQuestoesByCargoIds(@Param("ids") List<Long> ids);
 
-    // --- Granular breakdown queries for Disciplina ---
-    @Query("SELECT CAST(qc.concursoCargo.cargo.nivel AS string), COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.tema.disciplina.id = :disciplinaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.nivel")
-    List<Object[]> countQuestoesByDisciplinaIdGroupByNivel(@Param("disciplinaId") Long disciplinaId);
-
-    @Query("SELECT c.banca.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.tema.disciplina.id = :disciplinaId AND q.anulada = false GROUP BY c.banca.id")
-    List<Object[]> countQuestoesByDisciplinaIdGroupByBanca(@Param("disciplinaId") Long disciplinaId);
-
-    @Query("SELECT c.instituicao.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.tema.disciplina.id = :disciplinaId AND q.anulada = false GROUP BY c.instituicao.id")
-    List<Object[]> countQuestoesByDisciplinaIdGroupByInstituicao(@Param("disciplinaId") Long disciplinaId);
-
-    @Query("SELECT c.instituicao.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.tema.disciplina.id = :disciplinaId AND q.anulada = false GROUP BY c.instituicao.area")
-    List<Object[]> countQuestoesByDisciplinaIdGroupByAreaInstituicao(@Param("disciplinaId") Long disciplinaId);
-
-    @Query("SELECT qc.concursoCargo.cargo.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.tema.disciplina.id = :disciplinaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.id")
-    List<Object[]> countQuestoesByDisciplinaIdGroupByCargo(@Param("disciplinaId") Long disciplinaId);
-
-    @Query("SELECT qc.concursoCargo.cargo.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.tema.disciplina.id = :disciplinaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.area")
-    List<Object[]> countQuestoesByDisciplinaIdGroupByAreaCargo(@Param("disciplinaId") Long disciplinaId);
-
-    // --- Granular breakdown queries for Tema ---
-    @Query("SELECT CAST(qc.concursoCargo.cargo.nivel AS string), COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.tema.id = :temaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.nivel")
-    List<Object[]> countQuestoesByTemaIdGroupByNivel(@Param("temaId") Long temaId);
-
-    @Query("SELECT c.banca.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.tema.id = :temaId AND q.anulada = false GROUP BY c.banca.id")
-    List<Object[]> countQuestoesByTemaIdGroupByBanca(@Param("temaId") Long temaId);
-
-    @Query("SELECT c.instituicao.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.tema.id = :temaId AND q.anulada = false GROUP BY c.instituicao.id")
-    List<Object[]> countQuestoesByTemaIdGroupByInstituicao(@Param("temaId") Long temaId);
-
-    @Query("SELECT c.instituicao.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.tema.id = :temaId AND q.anulada = false GROUP BY c.instituicao.area")
-    List<Object[]> countQuestoesByTemaIdGroupByAreaInstituicao(@Param("temaId") Long temaId);
-
-    @Query("SELECT qc.concursoCargo.cargo.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.tema.id = :temaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.id")
-    List<Object[]> countQuestoesByTemaIdGroupByCargo(@Param("temaId") Long temaId);
+    // --- Disciplina/Tema/Subtema breakdowns: QuestaoRepositoryCustom#countQuestoesByTaxonomyGroupBy ---
 
-    @Query("SELECT qc.concursoCargo.cargo.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.tema.id = :temaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.area")
-    List<Object[]> countQuestoesByTemaIdGroupByAreaCargo(@Param("temaId") Long temaId);
-
-    // --- Granular breakdown queries for Subtema ---
-    @Query("SELECT CAST(qc.concursoCargo.cargo.nivel AS string), COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.id = :subtemaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.nivel")
-    List<Object[]> countQuestoesBySubtemaIdGroupByNivel(@Param("subtemaId") Long subtemaId);
-
-    @Query("SELECT c.banca.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.id = :subtemaId AND q.anulada = false GROUP BY c.banca.id")
-    List<Object[]> countQuestoesBySubtemaIdGroupByBanca(@Param("subtemaId") Long subtemaId);
-
-    @Query("SELECT c.instituicao.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.id = :subtemaId AND q.anulada = false GROUP BY c.instituicao.id")
-    List<Object[]> countQuestoesBySubtemaIdGroupByInstituicao(@Param("subtemaId") Long subtemaId);
-
-    @Query("SELECT c.instituicao.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.concurso c WHERE s.id = :subtemaId AND q.anulada = false GROUP BY c.instituicao.area")
-    List<Object[]> countQuestoesBySubtemaIdGroupByAreaInstituicao(@Param("subtemaId") Long subtemaId);
-
-    @Query("SELECT qc.concursoCargo.cargo.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.id = :subtemaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.id")
-    List<Object[]> countQuestoesBySubtemaIdGroupByCargo(@Param("subtemaId") Long subtemaId);
-
-    @Query("SELECT qc.concursoCargo.cargo.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s JOIN q.questaoCargos qc WHERE s.id = :subtemaId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.area")
-    List<Object[]> countQuestoesBySubtemaIdGroupByAreaCargo(@Param("subtemaId") Long subtemaId);
-
-    @Query("SELECT s.id, COUNT(DISTINCT q.id) FROM Questao q " +
+    // --- ConcursoCargo context ---
+    // Rows: [concursoCargoId, subtemaId, questões]
+    @Query("SELECT qc.concursoCargo.id, s.id, COUNT(DISTINCT q.id) FROM Questao q " +
            "JOIN q.subtemas s " +
            "JOIN q.questaoCargos qc " +
-           "WHERE qc.concursoCargo.id = :concursoCargoId " +
+           "WHERE qc.concursoCargo.id IN :concursoCargoIds " +
            "AND s.id IN :subtemaIds " +
            "AND q.anulada = false " +
-           "GROUP BY s.id")
-    List<Object[]> countQuestoesByConcursoCargoAndSubtemaIds(@Param("concursoCargoId") Long concursoCargoId, @Param("subtemaIds") List<Long> subtemaIds);
-
-    // --- Granular breakdown queries for Banca/Cargo/Instituicao ---
-
-    @Query("SELECT CAST(cc.cargo.nivel AS string), COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c JOIN c.concursoCargos cc WHERE c.banca.id = :bancaId AND q.anulada = false GROUP BY cc.cargo.nivel")
-    List<Object[]> countQuestoesByBancaIdGroupByNivel(@Param("bancaId") Long bancaId);
-
-    @Query("SELECT c.instituicao.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c WHERE c.banca.id = :bancaId AND q.anulada = false GROUP BY c.instituicao.area")
-    List<Object[]> countQuestoesByBancaIdGroupByAreaInstituicao(@Param("bancaId") Long bancaId);
-
-    @Query("SELECT cc.cargo.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c JOIN c.concursoCargos cc WHERE c.banca.id = :bancaId AND q.anulada = false GROUP BY cc.cargo.area")
-    List<Object[]> countQuestoesByBancaIdGroupByAreaCargo(@Param("bancaId") Long bancaId);
-
-    // --- Granular breakdown queries for Instituicao ---
-    @Query("SELECT CAST(cc.cargo.nivel AS string), COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c JOIN c.concursoCargos cc WHERE c.instituicao.id = :instituicaoId AND q.anulada = false GROUP BY cc.cargo.nivel")
-    List<Object[]> countQuestoesByInstituicaoIdGroupByNivel(@Param("instituicaoId") Long instituicaoId);
+           "GROUP BY qc.concursoCargo.id, s.id")
+    List<Object[]> countQuestoesByConcursoCargoIdsAndSubtemaIds(@Param("concursoCargoIds") Collection<Long> concursoCargoIds, @Param("subtemaIds") Collection<Long> subtemaIds);
 
-    @Query("SELECT c.banca.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c WHERE c.instituicao.id = :instituicaoId AND q.anulada = false GROUP BY c.banca.id")
-    List<Object[]> countQuestoesByInstituicaoIdGroupByBanca(@Param("instituicaoId") Long instituicaoId);
-
-    @Query("SELECT cc.cargo.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c JOIN c.concursoCargos cc WHERE c.instituicao.id = :instituicaoId AND q.anulada = false GROUP BY cc.cargo.id")
-    List<Object[]> countQuestoesByInstituicaoIdGroupByCargo(@Param("instituicaoId") Long instituicaoId);
-
-    @Query("SELECT cc.cargo.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.concurso c JOIN c.concursoCargos cc WHERE c.instituicao.id = :instituicaoId AND q.anulada = false GROUP BY cc.cargo.area")
-    List<Object[]> countQuestoesByInstituicaoIdGroupByAreaCargo(@Param("instituicaoId") Long instituicaoId);
-
-    // --- Granular breakdown queries for Cargo ---
-    @Query("SELECT CAST(qc.concursoCargo.cargo.nivel AS string), COUNT(DISTINCT q.id) FROM Questao q JOIN q.questaoCargos qc WHERE qc.concursoCargo.cargo.id = :cargoId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.nivel")
-    List<Object[]> countQuestoesByCargoIdGroupByNivel(@Param("cargoId") Long cargoId);
-
-    @Query("SELECT c.banca.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.questaoCargos qc JOIN q.concurso c WHERE qc.concursoCargo.cargo.id = :cargoId AND q.anulada = false GROUP BY c.banca.id")
-    List<Object[]> countQuestoesByCargoIdGroupByBanca(@Param("cargoId") Long cargoId);
-
-    @Query("SELECT qc.concursoCargo.cargo.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.questaoCargos qc WHERE qc.concursoCargo.cargo.id = :cargoId AND q.anulada = false GROUP BY qc.concursoCargo.cargo.area")
-    List<Object[]> countQuestoesByCargoIdGroupByAreaCargo(@Param("cargoId") Long cargoId);
-
-    @Query("SELECT c.instituicao.area, COUNT(DISTINCT q.id) FROM Questao q JOIN q.questaoCargos qc JOIN q.concurso c WHERE qc.concursoCargo.cargo.id = :cargoId AND q.anulada = false GROUP BY c.instituicao.area")
-    List<Object[]> countQuestoesByCargoIdGroupByAreaInstituicao(@Param("cargoId") Long cargoId);
+    // --- Banca/Instituicao/Cargo breakdowns: QuestaoRepositoryCustom#countQuestoesByReferenceGroupBy ---
 
     // --- Autoral aggregate count queries for taxonomy scopes ---
-    @Query("SELECT s.tema.disciplina.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.tema.disciplina.id IN :ids AND q.autoral = true GROUP BY s.tema.disciplina.id")
+    @Query("SELECT qt.disciplinaId, COUNT(DISTINCT q.id) FROM Questao q JOIN QuestaoTaxonomia qt ON qt.questaoId = q.id WHERE qt.disciplinaId IN :ids AND q.autoral = true GROUP BY qt.disciplinaId")
     List<Object[]> countAutoralQuestoesByDisciplinaIds(@Param("ids") List<Long> ids);
 
-    @Query("SELECT s.tema.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.tema.id IN :ids AND q.autoral = true GROUP BY s.tema.id")
+    @Query("SELECT qt.temaId, COUNT(DISTINCT q.id) FROM Questao q JOIN QuestaoTaxonomia qt ON qt.questaoId = q.id WHERE qt.temaId IN :ids AND q.autoral = true GROUP BY qt.temaId")
     List<Object[]> countAutoralQuestoesByTemaIds(@Param("ids") List<Long> ids);
 
     @Query("SELECT s.id, COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.id IN :ids AND q.autoral = true GROUP BY s.id")
     List<Object[]> countAutoralQuestoesBySubtemaIds(@Param("ids") List<Long> ids);
 
-    @Query("SELECT COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.tema.disciplina.id = :id AND q.autoral = true")
+    @Query("SELECT COUNT(DISTINCT q.id) FROM Questao q JOIN QuestaoTaxonomia qt ON qt.questaoId = q.id WHERE qt.disciplinaId = :id AND q.autoral = true")
     Long countAutoralQuestoesByDisciplinaId(@Param("id") Long id);
 
-    @Query("SELECT COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.tema.id = :id AND q.autoral = true")
+    @Query("SELECT COUNT(DISTINCT q.id) FROM Questao q JOIN QuestaoTaxonomia qt ON qt.questaoId = q.id WHERE qt.temaId = :id AND q.autoral = true")
     Long countAutoralQuestoesByTemaId(@Param("id") Long id);
 
     @Query("SELECT COUNT(DISTINCT q.id) FROM Questao q JOIN q.subtemas s WHERE s.id = :id AND q.autoral = true")
     Long countAutoralQuestoesBySubtemaId(@Param("id") Long id);
+
+    // Rows: [subtemaId, temaId, disciplinaId]
+    @Query("SELECT qt.subtemaId, qt.temaId, qt.disciplinaId FROM QuestaoTaxonomia qt WHERE qt.questaoId = :id")
+    List<Object[]> findTaxonomyIdsById(@Param("id") Long id);
+
+    @Query("SELECT c.banca.id FROM Questao q JOIN q.concurso c WHERE q.id = :id")
+    List<Long> findBancaIdsById(@Param("id") Long id);
+
+    // Rows: [subtemaId, temaId, disciplinaId]
+    @Query("SELECT DISTINCT qt.subtemaId, qt.temaId, qt.disciplinaId FROM QuestaoTaxonomia qt WHERE qt.questaoId IN :ids")
+    List<Object[]> findTaxonomyIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT c.banca.id FROM Questao q JOIN q.concurso c WHERE q.id IN :ids")
+    List<Long> findBancaIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COUNT(q) > 0 FROM Questao q WHERE q.id = :id AND NOT EXISTS " +
+           "(SELECT rs.questaoId FROM QuestaoRespostaSummary rs WHERE rs.questaoId = q.id AND rs.lastAnsweredAt >= :since)")
+    boolean existsNotAnsweredSince(@Param("id") Long id, @Param("since") java.time.LocalDateTime since);
 }
@@ -1,13 +1,55 @@
 package com.studora.repository;
 
-import com.studora.dto.request.SimuladoGenerationRequest;
-import org.springframework.data.domain.Pageable;
+import com.studora.entity.Questao;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface QuestaoRepositoryCustom {
-    List<Long> findIdsBySubtemaWithPreferences(Long subtemaId, SimuladoGenerationRequest request, List<Long> excludeIds, Pageable pageable);
-    
-    List<Long> findIdsByTemaWithPreferences(Long temaId, List<Long> avoidSubtemaIds, SimuladoGenerationRequest request, List<Long> excludeIds, Pageable pageable);
-    
-    List<Long> findIdsByDisciplinaWithPreferences(Long disciplinaId, List<Long> avoidTemaIds, List<Long> avoidSubtemaIds, SimuladoGenerationRequest request, List<Long> excludeIds, Pageable pageable);
+    /**
+     * Loads the simulado candidate pool: every questão linked to one of the given subtemas, temas
+     * or disciplinas, in a single query.
+     */
+    List<SimuladoCandidato> findSimuladoCandidatos(Collection<Long> subtemaIds, Collection<Long> temaIds, Collection<Long> disciplinaIds);
+
+    /** Ids of the questões matching the specification, without loading the entities. */
+    List<Long> findIds(Specification<Questao> spec);
+
+    /** The first {@code limit} ids matching the specification in the given order, without a COUNT. */
+    List<Long> findIds(Specification<Questao> spec, Sort sort, int limit);
+
+    /**
+     * One page of the ids matching the specification, best BM25 score for the FTS5 expression first.
+     * The specification is expected to require the match, so every id has a score.
+     */
+    List<Long> findIdsByRelevance(Specification<Questao> spec, String matchExpression, long offset, int limit);
+
+    /**
+     * The per-id breakdown queries of {@code StatsAssembler} for many taxonomy scopes at once.
+     * {@code level} is a {@link com.studora.entity.QuestaoTaxonomia} id property ({@code disciplinaId},
+     * {@code temaId} or {@code subtemaId}) and {@code dimension} one of NIVEL, BANCA, INSTITUICAO,
+     * AREA_INSTITUICAO, CARGO or AREA_CARGO.
+     * <p>
+     * Rows: [scopeId, key, questões]
+     */
+    List<Object[]> countQuestoesByTaxonomyGroupBy(String level, Collection<Long> ids, String dimension);
+
+    /** Rows: [scopeId, key, respondidas, acertadas] */
+    List<Object[]> countRespondidasAcertadasByTaxonomyGroupBy(String level, Collection<Long> ids, String dimension);
+
+    /** Rows: [scopeId, key, AVG(tempoRespostaSegundos)] */
+    List<Object[]> avgTempoByTaxonomyGroupBy(String level, Collection<Long> ids, String dimension);
+
+    /**
+     * The same breakdowns for many bancas, instituições or cargos at once. {@code scopeType} is
+     * BANCA, INSTITUICAO or CARGO, and {@code dimension} one of the breakdowns {@code StatsAssembler}
+     * shows for it. Rows are laid out as in the taxonomy queries above.
+     */
+    List<Object[]> countQuestoesByReferenceGroupBy(String scopeType, Collection<Long> ids, String dimension);
+
+    List<Object[]> countRespondidasAcertadasByReferenceGroupBy(String scopeType, Collection<Long> ids, String dimension);
+
+    List<Object[]> avgTempoByReferenceGroupBy(String scopeType, Collection<Long> ids, String dimension);
 }
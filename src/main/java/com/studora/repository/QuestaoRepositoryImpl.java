@@ -1,17 +1,20 @@
 package com.studora.repository;
 
-import com.studora.dto.request.SimuladoGenerationRequest;
+import com.studora.entity.LocalDateTimeConverter;
 import com.studora.entity.NivelCargo;
-import java.time.LocalDateTime;
+import com.studora.entity.Questao;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Repository
 public class QuestaoRepositoryImpl implements QuestaoRepositoryCustom {
@@ -19,176 +22,244 @@ public class QuestaoRepositoryImpl implements QuestaoRepositoryCustom {
     @PersistenceContext
     private EntityManager em;
 
+    private static final LocalDateTimeConverter DATES = new LocalDateTimeConverter();
+
     @Override
-    public List<Long> findIdsBySubtemaWithPreferences(Long subtemaId, SimuladoGenerationRequest request, List<Long> excludeIds, Pageable pageable) {
-        String scopeJoin = "JOIN q.subtemas s";
-        String scopeWhere = "s.id = :scopeId";
-        return executeQuery(scopeJoin, scopeWhere, subtemaId, null, null, request, excludeIds, pageable);
+    @SuppressWarnings("unchecked")
+    public List<SimuladoCandidato> findSimuladoCandidatos(Collection<Long> subtemaIds, Collection<Long> temaIds, Collection<Long> disciplinaIds) {
+        // Subtema links are packed as "subtema,tema,disciplina;..." and cargos as
+        // id<US>nivel<US>area<RS>... (ASCII unit/record separators, which never occur in names)
+        String sql = """
+            SELECT q.id, q.anulada, q.desatualizada, q.autoral, c.banca_id, i.area,
+                   (SELECT group_concat(qt.subtema_id || ',' || qt.tema_id || ',' || qt.disciplina_id, ';')
+                      FROM questao_taxonomia qt
+                     WHERE qt.questao_id = q.id),
+                   (SELECT group_concat(cg.id || char(31) || COALESCE(cg.nivel, '') || char(31) || COALESCE(cg.area, ''), char(30))
+                      FROM questao_cargo qc
+                      JOIN concurso_cargo cc ON cc.id = qc.concurso_cargo_id
+                      JOIN cargo cg ON cg.id = cc.cargo_id
+                     WHERE qc.questao_id = q.id),
+                   (SELECT rs.last_answered_at FROM questao_resposta_summary rs WHERE rs.questao_id = q.id)
+            FROM questao q
+            LEFT JOIN concurso c ON c.id = q.concurso_id
+            LEFT JOIN instituicao i ON i.id = c.instituicao_id
+            WHERE q.id IN (SELECT qt.questao_id FROM questao_taxonomia qt WHERE qt.subtema_id IN (:subtemaIds)
+                           UNION SELECT qt.questao_id FROM questao_taxonomia qt WHERE qt.tema_id IN (:temaIds)
+                           UNION SELECT qt.questao_id FROM questao_taxonomia qt WHERE qt.disciplina_id IN (:disciplinaIds))
+            """;
+
+        List<Object[]> rows = em.createNativeQuery(sql)
+                .setParameter("subtemaIds", orNone(subtemaIds))
+                .setParameter("temaIds", orNone(temaIds))
+                .setParameter("disciplinaIds", orNone(disciplinaIds))
+                .getResultList();
+
+        List<SimuladoCandidato> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            String[] links = row[6] != null ? ((String) row[6]).split(";") : new String[0];
+            long[] subtemas = new long[links.length];
+            long[] temas = new long[links.length];
+            long[] disciplinas = new long[links.length];
+            for (int j = 0; j < links.length; j++) {
+                String[] ids = links[j].split(",");
+                subtemas[j] = Long.parseLong(ids[0]);
+                temas[j] = Long.parseLong(ids[1]);
+                disciplinas[j] = Long.parseLong(ids[2]);
+            }
+
+            Set<Long> cargoIds = new HashSet<>();
+            Set<NivelCargo> niveis = EnumSet.noneOf(NivelCargo.class);
+            List<String> cargoAreas = new ArrayList<>();
+            if (row[7] != null) {
+                for (String cargo : ((String) row[7]).split("\u001e")) {
+                    String[] fields = cargo.split("\u001f", -1);
+                    cargoIds.add(Long.parseLong(fields[0]));
+                    if (!fields[1].isEmpty()) niveis.add(NivelCargo.valueOf(fields[1]));
+                    if (!fields[2].isEmpty()) cargoAreas.add(fields[2]);
+                }
+            }
+
+            result.add(new SimuladoCandidato(
+                    ((Number) row[0]).longValue(),
+                    flag(row[1]), flag(row[2]), flag(row[3]),
+                    row[4] != null ? ((Number) row[4]).longValue() : null,
+                    (String) row[5],
+                    subtemas, temas, disciplinas,
+                    cargoIds, niveis, cargoAreas,
+                    row[8] != null ? DATES.convertToEntityAttribute(row[8].toString()) : null));
+        }
+        return result;
+    }
+
+    private static Collection<Long> orNone(Collection<Long> ids) {
+        return ids == null || ids.isEmpty() ? List.of(-1L) : ids;
+    }
+
+    private static boolean flag(Object value) {
+        if (value instanceof Boolean b) return b;
+        return value != null && ((Number) value).intValue() != 0;
     }
 
     @Override
-    public List<Long> findIdsByTemaWithPreferences(Long temaId, List<Long> avoidSubtemaIds, SimuladoGenerationRequest request, List<Long> excludeIds, Pageable pageable) {
-        String scopeJoin = "JOIN q.subtemas s JOIN s.tema t";
-        String scopeWhere = "t.id = :scopeId";
-        
-        // Handling avoidSubtemaIds in WHERE
-        String extraWhere = null;
-        if (avoidSubtemaIds != null && !avoidSubtemaIds.isEmpty() && !avoidSubtemaIds.contains(-1L)) {
-            extraWhere = "s.id NOT IN :avoidSubtemaIds";
-        }
+    public List<Long> findIds(Specification<Questao> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Questao> root = query.from(Questao.class);
+        query.select(root.get("id"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        return em.createQuery(query).getResultList();
+    }
 
-        return executeQuery(scopeJoin, scopeWhere, temaId, extraWhere, avoidSubtemaIds, request, excludeIds, pageable);
+    @Override
+    public List<Long> findIds(Specification<Questao> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Questao> root = query.from(Questao.class);
+        query.select(root.get("id"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return em.createQuery(query).setMaxResults(limit).getResultList();
     }
 
     @Override
-    public List<Long> findIdsByDisciplinaWithPreferences(Long disciplinaId, List<Long> avoidTemaIds, List<Long> avoidSubtemaIds, SimuladoGenerationRequest request, List<Long> excludeIds, Pageable pageable) {
-        String scopeJoin = "JOIN q.subtemas s JOIN s.tema t JOIN t.disciplina d";
-        String scopeWhere = "d.id = :scopeId";
-        
-        StringBuilder extraWhere = new StringBuilder();
-        List<Object> extraParams = new ArrayList<>();
-        
-        boolean hasAvoidTemas = avoidTemaIds != null && !avoidTemaIds.isEmpty() && !avoidTemaIds.contains(-1L);
-        boolean hasAvoidSubtemas = avoidSubtemaIds != null && !avoidSubtemaIds.isEmpty() && !avoidSubtemaIds.contains(-1L);
-
-        if (hasAvoidTemas) {
-            extraWhere.append("t.id NOT IN :avoidTemaIds");
-        }
-        if (hasAvoidSubtemas) {
-            if (extraWhere.length() > 0) extraWhere.append(" AND ");
-            extraWhere.append("s.id NOT IN :avoidSubtemaIds");
-        }
+    public List<Long> findIdsByRelevance(Specification<Questao> spec, String matchExpression, long offset, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Questao> root = query.from(Questao.class);
+        query.select(root.get("id"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.orderBy(
+                cb.asc(cb.function("questao_fts_rank", Double.class, root.get("id"), cb.literal(matchExpression))),
+                cb.desc(root.get("id")));
+        return em.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
 
-        return executeQuery(scopeJoin, scopeWhere, disciplinaId, extraWhere.length() > 0 ? extraWhere.toString() : null, null, request, excludeIds, pageable, avoidTemaIds, avoidSubtemaIds);
+    @Override
+    public List<Object[]> countQuestoesByTaxonomyGroupBy(String level, Collection<Long> ids, String dimension) {
+        return countQuestoesGroupBy(taxonomyGrouping(level, dimension), ids);
     }
 
-    private List<Long> executeQuery(String scopeJoin, String scopeWhere, Long scopeId, 
-                                   String extraWhere, List<Long> avoidSubtemaIdsForTema,
-                                   SimuladoGenerationRequest req, List<Long> excludeIds, Pageable pageable) {
-        return executeQuery(scopeJoin, scopeWhere, scopeId, extraWhere, avoidSubtemaIdsForTema, req, excludeIds, pageable, null, null);
+    @Override
+    public List<Object[]> countRespondidasAcertadasByTaxonomyGroupBy(String level, Collection<Long> ids, String dimension) {
+        return countRespondidasAcertadasGroupBy(taxonomyGrouping(level, dimension), ids);
     }
 
-    private List<Long> executeQuery(String scopeJoin, String scopeWhere, Long scopeId, 
-                                   String extraWhere, List<Long> avoidSubtemaIdsForTema,
-                                   SimuladoGenerationRequest req, List<Long> excludeIds, Pageable pageable,
-                                   List<Long> avoidTemaIds, List<Long> avoidSubtemaIdsForDisc) {
-        
-        StringBuilder hql = new StringBuilder("SELECT DISTINCT q.id FROM Questao q ");
-        hql.append("LEFT JOIN q.concurso c LEFT JOIN c.banca b LEFT JOIN c.instituicao i ");
-        hql.append(scopeJoin).append(" ");
+    @Override
+    public List<Object[]> avgTempoByTaxonomyGroupBy(String level, Collection<Long> ids, String dimension) {
+        return avgTempoGroupBy(taxonomyGrouping(level, dimension), ids);
+    }
 
-        // WHERE Clauses
-        List<String> whereClauses = new ArrayList<>();
-        whereClauses.add("q.anulada = false");
-        whereClauses.add("q.desatualizada = false");
-        whereClauses.add(scopeWhere);
+    @Override
+    public List<Object[]> countQuestoesByReferenceGroupBy(String scopeType, Collection<Long> ids, String dimension) {
+        return countQuestoesGroupBy(referenceGrouping(scopeType, dimension), ids);
+    }
 
-        if (excludeIds != null && !excludeIds.isEmpty() && !excludeIds.contains(-1L)) {
-            whereClauses.add("q.id NOT IN :excludeIds");
-        }
+    @Override
+    public List<Object[]> countRespondidasAcertadasByReferenceGroupBy(String scopeType, Collection<Long> ids, String dimension) {
+        return countRespondidasAcertadasGroupBy(referenceGrouping(scopeType, dimension), ids);
+    }
 
-        if (extraWhere != null) {
-            whereClauses.add(extraWhere);
-        }
+    @Override
+    public List<Object[]> avgTempoByReferenceGroupBy(String scopeType, Collection<Long> ids, String dimension) {
+        return avgTempoGroupBy(referenceGrouping(scopeType, dimension), ids);
+    }
 
-        // Ignorar Respondidas
-        LocalDateTime threshold = LocalDateTime.now().minusMonths(1);
-        if (Boolean.TRUE.equals(req.getIgnorarRespondidas())) {
-            // Stricter: Exclude ALL answered questions
-            whereClauses.add("NOT EXISTS (SELECT 1 FROM Resposta r WHERE r.questao.id = q.id)");
-        } else {
-            // Default: Exclude only RECENTLY answered questions (within 30 days)
-            whereClauses.add("NOT EXISTS (SELECT 1 FROM Resposta r WHERE r.questao.id = q.id AND r.createdAt >= :threshold)");
-        }
+    @SuppressWarnings("unchecked")
+    private List<Object[]> countQuestoesGroupBy(Grouping by, Collection<Long> ids) {
+        return em.createQuery("SELECT " + by.scope + ", " + by.select + ", COUNT(DISTINCT q.id) " +
+                        "FROM Questao q " + by.join + " " +
+                        "WHERE " + by.scope + " IN :ids AND q.anulada = false " +
+                        "GROUP BY " + by.scope + ", " + by.group)
+                .setParameter("ids", orNone(ids))
+                .getResultList();
+    }
 
-        // Nivel Filtering (Hard Constraint for 'Teto')
-        // When includeAutoral is true, autoral questions bypass the nivel filter
-        if (req.getNivel() != null) {
-            String nivelLevels = switch (req.getNivel()) {
-                case SUPERIOR -> "'SUPERIOR', 'MEDIO', 'FUNDAMENTAL'";
-                case MEDIO -> "'MEDIO', 'FUNDAMENTAL'";
-                case FUNDAMENTAL -> "'FUNDAMENTAL'";
-            };
-            String nivelFilter =
-                "(q.autoral = true OR EXISTS (SELECT 1 FROM q.questaoCargos qc JOIN qc.concursoCargo cc JOIN cc.cargo cargo WHERE cargo.nivel IN (" + nivelLevels + ")))";
-            whereClauses.add(nivelFilter);
-        }
+    @SuppressWarnings("unchecked")
+    private List<Object[]> countRespondidasAcertadasGroupBy(Grouping by, Collection<Long> ids) {
+        return em.createQuery("SELECT " + by.scope + ", " + by.select + ", COUNT(DISTINCT r.questao.id), " +
+                        "SUM(CASE WHEN r.correta = true THEN 1 ELSE 0 END) " +
+                        "FROM Resposta r JOIN r.questao q " + by.join + " " +
+                        "WHERE " + by.scope + " IN :ids AND q.anulada = false " +
+                        "GROUP BY " + by.scope + ", " + by.group)
+                .setParameter("ids", orNone(ids))
+                .getResultList();
+    }
 
-        hql.append("WHERE ").append(String.join(" AND ", whereClauses));
+    @SuppressWarnings("unchecked")
+    private List<Object[]> avgTempoGroupBy(Grouping by, Collection<Long> ids) {
+        return em.createQuery("SELECT " + by.scope + ", " + by.select + ", AVG(r.tempoRespostaSegundos) " +
+                        "FROM Resposta r JOIN r.questao q " + by.join + " " +
+                        "WHERE " + by.scope + " IN :ids AND r.tempoRespostaSegundos IS NOT NULL " +
+                        "GROUP BY " + by.scope + ", " + by.group)
+                .setParameter("ids", orNone(ids))
+                .getResultList();
+    }
 
-        // ORDER BY Preferences (Scoring)
-        StringBuilder orderBy = new StringBuilder("ORDER BY (0");
+    // Scope column, joins from q, breakdown key and its GROUP BY expression
+    private record Grouping(String scope, String join, String select, String group) {}
 
-        // Banca Preference
-        if (req.getBancaId() != null) {
-            orderBy.append(" + CASE WHEN b.id = :bancaId THEN 1000 ELSE 0 END");
-        }
+    private static Grouping taxonomyGrouping(String level, String dimension) {
+        Breakdown by = Breakdown.valueOf(dimension);
+        return new Grouping(taxonomyColumn(level), "JOIN QuestaoTaxonomia qt ON qt.questaoId = q.id " + by.join, by.select, by.group);
+    }
 
-        // Cargo Preference
-        if (req.getCargoId() != null) {
-            orderBy.append(" + CASE WHEN EXISTS (SELECT 1 FROM q.questaoCargos qc2 JOIN qc2.concursoCargo cc2 WHERE cc2.cargo.id = :cargoId) THEN 500 ELSE 0 END");
-        }
+    // Same keys and joins as the per-id GroupBy queries these replaced: bancas and instituições reach
+    // cargos through their concursos, cargos reach bancas and instituições through their questões
+    private static Grouping referenceGrouping(String scopeType, String dimension) {
+        String concursoCargos = "JOIN q.concurso c JOIN c.concursoCargos cc";
+        return switch (scopeType + ":" + dimension) {
+            case "BANCA:NIVEL", "INSTITUICAO:NIVEL" -> new Grouping(concursoScope(scopeType), concursoCargos,
+                    "CAST(cc.cargo.nivel AS string)", "cc.cargo.nivel");
+            case "BANCA:AREA_INSTITUICAO" -> new Grouping("c.banca.id", "JOIN q.concurso c",
+                    "c.instituicao.area", "c.instituicao.area");
+            case "BANCA:AREA_CARGO", "INSTITUICAO:AREA_CARGO" -> new Grouping(concursoScope(scopeType), concursoCargos,
+                    "cc.cargo.area", "cc.cargo.area");
+            case "INSTITUICAO:BANCA" -> new Grouping("c.instituicao.id", "JOIN q.concurso c", "c.banca.id", "c.banca.id");
+            case "INSTITUICAO:CARGO" -> new Grouping("c.instituicao.id", concursoCargos, "cc.cargo.id", "cc.cargo.id");
+            case "CARGO:BANCA" -> new Grouping("qc.concursoCargo.cargo.id", "JOIN q.questaoCargos qc JOIN q.concurso c",
+                    "c.banca.id", "c.banca.id");
+            case "CARGO:AREA_INSTITUICAO" -> new Grouping("qc.concursoCargo.cargo.id", "JOIN q.questaoCargos qc JOIN q.concurso c",
+                    "c.instituicao.area", "c.instituicao.area");
+            case "CARGO:AREA_CARGO" -> new Grouping("qc.concursoCargo.cargo.id", "JOIN q.questaoCargos qc",
+                    "qc.concursoCargo.cargo.area", "qc.concursoCargo.cargo.area");
+            default -> throw new IllegalArgumentException("Detalhamento desconhecido: " + scopeType + " por " + dimension);
+        };
+    }
 
-        // Area Preference
-        if (req.getAreas() != null && !req.getAreas().isEmpty()) {
-            // Case-insensitive check? DB dependent. HQL 'lower()'
-            // Construct OR clauses for areas
-            // (lower(i.area) IN :areas OR EXISTS (... lower(cargo.area) IN :areas))
-            // :areas param should be lowercased list.
-            orderBy.append(" + CASE WHEN (lower(i.area) IN :areasLower OR EXISTS (SELECT 1 FROM q.questaoCargos qc3 JOIN qc3.concursoCargo cc3 JOIN cc3.cargo cargo3 WHERE lower(cargo3.area) IN :areasLower)) THEN 100 ELSE 0 END");
-        }
+    private static String concursoScope(String scopeType) {
+        return scopeType.equals("BANCA") ? "c.banca.id" : "c.instituicao.id";
+    }
 
-        // Nivel Priority
-        // Superior (requested) -> Sup(30) > Med(20) > Fund(10)
-        // Medio (requested) -> Med(20) > Fund(10)
-        // Fund (requested) -> Fund(10)
-        // We can just assign static weights to levels found.
-        // If question has Superior cargo -> +30. If Medio -> +20. If Fund -> +10.
-        // MAX score wins.
-        // Query: check if it has Superior, else if Medio...
-        // "COALESCE((SELECT MAX(CASE WHEN c4.nivel='SUPERIOR' THEN 30 WHEN c4.nivel='MEDIO' THEN 20 ELSE 10 END) FROM ...), 0)"
-        // Simplified: Just add points if it HAS that level.
-        orderBy.append(" + CASE WHEN EXISTS (SELECT 1 FROM q.questaoCargos qc4 JOIN qc4.concursoCargo cc4 JOIN cc4.cargo c4 WHERE c4.nivel = 'SUPERIOR') THEN 30 ELSE 0 END");
-        orderBy.append(" + CASE WHEN EXISTS (SELECT 1 FROM q.questaoCargos qc5 JOIN qc5.concursoCargo cc5 JOIN cc5.cargo c5 WHERE c5.nivel = 'MEDIO') THEN 20 ELSE 0 END");
-        orderBy.append(" + CASE WHEN EXISTS (SELECT 1 FROM q.questaoCargos qc6 JOIN qc6.concursoCargo cc6 JOIN cc6.cargo c6 WHERE c6.nivel = 'FUNDAMENTAL') THEN 10 ELSE 0 END");
-
-        orderBy.append(") DESC, RANDOM()");
-
-        hql.append(" ").append(orderBy.toString());
-
-        Query query = em.createQuery(hql.toString());
-
-        // Set Parameters
-        query.setParameter("scopeId", scopeId);
-        if (hql.indexOf(":threshold") != -1) {
-            query.setParameter("threshold", threshold);
-        }
-        
-        if (excludeIds != null && !excludeIds.isEmpty() && !excludeIds.contains(-1L)) {
-            query.setParameter("excludeIds", excludeIds);
-        }
-        if (avoidSubtemaIdsForTema != null && !avoidSubtemaIdsForTema.isEmpty() && !avoidSubtemaIdsForTema.contains(-1L)) {
-            query.setParameter("avoidSubtemaIds", avoidSubtemaIdsForTema);
-        }
-        if (avoidTemaIds != null && !avoidTemaIds.isEmpty() && !avoidTemaIds.contains(-1L)) {
-            query.setParameter("avoidTemaIds", avoidTemaIds);
-        }
-        if (avoidSubtemaIdsForDisc != null && !avoidSubtemaIdsForDisc.isEmpty() && !avoidSubtemaIdsForDisc.contains(-1L)) {
-            query.setParameter("avoidSubtemaIds", avoidSubtemaIdsForDisc);
-        } // Fix: Used generic param name in query building, need to match logic
+    private static String taxonomyColumn(String level) {
+        return switch (level) {
+            case "disciplinaId", "temaId", "subtemaId" -> "qt." + level;
+            default -> throw new IllegalArgumentException("Nível de taxonomia desconhecido: " + level);
+        };
+    }
 
-        if (req.getBancaId() != null) {
-            query.setParameter("bancaId", req.getBancaId());
-        }
-        if (req.getCargoId() != null) {
-            query.setParameter("cargoId", req.getCargoId());
-        }
-        if (req.getAreas() != null && !req.getAreas().isEmpty()) {
-            query.setParameter("areasLower", req.getAreas().stream().map(String::toLowerCase).collect(Collectors.toList()));
-        }
+    // Same keys and joins as the per-id GroupBy queries in QuestaoRepository and RespostaRepository
+    private enum Breakdown {
+        NIVEL("CAST(qc.concursoCargo.cargo.nivel AS string)", "JOIN q.questaoCargos qc", "qc.concursoCargo.cargo.nivel"),
+        BANCA("c.banca.id", "JOIN q.concurso c", "c.banca.id"),
+        INSTITUICAO("c.instituicao.id", "JOIN q.concurso c", "c.instituicao.id"),
+        AREA_INSTITUICAO("c.instituicao.area", "JOIN q.concurso c", "c.instituicao.area"),
+        CARGO("qc.concursoCargo.cargo.id", "JOIN q.questaoCargos qc", "qc.concursoCargo.cargo.id"),
+        AREA_CARGO("qc.concursoCargo.cargo.area", "JOIN q.questaoCargos qc", "qc.concursoCargo.cargo.area");
+
+        final String select;
+        final String join;
+        final String group;
 
-        query.setMaxResults(pageable.getPageSize());
-        
-        return query.getResultList();
+        Breakdown(String select, String join, String group) {
+            this.select = select;
+            this.join = join;
+            this.group = group;
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.studora.repository;
+
+import com.studora.entity.RespostaAgregadoDiario;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RespostaAgregadoDiarioRepository extends JpaRepository<RespostaAgregadoDiario, Long>, RespostaAgregadoDiarioRepositoryCustom {
+
+    // Rows: [escopoId, dificuldadeId, total, corretas, tempoTotal]
+    @Query("SELECT a.escopoId, a.dificuldadeId, SUM(a.total), SUM(a.corretas), SUM(a.tempoTotal) " +
+           "FROM RespostaAgregadoDiario a WHERE a.escopo = :escopo " +
+           "GROUP BY a.escopoId, a.dificuldadeId")
+    List<Object[]> sumByEscopo(@Param("escopo") RespostaAgregadoDiario.Escopo escopo);
+
+    @Query("SELECT a.escopoId, a.dificuldadeId, SUM(a.total), SUM(a.corretas), SUM(a.tempoTotal) " +
+           "FROM RespostaAgregadoDiario a WHERE a.escopo = :escopo AND a.escopoId IN :ids " +
+           "GROUP BY a.escopoId, a.dificuldadeId")
+    List<Object[]> sumByEscopoAndIds(@Param("escopo") RespostaAgregadoDiario.Escopo escopo, @Param("ids") Collection<Long> ids);
+
+    // Rows: [dia, dificuldadeId, total, corretas, tempoTotal]
+    @Query("SELECT a.dia, a.dificuldadeId, SUM(a.total), SUM(a.corretas), SUM(a.tempoTotal) " +
+           "FROM RespostaAgregadoDiario a WHERE a.escopo = :escopo " +
+           "GROUP BY a.dia, a.dificuldadeId ORDER BY a.dia")
+    List<Object[]> sumByDia(@Param("escopo") RespostaAgregadoDiario.Escopo escopo);
+}
@@ -0,0 +1,35 @@
+package com.studora.repository;
+
+import java.util.Collection;
+
+/**
+ * Incremental maintenance of the resposta_agregado_diario roll-up.
+ * <p>
+ * Every {@code remove*} must run before the underlying rows (or their taxonomy links) change,
+ * and every {@code add*} after, so the roll-up always reflects the current resposta table.
+ */
+public interface RespostaAgregadoDiarioRepositoryCustom {
+
+    void addResposta(Long respostaId);
+
+    void addRespostas(Collection<Long> respostaIds);
+
+    void removeResposta(Long respostaId);
+
+    void addQuestao(Long questaoId);
+
+    void removeQuestao(Long questaoId);
+
+    void removeConcurso(Long concursoId);
+
+    void addSubtema(Long subtemaId);
+
+    void removeSubtema(Long subtemaId);
+
+    void addTema(Long temaId);
+
+    void removeTema(Long temaId);
+
+    /** Discards the roll-up and recomputes it from the whole answer history. */
+    void rebuild();
+}
@@ -0,0 +1,154 @@
+package com.studora.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+@Transactional
+public class RespostaAgregadoDiarioRepositoryImpl implements RespostaAgregadoDiarioRepositoryCustom {
+
+    private static final String INSERT =
+            "INSERT INTO resposta_agregado_diario (escopo, escopo_id, dificuldade_id, dia, total, corretas, tempo_total) ";
+
+    private static final String COUNTERS =
+            "COALESCE(r.dificuldade_id, 0), date(r.created_at), " +
+            ":sinal * COUNT(*), " +
+            ":sinal * SUM(r.correta), " +
+            ":sinal * SUM(COALESCE(r.tempo_resposta_segundos, 0)) ";
+
+    private static final String GROUP_BY_DAY = "COALESCE(r.dificuldade_id, 0), date(r.created_at) ";
+
+    private static final String UPSERT =
+            "ON CONFLICT (escopo, escopo_id, dificuldade_id, dia) DO UPDATE SET " +
+            "total = total + excluded.total, " +
+            "corretas = corretas + excluded.corretas, " +
+            "tempo_total = tempo_total + excluded.tempo_total";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void addResposta(Long respostaId) {
+        apply("r.id = :scopeId", respostaId, 1);
+    }
+
+    @Override
+    public void addRespostas(Collection<Long> respostaIds) {
+        apply("r.id IN (:scopeId)", respostaIds, 1);
+    }
+
+    @Override
+    public void removeResposta(Long respostaId) {
+        apply("r.id = :scopeId", respostaId, -1);
+    }
+
+    @Override
+    public void addQuestao(Long questaoId) {
+        apply("r.questao_id = :scopeId", questaoId, 1);
+    }
+
+    @Override
+    public void removeQuestao(Long questaoId) {
+        apply("r.questao_id = :scopeId", questaoId, -1);
+    }
+
+    @Override
+    public void removeConcurso(Long concursoId) {
+        apply("r.questao_id IN (SELECT q.id FROM questao q WHERE q.concurso_id = :scopeId)", concursoId, -1);
+    }
+
+    @Override
+    public void addSubtema(Long subtemaId) {
+        apply(bySubtema(), subtemaId, 1);
+    }
+
+    @Override
+    public void removeSubtema(Long subtemaId) {
+        apply(bySubtema(), subtemaId, -1);
+    }
+
+    @Override
+    public void addTema(Long temaId) {
+        apply(byTema(), temaId, 1);
+    }
+
+    @Override
+    public void removeTema(Long temaId) {
+        apply(byTema(), temaId, -1);
+    }
+
+    @Override
+    public void rebuild() {
+        em.flush();
+        nativeUpdate("DELETE FROM resposta_agregado_diario").executeUpdate();
+        for (String sql : statements("1 = 1")) {
+            nativeUpdate(sql).setParameter("sinal", 1).executeUpdate();
+        }
+    }
+
+    private String bySubtema() {
+        return "r.questao_id IN (SELECT qs2.questao_id FROM questao_subtema qs2 WHERE qs2.subtema_id = :scopeId)";
+    }
+
+    private String byTema() {
+        return "r.questao_id IN (SELECT qt2.questao_id FROM questao_taxonomia qt2 WHERE qt2.tema_id = :scopeId)";
+    }
+
+    private void apply(String respostaFilter, Object scopeId, int sinal) {
+        em.flush();
+        for (String sql : statements(respostaFilter)) {
+            nativeUpdate(sql)
+                    .setParameter("scopeId", scopeId)
+                    .setParameter("sinal", sinal)
+                    .executeUpdate();
+        }
+        if (sinal < 0) {
+            nativeUpdate("DELETE FROM resposta_agregado_diario WHERE total <= 0").executeUpdate();
+        }
+    }
+
+    /**
+     * Declares the only table these statements write, so Hibernate does not empty the whole
+     * second-level cache after each of them.
+     */
+    private NativeQuery<?> nativeUpdate(String sql) {
+        return em.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("resposta_agregado_diario");
+    }
+
+    /**
+     * One upsert per escopo. Each SELECT carries a WHERE clause so SQLite does not read
+     * the trailing ON CONFLICT as part of a join constraint.
+     */
+    private String[] statements(String respostaFilter) {
+        String subtema = INSERT +
+                "SELECT 'SUBTEMA', qs.subtema_id, " + COUNTERS +
+                "FROM resposta r " +
+                "JOIN questao_subtema qs ON qs.questao_id = r.questao_id " +
+                "WHERE " + respostaFilter + " " +
+                "GROUP BY qs.subtema_id, " + GROUP_BY_DAY + UPSERT;
+
+        String disciplina = INSERT +
+                "SELECT 'DISCIPLINA', x.disciplina_id, " + COUNTERS +
+                "FROM (SELECT DISTINCT r.id AS resposta_id, qt.disciplina_id FROM resposta r " +
+                "      JOIN questao_taxonomia qt ON qt.questao_id = r.questao_id " +
+                "      WHERE " + respostaFilter + ") x " +
+                "JOIN resposta r ON r.id = x.resposta_id " +
+                "WHERE 1 = 1 " +
+                "GROUP BY x.disciplina_id, " + GROUP_BY_DAY + UPSERT;
+
+        String geral = INSERT +
+                "SELECT 'GERAL', 0, " + COUNTERS +
+                "FROM resposta r " +
+                "WHERE " + respostaFilter + " " +
+                "GROUP BY " + GROUP_BY_DAY + UPSERT;
+
+        return new String[] {subtema, disciplina, geral};
+    }
+}
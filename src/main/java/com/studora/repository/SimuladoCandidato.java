@@ -0,0 +1,29 @@
+package com.studora.repository;
+
+import com.studora.entity.NivelCargo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact view of a questão with everything simulado generation filters and scores on.
+ * <p>
+ * {@code subtemaIds}, {@code temaIds} and {@code disciplinaIds} are parallel: index {@code j}
+ * describes the j-th subtema link of the questão.
+ */
+public record SimuladoCandidato(
+        long id,
+        boolean anulada,
+        boolean desatualizada,
+        boolean autoral,
+        Long bancaId,
+        String instituicaoArea,
+        long[] subtemaIds,
+        long[] temaIds,
+        long[] disciplinaIds,
+        Set<Long> cargoIds,
+        Set<NivelCargo> niveis,
+        List<String> cargoAreas,
+        LocalDateTime ultimaResposta
+) {}
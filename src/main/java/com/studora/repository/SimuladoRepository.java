@@ -2,14 +2,104 @@ package com.studora.repository;
 
 import com.studora.entity.Simulado;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface SimuladoRepository extends JpaRepository<Simulado, Long> {
+public interface SimuladoRepository extends JpaRepository<Simulado, Long>, JpaSpecificationExecutor<Simulado> {
 
-    @Query("SELECT s FROM Simulado s LEFT JOIN FETCH s.questoes q LEFT JOIN FETCH q.respostas WHERE s.id = :id")
-    Optional<Simulado> findByIdWithQuestoes(@Param("id") Long id);
+    @Query("SELECT q.id FROM Simulado s JOIN s.questoes q WHERE s.id = :id")
+    List<Long> findQuestaoIdsById(@Param("id") Long id);
+
+    // Resultado queries count the last resposta to each questão of the simulado
+    // Rows: a single [questões, respondidas, acertos, tempoTotal, tempoMedio]
+    @Query(value = """
+        SELECT (SELECT COUNT(*) FROM simulado_questao WHERE simulado_id = :id),
+               COUNT(r.id), COALESCE(SUM(r.correta), 0), COALESCE(SUM(r.tempo_resposta_segundos), 0),
+               CAST(ROUND(AVG(r.tempo_resposta_segundos)) AS INTEGER)
+        FROM resposta r
+        WHERE r.id IN (SELECT MAX(r2.id) FROM resposta r2
+                       JOIN simulado_questao sq ON sq.simulado_id = r2.simulado_id AND sq.questao_id = r2.questao_id
+                       WHERE r2.simulado_id = :id GROUP BY r2.questao_id)
+        """, nativeQuery = true)
+    List<Object[]> findResultadoTotais(@Param("id") Long id);
+
+    // Rows: [disciplinaId, disciplinaNome, questões, acertos, tempoMedio]
+    @Query(value = """
+        SELECT d.id, d.nome, COUNT(*), SUM(r.correta), CAST(ROUND(AVG(r.tempo_resposta_segundos)) AS INTEGER)
+        FROM resposta r
+        JOIN (SELECT DISTINCT questao_id, disciplina_id FROM questao_taxonomia) qt ON qt.questao_id = r.questao_id
+        JOIN disciplina d ON d.id = qt.disciplina_id
+        WHERE r.id IN (SELECT MAX(r2.id) FROM resposta r2
+                       JOIN simulado_questao sq ON sq.simulado_id = r2.simulado_id AND sq.questao_id = r2.questao_id
+                       WHERE r2.simulado_id = :id GROUP BY r2.questao_id)
+        GROUP BY d.id, d.nome
+        """, nativeQuery = true)
+    List<Object[]> findResultadoPorDisciplina(@Param("id") Long id);
+
+    // Rows: [dificuldadeId, questões, acertos]
+    @Query(value = """
+        SELECT r.dificuldade_id, COUNT(*), SUM(r.correta)
+        FROM resposta r
+        WHERE r.dificuldade_id IS NOT NULL
+          AND r.id IN (SELECT MAX(r2.id) FROM resposta r2
+                       JOIN simulado_questao sq ON sq.simulado_id = r2.simulado_id AND sq.questao_id = r2.questao_id
+                       WHERE r2.simulado_id = :id GROUP BY r2.questao_id)
+        GROUP BY r.dificuldade_id
+        """, nativeQuery = true)
+    List<Object[]> findResultadoPorDificuldade(@Param("id") Long id);
+
+    // Rows: [questaoId, enunciado, anulada, desatualizada, autoral, imageUrl, respondida,
+    //        concursoId, ano, bancaId, bancaNome, bancaSigla, instituicaoId, instituicaoNome, instituicaoSigla, instituicaoArea]
+    // in simulado order
+    @Query("""
+        SELECT q.id, q.enunciado, q.anulada, q.desatualizada, q.autoral, q.imageUrl,
+               CASE WHEN EXISTS (SELECT rs.questaoId FROM QuestaoRespostaSummary rs WHERE rs.questaoId = q.id) THEN true ELSE false END,
+               c.id, c.ano, b.id, b.nome, b.sigla, i.id, i.nome, i.sigla, i.area
+        FROM Simulado s JOIN s.questoes q
+        LEFT JOIN q.concurso c LEFT JOIN c.banca b LEFT JOIN c.instituicao i
+        WHERE s.id = :id
+        ORDER BY INDEX(q)
+        """)
+    List<Object[]> findQuestaoRowsBySimuladoId(@Param("id") Long id);
+
+    // Rows: [questaoId, alternativaId, ordem, texto, correta, justificativa]
+    @Query("""
+        SELECT q.id, a.id, a.ordem, a.texto, a.correta, a.justificativa
+        FROM Simulado s JOIN s.questoes q JOIN q.alternativas a
+        WHERE s.id = :id
+        ORDER BY a.ordem, a.id
+        """)
+    List<Object[]> findAlternativaRowsBySimuladoId(@Param("id") Long id);
+
+    // Rows: [questaoId, subtemaId, subtemaNome, temaId, temaNome, disciplinaId, disciplinaNome]
+    @Query("""
+        SELECT q.id, st.id, st.nome, t.id, t.nome, d.id, d.nome
+        FROM Simulado s JOIN s.questoes q JOIN q.subtemas st
+        LEFT JOIN st.tema t LEFT JOIN t.disciplina d
+        WHERE s.id = :id
+        ORDER BY st.id
+        """)
+    List<Object[]> findSubtemaRowsBySimuladoId(@Param("id") Long id);
+
+    // Rows: [questaoId, cargoId, nome, nivel, area]
+    @Query("""
+        SELECT q.id, cg.id, cg.nome, cg.nivel, cg.area
+        FROM Simulado s JOIN s.questoes q JOIN q.questaoCargos qc JOIN qc.concursoCargo cc JOIN cc.cargo cg
+        WHERE s.id = :id
+        ORDER BY cg.nome
+        """)
+    List<Object[]> findCargoRowsBySimuladoId(@Param("id") Long id);
+
+    // Rows: [respostaId, questaoId, alternativaId, correta, justificativa, dificuldade, tempoRespostaSegundos, createdAt]
+    @Query("""
+        SELECT r.id, r.questao.id, r.alternativaEscolhida.id, r.correta, r.justificativa, r.dificuldade, r.tempoRespostaSegundos, r.createdAt
+        FROM Resposta r
+        WHERE r.simulado.id = :id
+        ORDER BY r.id
+        """)
+    List<Object[]> findRespostaRowsBySimuladoId(@Param("id") Long id);
 }
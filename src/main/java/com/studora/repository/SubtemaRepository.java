@@ -1,11 +1,14 @@
 package com.studora.repository;
 
 import com.studora.entity.Subtema;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +18,7 @@ import java.util.Optional;
 @Repository
 public interface SubtemaRepository extends JpaRepository<Subtema, Long>, JpaSpecificationExecutor<Subtema> {
     Page<Subtema> findByTemaId(Long temaId, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Subtema> findByTemaId(Long temaId);
 
     Optional<Subtema> findByTemaIdAndNome(Long temaId, String nome);
@@ -46,10 +50,20 @@ public interface SubtemaRepository extends JpaRepository<Subtema, Long>, JpaSpec
     @org.springframework.data.jpa.repository.Query("SELECT s.tema.disciplina.id, COUNT(s) FROM Subtema s WHERE s.tema.disciplina.id IN :disciplinaIds GROUP BY s.tema.disciplina.id")
     java.util.List<Object[]> countByDisciplinaIds(@org.springframework.data.repository.query.Param("disciplinaIds") List<Long> disciplinaIds);
 
+    @Query("SELECT s FROM Subtema s WHERE s.tema.id IN :temaIds")
+    java.util.List<Subtema> findByTemaIds(@Param("temaIds") List<Long> temaIds);
+
+    @Query("SELECT s.id FROM Subtema s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") java.util.Collection<Long> ids);
+
     @Query(value = "SELECT s FROM Subtema s JOIN FETCH s.tema t JOIN FETCH t.disciplina WHERE s.id IN (:ids)")
     java.util.List<Subtema> findAllByIdWithTemaAndDisciplina(@Param("ids") List<Long> ids);
 
     @Query(value = "SELECT s FROM Subtema s JOIN FETCH s.tema t JOIN FETCH t.disciplina",
            countQuery = "SELECT count(s) FROM Subtema s")
     Page<Subtema> findAll(Pageable pageable);
+
+    // Rows: [subtemaId, temaId, disciplinaId]
+    @Query("SELECT s.id, s.tema.id, s.tema.disciplina.id FROM Subtema s WHERE s.id = :id")
+    List<Object[]> findTaxonomyIdsById(@Param("id") Long id);
 }
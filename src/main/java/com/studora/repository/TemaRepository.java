@@ -1,11 +1,14 @@
 package com.studora.repository;
 
 import com.studora.entity.Tema;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +18,7 @@ import java.util.Optional;
 @Repository
 public interface TemaRepository extends JpaRepository<Tema, Long>, JpaSpecificationExecutor<Tema> {
     Page<Tema> findByDisciplinaId(Long disciplinaId, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Tema> findByDisciplinaId(Long disciplinaId);
 
     Optional<Tema> findByDisciplinaIdAndNome(Long disciplinaId, String nome);
@@ -0,0 +1,116 @@
+package com.studora.repository.specification;
+
+import com.studora.exception.ValidationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class KeysetSpecification {
+
+    /**
+     * Rows strictly after the given sort key values, so that a page is found by seeking the
+     * index rather than skipping an OFFSET. Null keys follow SQLite, where NULL sorts lowest.
+     */
+    public static <T> Specification<T> after(Sort sort, List<String> keys) {
+        return (root, query, cb) -> {
+            if (keys == null) return null;
+
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> samePrefix = new ArrayList<>();
+            Predicate bound = null;
+            int i = 0;
+            for (Sort.Order order : sort) {
+                Path<Comparable<Object>> path = path(root, order.getProperty());
+                Comparable<Object> value = convert(keys.get(i++), path.getJavaType());
+
+                // The OR below cannot start an index range on its own; a plain bound on the
+                // leading key can, unless NULLs (which sort lowest) may still follow
+                if (samePrefix.isEmpty() && value != null && (order.isAscending() || !optional(path))) {
+                    bound = order.isAscending() ? cb.greaterThanOrEqualTo(path, value) : cb.lessThanOrEqualTo(path, value);
+                }
+
+                Predicate beyond = beyond(cb, path, value, order.isAscending(), optional(path));
+                if (beyond != null) {
+                    List<Predicate> alternative = new ArrayList<>(samePrefix);
+                    alternative.add(beyond);
+                    alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+                }
+                samePrefix.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+            }
+            Predicate after = cb.or(alternatives.toArray(Predicate[]::new));
+            return bound == null ? after : cb.and(bound, after);
+        };
+    }
+
+    private static Predicate beyond(CriteriaBuilder cb, Path<Comparable<Object>> path, Comparable<Object> value,
+                                    boolean ascending, boolean optional) {
+        if (ascending) {
+            return value == null ? cb.isNotNull(path) : cb.greaterThan(path, value);
+        }
+        if (value == null) return null;
+        return optional ? cb.or(cb.lessThan(path, value), cb.isNull(path)) : cb.lessThan(path, value);
+    }
+
+    private static boolean optional(Path<?> path) {
+        // Behind an outer join even a mandatory attribute is NULL when the association is missing
+        return path.getParentPath() instanceof Join<?, ?>
+                || !(path.getModel() instanceof SingularAttribute<?, ?> attribute) || attribute.isOptional();
+    }
+
+    /**
+     * Nested properties go through left joins, the ones ORDER BY uses, so rows whose association
+     * is null (autoral questões have no concurso) are compared as NULL keys instead of dropped.
+     */
+    private static <T> Path<Comparable<Object>> path(Root<T> root, String property) {
+        String[] parts = property.split("\\.");
+        From<?, ?> from = root;
+        for (int i = 0; i < parts.length - 1; i++) {
+            from = leftJoin(from, parts[i]);
+        }
+        Path<?> path = from.get(parts[parts.length - 1]);
+        @SuppressWarnings("unchecked")
+        Path<Comparable<Object>> comparable = (Path<Comparable<Object>>) path;
+        return comparable;
+    }
+
+    // QueryUtils.toOrders reuses an existing join on the same attribute, so both clauses share it
+    private static Join<?, ?> leftJoin(From<?, ?> from, String attribute) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute) && join.getJoinType() == JoinType.LEFT) {
+                return join;
+            }
+        }
+        return from.join(attribute, JoinType.LEFT);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<Object> convert(String key, Class<?> type) {
+        if (key == null) return null;
+        try {
+            Object value;
+            if (type == String.class) value = key;
+            else if (type == Long.class || type == long.class) value = Long.valueOf(key);
+            else if (type == Integer.class || type == int.class) value = Integer.valueOf(key);
+            else if (type == Boolean.class || type == boolean.class) value = Boolean.valueOf(key);
+            else if (type == LocalDateTime.class) value = LocalDateTime.parse(key);
+            else if (type == LocalDate.class) value = LocalDate.parse(key);
+            else if (type.isEnum()) value = Enum.valueOf((Class<? extends Enum>) type, key);
+            else throw new ValidationException("Ordenação não suportada na paginação por cursor.");
+            return (Comparable<Object>) value;
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new ValidationException("Cursor de paginação inválido.");
+        }
+    }
+}
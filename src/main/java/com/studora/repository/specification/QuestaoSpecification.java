@@ -2,7 +2,9 @@ package com.studora.repository.specification;
 
 import com.studora.dto.questao.QuestaoFilter;
 import com.studora.entity.Questao;
-import com.studora.entity.Resposta;
+import com.studora.entity.QuestaoRespostaSummary;
+import com.studora.entity.QuestaoTaxonomia;
+import com.studora.util.StringUtils;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
@@ -10,21 +12,53 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 public class QuestaoSpecification {
 
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Turns free text into an FTS5 expression that requires every word, or null when it has none.
+     * Words are quoted, so operators and punctuation typed by the user are never interpreted.
+     */
+    public static String toMatchExpression(String text) {
+        if (text == null) return null;
+        List<String> terms = new ArrayList<>();
+        for (String word : NON_WORD.split(StringUtils.normalizeForSearch(text))) {
+            if (!word.isEmpty()) terms.add('"' + word + '"');
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+
+    /** Expects an expression from {@link #toMatchExpression}; Hibernate inlines it as an SQL literal. */
+    public static Specification<Questao> matching(String matchExpression) {
+        return (root, query, cb) -> cb.isTrue(
+                cb.function("questao_fts_match", Boolean.class, root.get("id"), cb.literal(matchExpression)));
+    }
+
     public static Specification<Questao> notAnsweredRecently(java.time.LocalDateTime threshold) {
         return (root, query, cb) -> {
             Subquery<Long> subquery = query.subquery(Long.class);
-            Root<Resposta> respostaRoot = subquery.from(Resposta.class);
-            subquery.select(respostaRoot.get("questao").get("id"));
-            
-            subquery.where(cb.greaterThanOrEqualTo(respostaRoot.get("createdAt"), threshold));
-            
+            Root<QuestaoRespostaSummary> summary = subquery.from(QuestaoRespostaSummary.class);
+            subquery.select(summary.get("questaoId"));
+            subquery.where(cb.greaterThanOrEqualTo(summary.get("lastAnsweredAt"), threshold));
+
             return cb.not(root.get("id").in(subquery));
         };
     }
 
+    /** Questões classified under the given subtema, tema or disciplina, read from {@link QuestaoTaxonomia}. */
+    public static Specification<Questao> inTaxonomy(String level, Long id) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<QuestaoTaxonomia> taxonomia = subquery.from(QuestaoTaxonomia.class);
+            subquery.select(taxonomia.get("questaoId"));
+            subquery.where(cb.equal(taxonomia.get(level), id));
+            return root.get("id").in(subquery);
+        };
+    }
+
     public static Specification<Questao> withFilter(QuestaoFilter filter) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -63,15 +97,21 @@ public class QuestaoSpecification {
 
             // Taxonomy branch
             if (filter.getSubtemaId() != null) {
-                predicates.add(cb.equal(root.join("subtemas").get("id"), filter.getSubtemaId()));
+                predicates.add(inTaxonomy("subtemaId", filter.getSubtemaId()).toPredicate(root, query, cb));
             }
 
             if (filter.getTemaId() != null) {
-                predicates.add(cb.equal(root.join("subtemas").get("tema").get("id"), filter.getTemaId()));
+                predicates.add(inTaxonomy("temaId", filter.getTemaId()).toPredicate(root, query, cb));
             }
 
             if (filter.getDisciplinaId() != null) {
-                predicates.add(cb.equal(root.join("subtemas").get("tema").get("disciplina").get("id"), filter.getDisciplinaId()));
+                predicates.add(inTaxonomy("disciplinaId", filter.getDisciplinaId()).toPredicate(root, query, cb));
+            }
+
+            // Full-text search
+            String matchExpression = toMatchExpression(filter.getQ());
+            if (matchExpression != null) {
+                predicates.add(matching(matchExpression).toPredicate(root, query, cb));
             }
 
             // Flags
@@ -4,6 +4,7 @@ import com.studora.dto.analytics.*;
 import com.studora.entity.*;
 import com.studora.exception.ResourceNotFoundException;
 import com.studora.repository.DisciplinaRepository;
+import com.studora.repository.RespostaAgregadoDiarioRepository;
 import com.studora.repository.RespostaRepository;
 import com.studora.repository.SubtemaRepository;
 import com.studora.repository.TemaRepository;
@@ -14,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -23,34 +26,43 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnalyticsService {
 
+    // Same text format LocalDateTimeConverter writes to created_at
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     private final RespostaRepository respostaRepository;
     private final DisciplinaRepository disciplinaRepository;
     private final TemaRepository temaRepository;
     private final SubtemaRepository subtemaRepository;
+    private final RespostaAgregadoDiarioRepository agregadoRepository;
 
     @Transactional(readOnly = true)
     public List<ConsistencyDto> getConsistencia(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        List<Resposta> responses = respostaRepository.findAllWithFullDetailsSince(since);
 
-        Map<LocalDate, List<Resposta>> byDate = responses.stream()
-                .collect(Collectors.groupingBy(r -> r.getCreatedAt().toLocalDate()));
+        // One row per active day, folded into a fixed-size array indexed by day offset
+        LocalDate start = since.toLocalDate();
+        LocalDate end = LocalDate.now();
+        int span = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        long[][] byDay = new long[span][];
+        for (Object[] row : respostaRepository.sumByDiaSince(since.format(CREATED_AT_FORMAT))) {
+            if (row[0] == null) continue;
+            int offset = (int) ChronoUnit.DAYS.between(start, LocalDate.parse((String) row[0]));
+            if (offset < 0 || offset >= span) continue;
+            byDay[offset] = new long[] {
+                    ((Number) row[1]).longValue(), ((Number) row[2]).longValue(), ((Number) row[3]).longValue()
+            };
+        }
 
-        List<ConsistencyDto> result = new ArrayList<>();
+        List<ConsistencyDto> result = new ArrayList<>(span);
         
         // Fill gaps and calculate streaks
-        LocalDate start = since.toLocalDate();
-        LocalDate end = LocalDate.now();
         int currentStreak = 0;
 
-        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-            List<Resposta> dayResponses = byDate.getOrDefault(date, Collections.emptyList());
-            
-            int total = dayResponses.size();
-            int correct = (int) dayResponses.stream().filter(this::isCorrect).count();
-            int time = dayResponses.stream()
-                    .mapToInt(r -> r.getTempoRespostaSegundos() != null ? r.getTempoRespostaSegundos() : 0)
-                    .sum();
+        for (int offset = 0; offset < span; offset++) {
+            long[] day = byDay[offset];
+            int total = day != null ? (int) day[0] : 0;
+            int correct = day != null ? (int) day[1] : 0;
+            int time = day != null ? (int) day[2] : 0;
 
             if (total > 0) {
                 currentStreak++;
@@ -59,7 +71,7 @@ public class AnalyticsService {
             }
 
             result.add(ConsistencyDto.builder()
-                    .date(date)
+                    .date(start.plusDays(offset))
                     .totalAnswered(total)
                     .totalCorrect(correct)
                     .totalTimeSeconds(time)
@@ -76,11 +88,10 @@ public class AnalyticsService {
             org.springframework.data.domain.Pageable pageable, 
             String sort, String direction) {
         
-        List<Resposta> allResponses = respostaRepository.findAllWithFullDetails();
+        Map<Long, Tally> byDisciplina = toTallies(agregadoRepository.sumByEscopo(RespostaAgregadoDiario.Escopo.DISCIPLINA));
         
         // 1. Calculate all available disciplinas with attempts
-        List<TopicMasteryDto> allMastery = disciplinaRepository.findAll().stream()
-                .map(d -> buildHierarchyForDisciplina(d, allResponses))
+        List<TopicMasteryDto> allMastery = buildHierarchy(disciplinaRepository.findAllById(byDisciplina.keySet()), byDisciplina).stream()
                 .filter(m -> m.getTotalAttempts() > 0)
                 .collect(Collectors.toList());
 
@@ -143,8 +154,9 @@ public class AnalyticsService {
         Disciplina disciplina = disciplinaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Disciplina", "ID", id));
 
-        List<Resposta> allResponses = respostaRepository.findAllWithFullDetails();
-        TopicMasteryDto dto = buildHierarchyForDisciplina(disciplina, allResponses);
+        Map<Long, Tally> byDisciplina = toTallies(
+                agregadoRepository.sumByEscopoAndIds(RespostaAgregadoDiario.Escopo.DISCIPLINA, List.of(id)));
+        TopicMasteryDto dto = buildHierarchy(List.of(disciplina), byDisciplina).get(0);
         
         if (dto.getTotalAttempts() == 0) {
              throw new ResourceNotFoundException("Analytics para Disciplina", "ID", id);
@@ -153,55 +165,76 @@ public class AnalyticsService {
         return dto;
     }
 
-    private TopicMasteryDto buildHierarchyForDisciplina(Disciplina disciplina, List<Resposta> allResponses) {
-        // Filter responses for this disciplina
-        List<Resposta> discResponses = allResponses.stream()
-                .filter(r -> r.getQuestao().getSubtemas().stream()
-                        .anyMatch(s -> s.getTema().getDisciplina().getId().equals(disciplina.getId())))
-                .toList();
+    /**
+     * Builds disciplina -> tema -> subtema mastery trees from the daily roll-up.
+     * Disciplina totals come from the DISCIPLINA escopo (each resposta counted once);
+     * temas are the sum of their subtemas, matching the per-subtema attribution of the history scan.
+     */
+    private List<TopicMasteryDto> buildHierarchy(List<Disciplina> disciplinas, Map<Long, Tally> byDisciplina) {
+        if (disciplinas.isEmpty()) return new ArrayList<>();
+
+        List<Long> disciplinaIds = disciplinas.stream().map(Disciplina::getId).toList();
+        List<Tema> temas = temaRepository.findByDisciplinaIds(disciplinaIds);
+        List<Subtema> subtemas = temas.isEmpty() ? List.of()
+                : subtemaRepository.findByTemaIds(temas.stream().map(Tema::getId).toList());
+
+        Map<Long, Tally> bySubtema = subtemas.isEmpty() ? Map.of()
+                : toTallies(agregadoRepository.sumByEscopoAndIds(RespostaAgregadoDiario.Escopo.SUBTEMA,
+                        subtemas.stream().map(Subtema::getId).toList()));
+
+        Map<Long, Tally> byTema = new HashMap<>();
+        Map<Long, List<Subtema>> subtemasByTema = new HashMap<>();
+        for (Subtema s : subtemas) {
+            Long temaId = s.getTema().getId();
+            byTema.computeIfAbsent(temaId, k -> new Tally()).merge(bySubtema.get(s.getId()));
+            subtemasByTema.computeIfAbsent(temaId, k -> new ArrayList<>()).add(s);
+        }
 
-        TopicMasteryDto discDto = buildMasteryDto(disciplina.getId(), disciplina.getNome(), discResponses);
-        
-        // Build Temas
-        List<TopicMasteryDto> temas = calculateMasteryForTemas(allResponses, disciplina.getId()).stream()
-                .filter(t -> t.getTotalAttempts() > 0)
-                .peek(temaDto -> {
-                    // Build Subtemas for each Tema
-                    List<TopicMasteryDto> subtemas = calculateMasteryForSubtemas(allResponses, temaDto.getId()).stream()
+        Map<Long, List<Tema>> temasByDisciplina = temas.stream()
+                .collect(Collectors.groupingBy(t -> t.getDisciplina().getId()));
+
+        return disciplinas.stream().map(d -> {
+            TopicMasteryDto discDto = buildMasteryDto(d.getId(), d.getNome(), byDisciplina.get(d.getId()));
+
+            List<TopicMasteryDto> temaDtos = temasByDisciplina.getOrDefault(d.getId(), Collections.emptyList()).stream()
+                    .map(t -> buildMasteryDto(t.getId(), t.getNome(), byTema.get(t.getId())))
+                    .filter(t -> t.getTotalAttempts() > 0)
+                    .peek(temaDto -> temaDto.setChildren(subtemasByTema.getOrDefault(temaDto.getId(), Collections.emptyList()).stream()
+                            .map(s -> buildMasteryDto(s.getId(), s.getNome(), bySubtema.get(s.getId())))
                             .filter(s -> s.getTotalAttempts() > 0)
-                            .toList();
-                    temaDto.setChildren(subtemas);
-                })
-                .toList();
-        
-        discDto.setChildren(temas);
-        return discDto;
+                            .toList()))
+                    .toList();
+
+            discDto.setChildren(temaDtos);
+            return discDto;
+        }).collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<EvolutionDto> getEvolucao() {
-        List<Resposta> responses = respostaRepository.findAllWithFullDetails();
-        
         // Group by Year-Week
-        Map<String, List<Resposta>> byWeek = responses.stream()
-                .collect(Collectors.groupingBy(r -> {
-                    LocalDateTime dt = r.getCreatedAt();
-                    return dt.getYear() + "-W" + String.format("%02d", dt.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
-                }, TreeMap::new, Collectors.toList()));
+        Map<String, Tally> byWeek = new TreeMap<>();
+        for (Object[] row : agregadoRepository.sumByDia(RespostaAgregadoDiario.Escopo.GERAL)) {
+            if (row[0] == null) continue;
+            LocalDate dt = LocalDate.parse((String) row[0]);
+            String week = dt.getYear() + "-W" + String.format("%02d", dt.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            byWeek.computeIfAbsent(week, k -> new Tally()).add(row);
+        }
 
         return byWeek.entrySet().stream().map(entry -> {
-            List<Resposta> weekResponses = entry.getValue();
-            int total = weekResponses.size();
-            long correct = weekResponses.stream().filter(this::isCorrect).count();
-            double accuracy = total > 0 ? (double) correct / total : 0.0;
-            
-            double avgTime = weekResponses.stream()
-                    .mapToInt(r -> r.getTempoRespostaSegundos() != null ? r.getTempoRespostaSegundos() : 0)
-                    .average().orElse(0.0);
-
-            Map<String, Double> dist = weekResponses.stream()
-                    .collect(Collectors.groupingBy(r -> r.getDificuldade() != null ? r.getDificuldade().name() : "MEDIA",
-                            Collectors.collectingAndThen(Collectors.counting(), count -> (double) count / total)));
+            Tally week = entry.getValue();
+            long total = week.total;
+            double accuracy = total > 0 ? (double) week.correct / total : 0.0;
+            double avgTime = total > 0 ? (double) week.time / total : 0.0;
+
+            Map<String, Long> counts = new HashMap<>();
+            for (int dif = 0; dif < week.totalByDificuldade.length; dif++) {
+                if (week.totalByDificuldade[dif] == 0) continue;
+                String key = dif == RespostaAgregadoDiario.SEM_DIFICULDADE ? "MEDIA" : Dificuldade.fromId(dif).name();
+                counts.merge(key, week.totalByDificuldade[dif], Long::sum);
+            }
+            Map<String, Double> dist = new HashMap<>();
+            counts.forEach((k, v) -> dist.put(k, (double) v / total));
 
             return EvolutionDto.builder()
                     .period(entry.getKey())
@@ -214,55 +247,53 @@ public class AnalyticsService {
 
     @Transactional(readOnly = true)
     public LearningRateDto getTaxaAprendizado() {
-        List<Resposta> all = respostaRepository.findAllWithFullDetails();
-        
-        // Group by question
-        Map<Long, List<Resposta>> byQuestao = all.stream()
-                .collect(Collectors.groupingBy(r -> r.getQuestao().getId()));
-
-        List<List<Resposta>> repeated = byQuestao.values().stream()
-                .filter(list -> list.size() > 1)
-                .toList();
-
-        int totalRepeated = repeated.size();
-        if (totalRepeated == 0) return new LearningRateDto(0, 0.0, 0.0, Collections.emptyList());
+        // Rows arrive grouped by questão, attempts in chronological order
+        List<Object[]> outcomes = respostaRepository.findRepeatedAttemptOutcomes();
 
+        int totalRepeated = 0;
         int recoveryAttempts = 0;
         int recoverySuccesses = 0;
         int retentionAttempts = 0;
         int retentionSuccesses = 0;
 
-        Map<Integer, List<Boolean>> accuracyByAttempt = new HashMap<>();
-
-        for (List<Resposta> attempts : repeated) {
-            // Assumes attempts are sorted by createdAt ASC due to findAllWithFullDetails ORDER BY
-            for (int i = 0; i < attempts.size(); i++) {
-                Resposta current = attempts.get(i);
-                boolean currentCorrect = isCorrect(current);
-                
-                accuracyByAttempt.computeIfAbsent(i + 1, k -> new ArrayList<>()).add(currentCorrect);
-
-                if (i > 0) {
-                    Resposta previous = attempts.get(i - 1);
-                    boolean prevCorrect = isCorrect(previous);
-
-                    if (!prevCorrect) {
-                        recoveryAttempts++;
-                        if (currentCorrect) recoverySuccesses++;
-                    } else {
-                        retentionAttempts++;
-                        if (currentCorrect) retentionSuccesses++;
-                    }
+        // attemptNumber -> [correct, total]
+        Map<Integer, int[]> accuracyByAttempt = new TreeMap<>();
+
+        Long currentQuestao = null;
+        int attempt = 0;
+        boolean prevCorrect = false;
+
+        for (Object[] row : outcomes) {
+            Long questaoId = ((Number) row[0]).longValue();
+            boolean currentCorrect = ((Number) row[1]).intValue() == 1;
+
+            if (!questaoId.equals(currentQuestao)) {
+                currentQuestao = questaoId;
+                attempt = 0;
+                totalRepeated++;
+            }
+            attempt++;
+
+            int[] acc = accuracyByAttempt.computeIfAbsent(attempt, k -> new int[2]);
+            if (currentCorrect) acc[0]++;
+            acc[1]++;
+
+            if (attempt > 1) {
+                if (!prevCorrect) {
+                    recoveryAttempts++;
+                    if (currentCorrect) recoverySuccesses++;
+                } else {
+                    retentionAttempts++;
+                    if (currentCorrect) retentionSuccesses++;
                 }
             }
+            prevCorrect = currentCorrect;
         }
 
+        if (totalRepeated == 0) return new LearningRateDto(0, 0.0, 0.0, Collections.emptyList());
+
         List<LearningRateDto.AttemptData> data = accuracyByAttempt.entrySet().stream()
-                .map(e -> {
-                    long correct = e.getValue().stream().filter(b -> b).count();
-                    return new LearningRateDto.AttemptData(e.getKey(), (double) correct / e.getValue().size());
-                })
-                .sorted(Comparator.comparing(LearningRateDto.AttemptData::getAttemptNumber))
+                .map(e -> new LearningRateDto.AttemptData(e.getKey(), (double) e.getValue()[0] / e.getValue()[1]))
                 .toList();
 
         return LearningRateDto.builder()
@@ -273,100 +304,86 @@ public class AnalyticsService {
                 .build();
     }
 
-    private List<TopicMasteryDto> calculateMasteryForDisciplinas(List<Resposta> responses) {
-        Map<Long, List<Resposta>> byDisc = responses.stream()
-                .flatMap(r -> r.getQuestao().getSubtemas().stream().map(s -> new AbstractMap.SimpleEntry<>(s.getTema().getDisciplina().getId(), r)))
-                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
-
-        return disciplinaRepository.findAll().stream()
-                .map(d -> buildMasteryDto(d.getId(), d.getNome(), byDisc.getOrDefault(d.getId(), Collections.emptyList())))
-                .collect(Collectors.toList());
-    }
-
-    private List<TopicMasteryDto> calculateMasteryForTemas(List<Resposta> responses, Long disciplinaId) {
-        Map<Long, List<Resposta>> byTema = responses.stream()
-                .flatMap(r -> r.getQuestao().getSubtemas().stream()
-                        .filter(s -> disciplinaId == null || s.getTema().getDisciplina().getId().equals(disciplinaId))
-                        .map(s -> new AbstractMap.SimpleEntry<>(s.getTema().getId(), r)))
-                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
-
-        List<Tema> temas = (disciplinaId != null) ? temaRepository.findByDisciplinaId(disciplinaId) : temaRepository.findAll();
-        
-        return temas.stream()
-                .map(t -> buildMasteryDto(t.getId(), t.getNome(), byTema.getOrDefault(t.getId(), Collections.emptyList())))
-                .collect(Collectors.toList());
-    }
-
-    private List<TopicMasteryDto> calculateMasteryForSubtemas(List<Resposta> responses, Long temaId) {
-        Map<Long, List<Resposta>> bySubtema = responses.stream()
-                .flatMap(r -> r.getQuestao().getSubtemas().stream()
-                        .filter(s -> temaId == null || s.getTema().getId().equals(temaId))
-                        .map(s -> new AbstractMap.SimpleEntry<>(s.getId(), r)))
-                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
-
-        List<Subtema> subtemas = (temaId != null) ? subtemaRepository.findByTemaId(temaId) : subtemaRepository.findAll();
-
-        return subtemas.stream()
-                .map(s -> buildMasteryDto(s.getId(), s.getNome(), bySubtema.getOrDefault(s.getId(), Collections.emptyList())))
-                .collect(Collectors.toList());
-    }
-
-    private TopicMasteryDto buildMasteryDto(Long id, String nome, List<Resposta> topicResponses) {
-        int total = topicResponses.size();
-        int correct = (int) topicResponses.stream().filter(this::isCorrect).count();
-        double avgTime = topicResponses.stream()
-                .mapToInt(r -> r.getTempoRespostaSegundos() != null ? r.getTempoRespostaSegundos() : 0)
-                .average().orElse(0.0);
+    private TopicMasteryDto buildMasteryDto(Long id, String nome, Tally tally) {
+        Tally t = tally != null ? tally : new Tally();
+        int total = (int) t.total;
+        double avgTime = total > 0 ? (double) t.time / total : 0.0;
 
         Map<String, TopicMasteryDto.DifficultyStat> diffStats = new HashMap<>();
         for (Dificuldade d : Dificuldade.values()) {
-            List<Resposta> filtered = topicResponses.stream().filter(r -> r.getDificuldade() == d).toList();
-            if (!filtered.isEmpty()) {
-                long c = filtered.stream().filter(this::isCorrect).count();
-                diffStats.put(d.name(), new TopicMasteryDto.DifficultyStat(filtered.size(), (int) c));
-            } else {
-                diffStats.put(d.name(), new TopicMasteryDto.DifficultyStat(0, 0));
-            }
+            diffStats.put(d.name(), new TopicMasteryDto.DifficultyStat(
+                    (int) t.totalByDificuldade[d.getId()], (int) t.correctByDificuldade[d.getId()]));
         }
 
         return TopicMasteryDto.builder()
                 .id(id)
                 .nome(nome)
                 .totalAttempts(total)
-                .correctAttempts(correct)
+                .correctAttempts((int) t.correct)
                 .avgTimeSeconds((int) avgTime)
                 .difficultyStats(diffStats)
-                .masteryScore(calculateMasteryScore(topicResponses))
+                .masteryScore(calculateMasteryScore(t))
                 .build();
     }
 
-    private double calculateMasteryScore(List<Resposta> responses) {
-        if (responses.isEmpty()) return 0.0;
+    private double calculateMasteryScore(Tally t) {
+        if (t.total == 0) return 0.0;
         
         double weightedPoints = 0;
         double maxPossiblePoints = 0;
 
-        for (Resposta r : responses) {
+        for (int dif = 0; dif < t.totalByDificuldade.length; dif++) {
             double weight = 1.0;
-            if (r.getDificuldade() == Dificuldade.MEDIA) weight = 2.0;
-            if (r.getDificuldade() == Dificuldade.DIFICIL) weight = 3.0;
-            
-            maxPossiblePoints += weight;
-            
-            if (isCorrect(r)) {
-                if (r.getDificuldade() == Dificuldade.CHUTE) {
-                    weightedPoints += 0.5; // Guess only gives half point
-                } else {
-                    weightedPoints += weight;
-                }
-            }
+            if (dif == Dificuldade.MEDIA.getId()) weight = 2.0;
+            if (dif == Dificuldade.DIFICIL.getId()) weight = 3.0;
+
+            maxPossiblePoints += weight * t.totalByDificuldade[dif];
+
+            // Guess only gives half point
+            double points = dif == Dificuldade.CHUTE.getId() ? 0.5 : weight;
+            weightedPoints += points * t.correctByDificuldade[dif];
         }
 
         return (weightedPoints / maxPossiblePoints) * 100.0;
     }
 
-    private boolean isCorrect(Resposta r) {
-        if (r.getAlternativaEscolhida() == null) return false;
-        return Boolean.TRUE.equals(r.getAlternativaEscolhida().getCorreta());
+    private Map<Long, Tally> toTallies(List<Object[]> rows) {
+        Map<Long, Tally> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.computeIfAbsent(((Number) row[0]).longValue(), k -> new Tally()).add(row);
+        }
+        return result;
+    }
+
+    /** Answer counters summed from roll-up rows shaped [key, dificuldadeId, total, corretas, tempoTotal]. */
+    private static final class Tally {
+        long total;
+        long correct;
+        long time;
+        // Indexed by dificuldade_id; 0 = not informed
+        final long[] totalByDificuldade = new long[Dificuldade.values().length + 1];
+        final long[] correctByDificuldade = new long[Dificuldade.values().length + 1];
+
+        void add(Object[] row) {
+            int dif = ((Number) row[1]).intValue();
+            long t = ((Number) row[2]).longValue();
+            long c = ((Number) row[3]).longValue();
+            total += t;
+            correct += c;
+            time += ((Number) row[4]).longValue();
+            totalByDificuldade[dif] += t;
+            correctByDificuldade[dif] += c;
+        }
+
+        void merge(Tally other) {
+            if (other == null) return;
+            total += other.total;
+            correct += other.correct;
+            time += other.time;
+            for (int i = 0; i < totalByDificuldade.length; i++) {
+                totalByDificuldade[i] += other.totalByDificuldade[i];
+                correctByDificuldade[i] += other.correctByDificuldade[i];
+            }
+        }
     }
 }
@@ -21,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -45,11 +46,12 @@ public class BancaService {
             page = bancaRepository.findAll(pageable);
         }
 
+        Map<Long, QuestaoStatsDto> stats = metrics == null ? Map.of()
+                : statsAssembler.buildStatsBatch(page.getContent().stream().map(Banca::getId).toList(), "BANCA", metrics);
+
         return page.map(banca -> {
             BancaSummaryDto dto = bancaMapper.toSummaryDto(banca);
-            if (metrics != null) {
-                dto.setQuestaoStats(statsAssembler.buildStats(banca.getId(), "BANCA", metrics));
-            }
+            dto.setQuestaoStats(stats.get(banca.getId()));
             return dto;
         });
     }
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -33,6 +34,7 @@ public class CargoService {
     private final CargoMapper cargoMapper;
     private final ConcursoCargoRepository concursoCargoRepository;
     private final StatsAssembler statsAssembler;
+    private final QuestaoRandomPool questaoRandomPool;
 
     @Transactional(readOnly = true)
     public Page<CargoSummaryDto> findAll(String nome, Pageable pageable, MetricsLevel metrics) {
@@ -44,11 +46,12 @@ public class CargoService {
             page = cargoRepository.findAll(pageable);
         }
 
+        Map<Long, QuestaoStatsDto> stats = metrics == null ? Map.of()
+                : statsAssembler.buildStatsBatch(page.getContent().stream().map(Cargo::getId).toList(), "CARGO", metrics);
+
         return page.map(cargo -> {
             CargoSummaryDto dto = cargoMapper.toSummaryDto(cargo);
-            if (metrics != null) {
-                dto.setQuestaoStats(statsAssembler.buildStats(cargo.getId(), "CARGO", metrics));
-            }
+            dto.setQuestaoStats(stats.get(cargo.getId()));
             return dto;
         });
     }
@@ -98,6 +101,12 @@ public class CargoService {
             }
         }
 
+        // Área and nível are random-pick filters
+        if ((request.getArea() != null && !request.getArea().equalsIgnoreCase(cargo.getArea()))
+                || (request.getNivel() != null && request.getNivel() != cargo.getNivel())) {
+            questaoRandomPool.invalidate();
+        }
+
         cargoMapper.updateEntityFromDto(request, cargo);
         cargoRepository.save(cargo);
     }
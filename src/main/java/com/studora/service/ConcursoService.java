@@ -2,6 +2,7 @@ package com.studora.service;
 
 import com.studora.dto.DificuldadeStatDto;
 import com.studora.dto.MetricsLevel;
+import com.studora.dto.QuestaoStatsDto;
 import com.studora.dto.StatSliceDto;
 import com.studora.dto.concurso.ConcursoFilter;
 import com.studora.dto.concurso.ConcursoDetailDto;
@@ -60,8 +61,10 @@ public class ConcursoService {
     private final RespostaRepository respostaRepository;
     private final ConcursoCargoSubtemaRepository concursoCargoSubtemaRepository;
     private final ConcursoMapper concursoMapper;
+    private final RespostaAgregadoDiarioRepository respostaAgregadoDiarioRepository;
 
     private final StatsAssembler statsAssembler;
+    private final QuestaoRandomPool questaoRandomPool;
 
     public ConcursoService(ConcursoRepository concursoRepository,
                            InstituicaoRepository instituicaoRepository,
@@ -75,7 +78,9 @@ public class ConcursoService {
                            RespostaRepository respostaRepository,
                            ConcursoCargoSubtemaRepository concursoCargoSubtemaRepository,
                            ConcursoMapper concursoMapper,
-                           StatsAssembler statsAssembler) {
+                           RespostaAgregadoDiarioRepository respostaAgregadoDiarioRepository,
+                           StatsAssembler statsAssembler,
+                           QuestaoRandomPool questaoRandomPool) {
         this.concursoRepository = concursoRepository;
         this.instituicaoRepository = instituicaoRepository;
         this.bancaRepository = bancaRepository;
@@ -88,7 +93,9 @@ public class ConcursoService {
         this.respostaRepository = respostaRepository;
         this.concursoCargoSubtemaRepository = concursoCargoSubtemaRepository;
         this.concursoMapper = concursoMapper;
+        this.respostaAgregadoDiarioRepository = respostaAgregadoDiarioRepository;
         this.statsAssembler = statsAssembler;
+        this.questaoRandomPool = questaoRandomPool;
     }
 
     @Cacheable(value = "concurso-stats", key = "T(java.util.Objects).hash(#filter, #pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
@@ -190,6 +197,11 @@ public class ConcursoService {
             }
         }
 
+        // Banca, instituição and cargos decide which questões match the random-pick filters
+        if (!instId.equals(concurso.getInstituicao().getId()) || !bancaId.equals(concurso.getBanca().getId())) {
+            questaoRandomPool.invalidate();
+        }
+
         if (request.getInstituicaoId() != null) {
             Instituicao inst = instituicaoRepository.findById(request.getInstituicaoId())
                     .orElseThrow(() -> new ResourceNotFoundException("Instituição", "ID", request.getInstituicaoId()));
@@ -226,6 +238,9 @@ public class ConcursoService {
         List<Long> toAdd = newCargoIds.stream()
                 .filter(idToAdd -> !existingCargoIds.contains(idToAdd))
                 .collect(Collectors.toList());
+        if (!toRemove.isEmpty() || !toAdd.isEmpty()) {
+            questaoRandomPool.invalidate();
+        }
 
         for (Long cargoId : toAdd) {
              Cargo cargo = cargoRepository.findById(cargoId)
@@ -259,7 +274,10 @@ public class ConcursoService {
         if (!concursoRepository.existsById(id)) {
             throw new ResourceNotFoundException("Concurso", "ID", id);
         }
+        respostaAgregadoDiarioRepository.removeConcurso(id);
         concursoRepository.deleteById(id);
+        // Its questões go with it (ON DELETE CASCADE)
+        questaoRandomPool.invalidate();
     }
 
     @CacheEvict(value = "concurso-stats", allEntries = true)
@@ -407,24 +425,32 @@ public class ConcursoService {
         Map<Long, Long> counts = toCountMap(estudoSubtemaRepository.countBySubtemaIds(allSubtemaIds));
         Map<Long, LocalDateTime> dates = toDateMap(estudoSubtemaRepository.findLatestStudyDatesBySubtemaIds(allSubtemaIds));
 
+        // Cargo context stats for every cargo at once, and global stats once per distinct subtema
+        Map<Long, Map<Long, StatSliceDto>> cargoStats = Map.of();
+        Map<Long, QuestaoStatsDto> globalStats = Map.of();
+        if (metrics != null) {
+            Map<Long, List<Long>> subtemaIdsByCargo = new HashMap<>();
+            for (ConcursoCargoSummaryDto cargo : cargos) {
+                if (cargo.getTopicos() == null || cargo.getTopicos().isEmpty()) continue;
+                subtemaIdsByCargo.put(cargo.getId(), cargo.getTopicos().stream()
+                        .map(ConcursoCargoSubtemaDto::getId)
+                        .collect(Collectors.toList()));
+            }
+            cargoStats = statsAssembler.buildBatchConcursoCargoStats(subtemaIdsByCargo, metrics);
+            if (metrics == MetricsLevel.FULL) {
+                globalStats = statsAssembler.buildStatsBatch(allSubtemaIds, "SUBTEMA", metrics);
+            }
+        }
+
         for (ConcursoCargoSummaryDto cargo : cargos) {
             if (cargo.getTopicos() == null || cargo.getTopicos().isEmpty()) continue;
-
-            List<Long> cargoSubtemaIds = cargo.getTopicos().stream()
-                    .map(ConcursoCargoSubtemaDto::getId)
-                    .collect(Collectors.toList());
-
-            // Fetch specific stats for this Cargo context
-            Map<Long, StatSliceDto> cargoStats = Map.of();
-            if (metrics != null) {
-                cargoStats = statsAssembler.buildBatchConcursoCargoStats(cargo.getId(), cargoSubtemaIds, metrics);
-            }
+            Map<Long, StatSliceDto> statsDoCargo = cargoStats.getOrDefault(cargo.getId(), Map.of());
 
             for (ConcursoCargoSubtemaDto topico : cargo.getTopicos()) {
                 Long topId = topico.getId();
                 if (metrics != null) {
                     // Specific Cargo context stats: SUMMARY or FULL
-                    topico.setQuestoesConcursoCargo(cargoStats.get(topId));
+                    topico.setQuestoesConcursoCargo(statsDoCargo.get(topId));
                     
                     // User progress on this subtema: SUMMARY or FULL
                     topico.setTotalEstudos(counts.getOrDefault(topId, 0L));
@@ -432,7 +458,7 @@ public class ConcursoService {
 
                     // Global questaoStats: ONLY FULL
                     if (metrics == MetricsLevel.FULL) {
-                        topico.setQuestaoStats(statsAssembler.buildStats(topId, "SUBTEMA", metrics));
+                        topico.setQuestaoStats(globalStats.get(topId));
                     }
                 }
             }
@@ -1,6 +1,7 @@
 package com.studora.service;
 
 import com.studora.dto.MetricsLevel;
+import com.studora.dto.QuestaoStatsDto;
 import com.studora.dto.disciplina.DisciplinaDetailDto;
 import com.studora.dto.disciplina.DisciplinaSummaryDto;
 import com.studora.dto.request.DisciplinaCreateRequest;
@@ -30,6 +31,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,10 +73,11 @@ public class DisciplinaService {
         Map<Long, Long> totalSub = toMap(subtemaRepository.countByDisciplinaIds(ids));
         Map<Long, Long> studSub = toMap(estudoSubtemaRepository.countDistinctStudiedSubtemasByDisciplinaIds(ids));
         Map<Long, Long> studTemas = toMap(temaRepository.countTemasEstudadosByDisciplinaIds(ids));
+        Map<Long, QuestaoStatsDto> stats = statsAssembler.buildStatsBatch(ids, "DISCIPLINA", metrics);
 
         return page.map(disciplina -> {
             DisciplinaSummaryDto dto = disciplinaMapper.toSummaryDto(disciplina);
-            dto.setQuestaoStats(statsAssembler.buildStats(disciplina.getId(), "DISCIPLINA", metrics));
+            dto.setQuestaoStats(stats.get(disciplina.getId()));
             dto.setUltimoEstudo(dates.get(disciplina.getId()));
             dto.setTotalTemas(totalTemas.getOrDefault(disciplina.getId(), 0L));
             dto.setTotalSubtemas(totalSub.getOrDefault(disciplina.getId(), 0L));
@@ -153,64 +156,82 @@ public class DisciplinaService {
         disciplinaRepository.deleteById(id);
     }
 
+    /**
+     * The disciplina with all its temas and subtemas. The tree, its estudo aggregates and its
+     * questão stats are each loaded for every node at once, so the number of statements does
+     * not depend on how many temas and subtemas there are.
+     */
     @Transactional(readOnly = true)
     public DisciplinaDetailDto getDisciplinaCompleto(Long id, MetricsLevel metrics) {
         Disciplina disciplina = disciplinaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Disciplina", "ID", id));
 
+        List<Tema> temas = temaRepository.findByDisciplinaId(id);
+        List<Long> temaIds = temas.stream().map(Tema::getId).collect(Collectors.toList());
+        List<Subtema> subtemas = temaIds.isEmpty() ? List.of() : subtemaRepository.findByTemaIds(temaIds);
+        List<Long> subIds = subtemas.stream().map(Subtema::getId).collect(Collectors.toList());
+        Map<Long, List<Subtema>> subtemasByTema = subtemas.stream()
+                .collect(Collectors.groupingBy(s -> s.getTema().getId()));
+
         DisciplinaDetailDto dto = disciplinaMapper.toDetailDto(disciplina);
-        
+
+        Map<Long, LocalDateTime> temaDates = Map.of();
+        Map<Long, Long> temaStudSub = Map.of();
+        Map<Long, QuestaoStatsDto> temaStats = Map.of();
+        Map<Long, Long> subCounts = Map.of();
+        Map<Long, LocalDateTime> subDates = Map.of();
+        Map<Long, QuestaoStatsDto> subStats = Map.of();
         if (metrics != null) {
             dto.setQuestaoStats(statsAssembler.buildStats(id, "DISCIPLINA", metrics));
             dto.setUltimoEstudo(estudoSubtemaRepository.findLatestStudyDateByDisciplinaId(id));
-            dto.setTotalTemas((long) temaRepository.findByDisciplinaId(id).size());
+            dto.setTotalTemas((long) temas.size());
+            dto.setTotalSubtemas((long) subtemas.size());
             dto.setSubtemasEstudados(estudoSubtemaRepository.countDistinctStudiedSubtemasByDisciplinaId(id));
             dto.setTemasEstudados(temaRepository.countTemasEstudadosByDisciplinaIds(List.of(id)).stream()
                     .filter(r -> ((Number)r[0]).longValue() == id)
                     .map(r -> ((Number)r[1]).longValue())
                     .findFirst().orElse(0L));
-            
-            List<Object[]> subCounts = subtemaRepository.countByDisciplinaIds(List.of(id));
-            if (!subCounts.isEmpty()) {
-                dto.setTotalSubtemas(((Number) subCounts.get(0)[1]).longValue());
+
+            if (!temaIds.isEmpty()) {
+                temaDates = toDateMap(estudoSubtemaRepository.findLatestStudyDatesByTemaIds(temaIds));
+                temaStudSub = toMap(estudoSubtemaRepository.countDistinctStudiedSubtemasByTemaIds(temaIds));
+                temaStats = statsAssembler.buildStatsBatch(temaIds, "TEMA", metrics);
+            }
+            if (!subIds.isEmpty()) {
+                subCounts = toMap(estudoSubtemaRepository.countBySubtemaIds(subIds));
+                subDates = toDateMap(estudoSubtemaRepository.findLatestStudyDatesBySubtemaIds(subIds));
+                subStats = statsAssembler.buildStatsBatch(subIds, "SUBTEMA", metrics);
             }
         }
 
-        List<Tema> temas = temaRepository.findByDisciplinaId(id);
-        if (temas != null && !temas.isEmpty()) {
-            List<Long> temaIds = temas.stream().map(Tema::getId).collect(Collectors.toList());
-            Map<Long, LocalDateTime> temaDates = toDateMap(estudoSubtemaRepository.findLatestStudyDatesByTemaIds(temaIds));
-            Map<Long, Long> temaTotalSub = toMap(subtemaRepository.countByTemaIds(temaIds));
-            Map<Long, Long> temaStudSub = toMap(estudoSubtemaRepository.countDistinctStudiedSubtemasByTemaIds(temaIds));
-
-            dto.setTemas(temas.stream().map(tema -> {
+        if (!temas.isEmpty()) {
+            List<TemaSummaryDto> temaDtos = new ArrayList<>(temas.size());
+            for (Tema tema : temas) {
                 TemaSummaryDto temaDto = temaMapper.toSummaryDto(tema);
+                List<Subtema> doTema = subtemasByTema.getOrDefault(tema.getId(), List.of());
                 if (metrics != null) {
-                    temaDto.setQuestaoStats(statsAssembler.buildStats(tema.getId(), "TEMA", metrics));
+                    temaDto.setQuestaoStats(temaStats.get(tema.getId()));
                     temaDto.setUltimoEstudo(temaDates.get(tema.getId()));
-                    temaDto.setTotalSubtemas(temaTotalSub.getOrDefault(tema.getId(), 0L));
+                    temaDto.setTotalSubtemas((long) doTema.size());
                     temaDto.setSubtemasEstudados(temaStudSub.getOrDefault(tema.getId(), 0L));
                 }
-                
-                List<Subtema> subtemas = subtemaRepository.findByTemaId(tema.getId());
-                if (subtemas != null && !subtemas.isEmpty()) {
-                    List<Long> subIds = subtemas.stream().map(Subtema::getId).collect(Collectors.toList());
-                    Map<Long, Long> subCounts = toMap(estudoSubtemaRepository.countBySubtemaIds(subIds));
-                    Map<Long, LocalDateTime> subDates = toDateMap(estudoSubtemaRepository.findLatestStudyDatesBySubtemaIds(subIds));
-
-                    temaDto.setSubtemas(subtemas.stream().map(subtema -> {
+
+                if (!doTema.isEmpty()) {
+                    List<SubtemaSummaryDto> subDtos = new ArrayList<>(doTema.size());
+                    for (Subtema subtema : doTema) {
                         SubtemaSummaryDto subDto = subtemaMapper.toSummaryDto(subtema);
                         if (metrics != null) {
-                            subDto.setQuestaoStats(statsAssembler.buildStats(subtema.getId(), "SUBTEMA", metrics));
+                            subDto.setQuestaoStats(subStats.get(subtema.getId()));
                             subDto.setTotalEstudos(subCounts.getOrDefault(subtema.getId(), 0L));
                             subDto.setUltimoEstudo(subDates.get(subtema.getId()));
                         }
-                        return subDto;
-                    }).collect(Collectors.toList()));
+                        subDtos.add(subDto);
+                    }
+                    temaDto.setSubtemas(subDtos);
                 }
-                
-                return temaDto;
-            }).collect(Collectors.toList()));
+                temaDtos.add(temaDto);
+            }
+            dto.setTemas(temaDtos);
         }
 
         return dto;
@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.cache.annotation.CacheEvict;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,8 +22,8 @@ public class EstudoSubtemaService {
 
     private final EstudoSubtemaRepository estudoSubtemaRepository;
     private final SubtemaRepository subtemaRepository;
+    private final StatsCacheInvalidator statsCacheInvalidator;
 
-    @CacheEvict(value = {"disciplina-stats", "tema-stats", "subtema-stats"}, allEntries = true)
     public Long markAsStudied(Long subtemaId) {
         log.info("Marcando subtema ID: {} como estudado", subtemaId);
         Subtema subtema = subtemaRepository.findById(subtemaId)
@@ -33,15 +32,16 @@ public class EstudoSubtemaService {
         EstudoSubtema estudo = new EstudoSubtema(subtema);
         estudo = estudoSubtemaRepository.save(estudo);
         estudoSubtemaRepository.flush();
+        statsCacheInvalidator.evictForSubtema(subtemaId);
         return estudo.getId();
     }
 
-    @CacheEvict(value = {"disciplina-stats", "tema-stats", "subtema-stats"}, allEntries = true)
     public void deleteEstudo(Long estudoId) {
         log.info("Excluindo sessão de estudo ID: {}", estudoId);
         if (!estudoSubtemaRepository.existsById(estudoId)) {
             throw new ResourceNotFoundException("EstudoSubtema", "ID", estudoId);
         }
+        estudoSubtemaRepository.findSubtemaIdById(estudoId).ifPresent(statsCacheInvalidator::evictForSubtema);
         estudoSubtemaRepository.deleteById(estudoId);
         estudoSubtemaRepository.flush();
     }
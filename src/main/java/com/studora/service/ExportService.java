@@ -0,0 +1,303 @@
+package com.studora.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studora.dto.questao.QuestaoFilter;
+import com.studora.entity.Alternativa;
+import com.studora.entity.Dificuldade;
+import com.studora.entity.LocalDateTimeConverter;
+import com.studora.entity.Questao;
+import com.studora.exception.ValidationException;
+import com.studora.repository.specification.QuestaoSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Writes whole tables as NDJSON or CSV straight to an output stream.
+ *
+ * Rows are read with forward-only cursors and written as they arrive; questões are scrolled by id
+ * and their alternativas, subtemas and cargos loaded one window of ids at a time. No entity is
+ * loaded, so memory does not grow with the size of the export.
+ */
+@Service
+public class ExportService {
+
+    static final int WINDOW = 500;
+
+    private static final LocalDateTimeConverter DATES = new LocalDateTimeConverter();
+
+    public enum Formato {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        public final String contentType;
+        public final String extension;
+
+        Formato(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Formato of(String value) {
+            for (Formato formato : values()) {
+                if (formato.name().equalsIgnoreCase(value)) return formato;
+            }
+            throw new ValidationException("Formato de exportação inválido: " + value + ". Use ndjson ou csv.");
+        }
+    }
+
+    private static final List<String> QUESTAO_COLUMNS = List.of("id", "concursoId", "enunciado", "anulada", "desatualizada",
+            "autoral", "imageUrl", "subtemaIds", "cargoIds", "alternativas", "createdAt", "updatedAt");
+    private static final List<String> RESPOSTA_COLUMNS = List.of("id", "questaoId", "alternativaId", "correta", "simuladoId",
+            "dificuldade", "tempoRespostaSegundos", "justificativa", "createdAt");
+    private static final List<String> SIMULADO_COLUMNS = List.of("id", "nome", "bancaId", "cargoId", "nivel",
+            "ignorarRespondidas", "includeAutoral", "questaoIds", "startedAt", "finishedAt", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Questões matching the filter, by id. With {@code since}, only those changed at or after it,
+     * counting changes to their alternativas, which are exported with them.
+     */
+    public void exportQuestoes(QuestaoFilter filter, LocalDateTime since, Formato formato, OutputStream out) {
+        Specification<Questao> spec = QuestaoSpecification.withFilter(filter);
+        if (since != null) {
+            spec = spec.and((root, query, cb) -> {
+                Subquery<Long> alternativas = query.subquery(Long.class);
+                Root<Alternativa> alternativa = alternativas.from(Alternativa.class);
+                alternativas.select(alternativa.get("id")).where(
+                        cb.equal(alternativa.get("questao"), root),
+                        cb.greaterThanOrEqualTo(alternativa.get("updatedAt"), since));
+                return cb.or(cb.greaterThanOrEqualTo(root.get("updatedAt"), since), cb.exists(alternativas));
+            });
+        }
+        Specification<Questao> finalSpec = spec;
+
+        RowWriter writer = new RowWriter(out, formato, QUESTAO_COLUMNS);
+        transactionTemplate.executeWithoutResult(status -> {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            CriteriaQuery<Long> query = cb.createQuery(Long.class);
+            Root<Questao> root = query.from(Questao.class);
+            query.select(root.get("id"));
+            Predicate predicate = finalSpec.toPredicate(root, query, cb);
+            if (predicate != null) query.where(predicate);
+            query.orderBy(cb.asc(root.get("id")));
+
+            @SuppressWarnings("unchecked")
+            org.hibernate.query.Query<Long> ids = em.createQuery(query).unwrap(org.hibernate.query.Query.class);
+            List<Long> window = new ArrayList<>(WINDOW);
+            try (ScrollableResults<Long> results = ids.setFetchSize(WINDOW).scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    window.add(results.get());
+                    if (window.size() == WINDOW) {
+                        writeQuestoes(window, writer);
+                        window.clear();
+                    }
+                }
+            }
+            if (!window.isEmpty()) writeQuestoes(window, writer);
+        });
+        writer.flush();
+    }
+
+    private void writeQuestoes(List<Long> ids, RowWriter writer) {
+        Map<String, Object> params = Map.of("ids", ids);
+        Map<Long, List<Long>> subtemas = new HashMap<>();
+        namedJdbcTemplate.query("SELECT questao_id, subtema_id FROM questao_subtema WHERE questao_id IN (:ids)", params,
+                rs -> { subtemas.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2)); });
+        Map<Long, List<Long>> cargos = new HashMap<>();
+        namedJdbcTemplate.query("""
+                SELECT qc.questao_id, cc.cargo_id
+                FROM questao_cargo qc JOIN concurso_cargo cc ON cc.id = qc.concurso_cargo_id
+                WHERE qc.questao_id IN (:ids)
+                """, params,
+                rs -> { cargos.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2)); });
+        Map<Long, List<Map<String, Object>>> alternativas = new HashMap<>();
+        namedJdbcTemplate.query("""
+                SELECT questao_id, id, ordem, texto, correta, justificativa
+                FROM alternativa WHERE questao_id IN (:ids) ORDER BY questao_id, ordem
+                """, params, rs -> {
+                    Map<String, Object> alt = new LinkedHashMap<>();
+                    alt.put("id", rs.getLong(2));
+                    alt.put("ordem", rs.getInt(3));
+                    alt.put("texto", rs.getString(4));
+                    alt.put("correta", rs.getBoolean(5));
+                    alt.put("justificativa", rs.getString(6));
+                    alternativas.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(alt);
+                });
+
+        namedJdbcTemplate.query("""
+                SELECT id, concurso_id, enunciado, anulada, desatualizada, autoral, image_url, created_at, updated_at
+                FROM questao WHERE id IN (:ids) ORDER BY id
+                """, params, rs -> {
+                    long id = rs.getLong(1);
+                    writer.write(Arrays.asList(id, longOrNull(rs, 2), rs.getString(3), rs.getBoolean(4), rs.getBoolean(5),
+                            rs.getBoolean(6), rs.getString(7),
+                            subtemas.getOrDefault(id, List.of()), cargos.getOrDefault(id, List.of()),
+                            alternativas.getOrDefault(id, List.of()),
+                            date(rs, 8), date(rs, 9)));
+                });
+        writer.flush();
+    }
+
+    /** Respostas created at or after {@code since} when given, by id. */
+    public void exportRespostas(LocalDateTime since, Formato formato, OutputStream out) {
+        RowWriter writer = new RowWriter(out, formato, RESPOSTA_COLUMNS);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query("""
+                SELECT r.id, r.questao_id, r.alternativa_id, r.correta, r.simulado_id, r.dificuldade_id,
+                       r.tempo_resposta_segundos, r.justificativa, r.created_at
+                FROM resposta r
+                %s
+                ORDER BY r.id
+                """.formatted(since == null ? "" : "WHERE r.created_at >= ?"), rs -> {
+                    Integer dificuldade = intOrNull(rs, 6);
+                    writer.write(Arrays.asList(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getBoolean(4), longOrNull(rs, 5),
+                            dificuldade == null ? null : Dificuldade.fromId(dificuldade).name(),
+                            intOrNull(rs, 7), rs.getString(8), date(rs, 9)));
+                }, sinceArgs(since)));
+        writer.flush();
+    }
+
+    /** Simulados changed at or after {@code since} when given, by id, with their questões in order. */
+    public void exportSimulados(LocalDateTime since, Formato formato, OutputStream out) {
+        RowWriter writer = new RowWriter(out, formato, SIMULADO_COLUMNS);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query("""
+                SELECT s.id, s.nome, s.banca_id, s.cargo_id, s.nivel, s.ignorar_respondidas, s.include_autoral,
+                       (SELECT group_concat(questao_id, ',')
+                          FROM (SELECT questao_id FROM simulado_questao WHERE simulado_id = s.id ORDER BY ordem)),
+                       s.started_at, s.finished_at, s.created_at, s.updated_at
+                FROM simulado s
+                %s
+                ORDER BY s.id
+                """.formatted(since == null ? "" : "WHERE s.updated_at >= ?"), rs -> {
+                    String questoes = rs.getString(8);
+                    List<Long> questaoIds = questoes == null ? List.of()
+                            : Arrays.stream(questoes.split(",")).map(Long::valueOf).toList();
+                    writer.write(Arrays.asList(rs.getLong(1), rs.getString(2), longOrNull(rs, 3), longOrNull(rs, 4),
+                            rs.getString(5), rs.getBoolean(6), rs.getBoolean(7), questaoIds,
+                            date(rs, 9), date(rs, 10), date(rs, 11), date(rs, 12)));
+                }, sinceArgs(since)));
+        writer.flush();
+    }
+
+    private static Object[] sinceArgs(LocalDateTime since) {
+        return since == null ? new Object[0] : new Object[]{DATES.convertToDatabaseColumn(since)};
+    }
+
+    private static Long longOrNull(ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Integer intOrNull(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime date(ResultSet rs, int column) throws SQLException {
+        return DATES.convertToEntityAttribute(rs.getString(column));
+    }
+
+    /**
+     * One NDJSON object or CSV record per row. In CSV, lists are written as JSON inside the cell.
+     */
+    private class RowWriter {
+        private final Writer out;
+        private final Formato formato;
+        private final List<String> columns;
+
+        RowWriter(OutputStream stream, Formato formato, List<String> columns) {
+            this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024);
+            this.formato = formato;
+            this.columns = columns;
+            if (formato == Formato.CSV) {
+                line(columns.stream().map(ExportService::csv).toList());
+            }
+        }
+
+        void write(List<Object> values) {
+            try {
+                if (formato == Formato.NDJSON) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 0; i < columns.size(); i++) row.put(columns.get(i), values.get(i));
+                    out.write(objectMapper.writeValueAsString(row));
+                    out.write('\n');
+                } else {
+                    List<String> cells = new ArrayList<>(values.size());
+                    for (Object value : values) cells.add(csv(cell(value)));
+                    line(cells);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private String cell(Object value) throws IOException {
+            if (value == null) return "";
+            if (value instanceof LocalDateTime date) return date.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            if (value instanceof Collection<?>) return objectMapper.writeValueAsString(value);
+            return value.toString();
+        }
+
+        private void line(List<String> cells) {
+            try {
+                out.write(String.join(",", cells));
+                out.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.isEmpty() || value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -33,6 +34,7 @@ public class InstituicaoService {
     private final InstituicaoMapper instituicaoMapper;
     private final ConcursoRepository concursoRepository;
     private final StatsAssembler statsAssembler;
+    private final QuestaoRandomPool questaoRandomPool;
 
     @Transactional(readOnly = true)
     public Page<InstituicaoSummaryDto> findAll(String nome, Pageable pageable, MetricsLevel metrics) {
@@ -44,11 +46,12 @@ public class InstituicaoService {
             page = instituicaoRepository.findAll(pageable);
         }
 
+        Map<Long, QuestaoStatsDto> stats = metrics == null ? Map.of()
+                : statsAssembler.buildStatsBatch(page.getContent().stream().map(Instituicao::getId).toList(), "INSTITUICAO", metrics);
+
         return page.map(instituicao -> {
             InstituicaoSummaryDto dto = instituicaoMapper.toSummaryDto(instituicao);
-            if (metrics != null) {
-                dto.setQuestaoStats(statsAssembler.buildStats(instituicao.getId(), "INSTITUICAO", metrics));
-            }
+            dto.setQuestaoStats(stats.get(instituicao.getId()));
             return dto;
         });
     }
@@ -91,6 +94,11 @@ public class InstituicaoService {
             }
         }
 
+        // Área is a random-pick filter
+        if (request.getArea() != null && !request.getArea().equalsIgnoreCase(instituicao.getArea())) {
+            questaoRandomPool.invalidate();
+        }
+
         instituicaoMapper.updateEntityFromDto(request, instituicao);
         instituicaoRepository.save(instituicao);
     }
@@ -0,0 +1,252 @@
+package com.studora.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studora.dto.questao.QuestaoImportResultDto;
+import com.studora.dto.request.AlternativaCreateRequest;
+import com.studora.dto.request.QuestaoCreateRequest;
+import com.studora.entity.LocalDateTimeConverter;
+import com.studora.exception.ValidationException;
+import com.studora.repository.ConcursoCargoRepository;
+import com.studora.repository.SubtemaRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk creation of questões from NDJSON, one {@link QuestaoCreateRequest} per line.
+ *
+ * Lines are validated like {@link QuestaoService#create}, with concurso_cargo and subtema ids
+ * resolved once per chunk and cached for the rest of the import, and valid lines are written with
+ * batched JDBC inserts, one transaction per chunk. Invalid lines are reported and skipped.
+ */
+@Slf4j
+@Service
+public class QuestaoImportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final LocalDateTimeConverter DATES = new LocalDateTimeConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcursoCargoRepository concursoCargoRepository;
+    private final SubtemaRepository subtemaRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final QuestaoRandomPool questaoRandomPool;
+
+    public QuestaoImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                ConcursoCargoRepository concursoCargoRepository, SubtemaRepository subtemaRepository,
+                                ObjectMapper objectMapper, Validator validator, QuestaoRandomPool questaoRandomPool) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.concursoCargoRepository = concursoCargoRepository;
+        this.subtemaRepository = subtemaRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.questaoRandomPool = questaoRandomPool;
+    }
+
+    private record Linha(int numero, QuestaoCreateRequest request) {}
+
+    /** Ids seen so far: concurso id -> cargo id -> concurso_cargo id, and the subtemas that exist. */
+    private static class Lookups {
+        final Map<Long, Map<Long, Long>> concursoCargos = new HashMap<>();
+        final Map<Long, Boolean> subtemas = new HashMap<>();
+    }
+
+    public QuestaoImportResultDto importNdjson(InputStream input) throws IOException {
+        QuestaoImportResultDto result = new QuestaoImportResultDto();
+        Lookups lookups = new Lookups();
+        List<Linha> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        int numero = 0;
+        while ((line = reader.readLine()) != null) {
+            numero++;
+            if (line.isBlank()) continue;
+            result.setLinhas(result.getLinhas() + 1);
+            try {
+                chunk.add(new Linha(numero, parse(line)));
+            } catch (ValidationException e) {
+                result.getErros().add(new QuestaoImportResultDto.Erro(numero, e.getMessage()));
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, lookups, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) importChunk(chunk, lookups, result);
+
+        if (result.getImportadas() > 0) questaoRandomPool.invalidate();
+        log.info("Importação de questões: {} linhas, {} importadas, {} com erro",
+                result.getLinhas(), result.getImportadas(), result.getErros().size());
+        return result;
+    }
+
+    private QuestaoCreateRequest parse(String line) {
+        QuestaoCreateRequest request;
+        try {
+            request = objectMapper.readValue(line, QuestaoCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("JSON inválido: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<QuestaoCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return request;
+    }
+
+    private void importChunk(List<Linha> chunk, Lookups lookups, QuestaoImportResultDto result) {
+        List<Linha> validas = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                resolve(chunk, lookups);
+                for (Linha linha : chunk) {
+                    try {
+                        validate(linha.request(), lookups);
+                        validas.add(linha);
+                    } catch (ValidationException e) {
+                        result.getErros().add(new QuestaoImportResultDto.Erro(linha.numero(), e.getMessage()));
+                    }
+                }
+                if (!validas.isEmpty()) insert(validas, lookups);
+            });
+            result.setImportadas(result.getImportadas() + validas.size());
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar lote de {} questões", validas.size(), e);
+            for (Linha linha : validas) {
+                result.getErros().add(new QuestaoImportResultDto.Erro(linha.numero(),
+                        "Falha ao gravar o lote: " + e.getMostSpecificCause().getMessage()));
+            }
+        }
+    }
+
+    private void resolve(List<Linha> chunk, Lookups lookups) {
+        Set<Long> concursoIds = new HashSet<>();
+        Set<Long> subtemaIds = new HashSet<>();
+        for (Linha linha : chunk) {
+            QuestaoCreateRequest request = linha.request();
+            if (!Boolean.TRUE.equals(request.getAutoral()) && request.getConcursoId() != null
+                    && !lookups.concursoCargos.containsKey(request.getConcursoId())) {
+                concursoIds.add(request.getConcursoId());
+            }
+            if (request.getSubtemaIds() != null) {
+                request.getSubtemaIds().stream()
+                        .filter(id -> id != null && !lookups.subtemas.containsKey(id))
+                        .forEach(subtemaIds::add);
+            }
+        }
+
+        if (!concursoIds.isEmpty()) {
+            concursoIds.forEach(id -> lookups.concursoCargos.put(id, new HashMap<>()));
+            for (Object[] row : concursoCargoRepository.findIdRowsByConcursoIds(concursoIds)) {
+                lookups.concursoCargos.get((Long) row[0]).put((Long) row[1], (Long) row[2]);
+            }
+        }
+        if (!subtemaIds.isEmpty()) {
+            subtemaIds.forEach(id -> lookups.subtemas.put(id, false));
+            subtemaRepository.findExistingIds(subtemaIds).forEach(id -> lookups.subtemas.put(id, true));
+        }
+    }
+
+    private void validate(QuestaoCreateRequest request, Lookups lookups) {
+        boolean autoral = Boolean.TRUE.equals(request.getAutoral());
+        QuestaoService.validateQuestaoStructure(request.getAlternativas(), request.getAnulada(), request.getCargos(),
+                request.getConcursoId(), autoral, request.getSubtemaIds());
+
+        for (Long subtemaId : request.getSubtemaIds()) {
+            if (!Boolean.TRUE.equals(lookups.subtemas.get(subtemaId))) {
+                throw new ValidationException("O subtema ID " + subtemaId + " não existe");
+            }
+        }
+        if (!autoral) {
+            Map<Long, Long> cargos = lookups.concursoCargos.get(request.getConcursoId());
+            for (Long cargoId : request.getCargos()) {
+                if (!cargos.containsKey(cargoId)) {
+                    throw new ValidationException("O cargo ID " + cargoId + " não pertence ao concurso ID " + request.getConcursoId());
+                }
+            }
+        }
+    }
+
+    private void insert(List<Linha> linhas, Lookups lookups) {
+        // Any write takes SQLite's database-wide write lock, so no other connection can insert
+        // questões until commit and the ids read below stay free (IDENTITY rules out batching)
+        jdbcTemplate.update("UPDATE sqlite_sequence SET seq = seq WHERE name = 'questao'");
+        long id = jdbcTemplate.queryForObject("""
+                SELECT MAX(COALESCE((SELECT seq FROM sqlite_sequence WHERE name = 'questao'), 0),
+                           COALESCE((SELECT MAX(id) FROM questao), 0))
+                """, Long.class);
+
+        String now = DATES.convertToDatabaseColumn(LocalDateTime.now());
+        List<Object[]> questoes = new ArrayList<>(linhas.size());
+        List<Object[]> alternativas = new ArrayList<>();
+        List<Object[]> subtemas = new ArrayList<>();
+        List<Object[]> cargos = new ArrayList<>();
+        for (Linha linha : linhas) {
+            QuestaoCreateRequest request = linha.request();
+            boolean autoral = Boolean.TRUE.equals(request.getAutoral());
+            long questaoId = ++id;
+
+            questoes.add(new Object[]{questaoId, autoral ? null : request.getConcursoId(), request.getEnunciado(),
+                    Boolean.TRUE.equals(request.getAnulada()), Boolean.TRUE.equals(request.getDesatualizada()),
+                    autoral, request.getImageUrl(), now, now});
+
+            // Same renumbering as QuestaoService.normalizeAlternativaOrders
+            List<AlternativaCreateRequest> ordenadas = request.getAlternativas().stream()
+                    .sorted(Comparator.comparing(AlternativaCreateRequest::getOrdem))
+                    .toList();
+            int ordem = 1;
+            for (AlternativaCreateRequest alt : ordenadas) {
+                alternativas.add(new Object[]{questaoId, ordem++, alt.getTexto(), alt.getCorreta(), alt.getJustificativa(), now, now});
+            }
+
+            for (Long subtemaId : new LinkedHashSet<>(request.getSubtemaIds())) {
+                subtemas.add(new Object[]{questaoId, subtemaId});
+            }
+            if (!autoral) {
+                Map<Long, Long> concursoCargos = lookups.concursoCargos.get(request.getConcursoId());
+                for (Long cargoId : new LinkedHashSet<>(request.getCargos())) {
+                    cargos.add(new Object[]{questaoId, concursoCargos.get(cargoId), now, now});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO questao (id, concurso_id, enunciado, anulada, desatualizada, autoral, image_url, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, questoes);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO alternativa (questao_id, ordem, texto, correta, justificativa, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, alternativas);
+        jdbcTemplate.batchUpdate("INSERT INTO questao_subtema (questao_id, subtema_id) VALUES (?, ?)", subtemas);
+        if (!cargos.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO questao_cargo (questao_id, concurso_cargo_id, created_at, updated_at)
+                    VALUES (?, ?, ?, ?)
+                    """, cargos);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.studora.service;
+
+import com.studora.dto.questao.QuestaoFilter;
+import com.studora.entity.Questao;
+import com.studora.repository.QuestaoRepository;
+import com.studora.repository.specification.QuestaoSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Uniform random pick over the questões matching a filter, for {@code GET /questoes/random}.
+ * <p>
+ * The ids matching each filter are cached as an array, so a pick is a random index plus an
+ * indexed check that the questão was not answered since the threshold. Drawing again on a
+ * rejected id keeps the pick uniform over the eligible ones. Answers do not touch the cache;
+ * writes that change which questões match a filter call {@link #invalidate} (and the cache TTL
+ * refreshes it anyway). A questão deleted before that is rejected like an answered one.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestaoRandomPool {
+
+    private static final String CACHE = "questao-random-ids";
+
+    // After this many rejected draws the eligible ids are queried directly
+    private static final int MAX_DRAWS = 8;
+
+    private final CacheManager cacheManager;
+    private final QuestaoRepository questaoRepository;
+
+    /** A random questão matching the filter and not answered since the threshold, or null if there is none. */
+    public Long pick(QuestaoFilter filter, Specification<Questao> spec, LocalDateTime answeredSince) {
+        return pick(filter, spec, answeredSince, ThreadLocalRandom.current());
+    }
+
+    public Long pick(QuestaoFilter filter, Specification<Questao> spec, LocalDateTime answeredSince, Random random) {
+        long[] ids = idsFor(filter, spec);
+        if (ids.length == 0) return null;
+
+        for (int draw = 0; draw < MAX_DRAWS; draw++) {
+            long id = ids[random.nextInt(ids.length)];
+            if (questaoRepository.existsNotAnsweredSince(id, answeredSince)) return id;
+        }
+
+        List<Long> eligible = questaoRepository.findIds(spec.and(QuestaoSpecification.notAnsweredRecently(answeredSince)));
+        return eligible.isEmpty() ? null : eligible.get(random.nextInt(eligible.size()));
+    }
+
+    /** Drops every cached id array once the surrounding transaction commits. */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    private long[] idsFor(QuestaoFilter filter, Specification<Questao> spec) {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache == null) return load(spec);
+        return cache.get(filter, () -> load(spec));
+    }
+
+    private long[] load(Specification<Questao> spec) {
+        return questaoRepository.findIds(spec).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void clear() {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache != null) cache.clear();
+    }
+}
@@ -1,5 +1,7 @@
 package com.studora.service;
 
+import com.studora.common.constants.AppConstants;
+import com.studora.dto.PageResponse;
 import com.studora.dto.questao.QuestaoDetailDto;
 import com.studora.dto.questao.QuestaoFilter;
 import com.studora.dto.questao.QuestaoSummaryDto;
@@ -7,15 +9,21 @@ import com.studora.dto.request.QuestaoCreateRequest;
 import com.studora.dto.request.QuestaoUpdateRequest;
 import com.studora.entity.*;
 import com.studora.exception.ResourceNotFoundException;
+import com.studora.exception.ValidationException;
 import com.studora.mapper.QuestaoMapper;
 import com.studora.repository.*;
+import com.studora.repository.specification.KeysetSpecification;
 import com.studora.repository.specification.QuestaoSpecification;
+import com.studora.util.KeysetCursor;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,12 +44,25 @@ public class QuestaoService {
     private final ConcursoCargoRepository concursoCargoRepository;
     private final RespostaRepository respostaRepository;
     private final AlternativaRepository alternativaRepository;
+    private final RespostaAgregadoDiarioRepository agregadoRepository;
     private final QuestaoMapper questaoMapper;
     private final EntityManager entityManager;
+    private final QuestaoRandomPool questaoRandomPool;
 
     @Transactional(readOnly = true)
     public Page<QuestaoSummaryDto> findAll(QuestaoFilter filter, Pageable pageable) {
         Specification<Questao> spec = QuestaoSpecification.withFilter(filter);
+
+        Sort.Order relevancia = pageable.getSort().getOrderFor(AppConstants.SORT_RELEVANCIA);
+        if (relevancia != null) {
+            String matchExpression = QuestaoSpecification.toMatchExpression(filter.getQ());
+            if (matchExpression != null) {
+                return findAllByRelevance(spec, matchExpression, pageable);
+            }
+            // Nothing to rank by: fall back to the remaining orders (at least the id tie-breaker)
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    Sort.by(pageable.getSort().stream().filter(order -> order != relevancia).toList()));
+        }
         
         // 1. Fetch the page of questions (initially without full details to keep count/pagination simple)
         Page<Questao> page = questaoRepository.findAll(spec, pageable);
@@ -52,15 +73,61 @@ public class QuestaoService {
 
         // 2. Extract IDs and fetch full details in a single query
         List<Long> ids = page.getContent().stream().map(Questao::getId).toList();
-        List<Questao> withDetails = questaoRepository.findByIdsWithDetails(ids);
+        java.util.Map<Long, Questao> detailsMap = loadWithDetails(ids);
         
         // 3. Map to DTOs while maintaining the original page order
-        java.util.Map<Long, Questao> detailsMap = withDetails.stream()
-                .collect(java.util.stream.Collectors.toMap(Questao::getId, q -> q));
-        
         return page.map(q -> questaoMapper.toSummaryDto(detailsMap.getOrDefault(q.getId(), q)));
     }
 
+    /**
+     * Orders the filtered questões by BM25 in SQL, so only the ids of the requested page are read;
+     * entities are loaded for that page alone. The total comes from a COUNT, skipped when the page
+     * already shows where the results end.
+     */
+    private Page<QuestaoSummaryDto> findAllByRelevance(Specification<Questao> spec, String matchExpression, Pageable pageable) {
+        List<Long> ids = questaoRepository.findIdsByRelevance(spec, matchExpression, pageable.getOffset(), pageable.getPageSize());
+        java.util.Map<Long, Questao> detailsMap = loadWithDetails(ids);
+
+        List<QuestaoSummaryDto> content = ids.stream()
+                .map(detailsMap::get)
+                .filter(java.util.Objects::nonNull)
+                .map(questaoMapper::toSummaryDto)
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> questaoRepository.count(spec));
+    }
+
+    /**
+     * Keyset page: seeks past the {@code after} cursor instead of skipping an OFFSET and runs no
+     * COUNT, so every page costs the same as the first. One more id than the page size is read
+     * to tell whether a next page exists.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<QuestaoSummaryDto> findAfter(QuestaoFilter filter, Sort sort, int size, String after) {
+        if (sort.getOrderFor(AppConstants.SORT_RELEVANCIA) != null) {
+            throw new ValidationException("A ordenação por relevância não suporta paginação por cursor.");
+        }
+        Specification<Questao> spec = QuestaoSpecification.withFilter(filter)
+                .and(KeysetSpecification.after(sort, KeysetCursor.decode(after, sort)));
+
+        List<Long> ids = questaoRepository.findIds(spec, sort, size + 1);
+        boolean hasNext = ids.size() > size;
+        if (hasNext) ids = ids.subList(0, size);
+        java.util.Map<Long, Questao> detailsMap = loadWithDetails(ids);
+
+        List<QuestaoSummaryDto> content = ids.stream()
+                .map(detailsMap::get)
+                .map(questaoMapper::toSummaryDto)
+                .toList();
+        String next = hasNext ? KeysetCursor.encode(sort, detailsMap.get(ids.get(ids.size() - 1))) : null;
+        return PageResponse.cursor(content, size, next);
+    }
+
+    private java.util.Map<Long, Questao> loadWithDetails(List<Long> ids) {
+        if (ids.isEmpty()) return java.util.Map.of();
+        return questaoRepository.findByIdsWithDetails(ids).stream()
+                .collect(java.util.stream.Collectors.toMap(Questao::getId, q -> q));
+    }
+
     @Transactional(readOnly = true)
     public QuestaoDetailDto getQuestaoDetailById(Long id) {
         Questao questao = questaoRepository.findByIdWithDetails(id)
@@ -94,22 +161,11 @@ public class QuestaoService {
             filter.setAutoral(false); // standard only
         }
 
-        Specification<Questao> spec = QuestaoSpecification.withFilter(filter)
-                .and(QuestaoSpecification.notAnsweredRecently(java.time.LocalDateTime.now().minusMonths(1)));
-
-        long count = questaoRepository.count(spec);
-
-        if (count == 0) {
-            throw new ResourceNotFoundException("Não foi possível encontrar nenhuma questão com os filtros fornecidos.");
-        }
-
-        int randomIndex = (int) (Math.random() * count);
-        Page<Questao> randomPage = questaoRepository.findAll(spec, org.springframework.data.domain.PageRequest.of(randomIndex, 1));
-        
-        if (randomPage.hasContent()) {
-            // We need details, and findAll with pageable won't fetch everything efficiently/correctly with details in a single query
-            // So we fetch the full details by ID of the randomly picked question
-            return getQuestaoDetailById(randomPage.getContent().get(0).getId());
+        // Recently answered questões are rejected per draw instead of being part of the cached filter
+        Long id = questaoRandomPool.pick(filter, QuestaoSpecification.withFilter(filter),
+                java.time.LocalDateTime.now().minusMonths(1));
+        if (id != null) {
+            return getQuestaoDetailById(id);
         }
 
         throw new ResourceNotFoundException("Não foi possível encontrar nenhuma questão com os filtros fornecidos.");
@@ -162,6 +218,7 @@ public class QuestaoService {
         Questao savedQuestao = questaoRepository.save(questao);
 
         entityManager.flush();
+        questaoRandomPool.invalidate();
         return savedQuestao.getId();
     }
 
@@ -179,6 +236,9 @@ public class QuestaoService {
         boolean isAutoral = Boolean.TRUE.equals(questao.getAutoral());
         validateQuestaoBusinessRules(request.getAlternativas(), request.getAnulada(), request.getCargos(), request.getConcursoId(), isAutoral, request.getSubtemaIds());
 
+        // Roll-up is re-added after the update, with the questão's final subtemas and history
+        agregadoRepository.removeQuestao(id);
+
         boolean contentChanged = hasContentChanged(questao, request, isAutoral);
         if (contentChanged) {
             log.info("Mudança de conteúdo detectada na questão {}. Excluindo histórico de respostas.", id);
@@ -253,6 +313,8 @@ public class QuestaoService {
         normalizeAlternativaOrders(questao);
         Questao saved = questaoRepository.save(questao);
         entityManager.flush();
+        agregadoRepository.addQuestao(id);
+        questaoRandomPool.invalidate();
         return questaoMapper.toDetailDto(questaoRepository.findByIdWithDetails(saved.getId()).get());
     }
 
@@ -272,6 +334,21 @@ public class QuestaoService {
     private void validateQuestaoBusinessRules(List<? extends com.studora.dto.request.AlternativaBaseRequest> alternativas,
                                             Boolean anulada, List<Long> cargoIds, Long concursoId, boolean autoral,
                                             List<Long> subtemaIds) {
+        validateQuestaoStructure(alternativas, anulada, cargoIds, concursoId, autoral, subtemaIds);
+
+        if (!autoral) {
+            for (Long cargoId : cargoIds) {
+                if (!concursoCargoRepository.existsByConcursoIdAndCargoId(concursoId, cargoId)) {
+                    throw new com.studora.exception.ValidationException("O cargo ID " + cargoId + " não pertence ao concurso ID " + concursoId);
+                }
+            }
+        }
+    }
+
+    /** The rules that need no lookups; {@link QuestaoImportService} checks the cargos against its own cache. */
+    static void validateQuestaoStructure(List<? extends com.studora.dto.request.AlternativaBaseRequest> alternativas,
+                                         Boolean anulada, List<Long> cargoIds, Long concursoId, boolean autoral,
+                                         List<Long> subtemaIds) {
         if (alternativas == null || alternativas.size() < com.studora.common.constants.AppConstants.MIN_ALTERNATIVAS) {
             throw new com.studora.exception.ValidationException("A questão deve ter pelo menos " + com.studora.common.constants.AppConstants.MIN_ALTERNATIVAS + " alternativas");
         }
@@ -295,11 +372,6 @@ public class QuestaoService {
             if (cargoIds == null || cargoIds.isEmpty()) {
                 throw new com.studora.exception.ValidationException("Uma questão de concurso deve estar associada a pelo menos um cargo");
             }
-            for (Long cargoId : cargoIds) {
-                if (!concursoCargoRepository.existsByConcursoIdAndCargoId(concursoId, cargoId)) {
-                    throw new com.studora.exception.ValidationException("O cargo ID " + cargoId + " não pertence ao concurso ID " + concursoId);
-                }
-            }
         }
     }
 
@@ -365,7 +437,9 @@ public class QuestaoService {
         if (!questaoRepository.existsById(id)) {
             throw new ResourceNotFoundException("Questão", "ID", id);
         }
+        agregadoRepository.removeQuestao(id);
         questaoRepository.deleteById(id);
+        questaoRandomPool.invalidate();
     }
 
     public void toggleDesatualizada(Long id) {
@@ -373,5 +447,6 @@ public class QuestaoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Questão", "ID", id));
         questao.setDesatualizada(!questao.getDesatualizada());
         questaoRepository.save(questao);
+        questaoRandomPool.invalidate();
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.studora.service;
+
+import com.studora.dto.request.RespostaCreateRequest;
+import com.studora.dto.request.SimuladoRespostasRequest;
+import com.studora.dto.resposta.RespostaDetailDto;
+import com.studora.dto.resposta.RespostaLoteDto;
+import com.studora.dto.simulado.SimuladoResultadoDto;
+import com.studora.entity.Alternativa;
+import com.studora.entity.Dificuldade;
+import com.studora.entity.LocalDateTimeConverter;
+import com.studora.entity.Simulado;
+import com.studora.exception.ResourceNotFoundException;
+import com.studora.exception.ValidationException;
+import com.studora.mapper.AlternativaMapper;
+import com.studora.repository.AlternativaRepository;
+import com.studora.repository.RespostaAgregadoDiarioRepository;
+import com.studora.repository.SimuladoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Answers to several questões of a simulado in one call, validated like
+ * {@link RespostaService#createResposta}. The alternativas of every questão are read in one query,
+ * the respostas are written with one batched insert, and the stats caches are invalidated once,
+ * all in a single transaction that may also finish the simulado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RespostaLoteService {
+
+    private static final LocalDateTimeConverter DATES = new LocalDateTimeConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimuladoRepository simuladoRepository;
+    private final AlternativaRepository alternativaRepository;
+    private final AlternativaMapper alternativaMapper;
+    private final RespostaAgregadoDiarioRepository agregadoRepository;
+    private final StatsCacheInvalidator statsCacheInvalidator;
+    private final SimuladoService simuladoService;
+
+    public RespostaLoteDto createRespostas(Long simuladoId, SimuladoRespostasRequest request) {
+        log.info("Registrando {} respostas no simulado ID: {}", request.getRespostas().size(), simuladoId);
+
+        Simulado simulado = simuladoRepository.findById(simuladoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Simulado", "ID", simuladoId));
+        if (simulado.getFinishedAt() != null) {
+            throw new ValidationException("Este simulado já foi finalizado.");
+        }
+
+        Set<Long> questoesDoSimulado = new HashSet<>(simuladoRepository.findQuestaoIdsById(simuladoId));
+        Set<Long> questaoIds = request.getRespostas().stream()
+                .map(RespostaCreateRequest::getQuestaoId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, List<Alternativa>> alternativasPorQuestao = alternativaRepository.findByQuestaoIdInWithQuestao(questaoIds).stream()
+                .collect(Collectors.groupingBy(a -> a.getQuestao().getId()));
+
+        List<Alternativa> escolhidas = new ArrayList<>(request.getRespostas().size());
+        for (RespostaCreateRequest resposta : request.getRespostas()) {
+            if (resposta.getSimuladoId() != null && !resposta.getSimuladoId().equals(simuladoId)) {
+                throw new ValidationException("A resposta da questão ID " + resposta.getQuestaoId() + " pertence a outro simulado");
+            }
+            if (!questoesDoSimulado.contains(resposta.getQuestaoId())) {
+                throw new ValidationException("A questão ID " + resposta.getQuestaoId() + " não faz parte deste simulado");
+            }
+            Alternativa alternativa = alternativasPorQuestao.getOrDefault(resposta.getQuestaoId(), List.of()).stream()
+                    .filter(a -> a.getId().equals(resposta.getAlternativaId()))
+                    .findFirst()
+                    .orElseThrow(() -> new ValidationException("A alternativa ID " + resposta.getAlternativaId()
+                            + " não pertence à questão ID " + resposta.getQuestaoId()));
+            if (Boolean.TRUE.equals(alternativa.getQuestao().getAnulada())) {
+                throw new ValidationException("Não é possível responder a uma questão anulada");
+            }
+            escolhidas.add(alternativa);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> respostaIds = insert(simuladoId, request.getRespostas(), escolhidas, now);
+        agregadoRepository.addRespostas(respostaIds);
+        statsCacheInvalidator.evictForQuestoes(questaoIds);
+
+        SimuladoResultadoDto resultado = request.isFinalizar()
+                ? simuladoService.finalizarSimulado(simuladoId).getResultado()
+                : null;
+
+        List<RespostaDetailDto> respostas = new ArrayList<>(respostaIds.size());
+        for (int i = 0; i < respostaIds.size(); i++) {
+            RespostaCreateRequest resposta = request.getRespostas().get(i);
+            respostas.add(RespostaDetailDto.builder()
+                    .id(respostaIds.get(i))
+                    .questaoId(resposta.getQuestaoId())
+                    .alternativaId(resposta.getAlternativaId())
+                    .correta(escolhidas.get(i).getCorreta())
+                    .justificativa(resposta.getJustificativa())
+                    .tempoRespostaSegundos(resposta.getTempoRespostaSegundos())
+                    .simuladoId(simuladoId)
+                    .dificuldade(Dificuldade.fromId(resposta.getDificuldadeId()))
+                    .createdAt(now)
+                    .alternativas(alternativasPorQuestao.get(resposta.getQuestaoId()).stream()
+                            .map(alternativaMapper::toDto)
+                            .toList())
+                    .build());
+        }
+        return new RespostaLoteDto(respostas, resultado);
+    }
+
+    private List<Long> insert(Long simuladoId, List<RespostaCreateRequest> respostas, List<Alternativa> escolhidas, LocalDateTime now) {
+        // Same id reservation as QuestaoImportService.insert: the write lock keeps these ids free until commit
+        jdbcTemplate.update("UPDATE sqlite_sequence SET seq = seq WHERE name = 'resposta'");
+        long id = jdbcTemplate.queryForObject("""
+                SELECT MAX(COALESCE((SELECT seq FROM sqlite_sequence WHERE name = 'resposta'), 0),
+                           COALESCE((SELECT MAX(id) FROM resposta), 0))
+                """, Long.class);
+
+        String createdAt = DATES.convertToDatabaseColumn(now);
+        List<Long> ids = new ArrayList<>(respostas.size());
+        List<Object[]> rows = new ArrayList<>(respostas.size());
+        for (int i = 0; i < respostas.size(); i++) {
+            RespostaCreateRequest resposta = respostas.get(i);
+            long respostaId = ++id;
+            ids.add(respostaId);
+            rows.add(new Object[]{respostaId, resposta.getQuestaoId(), resposta.getAlternativaId(), escolhidas.get(i).getCorreta(),
+                    resposta.getJustificativa(), Dificuldade.fromId(resposta.getDificuldadeId()).getId(),
+                    resposta.getTempoRespostaSegundos(), simuladoId, createdAt, createdAt});
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO resposta (id, questao_id, alternativa_id, correta, justificativa, dificuldade_id,
+                                      tempo_resposta_segundos, simulado_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        return ids;
+    }
+}
@@ -1,5 +1,6 @@
 package com.studora.service;
 
+import com.studora.dto.PageResponse;
 import com.studora.dto.resposta.RespostaDetailDto;
 import com.studora.dto.resposta.RespostaSummaryDto;
 import com.studora.dto.request.RespostaCreateRequest;
@@ -12,15 +13,19 @@ import com.studora.exception.ValidationException;
 import com.studora.mapper.RespostaMapper;
 import com.studora.repository.AlternativaRepository;
 import com.studora.repository.QuestaoRepository;
+import com.studora.repository.RespostaAgregadoDiarioRepository;
 import com.studora.repository.RespostaRepository;
 import com.studora.repository.SimuladoRepository;
+import com.studora.repository.specification.KeysetSpecification;
+import com.studora.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.cache.annotation.CacheEvict;
 
 import java.util.Collection;
 import java.util.List;
@@ -37,6 +42,8 @@ public class RespostaService {
     private final AlternativaRepository alternativaRepository;
     private final SimuladoRepository simuladoRepository;
     private final RespostaMapper respostaMapper;
+    private final RespostaAgregadoDiarioRepository agregadoRepository;
+    private final StatsCacheInvalidator statsCacheInvalidator;
 
     @Transactional(readOnly = true)
     public Page<RespostaSummaryDto> findAll(Pageable pageable) {
@@ -44,6 +51,26 @@ public class RespostaService {
                 .map(respostaMapper::toSummaryDto);
     }
 
+    /**
+     * Keyset page (see {@link QuestaoService#findAfter}); the questão is fetched in the same query
+     * as the respostas.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<RespostaSummaryDto> findAfter(Sort sort, int size, String after) {
+        Specification<Resposta> withDetails = (root, query, cb) -> {
+            root.fetch("questao");
+            return null;
+        };
+        Specification<Resposta> spec = withDetails.and(KeysetSpecification.after(sort, KeysetCursor.decode(after, sort)));
+
+        List<Resposta> respostas = respostaRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = respostas.size() > size;
+        if (hasNext) respostas = respostas.subList(0, size);
+
+        String next = hasNext ? KeysetCursor.encode(sort, respostas.get(size - 1)) : null;
+        return PageResponse.cursor(respostas.stream().map(respostaMapper::toSummaryDto).toList(), size, next);
+    }
+
     @Transactional(readOnly = true)
     public RespostaSummaryDto getRespostaSummaryById(Long id) {
         Resposta resposta = respostaRepository.findByIdWithDetails(id)
@@ -68,7 +95,6 @@ public class RespostaService {
                 .collect(Collectors.toList());
     }
 
-    @CacheEvict(value = {"disciplina-stats", "tema-stats", "subtema-stats"}, allEntries = true)
     public RespostaDetailDto createResposta(RespostaCreateRequest request) {
         log.info("Criando nova tentativa para a questão ID: {}", request.getQuestaoId());
         
@@ -96,15 +122,19 @@ public class RespostaService {
             resposta.setSimulado(simulado);
         }
 
-        return respostaMapper.toDetailDto(respostaRepository.save(resposta));
+        Resposta saved = respostaRepository.save(resposta);
+        agregadoRepository.addResposta(saved.getId());
+        statsCacheInvalidator.evictForQuestao(questao.getId());
+        return respostaMapper.toDetailDto(saved);
     }
 
-    @CacheEvict(value = {"disciplina-stats", "tema-stats", "subtema-stats"}, allEntries = true)
     public void delete(Long id) {
         log.info("Excluindo resposta ID: {}", id);
         if (!respostaRepository.existsById(id)) {
             throw new ResourceNotFoundException("Resposta", "ID", id);
         }
+        respostaRepository.findQuestaoIdById(id).ifPresent(statsCacheInvalidator::evictForQuestao);
+        agregadoRepository.removeResposta(id);
         respostaRepository.deleteById(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.studora.service;
+
+import com.studora.dto.request.SimuladoGenerationRequest;
+import com.studora.entity.NivelCargo;
+import com.studora.repository.SimuladoCandidato;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Picks simulado questões from a pool loaded once by {@code QuestaoRepository#findSimuladoCandidatos}.
+ * <p>
+ * Eligibility and the preference score only depend on the request, so they are computed once per
+ * candidate. Each selection then streams the pool through a reservoir of its {@code quantidade}
+ * best candidates, ranked by score with a random key as tie-breaker (the order the previous
+ * {@code ORDER BY score DESC, RANDOM()} query produced).
+ */
+public class SimuladoSampler {
+
+    private static final Comparator<Ranked> RANK =
+            Comparator.comparingInt(Ranked::score).thenComparingDouble(Ranked::key);
+
+    private final List<Scored> eligible;
+    private final Random random;
+
+    public SimuladoSampler(List<SimuladoCandidato> pool, SimuladoGenerationRequest request, LocalDateTime now, Random random) {
+        this.random = random;
+        Set<NivelCargo> niveis = allowedNiveis(request.getNivel());
+        Set<String> areas = request.getAreas() == null ? Set.of()
+                : request.getAreas().stream().map(String::toLowerCase).collect(Collectors.toSet());
+        LocalDateTime threshold = now.minusMonths(1);
+        boolean ignorarRespondidas = Boolean.TRUE.equals(request.getIgnorarRespondidas());
+
+        this.eligible = new ArrayList<>();
+        for (SimuladoCandidato c : pool) {
+            if (c.anulada() || c.desatualizada()) continue;
+
+            // Default: skip only questões answered in the last 30 days; ignorarRespondidas skips any answered
+            if (c.ultimaResposta() != null && (ignorarRespondidas || !c.ultimaResposta().isBefore(threshold))) continue;
+
+            // Nivel is a ceiling; autoral questões have no cargo and always pass
+            if (niveis != null && !c.autoral() && Collections.disjoint(c.niveis(), niveis)) continue;
+
+            eligible.add(new Scored(c, score(c, request, areas)));
+        }
+    }
+
+    public List<Long> bySubtema(long subtemaId, int quantidade, Set<Long> exclude) {
+        return sample(c -> {
+            for (long s : c.subtemaIds()) if (s == subtemaId) return true;
+            return false;
+        }, quantidade, exclude);
+    }
+
+    public List<Long> byTema(long temaId, Collection<Long> avoidSubtemaIds, int quantidade, Set<Long> exclude) {
+        Set<Long> avoidSubtemas = avoid(avoidSubtemaIds);
+        return sample(c -> {
+            for (int j = 0; j < c.temaIds().length; j++) {
+                if (c.temaIds()[j] == temaId && !avoidSubtemas.contains(c.subtemaIds()[j])) return true;
+            }
+            return false;
+        }, quantidade, exclude);
+    }
+
+    public List<Long> byDisciplina(long disciplinaId, Collection<Long> avoidTemaIds, Collection<Long> avoidSubtemaIds,
+                                   int quantidade, Set<Long> exclude) {
+        Set<Long> avoidTemas = avoid(avoidTemaIds);
+        Set<Long> avoidSubtemas = avoid(avoidSubtemaIds);
+        return sample(c -> {
+            for (int j = 0; j < c.disciplinaIds().length; j++) {
+                if (c.disciplinaIds()[j] == disciplinaId
+                        && !avoidTemas.contains(c.temaIds()[j])
+                        && !avoidSubtemas.contains(c.subtemaIds()[j])) return true;
+            }
+            return false;
+        }, quantidade, exclude);
+    }
+
+    private List<Long> sample(Predicate<SimuladoCandidato> inScope, int quantidade, Set<Long> exclude) {
+        if (quantidade <= 0) return List.of();
+
+        // Min-heap holding the best `quantidade` candidates seen so far
+        PriorityQueue<Ranked> reservoir = new PriorityQueue<>(quantidade, RANK);
+        for (Scored s : eligible) {
+            if (exclude.contains(s.candidato().id()) || !inScope.test(s.candidato())) continue;
+            Ranked ranked = new Ranked(s.candidato().id(), s.score(), random.nextDouble());
+            if (reservoir.size() < quantidade) {
+                reservoir.add(ranked);
+            } else if (RANK.compare(ranked, reservoir.peek()) > 0) {
+                reservoir.poll();
+                reservoir.add(ranked);
+            }
+        }
+
+        return reservoir.stream()
+                .sorted(RANK.reversed())
+                .map(Ranked::id)
+                .collect(Collectors.toList());
+    }
+
+    private static int score(SimuladoCandidato c, SimuladoGenerationRequest req, Set<String> areas) {
+        int score = 0;
+        if (req.getBancaId() != null && req.getBancaId().equals(c.bancaId())) score += 1000;
+        if (req.getCargoId() != null && c.cargoIds().contains(req.getCargoId())) score += 500;
+        if (!areas.isEmpty() && (matchesArea(c.instituicaoArea(), areas)
+                || c.cargoAreas().stream().anyMatch(a -> matchesArea(a, areas)))) score += 100;
+        if (c.niveis().contains(NivelCargo.SUPERIOR)) score += 30;
+        if (c.niveis().contains(NivelCargo.MEDIO)) score += 20;
+        if (c.niveis().contains(NivelCargo.FUNDAMENTAL)) score += 10;
+        return score;
+    }
+
+    private static boolean matchesArea(String area, Set<String> areas) {
+        return area != null && areas.contains(area.toLowerCase());
+    }
+
+    private static Set<NivelCargo> allowedNiveis(NivelCargo teto) {
+        if (teto == null) return null;
+        return switch (teto) {
+            case SUPERIOR -> EnumSet.of(NivelCargo.SUPERIOR, NivelCargo.MEDIO, NivelCargo.FUNDAMENTAL);
+            case MEDIO -> EnumSet.of(NivelCargo.MEDIO, NivelCargo.FUNDAMENTAL);
+            case FUNDAMENTAL -> EnumSet.of(NivelCargo.FUNDAMENTAL);
+        };
+    }
+
+    private static Set<Long> avoid(Collection<Long> ids) {
+        return ids == null ? Set.of() : new HashSet<>(ids);
+    }
+
+    private record Scored(SimuladoCandidato candidato, int score) {}
+
+    private record Ranked(long id, int score, double key) {}
+}
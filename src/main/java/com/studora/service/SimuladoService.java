@@ -1,8 +1,17 @@
 package com.studora.service;
 
 import com.studora.dto.PageResponse;
+import com.studora.dto.cargo.CargoSummaryDto;
+import com.studora.dto.questao.AlternativaDto;
+import com.studora.dto.questao.ConcursoQuestaoDto;
+import com.studora.dto.questao.QuestaoSummaryDto;
+import com.studora.dto.questao.SubtemaQuestaoDto;
+import com.studora.dto.resposta.RespostaSummaryDto;
+import com.studora.dto.simulado.DificuldadeResultadoDto;
+import com.studora.dto.simulado.DisciplinaResultadoDto;
 import com.studora.dto.simulado.SimuladoDetailDto;
 import com.studora.dto.request.SimuladoGenerationRequest;
+import com.studora.dto.simulado.SimuladoResultadoDto;
 import com.studora.dto.simulado.SimuladoSummaryDto;
 import com.studora.entity.Questao;
 import com.studora.entity.Simulado;
@@ -16,22 +25,27 @@ import com.studora.repository.SimuladoRepository;
 import com.studora.repository.SubtemaRepository;
 import com.studora.common.constants.AppConstants;
 import com.studora.repository.TemaRepository;
+import com.studora.repository.specification.KeysetSpecification;
+import com.studora.util.KeysetCursor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -78,50 +92,145 @@ public class SimuladoService {
     @Cacheable(value = "simulado-stats", key = "T(java.util.Objects).hash(#pageable.pageNumber, #pageable.pageSize, #pageable.sort.toString())")
     @Transactional(readOnly = true)
     public Page<SimuladoSummaryDto> findAll(Pageable pageable) {
-        return simuladoRepository.findAll(pageable)
-                .map(s -> {
+        Page<Simulado> page = simuladoRepository.findAll(pageable);
+        References refs = loadReferences(page.getContent());
+        return page.map(s -> {
                     SimuladoSummaryDto dto = simuladoMapper.toSummaryDto(s);
-                    enrichSimuladoDto(s, dto);
+                    enrichSimuladoDto(s, dto, refs);
                     return dto;
                 });
     }
 
+    /** Keyset page (see {@link QuestaoService#findAfter}). */
+    @Transactional(readOnly = true)
+    public PageResponse<SimuladoSummaryDto> findAfter(Sort sort, int size, String after) {
+        Specification<Simulado> spec = KeysetSpecification.after(sort, KeysetCursor.decode(after, sort));
+
+        List<Simulado> simulados = simuladoRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = simulados.size() > size;
+        if (hasNext) simulados = simulados.subList(0, size);
+
+        References refs = loadReferences(simulados);
+        List<SimuladoSummaryDto> content = simulados.stream()
+                .map(s -> {
+                    SimuladoSummaryDto dto = simuladoMapper.toSummaryDto(s);
+                    enrichSimuladoDto(s, dto, refs);
+                    return dto;
+                })
+                .toList();
+        String next = hasNext ? KeysetCursor.encode(sort, simulados.get(size - 1)) : null;
+        return PageResponse.cursor(content, size, next);
+    }
+
     @Transactional(readOnly = true)
     public SimuladoDetailDto getSimuladoDetailById(Long id) {
         Simulado simulado = simuladoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Simulado", "ID", id));
 
-        SimuladoDetailDto dto = simuladoMapper.toDetailDto(simulado);
-        
-        // Process the DTO to filter responses to only include those for this simulado
-        if (dto.getQuestoes() != null) {
-            for (var questaoDto : dto.getQuestoes()) {
-                if (questaoDto.getRespostas() != null) {
-                    // Filter responses to only include those that belong to this simulado
-                    List<com.studora.dto.resposta.RespostaSummaryDto> filteredResponses = 
-                        questaoDto.getRespostas().stream()
-                            .filter(resp -> resp.getSimuladoId() != null && resp.getSimuladoId().equals(id))
-                            .collect(Collectors.toList());
-                    
-                    questaoDto.setRespostas(filteredResponses);
-
-                    // If not answered in this simulado, hide the correct answers and justifications
-                    if (filteredResponses.isEmpty()) {
-                        if (questaoDto.getAlternativas() != null) {
-                            questaoDto.getAlternativas().forEach(a -> {
-                                a.setCorreta(null);
-                                a.setJustificativa(null);
-                            });
-                        }
-                    }
-                }
+        // One query per association, all keyed by the simulado, instead of walking the entity graph
+        SimuladoDetailDto dto = simuladoMapper.toDetailDtoWithoutQuestoes(simulado);
+        Map<Long, QuestaoSummaryDto> questoes = new LinkedHashMap<>();
+        for (Object[] row : simuladoRepository.findQuestaoRowsBySimuladoId(id)) {
+            questoes.put((Long) row[0], toQuestaoDto(row));
+        }
+        for (Object[] row : simuladoRepository.findAlternativaRowsBySimuladoId(id)) {
+            AlternativaDto alt = new AlternativaDto((Long) row[0], (Integer) row[2], (String) row[3], (Boolean) row[4]);
+            alt.setId((Long) row[1]);
+            alt.setJustificativa((String) row[5]);
+            questoes.get((Long) row[0]).getAlternativas().add(alt);
+        }
+        for (Object[] row : simuladoRepository.findSubtemaRowsBySimuladoId(id)) {
+            questoes.get((Long) row[0]).getSubtemas().add(toSubtemaQuestaoDto(row));
+        }
+        for (Object[] row : simuladoRepository.findCargoRowsBySimuladoId(id)) {
+            CargoSummaryDto cargo = new CargoSummaryDto();
+            cargo.setId((Long) row[1]);
+            cargo.setNome((String) row[2]);
+            cargo.setNivel((com.studora.entity.NivelCargo) row[3]);
+            cargo.setArea((String) row[4]);
+            questoes.get((Long) row[0]).getCargos().add(cargo);
+        }
+        // Only this simulado's respostas are shown
+        for (Object[] row : simuladoRepository.findRespostaRowsBySimuladoId(id)) {
+            QuestaoSummaryDto questao = questoes.get((Long) row[1]);
+            if (questao == null) continue;
+            questao.getRespostas().add(RespostaSummaryDto.builder()
+                    .id((Long) row[0])
+                    .questaoId((Long) row[1])
+                    .alternativaId((Long) row[2])
+                    .correta((Boolean) row[3])
+                    .justificativa((String) row[4])
+                    .dificuldade((com.studora.entity.Dificuldade) row[5])
+                    .tempoRespostaSegundos((Integer) row[6])
+                    .simuladoId(id)
+                    .createdAt((LocalDateTime) row[7])
+                    .build());
+        }
+
+        // If not answered in this simulado, hide the correct answers and justifications
+        for (QuestaoSummaryDto questao : questoes.values()) {
+            if (questao.getRespostas().isEmpty()) {
+                questao.getAlternativas().forEach(a -> {
+                    a.setCorreta(null);
+                    a.setJustificativa(null);
+                });
             }
         }
-        
+        dto.setQuestoes(new ArrayList<>(questoes.values()));
+        dto.setResultado(toResultadoDto(simulado));
+
         enrichSimuladoDto(simulado, dto);
         return dto;
     }
 
+    private QuestaoSummaryDto toQuestaoDto(Object[] row) {
+        QuestaoSummaryDto dto = new QuestaoSummaryDto();
+        dto.setId((Long) row[0]);
+        dto.setEnunciado((String) row[1]);
+        dto.setAnulada((Boolean) row[2]);
+        dto.setDesatualizada((Boolean) row[3]);
+        dto.setAutoral((Boolean) row[4]);
+        dto.setImageUrl((String) row[5]);
+        dto.setRespondida((Boolean) row[6]);
+        if (row[7] != null) {
+            ConcursoQuestaoDto concurso = new ConcursoQuestaoDto();
+            concurso.setId((Long) row[7]);
+            concurso.setAno((Integer) row[8]);
+            concurso.setBancaId((Long) row[9]);
+            concurso.setBancaNome((String) row[10]);
+            concurso.setBancaSigla((String) row[11]);
+            concurso.setInstituicaoId((Long) row[12]);
+            concurso.setInstituicaoNome((String) row[13]);
+            concurso.setInstituicaoSigla((String) row[14]);
+            concurso.setInstituicaoArea((String) row[15]);
+            dto.setConcurso(concurso);
+        }
+        dto.setAlternativas(new ArrayList<>());
+        dto.setSubtemas(new ArrayList<>());
+        dto.setCargos(new ArrayList<>());
+        dto.setRespostas(new ArrayList<>());
+        return dto;
+    }
+
+    private SubtemaQuestaoDto toSubtemaQuestaoDto(Object[] row) {
+        SubtemaQuestaoDto dto = new SubtemaQuestaoDto();
+        dto.setId((Long) row[1]);
+        dto.setNome((String) row[2]);
+        if (row[3] != null) {
+            var temaRef = new com.studora.dto.subtema.TemaReferenceDto();
+            temaRef.setId((Long) row[3]);
+            temaRef.setNome((String) row[4]);
+            dto.setTema(temaRef);
+        }
+        if (row[5] != null) {
+            var discRef = new com.studora.dto.subtema.DisciplinaReferenceDto();
+            discRef.setId((Long) row[5]);
+            discRef.setNome((String) row[6]);
+            dto.setDisciplina(discRef);
+        }
+        return dto;
+    }
+
     @CacheEvict(value = "simulado-stats", allEntries = true)
     public Long create(SimuladoSummaryDto request) {
         Simulado simulado = simuladoMapper.toEntity(request);
@@ -175,32 +284,35 @@ public class SimuladoService {
                 .collect(Collectors.toList()));
         }
 
+        List<Long> subtemaIds = selectedIds(request.getSubtemas());
+        List<Long> temaIds = selectedIds(request.getTemas());
+        List<Long> disciplinaIds = selectedIds(request.getDisciplinas());
+
+        // One query loads every candidate; the selections below are sampled in memory
+        SimuladoSampler sampler = new SimuladoSampler(
+                questaoRepository.findSimuladoCandidatos(subtemaIds, temaIds, disciplinaIds),
+                request, LocalDateTime.now(), ThreadLocalRandom.current());
+
         Set<Long> collectedIds = new HashSet<>();
 
         // 1. Subtemas (Mais específicos)
         if (request.getSubtemas() != null) {
             for (var sel : request.getSubtemas()) {
-                List<Long> ids = questaoRepository.findIdsBySubtemaWithPreferences(sel.getId(), request, new ArrayList<>(collectedIds), PageRequest.of(0, sel.getQuantidade()));
-                collectedIds.addAll(ids);
+                collectedIds.addAll(sampler.bySubtema(sel.getId(), sel.getQuantidade(), collectedIds));
             }
         }
 
         // 2. Temas (Excluindo os subtemas já processados se possível)
         if (request.getTemas() != null) {
-            List<Long> subtemaIdsToAvoid = request.getSubtemas() != null ? request.getSubtemas().stream().map(SimuladoGenerationRequest.ItemSelection::getId).toList() : List.of();
             for (var sel : request.getTemas()) {
-                List<Long> ids = questaoRepository.findIdsByTemaWithPreferences(sel.getId(), subtemaIdsToAvoid, request, new ArrayList<>(collectedIds), PageRequest.of(0, sel.getQuantidade()));
-                collectedIds.addAll(ids);
+                collectedIds.addAll(sampler.byTema(sel.getId(), subtemaIds, sel.getQuantidade(), collectedIds));
             }
         }
 
         // 3. Disciplinas (Excluindo temas e subtemas já processados se possível)
         if (request.getDisciplinas() != null) {
-            List<Long> temaIdsToAvoid = request.getTemas() != null ? request.getTemas().stream().map(SimuladoGenerationRequest.ItemSelection::getId).toList() : List.of();
-            List<Long> subtemaIdsToAvoid = request.getSubtemas() != null ? request.getSubtemas().stream().map(SimuladoGenerationRequest.ItemSelection::getId).toList() : List.of();
             for (var sel : request.getDisciplinas()) {
-                List<Long> ids = questaoRepository.findIdsByDisciplinaWithPreferences(sel.getId(), temaIdsToAvoid, subtemaIdsToAvoid, request, new ArrayList<>(collectedIds), PageRequest.of(0, sel.getQuantidade()));
-                collectedIds.addAll(ids);
+                collectedIds.addAll(sampler.byDisciplina(sel.getId(), temaIds, subtemaIds, sel.getQuantidade(), collectedIds));
             }
         }
 
@@ -215,6 +327,11 @@ public class SimuladoService {
         return saved.getId();
     }
 
+    private static List<Long> selectedIds(List<SimuladoGenerationRequest.ItemSelection> selections) {
+        return selections == null ? List.of()
+                : selections.stream().map(SimuladoGenerationRequest.ItemSelection::getId).toList();
+    }
+
     @CacheEvict(value = "simulado-stats", allEntries = true)
     public void delete(Long id) {
         log.info("Excluindo simulado ID: {}", id);
@@ -244,40 +361,133 @@ public class SimuladoService {
 
     @CacheEvict(value = "simulado-stats", allEntries = true)
     public SimuladoDetailDto finalizarSimulado(Long id) {
-        Simulado simulado = simuladoRepository.findByIdWithQuestoes(id)
+        Simulado simulado = simuladoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Simulado", "ID", id));
         
         if (simulado.getFinishedAt() != null) {
             throw new ValidationException("Este simulado já foi finalizado.");
         }
 
-        int totalQuestions = simulado.getQuestoes().size();
-        int answeredCount = respostaRepository.countBySimuladoId(id);
+        // Rows: a single [questões, respondidas, acertos, tempoTotal, tempoMedio]
+        Object[] totais = simuladoRepository.findResultadoTotais(id).get(0);
+        int totalQuestions = ((Number) totais[0]).intValue();
+        int answeredCount = ((Number) totais[1]).intValue();
 
         if (answeredCount < totalQuestions) {
             throw new ValidationException("Não é possível finalizar o simulado: existem " + (totalQuestions - answeredCount) + " questões sem resposta.");
         }
 
+        // Stored once here, so viewing the finished simulado never aggregates its respostas again
+        simulado.setResultado(new com.studora.entity.SimuladoResultado(
+                answeredCount, ((Number) totais[2]).intValue(), ((Number) totais[3]).intValue(), toInteger(totais[4])));
+        simulado.getResultadoPorDisciplina().clear();
+        for (Object[] row : simuladoRepository.findResultadoPorDisciplina(id)) {
+            simulado.getResultadoPorDisciplina().add(new com.studora.entity.SimuladoResultadoDisciplina(
+                    ((Number) row[0]).longValue(), (String) row[1],
+                    ((Number) row[2]).intValue(), ((Number) row[3]).intValue(), toInteger(row[4])));
+        }
+        simulado.getResultadoPorDificuldade().clear();
+        for (Object[] row : simuladoRepository.findResultadoPorDificuldade(id)) {
+            simulado.getResultadoPorDificuldade().add(new com.studora.entity.SimuladoResultadoDificuldade(
+                    com.studora.entity.Dificuldade.fromId(((Number) row[0]).intValue()),
+                    ((Number) row[1]).intValue(), ((Number) row[2]).intValue()));
+        }
+
         simulado.setFinishedAt(LocalDateTime.now());
         Simulado saved = simuladoRepository.save(simulado);
-        SimuladoDetailDto dto = simuladoMapper.toDetailDto(saved);
+        SimuladoDetailDto dto = simuladoMapper.toDetailDtoWithoutQuestoes(saved);
+        dto.setResultado(toResultadoDto(saved));
         enrichSimuladoDto(saved, dto);
         return dto;
     }
 
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private SimuladoResultadoDto toResultadoDto(Simulado simulado) {
+        com.studora.entity.SimuladoResultado resultado = simulado.getResultado();
+        if (resultado == null || resultado.getQuestoes() == null) return null;
+
+        SimuladoResultadoDto dto = new SimuladoResultadoDto();
+        dto.setTotalQuestoes(resultado.getQuestoes());
+        dto.setAcertos(resultado.getAcertos());
+        dto.setPercentualAcerto(resultado.getQuestoes() > 0
+                ? Math.round(resultado.getAcertos() * 1000.0 / resultado.getQuestoes()) / 10.0 : 0.0);
+        dto.setTempoTotalSegundos(resultado.getTempoTotalSegundos());
+        dto.setTempoMedioSegundos(resultado.getTempoMedioSegundos());
+        dto.setPorDisciplina(simulado.getResultadoPorDisciplina().stream().map(d -> {
+            DisciplinaResultadoDto disciplina = new DisciplinaResultadoDto();
+            disciplina.setId(d.getDisciplinaId());
+            disciplina.setNome(d.getDisciplinaNome());
+            disciplina.setQuestoes(d.getQuestoes());
+            disciplina.setAcertos(d.getAcertos());
+            disciplina.setTempoMedioSegundos(d.getTempoMedioSegundos());
+            return disciplina;
+        }).toList());
+        Map<String, DificuldadeResultadoDto> porDificuldade = new LinkedHashMap<>();
+        for (com.studora.entity.SimuladoResultadoDificuldade d : simulado.getResultadoPorDificuldade()) {
+            porDificuldade.put(d.getDificuldade().name(), new DificuldadeResultadoDto(d.getQuestoes(), d.getAcertos()));
+        }
+        dto.setPorDificuldade(porDificuldade);
+        return dto;
+    }
+
     private void enrichSimuladoDto(Simulado simulado, Object dtoObj) {
-        if (simulado.getBancaId() != null) {
-            bancaRepository.findById(simulado.getBancaId())
-                .ifPresent(b -> setBanca(dtoObj, bancaMapper.toSummaryDto(b)));
+        enrichSimuladoDto(simulado, dtoObj, loadReferences(List.of(simulado)));
+    }
+
+    private void enrichSimuladoDto(Simulado simulado, Object dtoObj, References refs) {
+        if (simulado.getBancaId() != null && refs.bancas().containsKey(simulado.getBancaId())) {
+            setBanca(dtoObj, bancaMapper.toSummaryDto(refs.bancas().get(simulado.getBancaId())));
         }
-        if (simulado.getCargoId() != null) {
-            cargoRepository.findById(simulado.getCargoId())
-                .ifPresent(c -> setCargo(dtoObj, cargoMapper.toSummaryDto(c)));
+        if (simulado.getCargoId() != null && refs.cargos().containsKey(simulado.getCargoId())) {
+            setCargo(dtoObj, cargoMapper.toSummaryDto(refs.cargos().get(simulado.getCargoId())));
         }
         
-        setDisciplinas(dtoObj, mapDisciplinas(simulado.getDisciplinas()));
-        setTemas(dtoObj, mapTemas(simulado.getTemas()));
-        setSubtemas(dtoObj, mapSubtemas(simulado.getSubtemas()));
+        setDisciplinas(dtoObj, mapDisciplinas(simulado.getDisciplinas(), refs.disciplinas()));
+        setTemas(dtoObj, mapTemas(simulado.getTemas(), refs.temas()));
+        setSubtemas(dtoObj, mapSubtemas(simulado.getSubtemas(), refs.subtemas()));
+    }
+
+    /** Bancas, cargos and taxonomy referenced by the simulados, keyed by id. */
+    private record References(Map<Long, com.studora.entity.Banca> bancas,
+                              Map<Long, com.studora.entity.Cargo> cargos,
+                              Map<Long, com.studora.entity.Disciplina> disciplinas,
+                              Map<Long, com.studora.entity.Tema> temas,
+                              Map<Long, com.studora.entity.Subtema> subtemas) {}
+
+    /** One query per entity type for all the simulados, rather than five per simulado. */
+    private References loadReferences(List<Simulado> simulados) {
+        Set<Long> bancaIds = new HashSet<>();
+        Set<Long> cargoIds = new HashSet<>();
+        Set<Long> disciplinaIds = new HashSet<>();
+        Set<Long> temaIds = new HashSet<>();
+        Set<Long> subtemaIds = new HashSet<>();
+        for (Simulado simulado : simulados) {
+            if (simulado.getBancaId() != null) bancaIds.add(simulado.getBancaId());
+            if (simulado.getCargoId() != null) cargoIds.add(simulado.getCargoId());
+            collectItemIds(simulado.getDisciplinas(), disciplinaIds);
+            collectItemIds(simulado.getTemas(), temaIds);
+            collectItemIds(simulado.getSubtemas(), subtemaIds);
+        }
+
+        return new References(
+                bancaIds.isEmpty() ? Map.of() : bancaRepository.findAllById(bancaIds).stream()
+                        .collect(Collectors.toMap(com.studora.entity.Banca::getId, b -> b)),
+                cargoIds.isEmpty() ? Map.of() : cargoRepository.findAllById(cargoIds).stream()
+                        .collect(Collectors.toMap(com.studora.entity.Cargo::getId, c -> c)),
+                disciplinaIds.isEmpty() ? Map.of() : disciplinaRepository.findAllById(disciplinaIds).stream()
+                        .collect(Collectors.toMap(com.studora.entity.Disciplina::getId, d -> d)),
+                temaIds.isEmpty() ? Map.of() : temaRepository.findAllByIdWithDisciplina(List.copyOf(temaIds)).stream()
+                        .collect(Collectors.toMap(com.studora.entity.Tema::getId, t -> t)),
+                subtemaIds.isEmpty() ? Map.of() : subtemaRepository.findAllByIdWithTemaAndDisciplina(List.copyOf(subtemaIds)).stream()
+                        .collect(Collectors.toMap(com.studora.entity.Subtema::getId, s -> s)));
+    }
+
+    private void collectItemIds(List<com.studora.entity.SimuladoItemSelection> selections, Set<Long> ids) {
+        if (selections == null) return;
+        selections.forEach(s -> ids.add(s.getItemId()));
     }
 
     private void setBanca(Object dto, com.studora.dto.banca.BancaSummaryDto value) {
@@ -305,29 +515,24 @@ public class SimuladoService {
         else if (dto instanceof SimuladoDetailDto d) d.setSubtemas(value);
     }
 
-    private List<com.studora.dto.simulado.DisciplinaSimuladoDto> mapDisciplinas(List<com.studora.entity.SimuladoItemSelection> selections) {
+    private List<com.studora.dto.simulado.DisciplinaSimuladoDto> mapDisciplinas(List<com.studora.entity.SimuladoItemSelection> selections,
+                                                                                 Map<Long, com.studora.entity.Disciplina> disciplinaMap) {
         if (selections == null) return List.of();
 
-        List<Long> ids = selections.stream().map(com.studora.entity.SimuladoItemSelection::getItemId).toList();
-        Map<Long, String> nomeMap = disciplinaRepository.findAllById(ids).stream()
-                .collect(Collectors.toMap(com.studora.entity.Disciplina::getId, com.studora.entity.Disciplina::getNome));
-
         return selections.stream().map(s -> {
             var dto = new com.studora.dto.simulado.DisciplinaSimuladoDto();
             dto.setId(s.getItemId());
             dto.setQuantidade(s.getQuantidade());
-            dto.setNome(nomeMap.get(s.getItemId()));
+            com.studora.entity.Disciplina disciplina = disciplinaMap.get(s.getItemId());
+            dto.setNome(disciplina != null ? disciplina.getNome() : null);
             return dto;
         }).collect(Collectors.toList());
     }
 
-    private List<com.studora.dto.simulado.TemaSimuladoDto> mapTemas(List<com.studora.entity.SimuladoItemSelection> selections) {
+    private List<com.studora.dto.simulado.TemaSimuladoDto> mapTemas(List<com.studora.entity.SimuladoItemSelection> selections,
+                                                                     Map<Long, com.studora.entity.Tema> temaMap) {
         if (selections == null) return List.of();
 
-        List<Long> ids = selections.stream().map(com.studora.entity.SimuladoItemSelection::getItemId).toList();
-        Map<Long, com.studora.entity.Tema> temaMap = temaRepository.findAllByIdWithDisciplina(ids).stream()
-                .collect(Collectors.toMap(com.studora.entity.Tema::getId, t -> t));
-
         return selections.stream().map(s -> {
             var dto = new com.studora.dto.simulado.TemaSimuladoDto();
             dto.setId(s.getItemId());
@@ -346,13 +551,10 @@ public class SimuladoService {
         }).collect(Collectors.toList());
     }
 
-    private List<com.studora.dto.simulado.SubtemaSimuladoDto> mapSubtemas(List<com.studora.entity.SimuladoItemSelection> selections) {
+    private List<com.studora.dto.simulado.SubtemaSimuladoDto> mapSubtemas(List<com.studora.entity.SimuladoItemSelection> selections,
+                                                                           Map<Long, com.studora.entity.Subtema> subtemaMap) {
         if (selections == null) return List.of();
 
-        List<Long> ids = selections.stream().map(com.studora.entity.SimuladoItemSelection::getItemId).toList();
-        Map<Long, com.studora.entity.Subtema> subtemaMap = subtemaRepository.findAllByIdWithTemaAndDisciplina(ids).stream()
-                .collect(Collectors.toMap(com.studora.entity.Subtema::getId, s -> s));
-
         return selections.stream().map(s -> {
             var dto = new com.studora.dto.simulado.SubtemaSimuladoDto();
             dto.setId(s.getItemId());
@@ -11,14 +11,28 @@ import com.studora.repository.InstituicaoRepository;
 import com.studora.repository.QuestaoRepository;
 import com.studora.repository.RespostaRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Questão stats of disciplinas, temas, subtemas, bancas, instituições, cargos and concurso tópicos.
+ * <p>
+ * Within one HTTP request, stats already built for a (scope type, scope id, metrics) are reused, so
+ * a subtree that appears several times in a response is only computed once. The memo is a request
+ * attribute, so it ends with the request, and is only used by read-only transactions: a transaction
+ * that writes may see its own changes, which must not be served to the rest of the request.
+ */
 @Component
 public class StatsAssembler {
 
+    private static final String MEMO_ATTRIBUTE = StatsAssembler.class.getName() + ".memo";
+
     private final QuestaoRepository questaoRepository;
     private final RespostaRepository respostaRepository;
     private final BancaRepository bancaRepository;
@@ -37,184 +51,246 @@ public class StatsAssembler {
 
     public QuestaoStatsDto buildStats(Long scopeId, String scopeType, MetricsLevel metrics) {
         if (metrics == null) return null;
-        
-        QuestaoStatsDto stats = new QuestaoStatsDto();
+        return buildStatsBatch(List.of(scopeId), scopeType, metrics).get(scopeId);
+    }
+
+    /**
+     * Builds stats for several scopes of the same type at once. The total slice and the autoral
+     * slice are computed with one grouped query per dimension for all ids, so the number of
+     * round-trips does not grow with the number of ids. So are the FULL breakdowns.
+     */
+    public Map<Long, QuestaoStatsDto> buildStatsBatch(Collection<Long> scopeIds, String scopeType, MetricsLevel metrics) {
+        if (metrics == null || scopeIds == null || scopeIds.isEmpty()) return Map.of();
+        return memoized(scopeType, metrics, scopeIds, ids -> computeStatsBatch(ids, scopeType, metrics));
+    }
+
+    private Map<Long, QuestaoStatsDto> computeStatsBatch(List<Long> ids, String scopeType, MetricsLevel metrics) {
         boolean isFull = metrics == MetricsLevel.FULL;
-        
+        boolean isTaxonomy = scopeType.equals("DISCIPLINA") || scopeType.equals("TEMA") || scopeType.equals("SUBTEMA");
+
         // --- Total ---
-        stats.setTotal(fetchTotalStats(scopeId, scopeType));
+        Map<Long, StatSliceDto> totals = fetchTotalStats(ids, scopeType);
 
         // --- Autoral breakdown for taxonomy scopes (only when FULL) ---
-        if (isFull && (scopeType.equals("DISCIPLINA") || scopeType.equals("TEMA") || scopeType.equals("SUBTEMA"))) {
-            Long autoralCount = fetchAutoralCount(scopeId, scopeType);
-            if (autoralCount != null && autoralCount > 0) {
-                StatSliceDto autoralSlice = new StatSliceDto();
-                autoralSlice.setTotalQuestoes(autoralCount);
-
-                List<Object[]> autoralResp = fetchAutoralRespondidas(scopeId, scopeType);
-                List<Object[]> autoralAcert = fetchAutoralAcertadas(scopeId, scopeType);
-                if (!autoralResp.isEmpty()) {
-                    long acertadas = 0;
-                    if (!autoralAcert.isEmpty()) acertadas = ((Number) autoralAcert.get(0)[1]).longValue();
-                    autoralSlice.setRespondidas(((Number) autoralResp.get(0)[1]).longValue());
-                    autoralSlice.setAcertadas(acertadas);
-                }
+        Map<Long, StatSliceDto> autorais = Map.of();
+        if (isFull && isTaxonomy) {
+            autorais = fetchAutoralStats(ids, scopeType);
+        }
 
-                List<Object[]> autoralTempo = fetchAutoralTempo(scopeId, scopeType);
-                if (!autoralTempo.isEmpty() && autoralTempo.get(0)[1] != null) {
-                    autoralSlice.setMediaTempoResposta(((Double) autoralTempo.get(0)[1]).intValue());
-                }
+        Map<Long, QuestaoStatsDto> result = new HashMap<>();
+        for (Long scopeId : ids) {
+            QuestaoStatsDto stats = new QuestaoStatsDto();
+            stats.setTotal(totals.get(scopeId));
+            stats.setPorAutoral(autorais.get(scopeId));
+            result.put(scopeId, stats);
+        }
 
-                List<Object[]> autoralLatest = fetchAutoralLatest(scopeId, scopeType);
-                if (!autoralLatest.isEmpty()) {
-                    autoralSlice.setUltimaQuestao((java.time.LocalDateTime) autoralLatest.get(0)[1]);
-                }
+        // --- Breakdowns ---
+        if (isFull) {
+            fillBreakdowns(result, ids, scopeType);
+        }
+        return result;
+    }
 
-                List<Object[]> autoralDiff = fetchAutoralDificuldade(scopeId, scopeType);
-                if (!autoralDiff.isEmpty()) {
-                    Map<String, DificuldadeStatDto> diffMap = new HashMap<>();
-                    for (Object[] row : autoralDiff) {
-                        int dId = ((Number) row[1]).intValue();
-                        String dName = Dificuldade.fromId(dId).name();
-                        DificuldadeStatDto dDto = new DificuldadeStatDto();
-                        dDto.setTotal(((Number) row[2]).longValue());
-                        dDto.setCorretas(((Number) row[3]).longValue());
-                        diffMap.put(dName, dDto);
-                    }
-                    autoralSlice.setDificuldade(diffMap);
-                }
+    private void fillBreakdowns(Map<Long, QuestaoStatsDto> result, List<Long> ids, String scopeType) {
+        Set<String> dimensions = switch (scopeType) {
+            case "BANCA" -> Set.of("NIVEL", "AREA_INSTITUICAO", "AREA_CARGO");
+            case "INSTITUICAO" -> Set.of("NIVEL", "BANCA", "CARGO", "AREA_CARGO");
+            case "CARGO" -> Set.of("BANCA", "AREA_INSTITUICAO", "AREA_CARGO");
+            default -> Set.of("NIVEL", "BANCA", "INSTITUICAO", "AREA_INSTITUICAO", "CARGO", "AREA_CARGO");
+        };
+        Map<Long, Map<String, StatSliceDto>> porNivel = fetchBreakdown(scopeType, ids, dimensions, "NIVEL", null);
+        Map<Long, Map<Long, StatSliceDto>> porBanca = fetchBreakdown(scopeType, ids, dimensions, "BANCA", "BANCA");
+        Map<Long, Map<Long, StatSliceDto>> porInstituicao = fetchBreakdown(scopeType, ids, dimensions, "INSTITUICAO", "INSTITUICAO");
+        Map<Long, Map<String, StatSliceDto>> porAreaInstituicao = fetchBreakdown(scopeType, ids, dimensions, "AREA_INSTITUICAO", null);
+        Map<Long, Map<Long, StatSliceDto>> porCargo = fetchBreakdown(scopeType, ids, dimensions, "CARGO", "CARGO");
+        Map<Long, Map<String, StatSliceDto>> porAreaCargo = fetchBreakdown(scopeType, ids, dimensions, "AREA_CARGO", null);
+
+        for (Long scopeId : ids) {
+            QuestaoStatsDto stats = result.get(scopeId);
+            stats.setPorNivel(porNivel.get(scopeId));
+            stats.setPorBanca(porBanca.get(scopeId));
+            stats.setPorInstituicao(porInstituicao.get(scopeId));
+            stats.setPorAreaInstituicao(porAreaInstituicao.get(scopeId));
+            stats.setPorCargo(porCargo.get(scopeId));
+            stats.setPorAreaCargo(porAreaCargo.get(scopeId));
+        }
+    }
 
-                stats.setPorAutoral(autoralSlice);
+    /**
+     * One breakdown for every id, from three grouped queries. Banca, instituição and cargo names
+     * are looked up together rather than once per key. Breakdowns the scope type does not show
+     * are left out.
+     */
+    @SuppressWarnings("unchecked")
+    private <K> Map<Long, Map<K, StatSliceDto>> fetchBreakdown(String scopeType, List<Long> ids, Set<String> dimensions, String dimension, String entityType) {
+        if (!dimensions.contains(dimension)) return Map.of();
+        String level = switch (scopeType) {
+            case "DISCIPLINA" -> "disciplinaId";
+            case "TEMA" -> "temaId";
+            case "SUBTEMA" -> "subtemaId";
+            default -> null;
+        };
+        Map<Long, List<Object[]>> questoes = byScope(level != null
+                ? questaoRepository.countQuestoesByTaxonomyGroupBy(level, ids, dimension)
+                : questaoRepository.countQuestoesByReferenceGroupBy(scopeType, ids, dimension));
+        Map<Long, List<Object[]>> respostas = byScope(level != null
+                ? questaoRepository.countRespondidasAcertadasByTaxonomyGroupBy(level, ids, dimension)
+                : questaoRepository.countRespondidasAcertadasByReferenceGroupBy(scopeType, ids, dimension));
+        Map<Long, List<Object[]>> tempos = byScope(level != null
+                ? questaoRepository.avgTempoByTaxonomyGroupBy(level, ids, dimension)
+                : questaoRepository.avgTempoByReferenceGroupBy(scopeType, ids, dimension));
+
+        Map<Long, String> names = entityType != null ? entityNames(entityType, keysOf(questoes, respostas)) : Map.of();
+
+        Map<Long, Map<K, StatSliceDto>> result = new HashMap<>();
+        for (Long scopeId : ids) {
+            List<Object[]> q = questoes.getOrDefault(scopeId, List.of());
+            List<Object[]> r = respostas.getOrDefault(scopeId, List.of());
+            List<Object[]> t = tempos.getOrDefault(scopeId, List.of());
+            if (entityType == null) {
+                result.put(scopeId, assembleStats(q, r, t, true));
+            } else {
+                result.put(scopeId, (Map<K, StatSliceDto>) (Map<?, StatSliceDto>) enrichAndAssembleStatsWithEntityNames(
+                        q, r, t, id -> names.getOrDefault(id, id.toString())));
             }
         }
+        return result;
+    }
 
-        // --- Breakdowns ---
-        if (isFull) {
-            switch (scopeType) {
-                case "DISCIPLINA":
-                    stats.setPorNivel(fetchPorNivelDisciplina(scopeId));
-                    stats.setPorBanca(fetchPorBancaDisciplina(scopeId));
-                    stats.setPorInstituicao(fetchPorInstituicaoDisciplina(scopeId));
-                    stats.setPorAreaInstituicao(fetchPorAreaInstituicaoDisciplina(scopeId));
-                    stats.setPorCargo(fetchPorCargoDisciplina(scopeId));
-                    stats.setPorAreaCargo(fetchPorAreaCargoDisciplina(scopeId));
-                    break;
-                case "TEMA":
-                    stats.setPorNivel(fetchPorNivelTema(scopeId));
-                    stats.setPorBanca(fetchPorBancaTema(scopeId));
-                    stats.setPorInstituicao(fetchPorInstituicaoTema(scopeId));
-                    stats.setPorAreaInstituicao(fetchPorAreaInstituicaoTema(scopeId));
-                    stats.setPorCargo(fetchPorCargoTema(scopeId));
-                    stats.setPorAreaCargo(fetchPorAreaCargoTema(scopeId));
-                    break;
-                case "SUBTEMA":
-                    stats.setPorNivel(fetchPorNivelSubtema(scopeId));
-                    stats.setPorBanca(fetchPorBancaSubtema(scopeId));
-                    stats.setPorInstituicao(fetchPorInstituicaoSubtema(scopeId));
-                    stats.setPorAreaInstituicao(fetchPorAreaInstituicaoSubtema(scopeId));
-                    stats.setPorCargo(fetchPorCargoSubtema(scopeId));
-                    stats.setPorAreaCargo(fetchPorAreaCargoSubtema(scopeId));
-                    break;
-                case "BANCA":
-                    stats.setPorNivel(fetchPorNivelBanca(scopeId));
-                    stats.setPorAreaInstituicao(fetchPorAreaInstituicaoBanca(scopeId));
-                    stats.setPorAreaCargo(fetchPorAreaCargoBanca(scopeId));
-                    break;
-                case "INSTITUICAO":
-                    stats.setPorNivel(fetchPorNivelInstituicao(scopeId));
-                    stats.setPorBanca(fetchPorBancaInstituicao(scopeId));
-                    stats.setPorCargo(fetchPorCargoInstituicao(scopeId));
-                    stats.setPorAreaCargo(fetchPorAreaCargoInstituicao(scopeId));
-                    break;
-                case "CARGO":
-                    stats.setPorBanca(fetchPorBancaCargo(scopeId));
-                    stats.setPorAreaCargo(fetchPorAreaCargoCargo(scopeId));
-                    stats.setPorAreaInstituicao(fetchPorAreaInstituicaoCargo(scopeId));
-                    break;
-            }
+    // Rows: [scopeId, key, ...] -> [key, ...] per scope
+    private Map<Long, List<Object[]>> byScope(List<Object[]> rows) {
+        Map<Long, List<Object[]>> map = new HashMap<>();
+        for (Object[] row : rows) {
+            map.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>())
+                    .add(Arrays.copyOfRange(row, 1, row.length));
         }
-        
-        return stats;
+        return map;
     }
 
-    public Map<Long, StatSliceDto> buildBatchConcursoCargoStats(Long concursoCargoId, List<Long> subtemaIds, MetricsLevel metrics) {
-        if (metrics == null || subtemaIds == null || subtemaIds.isEmpty()) return Map.of();
+    private Set<Long> keysOf(Map<Long, List<Object[]>> questoes, Map<Long, List<Object[]>> respostas) {
+        Set<Long> keys = new HashSet<>();
+        questoes.values().forEach(rows -> rows.forEach(row -> keys.add(((Number) row[0]).longValue())));
+        respostas.values().forEach(rows -> rows.forEach(row -> keys.add(((Number) row[0]).longValue())));
+        return keys;
+    }
 
-        Map<Long, StatSliceDto> resultMap = new HashMap<>();
+    private Map<Long, String> entityNames(String entityType, Collection<Long> ids) {
+        Map<Long, String> names = new HashMap<>();
+        if (ids.isEmpty()) return names;
+        switch (entityType) {
+            case "BANCA" -> bancaRepository.findAllById(ids).forEach(b -> names.put(b.getId(), b.getNome()));
+            case "INSTITUICAO" -> instituicaoRepository.findAllById(ids).forEach(i -> names.put(i.getId(), i.getNome()));
+            case "CARGO" -> cargoRepository.findAllById(ids).forEach(c -> names.put(c.getId(), c.getNome()));
+        }
+        return names;
+    }
+
+    /**
+     * Stats of each tópico within its cargo, for every cargo of a concurso at once: the rows come
+     * back keyed by (concursoCargoId, subtemaId), so the number of queries does not depend on how
+     * many cargos or tópicos there are.
+     */
+    public Map<Long, Map<Long, StatSliceDto>> buildBatchConcursoCargoStats(Map<Long, ? extends Collection<Long>> subtemaIdsByConcursoCargo, MetricsLevel metrics) {
+        if (metrics == null || subtemaIdsByConcursoCargo == null || subtemaIdsByConcursoCargo.isEmpty()) return Map.of();
+
+        // Memoized per [concursoCargoId, subtemaId]
+        List<List<Long>> pairs = new ArrayList<>();
+        subtemaIdsByConcursoCargo.forEach((concursoCargoId, subIds) ->
+                subIds.forEach(subId -> pairs.add(List.of(concursoCargoId, subId))));
+        Map<List<Long>, StatSliceDto> slices = memoized("CONCURSO_CARGO_SUBTEMA", metrics, pairs, missing -> {
+            Map<Long, List<Long>> byConcursoCargo = new HashMap<>();
+            for (List<Long> pair : missing) {
+                byConcursoCargo.computeIfAbsent(pair.get(0), k -> new ArrayList<>()).add(pair.get(1));
+            }
+            Map<List<Long>, StatSliceDto> computed = new HashMap<>();
+            computeConcursoCargoStats(byConcursoCargo, metrics).forEach((concursoCargoId, cargo) ->
+                    cargo.forEach((subId, dto) -> computed.put(List.of(concursoCargoId, subId), dto)));
+            return computed;
+        });
+
+        Map<Long, Map<Long, StatSliceDto>> result = new HashMap<>();
+        subtemaIdsByConcursoCargo.keySet().forEach(concursoCargoId -> result.put(concursoCargoId, new HashMap<>()));
+        slices.forEach((pair, dto) -> result.get(pair.get(0)).put(pair.get(1), dto));
+        return result;
+    }
+
+    private Map<Long, Map<Long, StatSliceDto>> computeConcursoCargoStats(Map<Long, ? extends Collection<Long>> subtemaIdsByConcursoCargo, MetricsLevel metrics) {
+        Map<Long, Map<Long, StatSliceDto>> resultMap = new HashMap<>();
+        Set<Long> subtemaIds = new HashSet<>();
         boolean isFull = metrics == MetricsLevel.FULL;
 
         // Initialize all subtemas with 0 stats
-        for (Long subId : subtemaIds) {
-            StatSliceDto dto = new StatSliceDto();
-            dto.setTotalQuestoes(0L);
-            dto.setRespondidas(0L);
-            dto.setAcertadas(0L);
-            resultMap.put(subId, dto);
-        }
+        subtemaIdsByConcursoCargo.forEach((concursoCargoId, subIds) -> {
+            Map<Long, StatSliceDto> cargo = resultMap.computeIfAbsent(concursoCargoId, k -> new HashMap<>());
+            for (Long subId : subIds) {
+                StatSliceDto dto = new StatSliceDto();
+                dto.setTotalQuestoes(0L);
+                dto.setRespondidas(0L);
+                dto.setAcertadas(0L);
+                cargo.put(subId, dto);
+                subtemaIds.add(subId);
+            }
+        });
+        if (subtemaIds.isEmpty()) return resultMap;
+        Set<Long> concursoCargoIds = resultMap.keySet();
 
         // Fetch totals
-        List<Object[]> totals = questaoRepository.countQuestoesByConcursoCargoAndSubtemaIds(concursoCargoId, subtemaIds);
+        List<Object[]> totals = questaoRepository.countQuestoesByConcursoCargoIdsAndSubtemaIds(concursoCargoIds, subtemaIds);
         for (Object[] row : totals) {
-            Long subId = ((Number) row[0]).longValue();
-            Long total = ((Number) row[1]).longValue();
-            StatSliceDto dto = resultMap.get(subId);
-            if (dto != null) dto.setTotalQuestoes(total);
+            StatSliceDto dto = slice(resultMap, row);
+            if (dto != null) dto.setTotalQuestoes(((Number) row[2]).longValue());
         }
 
         // Fetch respondidas
-        List<Object[]> resp = respostaRepository.countRespondidasByConcursoCargoAndSubtemaIds(concursoCargoId, subtemaIds);
+        List<Object[]> resp = respostaRepository.countRespondidasByConcursoCargoIdsAndSubtemaIds(concursoCargoIds, subtemaIds);
         for (Object[] row : resp) {
-            Long subId = ((Number) row[0]).longValue();
-            Long respondidas = ((Number) row[1]).longValue();
-            StatSliceDto dto = resultMap.get(subId);
-            if (dto != null) dto.setRespondidas(respondidas);
+            StatSliceDto dto = slice(resultMap, row);
+            if (dto != null) dto.setRespondidas(((Number) row[2]).longValue());
         }
 
         // Fetch acertadas
-        List<Object[]> acert = respostaRepository.countAcertadasByConcursoCargoAndSubtemaIds(concursoCargoId, subtemaIds);
+        List<Object[]> acert = respostaRepository.countAcertadasByConcursoCargoIdsAndSubtemaIds(concursoCargoIds, subtemaIds);
         for (Object[] row : acert) {
-            Long subId = ((Number) row[0]).longValue();
-            Long acertadas = ((Number) row[1]).longValue();
-            StatSliceDto dto = resultMap.get(subId);
-            if (dto != null) dto.setAcertadas(acertadas);
+            StatSliceDto dto = slice(resultMap, row);
+            if (dto != null) dto.setAcertadas(((Number) row[2]).longValue());
         }
 
         if (isFull) {
             // Initialize defaults for FULL metrics
-            for (StatSliceDto dto : resultMap.values()) {
-                dto.setMediaTempoResposta(0);
-                dto.setDificuldade(new HashMap<>());
+            for (Map<Long, StatSliceDto> cargo : resultMap.values()) {
+                for (StatSliceDto dto : cargo.values()) {
+                    dto.setMediaTempoResposta(0);
+                    dto.setDificuldade(new HashMap<>());
+                }
             }
 
             // Fetch tempo
-            List<Object[]> tempo = respostaRepository.avgTempoByConcursoCargoAndSubtemaIds(concursoCargoId, subtemaIds);
+            List<Object[]> tempo = respostaRepository.avgTempoByConcursoCargoIdsAndSubtemaIds(concursoCargoIds, subtemaIds);
             for (Object[] row : tempo) {
-                Long subId = ((Number) row[0]).longValue();
-                Double avg = (Double) row[1];
-                StatSliceDto dto = resultMap.get(subId);
+                Double avg = (Double) row[2];
+                StatSliceDto dto = slice(resultMap, row);
                 if (dto != null) dto.setMediaTempoResposta(avg != null ? avg.intValue() : null);
             }
 
             // Fetch latest
-            List<Object[]> latest = respostaRepository.findLatestResponseDatesByConcursoCargoAndSubtemaIds(concursoCargoId, subtemaIds);
+            List<Object[]> latest = respostaRepository.findLatestResponseDatesByConcursoCargoIdsAndSubtemaIds(concursoCargoIds, subtemaIds);
             for (Object[] row : latest) {
-                Long subId = ((Number) row[0]).longValue();
-                Object dateObj = row[1];
-                StatSliceDto dto = resultMap.get(subId);
+                Object dateObj = row[2];
+                StatSliceDto dto = slice(resultMap, row);
                 if (dto != null && dateObj != null) {
                     dto.setUltimaQuestao(parseDate(dateObj));
                 }
             }
 
             // Fetch dificuldade
-            List<Object[]> diff = respostaRepository.getDificuldadeStatsByConcursoCargoAndSubtemaIds(concursoCargoId, subtemaIds);
+            List<Object[]> diff = respostaRepository.getDificuldadeStatsByConcursoCargoIdsAndSubtemaIds(concursoCargoIds, subtemaIds);
             for (Object[] row : diff) {
-                Long subId = ((Number) row[0]).longValue();
-                int dId = ((Number) row[1]).intValue();
-                Long dTotal = ((Number) row[2]).longValue();
-                Long dCorr = ((Number) row[3]).longValue();
+                int dId = ((Number) row[2]).intValue();
+                Long dTotal = ((Number) row[3]).longValue();
+                Long dCorr = ((Number) row[4]).longValue();
 
-                StatSliceDto dto = resultMap.get(subId);
+                StatSliceDto dto = slice(resultMap, row);
                 if (dto != null) {
                     if (dto.getDificuldade() == null) dto.setDificuldade(new HashMap<>());
                     DificuldadeStatDto dDto = new DificuldadeStatDto();
@@ -228,14 +304,59 @@ public class StatsAssembler {
         return resultMap;
     }
 
+    private record MemoKey(String scopeType, Object scopeId, MetricsLevel metrics) {}
+
+    /**
+     * Values of {@code keys} taken from the request memo when they were built before, and from
+     * one call to {@code compute} for all the others.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> Map<K, V> memoized(String scopeType, MetricsLevel metrics, Collection<K> keys, Function<List<K>, Map<K, V>> compute) {
+        List<K> distinct = keys.stream().distinct().collect(Collectors.toList());
+        Map<MemoKey, Object> memo = requestMemo();
+        if (memo == null) return compute.apply(distinct);
+
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : distinct) {
+            V known = (V) memo.get(new MemoKey(scopeType, key, metrics));
+            if (known != null) result.put(key, known);
+            else missing.add(key);
+        }
+        if (!missing.isEmpty()) {
+            compute.apply(missing).forEach((key, value) -> {
+                memo.put(new MemoKey(scopeType, key, metrics), value);
+                result.put(key, value);
+            });
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<MemoKey, Object> requestMemo() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return null;
+        Map<MemoKey, Object> memo = (Map<MemoKey, Object>) request.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            request.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    // Rows: [concursoCargoId, subtemaId, ...]; null for pairs that were not asked for
+    private StatSliceDto slice(Map<Long, Map<Long, StatSliceDto>> byConcursoCargo, Object[] row) {
+        Map<Long, StatSliceDto> cargo = byConcursoCargo.get(((Number) row[0]).longValue());
+        return cargo != null ? cargo.get(((Number) row[1]).longValue()) : null;
+    }
+
     private LocalDateTime parseDate(Object val) {
         if (val instanceof LocalDateTime) return (LocalDateTime) val;
         if (val instanceof String) return LocalDateTime.parse((String) val, java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         return null;
     }
 
-    private StatSliceDto fetchTotalStats(Long scopeId, String scopeType) {
-        List<Long> ids = List.of(scopeId);
+    private Map<Long, StatSliceDto> fetchTotalStats(List<Long> ids, String scopeType) {
         List<Object[]> totalQ;
         List<Object[]> respA;
         List<Object[]> avgT;
@@ -286,35 +407,31 @@ public class StatsAssembler {
                 diff = respostaRepository.getDificuldadeStatsByCargoIds(ids);
                 break;
             default:
-                return new StatSliceDto();
+                Map<Long, StatSliceDto> empty = new HashMap<>();
+                ids.forEach(id -> empty.put(id, new StatSliceDto()));
+                return empty;
         }
 
         Map<Long, StatSliceDto> map = assembleStats(totalQ, respA, avgT, false);
-        StatSliceDto slice = map.getOrDefault(scopeId, new StatSliceDto());
-        // Clear nome/id from total - they don't make sense at the aggregate level
-        slice.setNome(null);
-        slice.setId(null);
-
-        // Add latest response date
-        if (!latest.isEmpty()) {
-            slice.setUltimaQuestao((java.time.LocalDateTime) latest.get(0)[1]);
-        }
+        Map<Long, LocalDateTime> latestMap = toDateMap(latest);
+        Map<Long, Map<String, DificuldadeStatDto>> diffMap = toDificuldadeMap(diff);
 
-        // Add difficulty stats
-        if (!diff.isEmpty()) {
-            Map<String, DificuldadeStatDto> diffMap = new HashMap<>();
-            for (Object[] row : diff) {
-                int dId = ((Number) row[1]).intValue(); // This is COALESCE(r.dificuldade_id, 2)
-                String dName = Dificuldade.fromId(dId).name();
-                DificuldadeStatDto dDto = new DificuldadeStatDto();
-                dDto.setTotal(((Number) row[2]).longValue());
-                dDto.setCorretas(((Number) row[3]).longValue());
-                diffMap.put(dName, dDto);
-            }
-            slice.setDificuldade(diffMap);
-        }
+        Map<Long, StatSliceDto> result = new HashMap<>();
+        for (Long scopeId : ids) {
+            StatSliceDto slice = map.getOrDefault(scopeId, new StatSliceDto());
+            // Clear nome/id from total - they don't make sense at the aggregate level
+            slice.setNome(null);
+            slice.setId(null);
+
+            // Add latest response date
+            slice.setUltimaQuestao(latestMap.get(scopeId));
+
+            // Add difficulty stats
+            slice.setDificuldade(diffMap.get(scopeId));
 
-        return slice;
+            result.put(scopeId, slice);
+        }
+        return result;
     }
 
     private List<Object[]> mergeRespAcert(List<Object[]> resp, List<Object[]> acert) {
@@ -328,225 +445,102 @@ public class StatsAssembler {
         return result;
     }
 
-    private Long fetchAutoralCount(Long scopeId, String scopeType) {
-        return switch (scopeType) {
-            case "DISCIPLINA" -> questaoRepository.countAutoralQuestoesByDisciplinaId(scopeId);
-            case "TEMA" -> questaoRepository.countAutoralQuestoesByTemaId(scopeId);
-            case "SUBTEMA" -> questaoRepository.countAutoralQuestoesBySubtemaId(scopeId);
-            default -> null;
-        };
-    }
-
-    private List<Object[]> fetchAutoralRespondidas(Long scopeId, String scopeType) {
-        return switch (scopeType) {
-            case "DISCIPLINA" -> respostaRepository.countRespondidasByDisciplinaIdsAutoral(List.of(scopeId));
-            case "TEMA" -> respostaRepository.countRespondidasByTemaIdsAutoral(List.of(scopeId));
-            case "SUBTEMA" -> respostaRepository.countRespondidasBySubtemaIdsAutoral(List.of(scopeId));
+    private Map<Long, StatSliceDto> fetchAutoralStats(List<Long> ids, String scopeType) {
+        Map<Long, Long> counts = toCountMap(switch (scopeType) {
+            case "DISCIPLINA" -> questaoRepository.countAutoralQuestoesByDisciplinaIds(ids);
+            case "TEMA" -> questaoRepository.countAutoralQuestoesByTemaIds(ids);
+            case "SUBTEMA" -> questaoRepository.countAutoralQuestoesBySubtemaIds(ids);
             default -> List.of();
-        };
-    }
-
-    private List<Object[]> fetchAutoralAcertadas(Long scopeId, String scopeType) {
-        return switch (scopeType) {
-            case "DISCIPLINA" -> respostaRepository.countAcertadasByDisciplinaIdsAutoral(List.of(scopeId));
-            case "TEMA" -> respostaRepository.countAcertadasByTemaIdsAutoral(List.of(scopeId));
-            case "SUBTEMA" -> respostaRepository.countAcertadasBySubtemaIdsAutoral(List.of(scopeId));
-            default -> List.of();
-        };
-    }
-
-    private List<Object[]> fetchAutoralTempo(Long scopeId, String scopeType) {
-        return switch (scopeType) {
-            case "DISCIPLINA" -> respostaRepository.avgTempoByDisciplinaIdsAutoral(List.of(scopeId));
-            case "TEMA" -> respostaRepository.avgTempoByTemaIdsAutoral(List.of(scopeId));
-            case "SUBTEMA" -> respostaRepository.avgTempoBySubtemaIdsAutoral(List.of(scopeId));
-            default -> List.of();
-        };
-    }
-
-    private List<Object[]> fetchAutoralLatest(Long scopeId, String scopeType) {
-        return switch (scopeType) {
-            case "DISCIPLINA" -> respostaRepository.findLatestResponseDatesByDisciplinaIdsAutoral(List.of(scopeId));
-            case "TEMA" -> respostaRepository.findLatestResponseDatesByTemaIdsAutoral(List.of(scopeId));
-            case "SUBTEMA" -> respostaRepository.findLatestResponseDatesBySubtemaIdsAutoral(List.of(scopeId));
-            default -> List.of();
-        };
-    }
+        });
 
-    private List<Object[]> fetchAutoralDificuldade(Long scopeId, String scopeType) {
-        return switch (scopeType) {
-            case "DISCIPLINA" -> respostaRepository.getDificuldadeStatsByDisciplinaIdsAutoral(List.of(scopeId));
-            case "TEMA" -> respostaRepository.getDificuldadeStatsByTemaIdsAutoral(List.of(scopeId));
-            case "SUBTEMA" -> respostaRepository.getDificuldadeStatsBySubtemaIdsAutoral(List.of(scopeId));
-            default -> List.of();
-        };
-    }
+        List<Long> withAutoral = ids.stream()
+                .filter(id -> counts.getOrDefault(id, 0L) > 0)
+                .collect(Collectors.toList());
+        if (withAutoral.isEmpty()) return Map.of();
 
-    // --- Disciplina Methods ---
-    private Map<String, StatSliceDto> fetchPorNivelDisciplina(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByDisciplinaIdGroupByNivel(id),
-                respostaRepository.countRespondidasAcertadasByDisciplinaIdGroupByNivel(id),
-                respostaRepository.avgTempoByDisciplinaIdGroupByNivel(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorBancaDisciplina(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesByDisciplinaIdGroupByBanca(id),
-                respostaRepository.countRespondidasAcertadasByDisciplinaIdGroupByBanca(id),
-                respostaRepository.avgTempoByDisciplinaIdGroupByBanca(id), "BANCA");
-    }
-    private Map<Long, StatSliceDto> fetchPorInstituicaoDisciplina(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesByDisciplinaIdGroupByInstituicao(id),
-                respostaRepository.countRespondidasAcertadasByDisciplinaIdGroupByInstituicao(id),
-                respostaRepository.avgTempoByDisciplinaIdGroupByInstituicao(id), "INSTITUICAO");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaInstituicaoDisciplina(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByDisciplinaIdGroupByAreaInstituicao(id),
-                respostaRepository.countRespondidasAcertadasByDisciplinaIdGroupByAreaInstituicao(id),
-                respostaRepository.avgTempoByDisciplinaIdGroupByAreaInstituicao(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorCargoDisciplina(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesByDisciplinaIdGroupByCargo(id),
-                respostaRepository.countRespondidasAcertadasByDisciplinaIdGroupByCargo(id),
-                respostaRepository.avgTempoByDisciplinaIdGroupByCargo(id), "CARGO");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaCargoDisciplina(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByDisciplinaIdGroupByAreaCargo(id),
-                respostaRepository.countRespondidasAcertadasByDisciplinaIdGroupByAreaCargo(id),
-                respostaRepository.avgTempoByDisciplinaIdGroupByAreaCargo(id), true);
-    }
-
-    // --- Tema Methods ---
-    private Map<String, StatSliceDto> fetchPorNivelTema(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByTemaIdGroupByNivel(id),
-                respostaRepository.countRespondidasAcertadasByTemaIdGroupByNivel(id),
-                respostaRepository.avgTempoByTemaIdGroupByNivel(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorBancaTema(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesByTemaIdGroupByBanca(id),
-                respostaRepository.countRespondidasAcertadasByTemaIdGroupByBanca(id),
-                respostaRepository.avgTempoByTemaIdGroupByBanca(id), "BANCA");
-    }
-    private Map<Long, StatSliceDto> fetchPorInstituicaoTema(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesByTemaIdGroupByInstituicao(id),
-                respostaRepository.countRespondidasAcertadasByTemaIdGroupByInstituicao(id),
-                respostaRepository.avgTempoByTemaIdGroupByInstituicao(id), "INSTITUICAO");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaInstituicaoTema(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByTemaIdGroupByAreaInstituicao(id),
-                respostaRepository.countRespondidasAcertadasByTemaIdGroupByAreaInstituicao(id),
-                respostaRepository.avgTempoByTemaIdGroupByAreaInstituicao(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorCargoTema(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesByTemaIdGroupByCargo(id),
-                respostaRepository.countRespondidasAcertadasByTemaIdGroupByCargo(id),
-                respostaRepository.avgTempoByTemaIdGroupByCargo(id), "CARGO");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaCargoTema(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByTemaIdGroupByAreaCargo(id),
-                respostaRepository.countRespondidasAcertadasByTemaIdGroupByAreaCargo(id),
-                respostaRepository.avgTempoByTemaIdGroupByAreaCargo(id), true);
-    }
+        List<Object[]> resp;
+        List<Object[]> acert;
+        List<Object[]> tempo;
+        List<Object[]> latest;
+        List<Object[]> diff;
+        switch (scopeType) {
+            case "DISCIPLINA":
+                resp = respostaRepository.countRespondidasByDisciplinaIdsAutoral(withAutoral);
+                acert = respostaRepository.countAcertadasByDisciplinaIdsAutoral(withAutoral);
+                tempo = respostaRepository.avgTempoByDisciplinaIdsAutoral(withAutoral);
+                latest = respostaRepository.findLatestResponseDatesByDisciplinaIdsAutoral(withAutoral);
+                diff = respostaRepository.getDificuldadeStatsByDisciplinaIdsAutoral(withAutoral);
+                break;
+            case "TEMA":
+                resp = respostaRepository.countRespondidasByTemaIdsAutoral(withAutoral);
+                acert = respostaRepository.countAcertadasByTemaIdsAutoral(withAutoral);
+                tempo = respostaRepository.avgTempoByTemaIdsAutoral(withAutoral);
+                latest = respostaRepository.findLatestResponseDatesByTemaIdsAutoral(withAutoral);
+                diff = respostaRepository.getDificuldadeStatsByTemaIdsAutoral(withAutoral);
+                break;
+            default:
+                resp = respostaRepository.countRespondidasBySubtemaIdsAutoral(withAutoral);
+                acert = respostaRepository.countAcertadasBySubtemaIdsAutoral(withAutoral);
+                tempo = respostaRepository.avgTempoBySubtemaIdsAutoral(withAutoral);
+                latest = respostaRepository.findLatestResponseDatesBySubtemaIdsAutoral(withAutoral);
+                diff = respostaRepository.getDificuldadeStatsBySubtemaIdsAutoral(withAutoral);
+                break;
+        }
 
-    // --- Subtema Methods ---
-    private Map<String, StatSliceDto> fetchPorNivelSubtema(Long id) {
-        return assembleStats(questaoRepository.countQuestoesBySubtemaIdGroupByNivel(id),
-                respostaRepository.countRespondidasAcertadasBySubtemaIdGroupByNivel(id),
-                respostaRepository.avgTempoBySubtemaIdGroupByNivel(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorBancaSubtema(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesBySubtemaIdGroupByBanca(id),
-                respostaRepository.countRespondidasAcertadasBySubtemaIdGroupByBanca(id),
-                respostaRepository.avgTempoBySubtemaIdGroupByBanca(id), "BANCA");
-    }
-    private Map<Long, StatSliceDto> fetchPorInstituicaoSubtema(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesBySubtemaIdGroupByInstituicao(id),
-                respostaRepository.countRespondidasAcertadasBySubtemaIdGroupByInstituicao(id),
-                respostaRepository.avgTempoBySubtemaIdGroupByInstituicao(id), "INSTITUICAO");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaInstituicaoSubtema(Long id) {
-        return assembleStats(questaoRepository.countQuestoesBySubtemaIdGroupByAreaInstituicao(id),
-                respostaRepository.countRespondidasAcertadasBySubtemaIdGroupByAreaInstituicao(id),
-                respostaRepository.avgTempoBySubtemaIdGroupByAreaInstituicao(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorCargoSubtema(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(questaoRepository.countQuestoesBySubtemaIdGroupByCargo(id),
-                respostaRepository.countRespondidasAcertadasBySubtemaIdGroupByCargo(id),
-                respostaRepository.avgTempoBySubtemaIdGroupByCargo(id), "CARGO");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaCargoSubtema(Long id) {
-        return assembleStats(questaoRepository.countQuestoesBySubtemaIdGroupByAreaCargo(id),
-                respostaRepository.countRespondidasAcertadasBySubtemaIdGroupByAreaCargo(id),
-                respostaRepository.avgTempoBySubtemaIdGroupByAreaCargo(id), true);
-    }
+        Map<Long, Long> respMap = toCountMap(resp);
+        Map<Long, Long> acertMap = toCountMap(acert);
+        Map<Long, LocalDateTime> latestMap = toDateMap(latest);
+        Map<Long, Map<String, DificuldadeStatDto>> diffMap = toDificuldadeMap(diff);
+        Map<Long, Integer> tempoMap = new HashMap<>();
+        for (Object[] row : tempo) {
+            if (row[1] != null) tempoMap.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
 
-    // --- Banca Methods ---
-    private Map<String, StatSliceDto> fetchPorNivelBanca(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByBancaIdGroupByNivel(id),
-                respostaRepository.countRespondidasAcertadasByBancaIdGroupByNivel(id),
-                respostaRepository.avgTempoByBancaIdGroupByNivel(id), true);
-    }
-    private Map<String, StatSliceDto> fetchPorAreaInstituicaoBanca(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByBancaIdGroupByAreaInstituicao(id),
-                respostaRepository.countRespondidasAcertadasByBancaIdGroupByAreaInstituicao(id),
-                respostaRepository.avgTempoByBancaIdGroupByAreaInstituicao(id), true);
-    }
-    private Map<String, StatSliceDto> fetchPorAreaCargoBanca(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByBancaIdGroupByAreaCargo(id),
-                respostaRepository.countRespondidasAcertadasByBancaIdGroupByAreaCargo(id),
-                respostaRepository.avgTempoByBancaIdGroupByAreaCargo(id), true);
+        Map<Long, StatSliceDto> result = new HashMap<>();
+        for (Long scopeId : withAutoral) {
+            StatSliceDto autoralSlice = new StatSliceDto();
+            autoralSlice.setTotalQuestoes(counts.get(scopeId));
+            if (respMap.containsKey(scopeId)) {
+                autoralSlice.setRespondidas(respMap.get(scopeId));
+                autoralSlice.setAcertadas(acertMap.getOrDefault(scopeId, 0L));
+            }
+            autoralSlice.setMediaTempoResposta(tempoMap.get(scopeId));
+            autoralSlice.setUltimaQuestao(latestMap.get(scopeId));
+            autoralSlice.setDificuldade(diffMap.get(scopeId));
+            result.put(scopeId, autoralSlice);
+        }
+        return result;
     }
 
-    // --- Instituicao Methods ---
-    private Map<String, StatSliceDto> fetchPorNivelInstituicao(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByInstituicaoIdGroupByNivel(id),
-                respostaRepository.countRespondidasAcertadasByInstituicaoIdGroupByNivel(id),
-                respostaRepository.avgTempoByInstituicaoIdGroupByNivel(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorBancaInstituicao(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(
-                questaoRepository.countQuestoesByInstituicaoIdGroupByBanca(id),
-                respostaRepository.countRespondidasAcertadasByInstituicaoIdGroupByBanca(id),
-                respostaRepository.avgTempoByInstituicaoIdGroupByBanca(id),
-                "BANCA");
-    }
-    private Map<Long, StatSliceDto> fetchPorCargoInstituicao(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(
-                questaoRepository.countQuestoesByInstituicaoIdGroupByCargo(id),
-                respostaRepository.countRespondidasAcertadasByInstituicaoIdGroupByCargo(id),
-                respostaRepository.avgTempoByInstituicaoIdGroupByCargo(id),
-                "CARGO");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaCargoInstituicao(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByInstituicaoIdGroupByAreaCargo(id),
-                respostaRepository.countRespondidasAcertadasByInstituicaoIdGroupByAreaCargo(id),
-                respostaRepository.avgTempoByInstituicaoIdGroupByAreaCargo(id), true);
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> map = new HashMap<>();
+        for (Object[] row : rows) map.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        return map;
     }
 
-    // --- Cargo Methods ---
-    private Map<String, StatSliceDto> fetchPorNivelCargo(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByCargoIdGroupByNivel(id),
-                respostaRepository.countRespondidasAcertadasByCargoIdGroupByNivel(id),
-                respostaRepository.avgTempoByCargoIdGroupByNivel(id), true);
-    }
-    private Map<Long, StatSliceDto> fetchPorBancaCargo(Long id) {
-        return enrichAndAssembleStatsWithEntityNames(
-                questaoRepository.countQuestoesByCargoIdGroupByBanca(id),
-                respostaRepository.countRespondidasAcertadasByCargoIdGroupByBanca(id),
-                respostaRepository.avgTempoByCargoIdGroupByBanca(id),
-                "BANCA");
-    }
-    private Map<String, StatSliceDto> fetchPorAreaCargoCargo(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByCargoIdGroupByAreaCargo(id),
-                respostaRepository.countRespondidasAcertadasByCargoIdGroupByAreaCargo(id),
-                respostaRepository.avgTempoByCargoIdGroupByAreaCargo(id), true);
-    }
-    private Map<String, StatSliceDto> fetchPorAreaInstituicaoCargo(Long id) {
-        return assembleStats(questaoRepository.countQuestoesByCargoIdGroupByAreaInstituicao(id),
-                respostaRepository.countRespondidasAcertadasByCargoIdGroupByAreaInstituicao(id),
-                respostaRepository.avgTempoByCargoIdGroupByAreaInstituicao(id), true);
+    private Map<Long, LocalDateTime> toDateMap(List<Object[]> rows) {
+        Map<Long, LocalDateTime> map = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) map.put(((Number) row[0]).longValue(), parseDate(row[1]));
+        }
+        return map;
+    }
+
+    // Rows: [id, COALESCE(r.dificuldade_id, 2), total, corretas]
+    private Map<Long, Map<String, DificuldadeStatDto>> toDificuldadeMap(List<Object[]> rows) {
+        Map<Long, Map<String, DificuldadeStatDto>> map = new HashMap<>();
+        for (Object[] row : rows) {
+            DificuldadeStatDto dDto = new DificuldadeStatDto();
+            dDto.setTotal(((Number) row[2]).longValue());
+            dDto.setCorretas(((Number) row[3]).longValue());
+            map.computeIfAbsent(((Number) row[0]).longValue(), k -> new HashMap<>())
+                    .put(Dificuldade.fromId(((Number) row[1]).intValue()).name(), dDto);
+        }
+        return map;
     }
 
-    // --- Disciplina/Tema/Subtema porBanca, porInstituicao, porCargo methods with name enrichment ---
-    private Map<Long, StatSliceDto> enrichAndAssembleStatsWithEntityNames(List<Object[]> questoes, List<Object[]> respostas, List<Object[]> avgTempo, String entityType) {
+    // --- porBanca, porInstituicao, porCargo with name enrichment ---
+    private Map<Long, StatSliceDto> enrichAndAssembleStatsWithEntityNames(List<Object[]> questoes, List<Object[]> respostas, List<Object[]> avgTempo, Function<Long, String> names) {
         Map<Long, StatSliceDto> resultMap = new HashMap<>();
 
         for (Object[] row : questoes) {
@@ -556,7 +550,7 @@ public class StatsAssembler {
             StatSliceDto slice = resultMap.computeIfAbsent(key, k -> {
                 StatSliceDto s = new StatSliceDto();
                 s.setId(k);
-                s.setNome(getEntityName(entityType, k));
+                s.setNome(names.apply(k));
                 s.setTotalQuestoes(0L);
                 s.setRespondidas(0L);
                 s.setAcertadas(0L);
@@ -573,7 +567,7 @@ public class StatsAssembler {
             StatSliceDto slice = resultMap.computeIfAbsent(key, k -> {
                 StatSliceDto s = new StatSliceDto();
                 s.setId(k);
-                s.setNome(getEntityName(entityType, k));
+                s.setNome(names.apply(k));
                 s.setTotalQuestoes(0L);
                 return s;
             });
@@ -593,16 +587,6 @@ public class StatsAssembler {
         return resultMap;
     }
 
-    private String getEntityName(String entityType, Long id) {
-        if (id == null) return null;
-        return switch (entityType) {
-            case "BANCA" -> bancaRepository.findById(id).map(b -> b.getNome()).orElse(id.toString());
-            case "INSTITUICAO" -> instituicaoRepository.findById(id).map(i -> i.getNome()).orElse(id.toString());
-            case "CARGO" -> cargoRepository.findById(id).map(c -> c.getNome()).orElse(id.toString());
-            default -> id.toString();
-        };
-    }
-
     // Generic assembler
     private <K> Map<K, StatSliceDto> assembleStats(List<Object[]> questoes, List<Object[]> respostas, List<Object[]> avgTempo, boolean isStringKey) {
         Map<K, StatSliceDto> resultMap = new HashMap<>();
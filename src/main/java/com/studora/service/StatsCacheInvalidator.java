@@ -0,0 +1,88 @@
+package com.studora.service;
+
+import com.studora.config.BoundedCache;
+import com.studora.repository.QuestaoRepository;
+import com.studora.repository.SubtemaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * Scoped invalidation of the stats caches. Instead of clearing whole caches on every answer,
+ * only the entries that contain the affected subtemas, temas, disciplinas and bancas are dropped.
+ * <p>
+ * The affected ids are resolved immediately, but eviction runs after the surrounding transaction
+ * commits, so reads that start after the eviction see the new numbers. This only narrows the
+ * window: a read that started before the commit can still cache stale stats after the eviction,
+ * where they stay until the next write to the same subtemas or bancas or until a configured TTL expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final QuestaoRepository questaoRepository;
+    private final SubtemaRepository subtemaRepository;
+
+    /** Stats that count answers to the questão: its subtemas with their temas and disciplinas, and its banca. */
+    public void evictForQuestao(Long questaoId) {
+        Map<String, Set<Long>> affected = taxonomy(questaoRepository.findTaxonomyIdsById(questaoId));
+        affected.put("banca-stats", new HashSet<>(questaoRepository.findBancaIdsById(questaoId)));
+        evictAfterCommit(affected);
+    }
+
+    /** Same as {@link #evictForQuestao} for several questões, with one lookup for all of them. */
+    public void evictForQuestoes(Collection<Long> questaoIds) {
+        Map<String, Set<Long>> affected = taxonomy(questaoRepository.findTaxonomyIdsByIds(questaoIds));
+        affected.put("banca-stats", new HashSet<>(questaoRepository.findBancaIdsByIds(questaoIds)));
+        evictAfterCommit(affected);
+    }
+
+    /** Stats that count study sessions of the subtema: the subtema itself, its tema and its disciplina. */
+    public void evictForSubtema(Long subtemaId) {
+        evictAfterCommit(taxonomy(subtemaRepository.findTaxonomyIdsById(subtemaId)));
+    }
+
+    // Rows: [subtemaId, temaId, disciplinaId]
+    private Map<String, Set<Long>> taxonomy(List<Object[]> rows) {
+        Map<String, Set<Long>> affected = new HashMap<>();
+        Set<Long> subtemas = affected.computeIfAbsent("subtema-stats", k -> new HashSet<>());
+        Set<Long> temas = affected.computeIfAbsent("tema-stats", k -> new HashSet<>());
+        Set<Long> disciplinas = affected.computeIfAbsent("disciplina-stats", k -> new HashSet<>());
+        for (Object[] row : rows) {
+            subtemas.add(((Number) row[0]).longValue());
+            temas.add(((Number) row[1]).longValue());
+            disciplinas.add(((Number) row[2]).longValue());
+        }
+        return affected;
+    }
+
+    private void evictAfterCommit(Map<String, Set<Long>> affected) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(affected);
+                }
+            });
+        } else {
+            evict(affected);
+        }
+    }
+
+    private void evict(Map<String, Set<Long>> affected) {
+        affected.forEach((name, ids) -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof BoundedCache bounded) {
+                bounded.evictTagged(ids);
+            } else if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.studora.service;
 
 import com.studora.dto.MetricsLevel;
+import com.studora.dto.QuestaoStatsDto;
 import com.studora.dto.subtema.SubtemaDetailDto;
 import com.studora.dto.subtema.SubtemaSummaryDto;
 import com.studora.dto.request.SubtemaCreateRequest;
@@ -12,6 +13,7 @@ import com.studora.exception.ResourceNotFoundException;
 import com.studora.exception.ValidationException;
 import com.studora.mapper.SubtemaMapper;
 import com.studora.repository.QuestaoRepository;
+import com.studora.repository.RespostaAgregadoDiarioRepository;
 import com.studora.repository.SubtemaRepository;
 import com.studora.repository.TemaRepository;
 import com.studora.repository.EstudoSubtemaRepository;
@@ -46,13 +48,17 @@ public class SubtemaService {
     private final SubtemaMapper subtemaMapper;
     private final StatsAssembler statsAssembler;
     private final Executor dbStatsExecutor;
+    private final RespostaAgregadoDiarioRepository agregadoRepository;
+    private final QuestaoRandomPool questaoRandomPool;
 
     public SubtemaService(SubtemaRepository subtemaRepository, TemaRepository temaRepository,
                           QuestaoRepository questaoRepository,
                           EstudoSubtemaRepository estudoSubtemaRepository,
                           SubtemaMapper subtemaMapper,
                           StatsAssembler statsAssembler,
-                          @Qualifier("dbStatsExecutor") Executor dbStatsExecutor) {
+                          @Qualifier("dbStatsExecutor") Executor dbStatsExecutor,
+                          RespostaAgregadoDiarioRepository agregadoRepository,
+                          QuestaoRandomPool questaoRandomPool) {
         this.subtemaRepository = subtemaRepository;
         this.temaRepository = temaRepository;
         this.questaoRepository = questaoRepository;
@@ -60,6 +66,8 @@ public class SubtemaService {
         this.subtemaMapper = subtemaMapper;
         this.statsAssembler = statsAssembler;
         this.dbStatsExecutor = dbStatsExecutor;
+        this.agregadoRepository = agregadoRepository;
+        this.questaoRandomPool = questaoRandomPool;
     }
 
     @Cacheable(value = "subtema-stats", key = "T(java.util.Objects).hash('all', #nome, #temaIds, #disciplinaIds, #pageable.pageNumber, #pageable.pageSize, #pageable.sort, #metrics)")
@@ -81,10 +89,11 @@ public class SubtemaService {
 
         Map<Long, Long> counts = countsFut.join();
         Map<Long, LocalDateTime> dates = datesFut.join();
+        Map<Long, QuestaoStatsDto> stats = statsAssembler.buildStatsBatch(ids, "SUBTEMA", metrics);
 
         return page.map(subtema -> {
             SubtemaSummaryDto dto = subtemaMapper.toSummaryDto(subtema);
-            dto.setQuestaoStats(statsAssembler.buildStats(subtema.getId(), "SUBTEMA", metrics));
+            dto.setQuestaoStats(stats.get(subtema.getId()));
             dto.setTotalEstudos(counts.getOrDefault(subtema.getId(), 0L));
             dto.setUltimoEstudo(dates.get(subtema.getId()));
             return dto;
@@ -143,6 +152,12 @@ public class SubtemaService {
             }
         }
 
+        boolean temaChanged = request.getTemaId() != null && !request.getTemaId().equals(subtema.getTema().getId());
+        if (temaChanged) {
+            // Disciplina roll-up rows depend on the subtema's position in the taxonomy
+            agregadoRepository.removeSubtema(id);
+        }
+
         if (request.getTemaId() != null) {
             Tema tema = temaRepository.findById(request.getTemaId())
                     .orElseThrow(() -> new ResourceNotFoundException("Tema", "ID", request.getTemaId()));
@@ -151,6 +166,12 @@ public class SubtemaService {
 
         subtemaMapper.updateEntityFromDto(request, subtema);
         subtemaRepository.save(subtema);
+
+        if (temaChanged) {
+            agregadoRepository.addSubtema(id);
+            // Its questões now match other tema and disciplina filters
+            questaoRandomPool.invalidate();
+        }
     }
 
     @Cacheable(value = "subtema-stats", key = "T(java.lang.String).format('tema-%d-%s', #temaId, #metrics)")
@@ -174,11 +195,12 @@ public class SubtemaService {
 
         Map<Long, Long> counts = countsFut.join();
         Map<Long, LocalDateTime> dates = datesFut.join();
+        Map<Long, QuestaoStatsDto> stats = statsAssembler.buildStatsBatch(ids, "SUBTEMA", metrics);
 
         return subtemas.stream()
                 .map(subtema -> {
                     SubtemaSummaryDto dto = subtemaMapper.toSummaryDto(subtema);
-                    dto.setQuestaoStats(statsAssembler.buildStats(subtema.getId(), "SUBTEMA", metrics));
+                    dto.setQuestaoStats(stats.get(subtema.getId()));
                     dto.setTotalEstudos(counts.getOrDefault(subtema.getId(), 0L));
                     dto.setUltimoEstudo(dates.get(subtema.getId()));
                     return dto;
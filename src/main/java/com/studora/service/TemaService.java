@@ -1,6 +1,7 @@
 package com.studora.service;
 
 import com.studora.dto.MetricsLevel;
+import com.studora.dto.QuestaoStatsDto;
 import com.studora.dto.tema.TemaDetailDto;
 import com.studora.dto.tema.TemaSummaryDto;
 import com.studora.dto.request.TemaCreateRequest;
@@ -12,6 +13,7 @@ import com.studora.exception.ResourceNotFoundException;
 import com.studora.exception.ValidationException;
 import com.studora.mapper.TemaMapper;
 import com.studora.repository.DisciplinaRepository;
+import com.studora.repository.RespostaAgregadoDiarioRepository;
 import com.studora.repository.SubtemaRepository;
 import com.studora.repository.TemaRepository;
 import com.studora.repository.EstudoSubtemaRepository;
@@ -45,6 +47,8 @@ public class TemaService {
     private final TemaMapper temaMapper;
     private final SubtemaService subtemaService;
     private final StatsAssembler statsAssembler;
+    private final RespostaAgregadoDiarioRepository agregadoRepository;
+    private final QuestaoRandomPool questaoRandomPool;
 
     @Cacheable(value = "tema-stats", key = "T(java.util.Objects).hash('all', #nome, #disciplinaIds, #pageable.pageNumber, #pageable.pageSize, #pageable.sort, #metrics)")
     @Transactional(readOnly = true)
@@ -60,10 +64,11 @@ public class TemaService {
         Map<Long, LocalDateTime> dates = toDateMap(estudoSubtemaRepository.findLatestStudyDatesByTemaIds(ids));
         Map<Long, Long> totalSub = toMap(subtemaRepository.countByTemaIds(ids));
         Map<Long, Long> studSub = toMap(estudoSubtemaRepository.countDistinctStudiedSubtemasByTemaIds(ids));
+        Map<Long, QuestaoStatsDto> stats = statsAssembler.buildStatsBatch(ids, "TEMA", metrics);
 
         return page.map(tema -> {
             TemaSummaryDto dto = temaMapper.toSummaryDto(tema);
-            dto.setQuestaoStats(statsAssembler.buildStats(tema.getId(), "TEMA", metrics));
+            dto.setQuestaoStats(stats.get(tema.getId()));
             dto.setUltimoEstudo(dates.get(tema.getId()));
             dto.setTotalSubtemas(totalSub.getOrDefault(tema.getId(), 0L));
             dto.setSubtemasEstudados(studSub.getOrDefault(tema.getId(), 0L));
@@ -124,6 +129,12 @@ public class TemaService {
             }
         }
 
+        boolean disciplinaChanged = request.getDisciplinaId() != null && !request.getDisciplinaId().equals(tema.getDisciplina().getId());
+        if (disciplinaChanged) {
+            // Disciplina roll-up rows depend on the tema's position in the taxonomy
+            agregadoRepository.removeTema(id);
+        }
+
         if (request.getDisciplinaId() != null) {
             Disciplina disciplina = disciplinaRepository.findById(request.getDisciplinaId())
                     .orElseThrow(() -> new ResourceNotFoundException("Disciplina", "ID", request.getDisciplinaId()));
@@ -132,6 +143,12 @@ public class TemaService {
 
         temaMapper.updateEntityFromDto(request, tema);
         temaRepository.save(tema);
+
+        if (disciplinaChanged) {
+            agregadoRepository.addTema(id);
+            // Its questões now match another disciplina filter
+            questaoRandomPool.invalidate();
+        }
     }
 
     @Cacheable(value = "tema-stats", key = "T(java.lang.String).format('disc-%d-%s', #disciplinaId, #metrics)")
@@ -150,10 +167,11 @@ public class TemaService {
         Map<Long, LocalDateTime> dates = toDateMap(estudoSubtemaRepository.findLatestStudyDatesByTemaIds(ids));
         Map<Long, Long> totalSub = toMap(subtemaRepository.countByTemaIds(ids));
         Map<Long, Long> studSub = toMap(estudoSubtemaRepository.countDistinctStudiedSubtemasByTemaIds(ids));
+        Map<Long, QuestaoStatsDto> stats = statsAssembler.buildStatsBatch(ids, "TEMA", metrics);
 
         return temas.stream().map(tema -> {
             TemaSummaryDto dto = temaMapper.toSummaryDto(tema);
-            dto.setQuestaoStats(statsAssembler.buildStats(tema.getId(), "TEMA", metrics));
+            dto.setQuestaoStats(stats.get(tema.getId()));
             dto.setUltimoEstudo(dates.get(tema.getId()));
             dto.setTotalSubtemas(totalSub.getOrDefault(tema.getId(), 0L));
             dto.setSubtemasEstudados(studSub.getOrDefault(tema.getId(), 0L));
@@ -0,0 +1,74 @@
+package com.studora.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studora.exception.ValidationException;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opaque {@code after} token for keyset pagination: the sort it was issued for and the sort key
+ * values of the last row returned, one per order (the id tie-breaker included).
+ */
+public final class KeysetCursor {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private KeysetCursor() {}
+
+    public static String encode(Sort sort, Object lastRow) {
+        List<String> keys = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Object value = value(lastRow, order.getProperty());
+            keys.add(value == null ? null : value instanceof Enum<?> e ? e.name() : value.toString());
+        }
+        try {
+            byte[] json = JSON.writeValueAsBytes(Map.of("s", signature(sort), "k", keys));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Não foi possível gerar o cursor", e);
+        }
+    }
+
+    /** A nested property whose intermediate value is null is a null key, as in the outer-joined query. */
+    private static Object value(Object row, String property) {
+        Object value = row;
+        for (String part : property.split("\\.")) {
+            if (value == null) return null;
+            value = new BeanWrapperImpl(value).getPropertyValue(part);
+        }
+        return value;
+    }
+
+    /**
+     * Sort key values stored in the token, in sort order. Null or blank means the first page.
+     */
+    public static List<String> decode(String token, Sort sort) {
+        if (token == null || token.isBlank()) return null;
+
+        Map<String, Object> cursor;
+        try {
+            cursor = JSON.readValue(Base64.getUrlDecoder().decode(token), new TypeReference<>() {});
+        } catch (Exception e) {
+            throw new ValidationException("Cursor de paginação inválido.");
+        }
+        if (!signature(sort).equals(cursor.get("s")) || !(cursor.get("k") instanceof List<?> keys)
+                || keys.size() != sort.stream().count()) {
+            throw new ValidationException("O cursor de paginação não corresponde à ordenação informada.");
+        }
+        return keys.stream().map(key -> key == null ? null : key.toString()).toList();
+    }
+
+    private static String signature(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .reduce((a, b) -> a + "," + b)
+                .orElse("");
+    }
+}
@@ -46,12 +46,16 @@ public class PaginationUtils {
         }
 
         // 3. Ensure final deterministic tie-breaker: ID descending
-        boolean hasIdSort = orders.stream()
-                .anyMatch(order -> order.getProperty().equalsIgnoreCase("id"));
-        if (!hasIdSort) {
-            orders.add(Sort.Order.desc("id"));
-        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), withIdTieBreaker(Sort.by(orders)));
+    }
 
-        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    /**
+     * Appends ID descending unless the sort already orders by ID, so that every row has a unique
+     * position (required by keyset pagination).
+     */
+    public static Sort withIdTieBreaker(Sort sort) {
+        boolean hasIdSort = sort.stream()
+                .anyMatch(order -> order.getProperty().equalsIgnoreCase("id"));
+        return hasIdSort ? sort : sort.and(Sort.by(Sort.Order.desc("id")));
     }
 }
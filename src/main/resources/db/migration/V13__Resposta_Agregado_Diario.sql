@@ -0,0 +1,54 @@
+-- ========================================
+-- V13: Daily answer roll-up for analytics
+-- ========================================
+-- Purpose: Pre-aggregated answer counters keyed by (escopo, escopo_id, dificuldade, dia)
+-- Impact: Mastery and evolution analytics read these rows instead of the full resposta history
+--
+-- escopo = 'SUBTEMA'    -> escopo_id is the subtema id (one row per subtema of the questão)
+-- escopo = 'DISCIPLINA' -> escopo_id is the disciplina id (each resposta counted once per disciplina)
+-- escopo = 'GERAL'      -> escopo_id is always 0 (each resposta counted once)
+-- dificuldade_id = 0 means the difficulty was not informed
+
+CREATE TABLE IF NOT EXISTS resposta_agregado_diario (
+    id              INTEGER PRIMARY KEY AUTOINCREMENT,
+    escopo          VARCHAR(20) NOT NULL,
+    escopo_id       INTEGER NOT NULL,
+    dificuldade_id  INTEGER NOT NULL,
+    dia             VARCHAR(10) NOT NULL,
+    total           INTEGER NOT NULL DEFAULT 0,
+    corretas        INTEGER NOT NULL DEFAULT 0,
+    tempo_total     INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_resposta_agregado_diario
+ON resposta_agregado_diario (escopo, escopo_id, dificuldade_id, dia);
+
+-- Backfill from existing history
+INSERT INTO resposta_agregado_diario (escopo, escopo_id, dificuldade_id, dia, total, corretas, tempo_total)
+SELECT 'SUBTEMA', qs.subtema_id, COALESCE(r.dificuldade_id, 0), date(r.created_at),
+       COUNT(*), SUM(CASE WHEN a.correta = 1 THEN 1 ELSE 0 END), SUM(COALESCE(r.tempo_resposta_segundos, 0))
+FROM resposta r
+JOIN alternativa a ON a.id = r.alternativa_id
+JOIN questao_subtema qs ON qs.questao_id = r.questao_id
+GROUP BY qs.subtema_id, COALESCE(r.dificuldade_id, 0), date(r.created_at);
+
+INSERT INTO resposta_agregado_diario (escopo, escopo_id, dificuldade_id, dia, total, corretas, tempo_total)
+SELECT 'DISCIPLINA', x.disciplina_id, COALESCE(r.dificuldade_id, 0), date(r.created_at),
+       COUNT(*), SUM(CASE WHEN a.correta = 1 THEN 1 ELSE 0 END), SUM(COALESCE(r.tempo_resposta_segundos, 0))
+FROM (
+    SELECT DISTINCT r.id AS resposta_id, t.disciplina_id
+    FROM resposta r
+    JOIN questao_subtema qs ON qs.questao_id = r.questao_id
+    JOIN subtema s ON s.id = qs.subtema_id
+    JOIN tema t ON t.id = s.tema_id
+) x
+JOIN resposta r ON r.id = x.resposta_id
+JOIN alternativa a ON a.id = r.alternativa_id
+GROUP BY x.disciplina_id, COALESCE(r.dificuldade_id, 0), date(r.created_at);
+
+INSERT INTO resposta_agregado_diario (escopo, escopo_id, dificuldade_id, dia, total, corretas, tempo_total)
+SELECT 'GERAL', 0, COALESCE(r.dificuldade_id, 0), date(r.created_at),
+       COUNT(*), SUM(CASE WHEN a.correta = 1 THEN 1 ELSE 0 END), SUM(COALESCE(r.tempo_resposta_segundos, 0))
+FROM resposta r
+JOIN alternativa a ON a.id = r.alternativa_id
+GROUP BY COALESCE(r.dificuldade_id, 0), date(r.created_at);
@@ -0,0 +1,61 @@
+-- ========================================
+-- V14: Full-text search over questões
+-- ========================================
+-- Purpose: FTS5 index over questao.enunciado and the texto/justificativa of its alternativas
+-- Impact: GET /questoes?q= matches and ranks (BM25) questões without scanning the text columns
+--
+-- rowid is the questão id. unicode61 with remove_diacritics 2 folds case and accents the same
+-- way as StringUtils.normalizeForSearch, so "acao" matches "Ação".
+-- The triggers keep the index in sync with every write path, including cascading deletes.
+
+CREATE VIRTUAL TABLE IF NOT EXISTS questao_fts USING fts5(
+    enunciado,
+    alternativas,
+    tokenize = 'unicode61 remove_diacritics 2'
+);
+
+INSERT INTO questao_fts (rowid, enunciado, alternativas)
+SELECT q.id, q.enunciado,
+       COALESCE((SELECT group_concat(a.texto || ' ' || COALESCE(a.justificativa, ''), ' ')
+                   FROM alternativa a
+                  WHERE a.questao_id = q.id), '')
+FROM questao q;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_fts_insert AFTER INSERT ON questao
+BEGIN
+    INSERT INTO questao_fts (rowid, enunciado, alternativas) VALUES (new.id, new.enunciado, '');
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_fts_update AFTER UPDATE OF enunciado ON questao
+BEGIN
+    UPDATE questao_fts SET enunciado = new.enunciado WHERE rowid = new.id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_fts_delete AFTER DELETE ON questao
+BEGIN
+    DELETE FROM questao_fts WHERE rowid = old.id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_alternativa_fts_insert AFTER INSERT ON alternativa
+BEGIN
+    UPDATE questao_fts
+       SET alternativas = (SELECT group_concat(a.texto || ' ' || COALESCE(a.justificativa, ''), ' ')
+                             FROM alternativa a WHERE a.questao_id = new.questao_id)
+     WHERE rowid = new.questao_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_alternativa_fts_update AFTER UPDATE OF texto, justificativa ON alternativa
+BEGIN
+    UPDATE questao_fts
+       SET alternativas = (SELECT group_concat(a.texto || ' ' || COALESCE(a.justificativa, ''), ' ')
+                             FROM alternativa a WHERE a.questao_id = new.questao_id)
+     WHERE rowid = new.questao_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_alternativa_fts_delete AFTER DELETE ON alternativa
+BEGIN
+    UPDATE questao_fts
+       SET alternativas = COALESCE((SELECT group_concat(a.texto || ' ' || COALESCE(a.justificativa, ''), ' ')
+                                      FROM alternativa a WHERE a.questao_id = old.questao_id), '')
+     WHERE rowid = old.questao_id;
+END;
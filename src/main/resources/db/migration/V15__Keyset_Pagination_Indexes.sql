@@ -0,0 +1,12 @@
+-- ========================================
+-- V15: Keyset pagination indexes
+-- ========================================
+-- Purpose: Let cursor pages sorted by creation date seek an index instead of sorting the table
+-- Impact: GET /questoes and /simulados with ?after= cost the same on page N as on page 1
+--
+-- SQLite appends the rowid (the id) to every index entry, so these also cover the id tie-breaker.
+-- resposta already has idx_resposta_created_at.
+
+CREATE INDEX IF NOT EXISTS idx_questao_created_at ON questao (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_simulado_created_at ON simulado (created_at);
@@ -0,0 +1,64 @@
+-- ========================================
+-- V16: Denormalized questão taxonomy
+-- ========================================
+-- Purpose: One row per (questão, subtema) carrying the subtema's tema and disciplina
+-- Impact: Tema and disciplina filters, counts and roll-ups read a single covering index
+--         instead of joining questao_subtema -> subtema -> tema
+--
+-- The triggers keep the table in sync when a questão is reclassified (questao_subtema),
+-- when a subtema moves to another tema and when a tema moves to another disciplina.
+
+CREATE TABLE IF NOT EXISTS questao_taxonomia (
+    questao_id     INTEGER NOT NULL,
+    subtema_id     INTEGER NOT NULL,
+    tema_id        INTEGER NOT NULL,
+    disciplina_id  INTEGER NOT NULL,
+    PRIMARY KEY (questao_id, subtema_id)
+) WITHOUT ROWID;
+
+CREATE INDEX IF NOT EXISTS idx_questao_taxonomia_disciplina ON questao_taxonomia (disciplina_id, questao_id);
+CREATE INDEX IF NOT EXISTS idx_questao_taxonomia_tema ON questao_taxonomia (tema_id, questao_id);
+CREATE INDEX IF NOT EXISTS idx_questao_taxonomia_subtema ON questao_taxonomia (subtema_id, questao_id);
+
+INSERT OR IGNORE INTO questao_taxonomia (questao_id, subtema_id, tema_id, disciplina_id)
+SELECT qs.questao_id, qs.subtema_id, s.tema_id, t.disciplina_id
+FROM questao_subtema qs
+JOIN subtema s ON s.id = qs.subtema_id
+JOIN tema t ON t.id = s.tema_id;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_taxonomia_insert AFTER INSERT ON questao_subtema
+BEGIN
+    INSERT OR IGNORE INTO questao_taxonomia (questao_id, subtema_id, tema_id, disciplina_id)
+    SELECT new.questao_id, new.subtema_id, s.tema_id, t.disciplina_id
+    FROM subtema s JOIN tema t ON t.id = s.tema_id
+    WHERE s.id = new.subtema_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_taxonomia_update AFTER UPDATE ON questao_subtema
+BEGIN
+    DELETE FROM questao_taxonomia WHERE questao_id = old.questao_id AND subtema_id = old.subtema_id;
+    INSERT OR IGNORE INTO questao_taxonomia (questao_id, subtema_id, tema_id, disciplina_id)
+    SELECT new.questao_id, new.subtema_id, s.tema_id, t.disciplina_id
+    FROM subtema s JOIN tema t ON t.id = s.tema_id
+    WHERE s.id = new.subtema_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_taxonomia_delete AFTER DELETE ON questao_subtema
+BEGIN
+    DELETE FROM questao_taxonomia WHERE questao_id = old.questao_id AND subtema_id = old.subtema_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_taxonomia_subtema_move AFTER UPDATE OF tema_id ON subtema
+WHEN old.tema_id IS NOT new.tema_id
+BEGIN
+    UPDATE questao_taxonomia
+       SET tema_id = new.tema_id,
+           disciplina_id = (SELECT t.disciplina_id FROM tema t WHERE t.id = new.tema_id)
+     WHERE subtema_id = new.id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_taxonomia_tema_move AFTER UPDATE OF disciplina_id ON tema
+WHEN old.disciplina_id IS NOT new.disciplina_id
+BEGIN
+    UPDATE questao_taxonomia SET disciplina_id = new.disciplina_id WHERE tema_id = new.id;
+END;
@@ -0,0 +1,87 @@
+-- ========================================
+-- V17: Per-questão answer summary
+-- ========================================
+-- Purpose: Attempts, correct answers and the latest answer of each questão in one row
+-- Impact: "Answered?" and "answered recently?" checks read one row per questão instead of
+--         scanning or loading its resposta history
+--
+-- A questão without respostas has no row. The triggers keep it in sync on every write path:
+-- inserts are applied incrementally; deletes, moved respostas and a changed gabarito
+-- recompute the questão's row from its remaining respostas.
+
+CREATE TABLE IF NOT EXISTS questao_resposta_summary (
+    questao_id        INTEGER PRIMARY KEY,
+    attempts          INTEGER NOT NULL,
+    correct_count     INTEGER NOT NULL,
+    last_answered_at  TEXT NOT NULL,
+    last_correct      INTEGER NOT NULL
+) WITHOUT ROWID;
+
+CREATE INDEX IF NOT EXISTS idx_questao_resposta_summary_last ON questao_resposta_summary (last_answered_at);
+
+INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+SELECT r.questao_id, COUNT(*), SUM(CASE WHEN a.correta = 1 THEN 1 ELSE 0 END), MAX(r.created_at),
+       (SELECT COALESCE(a2.correta, 0) FROM resposta r2 JOIN alternativa a2 ON a2.id = r2.alternativa_id
+         WHERE r2.questao_id = r.questao_id ORDER BY r2.created_at DESC, r2.id DESC LIMIT 1)
+FROM resposta r
+JOIN alternativa a ON a.id = r.alternativa_id
+GROUP BY r.questao_id;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_insert AFTER INSERT ON resposta
+BEGIN
+    INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+    VALUES (new.questao_id, 1,
+            COALESCE((SELECT a.correta FROM alternativa a WHERE a.id = new.alternativa_id), 0),
+            new.created_at,
+            COALESCE((SELECT a.correta FROM alternativa a WHERE a.id = new.alternativa_id), 0))
+    ON CONFLICT (questao_id) DO UPDATE SET
+        attempts = attempts + 1,
+        correct_count = correct_count + excluded.correct_count,
+        last_correct = CASE WHEN excluded.last_answered_at >= last_answered_at THEN excluded.last_correct ELSE last_correct END,
+        last_answered_at = MAX(last_answered_at, excluded.last_answered_at);
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_delete AFTER DELETE ON resposta
+BEGIN
+    DELETE FROM questao_resposta_summary WHERE questao_id = old.questao_id;
+    INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+    SELECT r.questao_id, COUNT(*), SUM(CASE WHEN a.correta = 1 THEN 1 ELSE 0 END), MAX(r.created_at),
+           (SELECT COALESCE(a2.correta, 0) FROM resposta r2 JOIN alternativa a2 ON a2.id = r2.alternativa_id
+             WHERE r2.questao_id = r.questao_id ORDER BY r2.created_at DESC, r2.id DESC LIMIT 1)
+    FROM resposta r
+    JOIN alternativa a ON a.id = r.alternativa_id
+    WHERE r.questao_id = old.questao_id
+    GROUP BY r.questao_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_update AFTER UPDATE OF questao_id, alternativa_id, created_at ON resposta
+BEGIN
+    DELETE FROM questao_resposta_summary WHERE questao_id IN (old.questao_id, new.questao_id);
+    INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+    SELECT r.questao_id, COUNT(*), SUM(CASE WHEN a.correta = 1 THEN 1 ELSE 0 END), MAX(r.created_at),
+           (SELECT COALESCE(a2.correta, 0) FROM resposta r2 JOIN alternativa a2 ON a2.id = r2.alternativa_id
+             WHERE r2.questao_id = r.questao_id ORDER BY r2.created_at DESC, r2.id DESC LIMIT 1)
+    FROM resposta r
+    JOIN alternativa a ON a.id = r.alternativa_id
+    WHERE r.questao_id IN (old.questao_id, new.questao_id)
+    GROUP BY r.questao_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_gabarito AFTER UPDATE OF correta ON alternativa
+WHEN old.correta IS NOT new.correta
+BEGIN
+    DELETE FROM questao_resposta_summary WHERE questao_id = new.questao_id;
+    INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+    SELECT r.questao_id, COUNT(*), SUM(CASE WHEN a.correta = 1 THEN 1 ELSE 0 END), MAX(r.created_at),
+           (SELECT COALESCE(a2.correta, 0) FROM resposta r2 JOIN alternativa a2 ON a2.id = r2.alternativa_id
+             WHERE r2.questao_id = r.questao_id ORDER BY r2.created_at DESC, r2.id DESC LIMIT 1)
+    FROM resposta r
+    JOIN alternativa a ON a.id = r.alternativa_id
+    WHERE r.questao_id = new.questao_id
+    GROUP BY r.questao_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_questao_delete AFTER DELETE ON questao
+BEGIN
+    DELETE FROM questao_resposta_summary WHERE questao_id = old.id;
+END;
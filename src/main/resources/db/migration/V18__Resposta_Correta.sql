@@ -0,0 +1,73 @@
+-- ========================================
+-- V18: Denormalized correta flag on resposta
+-- ========================================
+-- Purpose: Whether the chosen alternativa was the correct one, stored with the resposta
+-- Impact: Accuracy counts aggregate resposta alone instead of joining alternativa
+--
+-- The flag reflects the gabarito at answer time. The triggers fill it for every write path
+-- (including plain SQL inserts), and questão edits that change the gabarito already delete
+-- the history. The summary from V17 now counts the stored flag, so it no longer follows
+-- later gabarito changes either.
+
+ALTER TABLE resposta ADD COLUMN correta INTEGER NOT NULL DEFAULT 0;
+
+UPDATE resposta
+   SET correta = COALESCE((SELECT a.correta FROM alternativa a WHERE a.id = resposta.alternativa_id), 0);
+
+CREATE INDEX IF NOT EXISTS idx_resposta_questao_correta ON resposta (questao_id, correta, created_at);
+
+-- Replaced below: the summary now reads resposta.correta
+DROP TRIGGER IF EXISTS trg_questao_resposta_summary_insert;
+DROP TRIGGER IF EXISTS trg_questao_resposta_summary_delete;
+DROP TRIGGER IF EXISTS trg_questao_resposta_summary_update;
+DROP TRIGGER IF EXISTS trg_questao_resposta_summary_gabarito;
+
+-- One trigger so the order is fixed: the summary counts the new resposta first, then filling
+-- correta (when the writer did not) fires the recount in trg_questao_resposta_summary_update
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_insert AFTER INSERT ON resposta
+BEGIN
+    INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+    VALUES (new.questao_id, 1, new.correta, new.created_at, new.correta)
+    ON CONFLICT (questao_id) DO UPDATE SET
+        attempts = attempts + 1,
+        correct_count = correct_count + excluded.correct_count,
+        last_correct = CASE WHEN excluded.last_answered_at >= last_answered_at THEN excluded.last_correct ELSE last_correct END,
+        last_answered_at = MAX(last_answered_at, excluded.last_answered_at);
+
+    UPDATE resposta
+       SET correta = COALESCE((SELECT a.correta FROM alternativa a WHERE a.id = new.alternativa_id), 0)
+     WHERE id = new.id
+       AND correta IS NOT COALESCE((SELECT a.correta FROM alternativa a WHERE a.id = new.alternativa_id), 0);
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_resposta_correta_update AFTER UPDATE OF alternativa_id ON resposta
+BEGIN
+    UPDATE resposta
+       SET correta = COALESCE((SELECT a.correta FROM alternativa a WHERE a.id = new.alternativa_id), 0)
+     WHERE id = new.id
+       AND correta IS NOT COALESCE((SELECT a.correta FROM alternativa a WHERE a.id = new.alternativa_id), 0);
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_delete AFTER DELETE ON resposta
+BEGIN
+    DELETE FROM questao_resposta_summary WHERE questao_id = old.questao_id;
+    INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+    SELECT r.questao_id, COUNT(*), SUM(r.correta), MAX(r.created_at),
+           (SELECT r2.correta FROM resposta r2 WHERE r2.questao_id = r.questao_id
+             ORDER BY r2.created_at DESC, r2.id DESC LIMIT 1)
+    FROM resposta r
+    WHERE r.questao_id = old.questao_id
+    GROUP BY r.questao_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questao_resposta_summary_update AFTER UPDATE OF questao_id, correta, created_at ON resposta
+BEGIN
+    DELETE FROM questao_resposta_summary WHERE questao_id IN (old.questao_id, new.questao_id);
+    INSERT INTO questao_resposta_summary (questao_id, attempts, correct_count, last_answered_at, last_correct)
+    SELECT r.questao_id, COUNT(*), SUM(r.correta), MAX(r.created_at),
+           (SELECT r2.correta FROM resposta r2 WHERE r2.questao_id = r.questao_id
+             ORDER BY r2.created_at DESC, r2.id DESC LIMIT 1)
+    FROM resposta r
+    WHERE r.questao_id IN (old.questao_id, new.questao_id)
+    GROUP BY r.questao_id;
+END;
@@ -0,0 +1,65 @@
+-- ========================================
+-- V19: Result summary stored when a simulado is finished
+-- ========================================
+-- Purpose: Score, time and breakdowns of a finished simulado, computed once at finalization
+-- Impact: Viewing a finished simulado reads these rows instead of aggregating its respostas
+--
+-- Every figure counts the last resposta given to each questão within the simulado.
+-- Disciplina names are copied so the result reads as it was when the simulado ended.
+
+ALTER TABLE simulado ADD COLUMN resultado_questoes INTEGER;
+ALTER TABLE simulado ADD COLUMN resultado_acertos INTEGER;
+ALTER TABLE simulado ADD COLUMN resultado_tempo_total_segundos INTEGER;
+ALTER TABLE simulado ADD COLUMN resultado_tempo_medio_segundos INTEGER;
+
+CREATE TABLE IF NOT EXISTS simulado_resultado_disciplina (
+    simulado_id          INTEGER NOT NULL,
+    disciplina_id        INTEGER NOT NULL,
+    disciplina_nome      TEXT NOT NULL,
+    questoes             INTEGER NOT NULL,
+    acertos              INTEGER NOT NULL,
+    tempo_medio_segundos INTEGER,
+    FOREIGN KEY (simulado_id) REFERENCES simulado(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_simulado_resultado_disciplina ON simulado_resultado_disciplina (simulado_id);
+
+CREATE TABLE IF NOT EXISTS simulado_resultado_dificuldade (
+    simulado_id    INTEGER NOT NULL,
+    dificuldade_id INTEGER NOT NULL,
+    questoes       INTEGER NOT NULL,
+    acertos        INTEGER NOT NULL,
+    FOREIGN KEY (simulado_id) REFERENCES simulado(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_simulado_resultado_dificuldade ON simulado_resultado_dificuldade (simulado_id);
+
+-- Backfill the simulados that were already finished
+CREATE TEMP TABLE simulado_ultima_resposta AS
+SELECT r.simulado_id, r.questao_id, r.correta, r.dificuldade_id, r.tempo_resposta_segundos
+FROM resposta r
+JOIN simulado s ON s.id = r.simulado_id AND s.finished_at IS NOT NULL
+JOIN simulado_questao sq ON sq.simulado_id = r.simulado_id AND sq.questao_id = r.questao_id
+WHERE r.id IN (SELECT MAX(id) FROM resposta WHERE simulado_id IS NOT NULL GROUP BY simulado_id, questao_id);
+
+UPDATE simulado
+   SET resultado_questoes = (SELECT COUNT(*) FROM simulado_ultima_resposta u WHERE u.simulado_id = simulado.id),
+       resultado_acertos = (SELECT COALESCE(SUM(u.correta), 0) FROM simulado_ultima_resposta u WHERE u.simulado_id = simulado.id),
+       resultado_tempo_total_segundos = (SELECT COALESCE(SUM(u.tempo_resposta_segundos), 0) FROM simulado_ultima_resposta u WHERE u.simulado_id = simulado.id),
+       resultado_tempo_medio_segundos = (SELECT CAST(ROUND(AVG(u.tempo_resposta_segundos)) AS INTEGER) FROM simulado_ultima_resposta u WHERE u.simulado_id = simulado.id)
+ WHERE finished_at IS NOT NULL;
+
+INSERT INTO simulado_resultado_disciplina (simulado_id, disciplina_id, disciplina_nome, questoes, acertos, tempo_medio_segundos)
+SELECT u.simulado_id, d.id, d.nome, COUNT(*), SUM(u.correta), CAST(ROUND(AVG(u.tempo_resposta_segundos)) AS INTEGER)
+FROM simulado_ultima_resposta u
+JOIN (SELECT DISTINCT questao_id, disciplina_id FROM questao_taxonomia) qt ON qt.questao_id = u.questao_id
+JOIN disciplina d ON d.id = qt.disciplina_id
+GROUP BY u.simulado_id, d.id, d.nome;
+
+INSERT INTO simulado_resultado_dificuldade (simulado_id, dificuldade_id, questoes, acertos)
+SELECT u.simulado_id, u.dificuldade_id, COUNT(*), SUM(u.correta)
+FROM simulado_ultima_resposta u
+WHERE u.dificuldade_id IS NOT NULL
+GROUP BY u.simulado_id, u.dificuldade_id;
+
+DROP TABLE simulado_ultima_resposta;
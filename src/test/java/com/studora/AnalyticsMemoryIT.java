@@ -0,0 +1,103 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.analytics.ConsistencyDto;
+import com.studora.dto.analytics.EvolutionDto;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.AnalyticsService;
+import com.studora.util.ReferenceFixture;
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks that /analytics/consistencia and /analytics/evolucao allocate in proportion to the
+ * number of buckets, not to the answer history.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DirtiesContext
+class AnalyticsMemoryIT {
+
+    private static final int RESPOSTAS = 1_000_000;
+    private static final int DIAS = 400;
+    private static final long ALLOCATION_CEILING = 32L * 1024 * 1024;
+
+    @Autowired private AnalyticsService analyticsService;
+    @Autowired private RespostaAgregadoDiarioRepository agregadoRepository;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private jakarta.persistence.EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Concurso concurso = referencias.concurso(referencias.instituicao("Inst Volume", "TI"), referencias.banca("Banca Volume"), 2023);
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina("Volume"));
+        Subtema subtema = subtemaRepository.save(new Subtema(temaRepository.save(new Tema(disciplina, "Volume")), "Volume"));
+
+        Questao questao = new Questao(concurso, "Questão volume");
+        questao.setSubtemas(new HashSet<>(List.of(subtema)));
+        questao = questaoRepository.save(questao);
+
+        Alternativa certa = referencias.alternativa(questao, "Certa", true, 1);
+        Alternativa errada = referencias.alternativa(questao, "Errada", false, 2);
+        entityManager.flush();
+
+        // Spread over DIAS days; every third answer is correct, dificuldade cycles 1..4
+        jdbcTemplate.update("""
+            INSERT INTO resposta (questao_id, alternativa_id, dificuldade_id, tempo_resposta_segundos, created_at, updated_at)
+            WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ? - 1)
+            SELECT ?, CASE WHEN n % 3 = 0 THEN ? ELSE ? END, n % 4 + 1, 30,
+                   datetime('now', 'localtime', '-' || (n % ?) || ' days'),
+                   datetime('now', 'localtime')
+            FROM seq
+            """, RESPOSTAS, questao.getId(), certa.getId(), errada.getId(), DIAS);
+        agregadoRepository.rebuild();
+    }
+
+    @Test
+    void consistenciaAllocationIsBoundedByDays() {
+        List<ConsistencyDto> series = allocationBounded(() -> analyticsService.getConsistencia(365));
+
+        assertEquals(366, series.size());
+        long answered = series.stream().mapToLong(ConsistencyDto::getTotalAnswered).sum();
+        assertTrue(answered > RESPOSTAS * 0.85 && answered <= RESPOSTAS, "answered=" + answered);
+        // The first day is partial (cut at the current time of day), the other 365 are all active
+        assertTrue(series.get(series.size() - 1).getActiveStreak() >= 365);
+    }
+
+    @Test
+    void evolucaoAllocationIsBoundedByWeeks() {
+        List<EvolutionDto> series = allocationBounded(() -> analyticsService.getEvolucao());
+
+        assertTrue(series.size() >= DIAS / 7 && series.size() <= DIAS / 7 + 2, "weeks=" + series.size());
+        series.forEach(week -> assertEquals(1.0, week.getDifficultyDistribution().values().stream()
+                .mapToDouble(Double::doubleValue).sum(), 1e-9));
+    }
+
+    private <T> T allocationBounded(Supplier<T> call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        T result = call.get();
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < ALLOCATION_CEILING, "allocated " + allocated + " bytes");
+        return result;
+    }
+}
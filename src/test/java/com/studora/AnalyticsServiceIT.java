@@ -27,6 +27,7 @@ class AnalyticsServiceIT {
 
     @Autowired private AnalyticsService analyticsService;
     @Autowired private RespostaRepository respostaRepository;
+    @Autowired private RespostaAgregadoDiarioRepository agregadoRepository;
     @Autowired private QuestaoRepository questaoRepository;
     @Autowired private AlternativaRepository alternativaRepository;
     @Autowired private DisciplinaRepository disciplinaRepository;
@@ -230,6 +231,9 @@ class AnalyticsServiceIT {
         
         jdbcTemplate.update("UPDATE resposta SET created_at = ?, updated_at = ? WHERE id = ?", 
             dateStr, dateStr, r.getId());
+
+        // Respostas are inserted behind the service layer, so backfill the analytics roll-up
+        agregadoRepository.rebuild();
         
         entityManager.flush();
         entityManager.clear();
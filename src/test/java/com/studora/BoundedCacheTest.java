@@ -0,0 +1,96 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.config.BoundedCache;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private static final Function<Object, Set<Long>> TAG_BY_IDS = value -> new HashSet<>((List<Long>) value);
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondLimit() {
+        BoundedCache cache = new BoundedCache("test", 2, null, null);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertNotNull(cache.get("a"));
+        cache.put("c", 3);
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+
+        BoundedCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.evictions());
+        assertEquals(3, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.75, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void evictTaggedDropsOnlyDependentEntries() {
+        BoundedCache cache = new BoundedCache("test", 10, null, TAG_BY_IDS);
+        cache.put("page-0", List.of(1L, 2L));
+        cache.put("page-1", List.of(3L, 4L));
+        cache.put("tema-9", List.of(2L, 5L));
+
+        cache.evictTagged(Set.of(2L));
+
+        assertNull(cache.get("page-0"));
+        assertNull(cache.get("tema-9"));
+        assertEquals(List.of(3L, 4L), cache.get("page-1").get());
+
+        cache.put("page-0", List.of(1L));
+        cache.evictTagged(Set.of(2L));
+        assertNotNull(cache.get("page-0"));
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        MutableClock clock = new MutableClock();
+        BoundedCache cache = new BoundedCache("test", 10, Duration.ofMinutes(5), null, clock);
+        cache.put("a", 1);
+
+        clock.advance(Duration.ofMinutes(4));
+        assertNotNull(cache.get("a"));
+
+        clock.advance(Duration.ofMinutes(2));
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.studora;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {"spring.cache.type=simple", "studora.cache.max-entries=50"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void reportsHitsAndMissesOfBoundedCaches() throws Exception {
+        mockMvc.perform(get("/api/v1/disciplinas").param("metrics", "SUMMARY")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/disciplinas").param("metrics", "SUMMARY")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'disciplina-stats')].maxEntries").value(50))
+                .andExpect(jsonPath("$[?(@.name == 'disciplina-stats')].misses").value(1))
+                .andExpect(jsonPath("$[?(@.name == 'disciplina-stats')].hits").value(1));
+    }
+}
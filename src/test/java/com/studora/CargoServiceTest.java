@@ -27,13 +27,16 @@ class CargoServiceTest {
     @Mock
     private com.studora.service.StatsAssembler statsAssembler;
 
+    @Mock
+    private com.studora.service.QuestaoRandomPool questaoRandomPool;
+
     private CargoService cargoService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         com.studora.mapper.CargoMapper realMapper = org.mapstruct.factory.Mappers.getMapper(com.studora.mapper.CargoMapper.class);
-        cargoService = new CargoService(cargoRepository, realMapper, concursoCargoRepository, statsAssembler);
+        cargoService = new CargoService(cargoRepository, realMapper, concursoCargoRepository, statsAssembler, questaoRandomPool);
     }
 
     @Test
@@ -68,6 +71,28 @@ class CargoServiceTest {
         verify(cargoRepository).save(any(Cargo.class));
     }
 
+    @Test
+    void testUpdate_AreaChangeInvalidatesRandomPool() {
+        Cargo cargo = new Cargo();
+        cargo.setId(1L);
+        cargo.setNome("Analista");
+        cargo.setNivel(NivelCargo.SUPERIOR);
+        cargo.setArea("TI");
+
+        when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
+        when(cargoRepository.findByNomeAndNivelAndArea(any(), any(), any())).thenReturn(Optional.empty());
+
+        com.studora.dto.request.CargoUpdateRequest sameArea = new com.studora.dto.request.CargoUpdateRequest();
+        sameArea.setArea("ti");
+        cargoService.update(1L, sameArea);
+        verify(questaoRandomPool, never()).invalidate();
+
+        com.studora.dto.request.CargoUpdateRequest request = new com.studora.dto.request.CargoUpdateRequest();
+        request.setArea("Fiscal");
+        cargoService.update(1L, request);
+        verify(questaoRandomPool).invalidate();
+    }
+
     @Test
     void testCreate_Conflict_Duplicate() {
         CargoCreateRequest request = new CargoCreateRequest();
@@ -0,0 +1,123 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.MetricsLevel;
+import com.studora.dto.concurso.ConcursoCargoSubtemaDto;
+import com.studora.dto.concurso.ConcursoCargoSummaryDto;
+import com.studora.dto.concurso.ConcursoDetailDto;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.ConcursoService;
+import com.studora.util.ReferenceFixture;
+import com.studora.util.StatementCounter;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ConcursoDetailQueryCountTest {
+
+    @Autowired private ConcursoService concursoService;
+    @Autowired private ConcursoCargoSubtemaRepository concursoCargoSubtemaRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private RespostaRepository respostaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private StatementCounter statements;
+    @Autowired private EntityManager entityManager;
+
+    private Instituicao instituicao;
+    private Banca banca;
+    private Tema tema;
+
+    @BeforeEach
+    void setUp() {
+        instituicao = referencias.instituicao("Inst Tópicos", "Fiscal");
+        banca = referencias.banca("Banca Tópicos");
+
+        tema = temaRepository.save(new Tema(disciplinaRepository.save(new Disciplina("Tópicos")), "Tópicos"));
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithCargosAndTopicos() {
+        long small = statementsFor(concursoWith(2020, 1, 1));
+        long large = statementsFor(concursoWith(2021, 3, 4));
+
+        assertEquals(small, large, "statements should not depend on the number of cargos and tópicos");
+    }
+
+    @Test
+    void sharedSubtemasKeepTheirCargoContext() {
+        Concurso concurso = concursoWith(2022, 2, 2);
+        statements.flushAndClear();
+
+        ConcursoDetailDto dto = concursoService.getConcursoDetailById(concurso.getId(), MetricsLevel.FULL);
+
+        assertEquals(2, dto.getCargos().size());
+        for (ConcursoCargoSummaryDto cargo : dto.getCargos()) {
+            assertEquals(2, cargo.getTopicos().size());
+            for (ConcursoCargoSubtemaDto topico : cargo.getTopicos()) {
+                // One questão per cargo and subtema, answered once
+                assertEquals(1L, topico.getQuestoesConcursoCargo().getTotalQuestoes());
+                assertEquals(1L, topico.getQuestoesConcursoCargo().getRespondidas());
+                assertEquals(1L, topico.getQuestoesConcursoCargo().getAcertadas());
+                // Every cargo shares the subtema, so it holds one questão per cargo
+                assertEquals(2L, topico.getQuestaoStats().getTotal().getTotalQuestoes());
+            }
+        }
+    }
+
+    private long statementsFor(Concurso concurso) {
+        return statements.count(() -> assertFalse(concursoService
+                .getConcursoDetailById(concurso.getId(), MetricsLevel.FULL).getCargos().isEmpty()));
+    }
+
+    // Every cargo covers the same subtemas; each cargo and subtema has one questão answered correctly
+    private Concurso concursoWith(int ano, int cargos, int topicos) {
+        Instituicao instituicao = entityManager.getReference(Instituicao.class, this.instituicao.getId());
+        Banca banca = entityManager.getReference(Banca.class, this.banca.getId());
+        Tema tema = entityManager.getReference(Tema.class, this.tema.getId());
+
+        Concurso concurso = referencias.concurso(instituicao, banca, ano);
+        List<Subtema> subtemas = new ArrayList<>();
+        for (int t = 0; t < topicos; t++) {
+            subtemas.add(subtemaRepository.save(new Subtema(tema, "Tópico " + ano + "." + t)));
+        }
+
+        for (int c = 0; c < cargos; c++) {
+            Cargo cargo = referencias.cargo("Cargo " + ano + "." + c, "Fiscal");
+            ConcursoCargo concursoCargo = referencias.concursoCargo(concurso, cargo);
+
+            for (Subtema subtema : subtemas) {
+                ConcursoCargoSubtema topico = new ConcursoCargoSubtema();
+                topico.setConcursoCargo(concursoCargo);
+                topico.setSubtema(subtema);
+                concursoCargoSubtemaRepository.save(topico);
+
+                Questao questao = new Questao(concurso, "Questão " + cargo.getNome() + " " + subtema.getNome());
+                questao.setSubtemas(new HashSet<>(List.of(subtema)));
+                QuestaoCargo questaoCargo = new QuestaoCargo();
+                questaoCargo.setQuestao(questao);
+                questaoCargo.setConcursoCargo(concursoCargo);
+                questao.getQuestaoCargos().add(questaoCargo);
+                questao = questaoRepository.save(questao);
+
+                Alternativa certa = referencias.alternativa(questao, "Certa", true, 1);
+                respostaRepository.save(new Resposta(questao, certa));
+            }
+        }
+        return concurso;
+    }
+}
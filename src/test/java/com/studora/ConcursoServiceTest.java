@@ -56,8 +56,10 @@ class ConcursoServiceTest {
     @Mock private com.studora.repository.QuestaoRepository questaoRepository;
     @Mock private com.studora.repository.RespostaRepository respostaRepository;
     @Mock private com.studora.repository.ConcursoCargoSubtemaRepository concursoCargoSubtemaRepository;
+    @Mock private com.studora.repository.RespostaAgregadoDiarioRepository respostaAgregadoDiarioRepository;
 
     @Mock private com.studora.service.StatsAssembler statsAssembler;
+    @Mock private com.studora.service.QuestaoRandomPool questaoRandomPool;
 
     private ConcursoService concursoService;
 
@@ -86,7 +88,9 @@ class ConcursoServiceTest {
             respostaRepository,
             concursoCargoSubtemaRepository,
             realMapper,
-            statsAssembler
+            respostaAgregadoDiarioRepository,
+            statsAssembler,
+            questaoRandomPool
         );
     }
 
@@ -228,6 +232,7 @@ class ConcursoServiceTest {
 
         assertEquals(1, existing.getConcursoCargos().size());
         assertEquals(20L, existing.getConcursoCargos().iterator().next().getCargo().getId());
+        verify(questaoRandomPool).invalidate();
     }
     
     @Test
@@ -264,6 +269,7 @@ class ConcursoServiceTest {
         
         concursoService.delete(id);
         verify(concursoRepository).deleteById(id);
+        verify(questaoRandomPool).invalidate();
     }
 
     @Test
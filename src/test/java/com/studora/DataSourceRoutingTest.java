@@ -0,0 +1,82 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Not transactional: each check opens its own transaction to see which pool it lands on.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DataSourceRoutingTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    @Test
+    void readOnlyTransactionsUseTheQueryOnlyPool() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        assertEquals(Integer.valueOf(1), readOnly.execute(status -> jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class)));
+        assertEquals(Integer.valueOf(0), readWrite.execute(status -> jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class)));
+        // Through Hibernate, which is how @Transactional(readOnly = true) services reach the database
+        assertEquals(1, ((Number) readOnly.execute(status ->
+                entityManager.createNativeQuery("PRAGMA query_only").getSingleResult())).intValue());
+
+        assertThrows(DataAccessException.class, () -> readOnly.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE banca SET nome = nome WHERE id = -1")));
+    }
+
+    @Test
+    void writesShareOneConnection() throws Exception {
+        assertEquals(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+    }
+
+    @Test
+    void rejectsWritersBeyondTheQueue() throws Exception {
+        try (HikariDataSource writer = new HikariDataSource()) {
+            writer.setJdbcUrl("jdbc:sqlite::memory:");
+            writer.setMaximumPoolSize(1);
+            writer.setConnectionTimeout(5_000);
+            DataSource queue = new DataSourceConfig().dataSource(writer, writer, 1);
+
+            try (Connection held = queue.getConnection()) {
+                held.createStatement().execute("SELECT 1");
+                CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+                    try (Connection next = queue.getConnection()) {
+                        next.createStatement().execute("SELECT 1");
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                while (writer.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0) Thread.sleep(5);
+
+                try (Connection rejected = queue.getConnection()) {
+                    assertThrows(SQLTransientConnectionException.class, () -> rejected.createStatement().execute("SELECT 1"));
+                }
+                held.close();
+                waiting.get(5, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.MetricsLevel;
+import com.studora.dto.StatSliceDto;
+import com.studora.dto.disciplina.DisciplinaDetailDto;
+import com.studora.dto.subtema.SubtemaSummaryDto;
+import com.studora.dto.tema.TemaSummaryDto;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.DisciplinaService;
+import com.studora.util.ReferenceFixture;
+import com.studora.util.StatementCounter;
+import jakarta.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DisciplinaCompletoQueryCountTest {
+
+    @Autowired private DisciplinaService disciplinaService;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private RespostaRepository respostaRepository;
+    @Autowired private EstudoSubtemaRepository estudoSubtemaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private StatementCounter statements;
+    @Autowired private EntityManager entityManager;
+
+    private Concurso concurso;
+    private ConcursoCargo concursoCargo;
+
+    @BeforeEach
+    void setUp() {
+        concurso = referencias.concurso(referencias.instituicao("Inst Completo", "Fiscal"), referencias.banca("Banca Completo"), 2024);
+        concursoCargo = referencias.concursoCargo(concurso, referencias.cargo("Analista", "Fiscal"));
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithTheTree() {
+        long small = statementsFor(disciplinaWith("Pequena", 1, 1));
+        long large = statementsFor(disciplinaWith("Grande", 4, 3));
+
+        assertEquals(small, large, "statements should not depend on the number of temas and subtemas");
+    }
+
+    @Test
+    void everyNodeGetsItsOwnStats() {
+        Disciplina disciplina = disciplinaWith("Completa", 2, 2);
+        statements.flushAndClear();
+
+        DisciplinaDetailDto dto = disciplinaService.getDisciplinaCompleto(disciplina.getId(), MetricsLevel.FULL);
+
+        assertEquals(2L, dto.getTotalTemas());
+        assertEquals(4L, dto.getTotalSubtemas());
+        assertEquals(4L, dto.getSubtemasEstudados());
+        assertEquals(4L, dto.getQuestaoStats().getTotal().getTotalQuestoes());
+        assertEquals(2, dto.getTemas().size());
+        for (TemaSummaryDto tema : dto.getTemas()) {
+            assertEquals(2L, tema.getTotalSubtemas());
+            assertEquals(2L, tema.getQuestaoStats().getTotal().getTotalQuestoes());
+            assertEquals(2L, tema.getQuestaoStats().getPorBanca().values().iterator().next().getTotalQuestoes());
+            assertEquals(2, tema.getSubtemas().size());
+            for (SubtemaSummaryDto subtema : tema.getSubtemas()) {
+                assertEquals(1L, subtema.getTotalEstudos());
+                assertNotNull(subtema.getUltimoEstudo());
+                StatSliceDto porBanca = subtema.getQuestaoStats().getPorBanca().values().iterator().next();
+                assertEquals("Banca Completo", porBanca.getNome());
+                assertEquals(1L, porBanca.getTotalQuestoes());
+                assertEquals(1L, porBanca.getRespondidas());
+                assertEquals(1L, porBanca.getAcertadas());
+                assertEquals(1L, subtema.getQuestaoStats().getPorNivel().get("SUPERIOR").getTotalQuestoes());
+                assertEquals(1L, subtema.getQuestaoStats().getPorAreaCargo().get("Fiscal").getRespondidas());
+            }
+        }
+    }
+
+    private long statementsFor(Disciplina disciplina) {
+        return statements.count(() -> assertFalse(disciplinaService
+                .getDisciplinaCompleto(disciplina.getId(), MetricsLevel.FULL).getTemas().isEmpty()));
+    }
+
+    // Every subtema has one estudo and one questão, answered correctly once
+    private Disciplina disciplinaWith(String nome, int temas, int subtemasPorTema) {
+        Concurso concurso = entityManager.getReference(Concurso.class, this.concurso.getId());
+        ConcursoCargo concursoCargo = entityManager.getReference(ConcursoCargo.class, this.concursoCargo.getId());
+
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina(nome));
+        for (int t = 0; t < temas; t++) {
+            Tema tema = temaRepository.save(new Tema(disciplina, nome + " tema " + t));
+            for (int s = 0; s < subtemasPorTema; s++) {
+                Subtema subtema = subtemaRepository.save(new Subtema(tema, nome + " subtema " + t + "." + s));
+                estudoSubtemaRepository.save(new EstudoSubtema(subtema));
+
+                Questao questao = new Questao(concurso, "Questão " + subtema.getNome());
+                questao.setSubtemas(new HashSet<>(List.of(subtema)));
+                QuestaoCargo questaoCargo = new QuestaoCargo();
+                questaoCargo.setQuestao(questao);
+                questaoCargo.setConcursoCargo(concursoCargo);
+                questao.getQuestaoCargos().add(questaoCargo);
+                questao = questaoRepository.save(questao);
+
+                Alternativa certa = referencias.alternativa(questao, "Certa", true, 1);
+                respostaRepository.save(new Resposta(questao, certa));
+            }
+        }
+        return disciplina;
+    }
+}
@@ -11,6 +11,7 @@ import com.studora.exception.ResourceNotFoundException;
 import com.studora.repository.EstudoSubtemaRepository;
 import com.studora.repository.SubtemaRepository;
 import com.studora.service.EstudoSubtemaService;
+import com.studora.service.StatsCacheInvalidator;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -31,12 +32,15 @@ class EstudoSubtemaServiceTest {
     @Mock
     private SubtemaRepository subtemaRepository;
 
+    @Mock
+    private StatsCacheInvalidator statsCacheInvalidator;
+
     private EstudoSubtemaService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new EstudoSubtemaService(estudoSubtemaRepository, subtemaRepository);
+        service = new EstudoSubtemaService(estudoSubtemaRepository, subtemaRepository, statsCacheInvalidator);
     }
 
     // ==================== markAsStudied ====================
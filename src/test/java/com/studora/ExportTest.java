@@ -0,0 +1,220 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studora.dto.questao.QuestaoFilter;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.ExportService;
+import com.studora.service.ExportService.Formato;
+import com.studora.util.ReferenceFixture;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ExportTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ExportService exportService;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private AlternativaRepository alternativaRepository;
+    @Autowired private RespostaRepository respostaRepository;
+    @Autowired private SimuladoRepository simuladoRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private Subtema subtema;
+    private final List<Questao> questoes = new ArrayList<>();
+
+    // More questões than one window of ids
+    private void seed(int total) {
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina("Exportação"));
+        subtema = subtemaRepository.save(new Subtema(temaRepository.save(new Tema(disciplina, "Exportação")), "Exportação"));
+
+        for (int i = 0; i < total; i++) {
+            Questao questao = new Questao(null, i == 0 ? "Vírgula, \"aspas\"\ne quebra" : "Questão exportada " + i);
+            questao.setAutoral(true);
+            questao.setSubtemas(new HashSet<>(List.of(subtema)));
+            questao = questaoRepository.save(questao);
+            questoes.add(questao);
+
+            Alternativa certa = referencias.alternativa(questao, "Certa", true, 1);
+            referencias.alternativa(questao, "Errada", false, 2);
+            if (i < 3) {
+                Resposta resposta = new Resposta(questao, certa);
+                resposta.setDificuldade(Dificuldade.MEDIA);
+                resposta.setTempoRespostaSegundos(30 + i);
+                respostaRepository.save(resposta);
+            }
+        }
+
+        if (total >= 3) {
+            Simulado simulado = new Simulado();
+            simulado.setNome("Simulado exportado");
+            simulado.setQuestoes(new ArrayList<>(List.of(questoes.get(2), questoes.get(0), questoes.get(1))));
+            simuladoRepository.save(simulado);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportsQuestoesInIdOrderAcrossWindows() throws Exception {
+        seed(1_100);
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setSubtemaId(subtema.getId());
+
+        List<JsonNode> rows = ndjson(out -> exportService.exportQuestoes(filter, null, Formato.NDJSON, out));
+
+        assertEquals(questoes.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(questoes.get(i).getId(), rows.get(i).get("id").asLong());
+        }
+        JsonNode primeira = rows.get(0);
+        assertEquals("Vírgula, \"aspas\"\ne quebra", primeira.get("enunciado").asText());
+        assertEquals(subtema.getId(), primeira.get("subtemaIds").get(0).asLong());
+        assertEquals(2, primeira.get("alternativas").size());
+        assertTrue(primeira.get("alternativas").get(0).get("correta").asBoolean());
+        assertEquals("Errada", primeira.get("alternativas").get(1).get("texto").asText());
+        assertTrue(primeira.get("createdAt").asText().contains("T"));
+    }
+
+    @Test
+    void sinceKeepsOnlyRecentChanges() throws Exception {
+        seed(5);
+        jdbcTemplate.update("UPDATE questao SET updated_at = '2020-01-01 00:00:00' WHERE id <> ?", questoes.get(3).getId());
+        jdbcTemplate.update("UPDATE alternativa SET updated_at = '2020-01-01 00:00:00'");
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setSubtemaId(subtema.getId());
+
+        List<JsonNode> rows = ndjson(out -> exportService.exportQuestoes(filter, LocalDateTime.of(2024, 1, 1, 0, 0), Formato.NDJSON, out));
+
+        assertEquals(1, rows.size());
+        assertEquals(questoes.get(3).getId(), rows.get(0).get("id").asLong());
+        assertTrue(ndjson(out -> exportService.exportRespostas(LocalDateTime.now().plusDays(1), Formato.NDJSON, out)).isEmpty());
+    }
+
+    @Test
+    void sinceIncludesQuestoesWhoseAlternativasChanged() throws Exception {
+        seed(3);
+        jdbcTemplate.update("UPDATE questao SET updated_at = '2020-01-01 00:00:00'");
+        jdbcTemplate.update("UPDATE alternativa SET updated_at = '2020-01-01 00:00:00'");
+        Alternativa errada = alternativaRepository.findByQuestaoIdOrderByOrdemAsc(questoes.get(1).getId()).get(1);
+        errada.setTexto("Errada, corrigida");
+        alternativaRepository.saveAndFlush(errada);
+        entityManager.clear();
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setSubtemaId(subtema.getId());
+
+        List<JsonNode> rows = ndjson(out -> exportService.exportQuestoes(filter, LocalDateTime.of(2024, 1, 1, 0, 0), Formato.NDJSON, out));
+
+        assertEquals(1, rows.size());
+        assertEquals(questoes.get(1).getId(), rows.get(0).get("id").asLong());
+        assertEquals("Errada, corrigida", rows.get(0).get("alternativas").get(1).get("texto").asText());
+    }
+
+    @Test
+    void exportsRespostasAndSimulados() throws Exception {
+        seed(5);
+
+        List<JsonNode> respostas = ndjson(out -> exportService.exportRespostas(null, Formato.NDJSON, out)).stream()
+                .filter(r -> r.get("questaoId").asLong() == questoes.get(1).getId())
+                .toList();
+        assertEquals(1, respostas.size());
+        assertTrue(respostas.get(0).get("correta").asBoolean());
+        assertEquals("MEDIA", respostas.get(0).get("dificuldade").asText());
+        assertEquals(31, respostas.get(0).get("tempoRespostaSegundos").asInt());
+        assertTrue(respostas.get(0).get("simuladoId").isNull());
+
+        JsonNode simulado = ndjson(out -> exportService.exportSimulados(null, Formato.NDJSON, out)).stream()
+                .filter(s -> s.get("nome").asText().equals("Simulado exportado"))
+                .findFirst().orElseThrow();
+        assertEquals(List.of(questoes.get(2).getId(), questoes.get(0).getId(), questoes.get(1).getId()),
+                JSON.convertValue(simulado.get("questaoIds"), JSON.getTypeFactory().constructCollectionType(List.class, Long.class)));
+    }
+
+    @Test
+    void csvQuotesCellsAndWritesListsAsJson() {
+        seed(2);
+        QuestaoFilter filter = new QuestaoFilter();
+        filter.setSubtemaId(subtema.getId());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportQuestoes(filter, null, Formato.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,concursoId,enunciado,anulada,desatualizada,autoral,imageUrl,subtemaIds,cargoIds,alternativas,createdAt,updatedAt\r\n"));
+        assertTrue(csv.contains(",\"Vírgula, \"\"aspas\"\"\ne quebra\",false,false,true,,[" + subtema.getId() + "],[],\"[{\"\"id\"\":"));
+    }
+
+    // The body is written on another thread and connection, so this runs outside the test transaction
+    // and only checks the HTTP envelope
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void streamsGzipWhenAccepted() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/export/questoes").param("subtemaId", "-1").param("format", "csv")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"questoes.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,concursoId,enunciado,"));
+        assertEquals(1, csv.lines().count());
+
+        mockMvc.perform(get("/api/v1/export/respostas").param("format", "xml"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private interface Export {
+        void to(ByteArrayOutputStream out) throws Exception;
+    }
+
+    private static List<JsonNode> ndjson(Export export) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.to(out);
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) rows.add(JSON.readTree(line));
+        }
+        return rows;
+    }
+}
@@ -26,13 +26,16 @@ class InstituicaoServiceTest {
     @Mock
     private com.studora.service.StatsAssembler statsAssembler;
 
+    @Mock
+    private com.studora.service.QuestaoRandomPool questaoRandomPool;
+
     private InstituicaoService instituicaoService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         com.studora.mapper.InstituicaoMapper realMapper = org.mapstruct.factory.Mappers.getMapper(com.studora.mapper.InstituicaoMapper.class);
-        instituicaoService = new InstituicaoService(instituicaoRepository, realMapper, concursoRepository, statsAssembler);
+        instituicaoService = new InstituicaoService(instituicaoRepository, realMapper, concursoRepository, statsAssembler, questaoRandomPool);
     }
 
     @Test
@@ -96,6 +99,23 @@ class InstituicaoServiceTest {
 
         instituicaoService.update(id, req);
         verify(instituicaoRepository).save(any(Instituicao.class));
+        verify(questaoRandomPool, never()).invalidate();
+    }
+
+    @Test
+    void testUpdate_AreaChangeInvalidatesRandomPool() {
+        Instituicao inst = new Instituicao();
+        inst.setId(1L);
+        inst.setNome("Inst");
+        inst.setArea("Fiscal");
+
+        com.studora.dto.request.InstituicaoUpdateRequest req = new com.studora.dto.request.InstituicaoUpdateRequest();
+        req.setArea("Tribunais");
+
+        when(instituicaoRepository.findById(1L)).thenReturn(Optional.of(inst));
+
+        instituicaoService.update(1L, req);
+        verify(questaoRandomPool).invalidate();
     }
 
     @Test
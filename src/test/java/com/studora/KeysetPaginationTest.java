@@ -0,0 +1,193 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.RespostaService;
+import com.studora.util.ReferenceFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class KeysetPaginationTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private RespostaService respostaService;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private AlternativaRepository alternativaRepository;
+    @Autowired private RespostaRepository respostaRepository;
+    @Autowired private SimuladoRepository simuladoRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Subtema subtema;
+
+    @BeforeEach
+    void setUp() {
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina("Cursor"));
+        subtema = subtemaRepository.save(new Subtema(temaRepository.save(new Tema(disciplina, "Cursor")), "Cursor"));
+
+        for (int i = 0; i < 5; i++) {
+            Questao questao = new Questao(null, "Questão cursor " + i);
+            questao.setAutoral(true);
+            questao.setSubtemas(new HashSet<>(List.of(subtema)));
+            questao = questaoRepository.save(questao);
+
+            Alternativa alt = new Alternativa();
+            alt.setQuestao(questao);
+            alt.setTexto("Certa");
+            alt.setCorreta(true);
+            alt.setOrdem(1);
+            alt = alternativaRepository.save(alt);
+            respostaRepository.save(new Resposta(questao, alt));
+            respostaRepository.save(new Resposta(questao, alt));
+
+            Simulado simulado = new Simulado();
+            simulado.setNome("Simulado cursor " + i);
+            simulado.setFinishedAt(i % 2 == 0 ? null : java.time.LocalDateTime.now().minusDays(i));
+            simuladoRepository.save(simulado);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorWalkMatchesOffsetOrder() throws Exception {
+        String subtemaId = subtema.getId().toString();
+        // Equal createdAt values exercise the id tie-breaker
+        assertSameOrder(() -> get("/api/v1/questoes").param("subtemaId", subtemaId).param("sort", "createdAt").param("direction", "ASC"));
+        assertSameOrder(() -> get("/api/v1/respostas"));
+        assertSameOrder(() -> get("/api/v1/respostas").param("sort", "id").param("direction", "ASC"));
+        // Unfinished simulados sort first ascending and last descending
+        assertSameOrder(() -> get("/api/v1/simulados").param("sort", "finishedAt,ASC").param("sort", "id,DESC"));
+        assertSameOrder(() -> get("/api/v1/simulados").param("sort", "finishedAt,DESC").param("sort", "id,DESC"));
+    }
+
+    @Test
+    void nestedSortKeepsAutoralQuestoes() throws Exception {
+        Instituicao instituicao = referencias.instituicao("Inst Cursor", "Fiscal");
+        Banca banca = referencias.banca("Banca Cursor");
+        Subtema subtema = entityManager.getReference(Subtema.class, this.subtema.getId());
+        for (int ano : new int[] {2022, 2020}) {
+            Questao questao = new Questao(referencias.concurso(instituicao, banca, ano), "Questão cursor " + ano);
+            questao.setSubtemas(new HashSet<>(List.of(subtema)));
+            questaoRepository.save(questao);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // The five autoral questões have no concurso, so their key is NULL
+        String subtemaId = subtema.getId().toString();
+        for (String direction : List.of("ASC", "DESC")) {
+            List<Long> cursor = assertSameOrder(() -> get("/api/v1/questoes").param("subtemaId", subtemaId)
+                    .param("sort", "concurso.ano").param("direction", direction));
+            assertEquals(7, cursor.size());
+        }
+    }
+
+    @Test
+    void cursorPagesHaveNoTotals() throws Exception {
+        mockMvc.perform(get("/api/v1/questoes").param("subtemaId", subtema.getId().toString()).param("after", "").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.pageSize").value(5))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.next").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.pageNumber").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/questoes").param("subtemaId", subtema.getId().toString()))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void laterPagesRunTheSameStatementsAsTheFirst() {
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        String next = respostaService.findAfter(sort, 2, null).getNext();
+        for (int i = 0; i < 2; i++) next = respostaService.findAfter(sort, 2, next).getNext();
+        entityManager.clear();
+
+        assertEquals(statementsFor(sort, null), statementsFor(sort, next));
+        assertEquals(1, statementsFor(sort, next), "questão and alternativa are fetched with the respostas");
+    }
+
+    @Test
+    void rejectsInvalidCursors() throws Exception {
+        mockMvc.perform(get("/api/v1/respostas").param("after", "not-a-cursor"))
+                .andExpect(status().isUnprocessableEntity());
+
+        String next = JSON.readTree(mockMvc.perform(get("/api/v1/respostas").param("after", "").param("size", "1"))
+                .andReturn().getResponse().getContentAsString()).get("next").asText();
+        mockMvc.perform(get("/api/v1/respostas").param("after", next).param("direction", "ASC"))
+                .andExpect(status().isUnprocessableEntity());
+
+        mockMvc.perform(get("/api/v1/questoes").param("q", "cursor").param("sort", "relevancia").param("after", ""))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private long statementsFor(Sort sort, String after) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        respostaService.findAfter(sort, 2, after);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> assertSameOrder(Supplier<MockHttpServletRequestBuilder> request) throws Exception {
+        List<Long> offset = ids(read(request.get().param("size", "1000")));
+
+        List<Long> cursor = new ArrayList<>();
+        String after = "";
+        while (after != null) {
+            JsonNode page = read(request.get().param("size", "2").param("after", after));
+            assertTrue(page.get("content").size() <= 2);
+            cursor.addAll(ids(page));
+            after = page.hasNonNull("next") ? page.get("next").asText() : null;
+        }
+        assertEquals(offset, cursor);
+        return cursor;
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        return JSON.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("content").forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+}
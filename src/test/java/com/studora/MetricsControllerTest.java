@@ -0,0 +1,80 @@
+package com.studora;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.studora.entity.Disciplina;
+import com.studora.entity.Tema;
+import com.studora.repository.DisciplinaRepository;
+import com.studora.repository.TemaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class MetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DisciplinaRepository disciplinaRepository;
+
+    @Autowired
+    private TemaRepository temaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long disciplinaId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina("Métricas"));
+        temaRepository.save(new Tema(disciplina, "Tema Métricas"));
+        disciplinaId = disciplina.getId();
+        // MockMvc shares the test transaction; make the requests load from the database
+        entityManager.flush();
+        entityManager.clear();
+        mockMvc.perform(delete("/metrics/handlers")).andExpect(status().isNoContent());
+    }
+
+    @Test
+    void aggregatesLatencyAndStatementsPerHandler() throws Exception {
+        mockMvc.perform(get("/api/v1/disciplinas/{id}", disciplinaId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/disciplinas/{id}", disciplinaId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/disciplinas/{id}", 999_999L)).andExpect(status().isNotFound());
+
+        String handler = "$[?(@.handler == 'DisciplinaController#getDisciplinaById')]";
+        mockMvc.perform(get("/metrics/handlers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(handler + ".requests").value(3))
+                .andExpect(jsonPath(handler + ".statements").value(hasItem(greaterThan(1))))
+                .andExpect(jsonPath(handler + ".maxStatements").value(hasItem(greaterThan(0))))
+                .andExpect(jsonPath(handler + ".entitiesLoaded").value(hasItem(greaterThan(0))))
+                .andExpect(jsonPath(handler + ".p99Ms").value(hasItem(greaterThan(0.0))));
+    }
+
+    @Test
+    void resetClearsAllHandlers() throws Exception {
+        mockMvc.perform(get("/health")).andExpect(status().isOk());
+        mockMvc.perform(delete("/metrics/handlers")).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/metrics/handlers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.handler == 'HealthController#health')]").isEmpty());
+    }
+}
@@ -58,6 +58,9 @@ class QuestaoAutoralServiceTest {
     @Mock
     private jakarta.persistence.EntityManager entityManager;
 
+    @Mock
+    private com.studora.service.QuestaoRandomPool questaoRandomPool;
+
     private Subtema subtema;
     private Concurso concurso;
     private Cargo cargo;
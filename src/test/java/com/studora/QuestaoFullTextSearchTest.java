@@ -0,0 +1,191 @@
+package com.studora;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.studora.dto.request.AlternativaCreateRequest;
+import com.studora.dto.request.AlternativaUpdateRequest;
+import com.studora.dto.request.QuestaoCreateRequest;
+import com.studora.dto.request.QuestaoUpdateRequest;
+import com.studora.entity.Disciplina;
+import com.studora.entity.Subtema;
+import com.studora.entity.Tema;
+import com.studora.repository.DisciplinaRepository;
+import com.studora.repository.SubtemaRepository;
+import com.studora.repository.TemaRepository;
+import com.studora.service.QuestaoService;
+import com.studora.util.TestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QuestaoFullTextSearchTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private QuestaoService questaoService;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Subtema penal;
+    private Subtema constitucional;
+
+    @BeforeEach
+    void setUp() {
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina("Direito Busca"));
+        Tema tema = temaRepository.save(new Tema(disciplina, "Tema Busca"));
+        penal = subtemaRepository.save(new Subtema(tema, "Ação Penal"));
+        constitucional = subtemaRepository.save(new Subtema(tema, "Remédios"));
+    }
+
+    @Test
+    void matchesIgnoringAccentsAndCaseInEnunciadoAndAlternativas() throws Exception {
+        Long enunciado = create("A AÇÃO penal pública é promovida pelo Ministério Público.", "Certo", null, penal);
+        Long justificativa = create("Sobre o inquérito policial, assinale a correta.", "Dispensável",
+                "Não é condição para a ação penal.", penal);
+        create("Questão sem relação alguma.", "Outra", null, penal);
+
+        mockMvc.perform(get("/api/v1/questoes").param("q", "acao PENAL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].id").value(contains(intValue(enunciado), intValue(justificativa))));
+    }
+
+    @Test
+    void ranksEnunciadoMatchesFirstAndCombinesWithFilters() throws Exception {
+        Long fraco = create("Assinale a alternativa correta.", "Cabe habeas corpus", null, constitucional);
+        Long forte = create("O habeas corpus protege a liberdade; habeas corpus preventivo.", "Certo", null, constitucional);
+        Long outroSubtema = create("Habeas corpus na ação penal.", "Certo", null, penal);
+
+        mockMvc.perform(get("/api/v1/questoes").param("q", "habeas corpus"))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].id").value(forte))
+                .andExpect(jsonPath("$.content[2].id").value(fraco));
+
+        mockMvc.perform(get("/api/v1/questoes").param("q", "habeas").param("subtemaId", constitucional.getId().toString()))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].id").value(contains(intValue(forte), intValue(fraco))));
+
+        // An explicit sort replaces relevance but keeps the text filter
+        mockMvc.perform(get("/api/v1/questoes").param("q", "habeas").param("sort", "id").param("direction", "ASC"))
+                .andExpect(jsonPath("$.content[*].id").value(contains(intValue(fraco), intValue(forte), intValue(outroSubtema))));
+
+        // Relevance pages are sliced after ranking
+        mockMvc.perform(get("/api/v1/questoes").param("q", "habeas corpus").param("page", "1").param("size", "2"))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[*].id").value(contains(intValue(fraco))));
+    }
+
+    @Test
+    void relevancePageReadsOnlyItsOwnIds() throws Exception {
+        // "Tributo" repeated i + 1 times: the later questões rank higher
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ids.add(create("Tributo" + " tributo".repeat(i) + ".", "Certo", null, constitucional));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/questoes").param("q", "tributo").param("page", "1").param("size", "5"))
+                .andExpect(jsonPath("$.totalElements").value(12))
+                .andExpect(jsonPath("$.content[*].id").value(contains(
+                        intValue(ids.get(6)), intValue(ids.get(5)), intValue(ids.get(4)), intValue(ids.get(3)), intValue(ids.get(2)))));
+
+        // The ranking runs in SQL with the page's LIMIT, and no query reads more rows than the page
+        assertTrue(Arrays.stream(statistics.getQueries()).anyMatch(query -> query.contains("bm25") && query.contains(" limit ")));
+        for (String query : statistics.getQueries()) {
+            assertTrue(statistics.getQueryStatistics(query).getExecutionRowCount() <= 5, query);
+        }
+    }
+
+    @Test
+    void indexFollowsUpdatesAndDeletes() throws Exception {
+        Long id = create("Mandado de segurança coletivo.", "Certo", null, constitucional);
+
+        QuestaoUpdateRequest update = new QuestaoUpdateRequest();
+        update.setEnunciado("Mandado de injunção.");
+        update.setAutoral(true);
+        update.setSubtemaIds(List.of(constitucional.getId()));
+        update.setAlternativas(List.of(updateAlt(1, "Cabe reclamação", true), updateAlt(2, "Errado", false)));
+        questaoService.update(id, update);
+
+        mockMvc.perform(get("/api/v1/questoes").param("q", "seguranca"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        mockMvc.perform(get("/api/v1/questoes").param("q", "injuncao reclamacao"))
+                .andExpect(jsonPath("$.content[*].id").value(contains(intValue(id))));
+
+        questaoService.delete(id);
+        mockMvc.perform(get("/api/v1/questoes").param("q", "injuncao"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void searchSyntaxIsNotInterpreted() throws Exception {
+        Long id = create("Prazo de 5 dias (art. 10).", "Certo", null, penal);
+
+        mockMvc.perform(get("/api/v1/questoes").param("q", "\"prazo\" OR -dias* NEAR(art"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+        mockMvc.perform(get("/api/v1/questoes").param("q", "prazo: dias (art.)"))
+                .andExpect(jsonPath("$.content[*].id").value(contains(intValue(id))));
+        mockMvc.perform(get("/api/v1/questoes").param("q", "?!"))
+                .andExpect(status().isOk());
+    }
+
+    private Long create(String enunciado, String textoCorreta, String justificativa, Subtema subtema) throws Exception {
+        AlternativaCreateRequest correta = createAlt(1, textoCorreta, true);
+        correta.setJustificativa(justificativa);
+
+        QuestaoCreateRequest request = new QuestaoCreateRequest();
+        request.setEnunciado(enunciado);
+        request.setAutoral(true);
+        request.setSubtemaIds(List.of(subtema.getId()));
+        request.setAlternativas(List.of(correta, createAlt(2, "Errado", false)));
+
+        String body = mockMvc.perform(post("/api/v1/questoes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return new com.fasterxml.jackson.databind.ObjectMapper().readTree(body).get("id").asLong();
+    }
+
+    private static AlternativaCreateRequest createAlt(int ordem, String texto, boolean correta) {
+        AlternativaCreateRequest alt = new AlternativaCreateRequest();
+        alt.setOrdem(ordem);
+        alt.setTexto(texto);
+        alt.setCorreta(correta);
+        return alt;
+    }
+
+    private static AlternativaUpdateRequest updateAlt(int ordem, String texto, boolean correta) {
+        AlternativaUpdateRequest alt = new AlternativaUpdateRequest();
+        alt.setOrdem(ordem);
+        alt.setTexto(texto);
+        alt.setCorreta(correta);
+        return alt;
+    }
+
+    private static int intValue(Long id) {
+        return id.intValue();
+    }
+}
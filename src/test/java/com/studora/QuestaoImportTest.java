@@ -0,0 +1,164 @@
+package com.studora;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.studora.entity.*;
+import com.studora.repository.*;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QuestaoImportTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private ConcursoRepository concursoRepository;
+    @Autowired private InstituicaoRepository instituicaoRepository;
+    @Autowired private BancaRepository bancaRepository;
+    @Autowired private CargoRepository cargoRepository;
+    @Autowired private ConcursoCargoRepository concursoCargoRepository;
+    @Autowired private EntityManager entityManager;
+
+    private Long subtemaId;
+    private Long concursoId;
+    private Long cargoId;
+    private Long outroCargoId;
+
+    @BeforeEach
+    void setUp() {
+        Instituicao inst = new Instituicao();
+        inst.setNome("Inst Importação");
+        inst.setArea("Fiscal");
+        inst = instituicaoRepository.save(inst);
+
+        Banca banca = new Banca();
+        banca.setNome("Banca Importação");
+        banca = bancaRepository.save(banca);
+
+        Concurso concurso = concursoRepository.save(new Concurso(inst, banca, 2025, 1));
+        concursoId = concurso.getId();
+
+        Cargo cargo = new Cargo();
+        cargo.setNome("Analista Importação");
+        cargo.setNivel(NivelCargo.SUPERIOR);
+        cargo.setArea("Fiscal");
+        cargoId = cargoRepository.save(cargo).getId();
+
+        ConcursoCargo concursoCargo = new ConcursoCargo();
+        concursoCargo.setConcurso(concurso);
+        concursoCargo.setCargo(cargo);
+        concursoCargoRepository.save(concursoCargo);
+
+        Cargo outro = new Cargo();
+        outro.setNome("Técnico Importação");
+        outro.setNivel(NivelCargo.MEDIO);
+        outro.setArea("Fiscal");
+        outroCargoId = cargoRepository.save(outro).getId();
+
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina("Importação"));
+        subtemaId = subtemaRepository.save(new Subtema(temaRepository.save(new Tema(disciplina, "Importação")), "Importação")).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void importsValidLinesAndReportsTheOthers() throws Exception {
+        String ndjson = String.join("\n",
+                autoral("Questão autoral importada"),
+                "{\"enunciado\": ",
+                "",
+                concurso("Questão de concurso importada", cargoId),
+                concurso("Cargo de outro concurso", outroCargoId),
+                "{\"autoral\": true, \"enunciado\": \"Duas corretas\", \"subtemaIds\": [" + subtemaId + "], \"alternativas\": ["
+                        + "{\"ordem\": 1, \"texto\": \"A\", \"correta\": true}, {\"ordem\": 2, \"texto\": \"B\", \"correta\": true}]}",
+                "{\"autoral\": true, \"enunciado\": \"Subtema inexistente\", \"subtemaIds\": [999999], \"alternativas\": ["
+                        + "{\"ordem\": 1, \"texto\": \"A\", \"correta\": true}, {\"ordem\": 2, \"texto\": \"B\", \"correta\": false}]}",
+                "{\"autoral\": true, \"subtemaIds\": [" + subtemaId + "], \"alternativas\": []}");
+
+        mockMvc.perform(post("/api/v1/questoes/import").contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhas").value(7))
+                .andExpect(jsonPath("$.importadas").value(2))
+                .andExpect(jsonPath("$.erros[*].linha").value(containsInAnyOrder(2, 5, 6, 7, 8)))
+                .andExpect(jsonPath("$.erros[?(@.linha == 2)].mensagem").value(org.hamcrest.Matchers.contains(startsWith("JSON inválido"))))
+                .andExpect(jsonPath("$.erros[?(@.linha == 5)].mensagem").value(org.hamcrest.Matchers.contains(
+                        "O cargo ID " + outroCargoId + " não pertence ao concurso ID " + concursoId)))
+                .andExpect(jsonPath("$.erros[?(@.linha == 6)].mensagem").value(org.hamcrest.Matchers.contains(
+                        "Uma questão não anulada deve ter exatamente uma alternativa correta")));
+
+        Questao importada = questaoRepository.findAll().stream()
+                .filter(q -> q.getEnunciado().equals("Questão de concurso importada"))
+                .findFirst().orElseThrow();
+        mockMvc.perform(get("/api/v1/questoes/{id}", importada.getId()).param("admin", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.concurso.id").value(concursoId))
+                .andExpect(jsonPath("$.cargos[0].id").value(cargoId))
+                .andExpect(jsonPath("$.subtemas[0].id").value(subtemaId))
+                .andExpect(jsonPath("$.alternativas[?(@.ordem == 1)].texto").value(org.hamcrest.Matchers.contains("Primeira")))
+                .andExpect(jsonPath("$.alternativas[?(@.ordem == 1)].correta").value(org.hamcrest.Matchers.contains(true)))
+                .andExpect(jsonPath("$.alternativas[?(@.ordem == 2)].texto").value(org.hamcrest.Matchers.contains("Segunda")));
+
+        // Imported rows go through the same triggers as any other insert
+        mockMvc.perform(get("/api/v1/questoes").param("q", "autoral importada"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void importsAcrossSeveralChunks() throws Exception {
+        long before = questaoRepository.count();
+        StringBuilder ndjson = new StringBuilder();
+        int total = 1_234;
+        for (int i = 0; i < total; i++) {
+            ndjson.append(i % 2 == 0 ? autoral("Lote " + i) : concurso("Lote " + i, cargoId)).append('\n');
+        }
+
+        mockMvc.perform(post("/api/v1/questoes/import").contentType(MediaType.APPLICATION_NDJSON).content(ndjson.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importadas").value(total))
+                .andExpect(jsonPath("$.erros").isEmpty());
+
+        assertEquals(before + total, questaoRepository.count());
+        mockMvc.perform(get("/api/v1/questoes").param("subtemaId", subtemaId.toString()))
+                .andExpect(jsonPath("$.totalElements").value(total));
+
+        // Ids handed out by the import are not reused by the regular insert path
+        Questao seguinte = new Questao(null, "Depois da importação");
+        seguinte.setAutoral(true);
+        Long maxImportado = questaoRepository.findAll().stream().mapToLong(Questao::getId).max().orElseThrow();
+        assertTrue(questaoRepository.saveAndFlush(seguinte).getId() > maxImportado);
+    }
+
+    private String autoral(String enunciado) {
+        return "{\"autoral\": true, \"enunciado\": \"" + enunciado + "\", \"subtemaIds\": [" + subtemaId + "], \"alternativas\": "
+                + alternativas() + "}";
+    }
+
+    private String concurso(String enunciado, Long cargo) {
+        return "{\"concursoId\": " + concursoId + ", \"cargos\": [" + cargo + "], \"enunciado\": \"" + enunciado
+                + "\", \"subtemaIds\": [" + subtemaId + "], \"alternativas\": " + alternativas() + "}";
+    }
+
+    // Out of order on purpose: stored as 1 and 2
+    private static String alternativas() {
+        return "[{\"ordem\": 7, \"texto\": \"Segunda\", \"correta\": false}, {\"ordem\": 3, \"texto\": \"Primeira\", \"correta\": true}]";
+    }
+}
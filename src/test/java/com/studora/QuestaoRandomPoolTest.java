@@ -0,0 +1,106 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.studora.dto.questao.QuestaoFilter;
+import com.studora.entity.Questao;
+import com.studora.repository.QuestaoRepository;
+import com.studora.service.QuestaoRandomPool;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.jpa.domain.Specification;
+
+class QuestaoRandomPoolTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    @Mock private QuestaoRepository questaoRepository;
+
+    private final Specification<Questao> spec = (root, query, cb) -> null;
+    private QuestaoRandomPool pool;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pool = new QuestaoRandomPool(new ConcurrentMapCacheManager(), questaoRepository);
+    }
+
+    @Test
+    void picksUniformlyAmongEligibleIds() {
+        // Even ids were answered recently; the narrowed query only sees the odd ones
+        when(questaoRepository.findIds(any())).thenReturn(List.of(1L, 3L, 5L, 7L, 9L));
+        when(questaoRepository.findIds(spec)).thenReturn(LongStream.rangeClosed(1, 10).boxed().toList());
+        when(questaoRepository.existsNotAnsweredSince(anyLong(), eq(SINCE))).thenAnswer(inv -> (long) inv.getArgument(0) % 2 == 1);
+
+        int[] hits = new int[11];
+        Random random = new Random(42);
+        int draws = 50_000;
+        for (int i = 0; i < draws; i++) {
+            hits[pool.pick(new QuestaoFilter(), spec, SINCE, random).intValue()]++;
+        }
+
+        for (int id = 1; id <= 10; id++) {
+            if (id % 2 == 0) {
+                assertEquals(0, hits[id]);
+            } else {
+                assertEquals(draws / 5.0, hits[id], draws / 5.0 * 0.05, "id " + id);
+            }
+        }
+        // The filtered id array is loaded once and reused across picks
+        verify(questaoRepository, times(1)).findIds(spec);
+    }
+
+    @Test
+    void fallsBackToQueryingEligibleIdsWhenMostIdsWereAnswered() {
+        when(questaoRepository.findIds(any())).thenReturn(List.of(777L));
+        when(questaoRepository.findIds(spec)).thenReturn(LongStream.rangeClosed(1, 1000).boxed().toList());
+        when(questaoRepository.existsNotAnsweredSince(anyLong(), any())).thenReturn(false);
+
+        assertEquals(777L, pool.pick(new QuestaoFilter(), spec, SINCE, new Random(1)));
+        verify(questaoRepository, times(2)).findIds(any());
+
+        when(questaoRepository.findIds(any())).thenReturn(List.of());
+        when(questaoRepository.findIds(spec)).thenReturn(LongStream.rangeClosed(1, 1000).boxed().toList());
+        assertNull(pool.pick(new QuestaoFilter(), spec, SINCE, new Random(1)));
+    }
+
+    @Test
+    void neverReturnsIdsDeletedAfterTheyWereCached() {
+        when(questaoRepository.findIds(any())).thenReturn(List.of(2L));
+        when(questaoRepository.findIds(spec)).thenReturn(List.of(1L, 2L));
+        // Questão 1 is gone: the indexed check finds no row and the eligible query leaves it out
+        when(questaoRepository.existsNotAnsweredSince(eq(1L), any())).thenReturn(false);
+        when(questaoRepository.existsNotAnsweredSince(eq(2L), any())).thenReturn(false);
+
+        for (int seed = 0; seed < 20; seed++) {
+            assertEquals(2L, pool.pick(new QuestaoFilter(), spec, SINCE, new Random(seed)));
+        }
+    }
+
+    @Test
+    void cachesPerFilterUntilInvalidated() {
+        when(questaoRepository.findIds(spec)).thenReturn(List.of(5L));
+        when(questaoRepository.existsNotAnsweredSince(anyLong(), any())).thenReturn(true);
+
+        QuestaoFilter porBanca = new QuestaoFilter();
+        porBanca.setBancaId(1L);
+        pool.pick(porBanca, spec, SINCE);
+        pool.pick(porBanca, spec, SINCE);
+        pool.pick(new QuestaoFilter(), spec, SINCE);
+        verify(questaoRepository, times(2)).findIds(spec);
+
+        pool.invalidate();
+        when(questaoRepository.findIds(spec)).thenReturn(List.of());
+        assertNull(pool.pick(porBanca, spec, SINCE));
+        verify(questaoRepository, times(3)).findIds(any());
+    }
+}
@@ -0,0 +1,108 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.QuestaoService;
+import com.studora.service.RespostaService;
+import com.studora.util.ReferenceFixture;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QuestaoRespostaSummaryTest {
+
+    @Autowired private RespostaService respostaService;
+    @Autowired private QuestaoService questaoService;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private Questao questao;
+    private Alternativa correta;
+    private Alternativa errada;
+
+    @BeforeEach
+    void setUp() {
+        questao = new Questao(null, "Questão com resumo de respostas");
+        questao.setAutoral(true);
+        questao = questaoRepository.save(questao);
+        correta = referencias.alternativa(questao, "Certa", true, 1);
+        errada = referencias.alternativa(questao, "Errada", false, 2);
+        entityManager.flush();
+    }
+
+    @Test
+    void tracksAttemptsAndLatestAnswer() {
+        assertNull(summary());
+
+        referencias.responder(questao, correta, Dificuldade.MEDIA, null);
+        Long ultima = referencias.responder(questao, errada, Dificuldade.MEDIA, null);
+
+        QuestaoRespostaSummary summary = summary();
+        assertEquals(2, summary.getAttempts());
+        assertEquals(1, summary.getCorrectCount());
+        assertFalse(summary.getLastCorrect());
+
+        respostaService.delete(ultima);
+        summary = summary();
+        assertEquals(1, summary.getAttempts());
+        assertTrue(summary.getLastCorrect());
+
+        // Answers keep the gabarito they were given under
+        jdbcTemplate.update("UPDATE alternativa SET correta = 0 WHERE id = ?", correta.getId());
+        summary = summary();
+        assertEquals(1, summary.getCorrectCount());
+        assertTrue(summary.getLastCorrect());
+
+        // Rows written without the flag get it from the chosen alternativa
+        jdbcTemplate.update("INSERT INTO resposta (questao_id, alternativa_id, dificuldade_id, tempo_resposta_segundos, "
+                + "created_at, updated_at) VALUES (?, ?, 2, 30, datetime('now'), datetime('now'))", questao.getId(), errada.getId());
+        jdbcTemplate.update("UPDATE alternativa SET correta = 1 WHERE id = ?", errada.getId());
+        jdbcTemplate.update("INSERT INTO resposta (questao_id, alternativa_id, dificuldade_id, tempo_resposta_segundos, "
+                + "created_at, updated_at) VALUES (?, ?, 2, 30, datetime('now', '+1 second'), datetime('now'))", questao.getId(), errada.getId());
+        assertEquals(List.of(false, true), jdbcTemplate.queryForList(
+                "SELECT correta FROM resposta WHERE questao_id = ? AND alternativa_id = ? ORDER BY id", Boolean.class, questao.getId(), errada.getId()));
+        summary = summary();
+        assertEquals(3, summary.getAttempts());
+        assertEquals(2, summary.getCorrectCount());
+        assertTrue(summary.getLastCorrect());
+    }
+
+    @Test
+    void answeredChecksReadTheSummary() {
+        assertFalse(questaoService.getQuestaoDetailById(questao.getId()).getRespondida());
+        assertTrue(questaoRepository.existsNotAnsweredSince(questao.getId(), LocalDateTime.now().minusDays(1)));
+
+        Long id = referencias.responder(questao, correta, Dificuldade.MEDIA, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        var detail = questaoService.getQuestaoDetailById(questao.getId());
+        assertTrue(detail.getRespondida());
+        assertNotNull(detail.getUltimaRespostaEm());
+        assertFalse(questaoRepository.existsNotAnsweredSince(questao.getId(), LocalDateTime.now().minusDays(1)));
+
+        jdbcTemplate.update("UPDATE resposta SET created_at = '2020-01-01 00:00:00' WHERE id = ?", id);
+        assertTrue(questaoRepository.existsNotAnsweredSince(questao.getId(), LocalDateTime.now().minusDays(1)));
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), summary().getLastAnsweredAt());
+    }
+
+    private QuestaoRespostaSummary summary() {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(QuestaoRespostaSummary.class, questao.getId());
+    }
+}
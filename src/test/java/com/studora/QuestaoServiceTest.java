@@ -19,6 +19,7 @@ import com.studora.entity.QuestaoCargo;
 import com.studora.entity.Alternativa;
 import com.studora.exception.ValidationException;
 import com.studora.repository.*;
+import com.studora.service.QuestaoRandomPool;
 import com.studora.service.QuestaoService;
 import com.studora.mapper.*;
 import jakarta.persistence.EntityManager;
@@ -46,6 +47,7 @@ class QuestaoServiceTest {
     @Mock private ConcursoCargoRepository concursoCargoRepository;
     @Mock private RespostaRepository respostaRepository;
     @Mock private AlternativaRepository alternativaRepository;
+    @Mock private RespostaAgregadoDiarioRepository agregadoRepository;
     @Mock private EntityManager entityManager;
 
     private QuestaoService questaoService;
@@ -70,8 +72,9 @@ class QuestaoServiceTest {
         questaoService = new QuestaoService(
             questaoRepository, concursoRepository, subtemaRepository,
             concursoCargoRepository, respostaRepository,
-            alternativaRepository,
-            questaoMapper, entityManager
+            alternativaRepository, agregadoRepository,
+            questaoMapper, entityManager,
+            new QuestaoRandomPool(new org.springframework.cache.support.NoOpCacheManager(), questaoRepository)
         );
     }
 
@@ -81,13 +84,13 @@ class QuestaoServiceTest {
         com.studora.dto.questao.QuestaoRandomFilter filter = new com.studora.dto.questao.QuestaoRandomFilter();
         
         // Mock that finding random returns nothing initially (simulating filtering)
-        when(questaoRepository.count(any(Specification.class))).thenReturn(0L);
+        when(questaoRepository.findIds(any(Specification.class))).thenReturn(List.of());
 
         // Act & Assert
         assertThrows(com.studora.exception.ResourceNotFoundException.class, () -> questaoService.getRandomQuestao(filter));
         
         // Verify specification was built (we can't easily inspect the spec lambda, but we verify the flow)
-        verify(questaoRepository).count(any(Specification.class));
+        verify(questaoRepository).findIds(any(Specification.class));
     }
 
     @Test
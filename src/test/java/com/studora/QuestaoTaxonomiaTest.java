@@ -0,0 +1,129 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.questao.QuestaoFilter;
+import com.studora.dto.request.SubtemaUpdateRequest;
+import com.studora.dto.request.TemaUpdateRequest;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.repository.specification.QuestaoSpecification;
+import com.studora.service.SubtemaService;
+import com.studora.service.TemaService;
+import jakarta.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QuestaoTaxonomiaTest {
+
+    @Autowired private SubtemaService subtemaService;
+    @Autowired private TemaService temaService;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private Disciplina direito;
+    private Disciplina portugues;
+    private Tema constitucional;
+    private Tema gramatica;
+    private Subtema s1;
+    private Subtema s2;
+    private Subtema s3;
+    private Questao questao;
+
+    @BeforeEach
+    void setUp() {
+        direito = disciplinaRepository.save(new Disciplina("Direito Taxonomia"));
+        portugues = disciplinaRepository.save(new Disciplina("Português Taxonomia"));
+        constitucional = temaRepository.save(new Tema(direito, "Constitucional"));
+        gramatica = temaRepository.save(new Tema(portugues, "Gramática"));
+        s1 = subtemaRepository.save(new Subtema(constitucional, "Direitos Fundamentais"));
+        s2 = subtemaRepository.save(new Subtema(constitucional, "Organização do Estado"));
+        s3 = subtemaRepository.save(new Subtema(gramatica, "Crase"));
+
+        questao = new Questao(null, "Questão classificada");
+        questao.setSubtemas(new HashSet<>(List.of(s1, s2)));
+        questao = questaoRepository.save(questao);
+        entityManager.flush();
+    }
+
+    // Rows: [subtemaId, temaId, disciplinaId], ordered by subtema
+    private List<List<Long>> rows() {
+        entityManager.flush();
+        return jdbcTemplate.query(
+                "SELECT subtema_id, tema_id, disciplina_id FROM questao_taxonomia WHERE questao_id = ? ORDER BY subtema_id",
+                (rs, i) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3)), questao.getId());
+    }
+
+    private List<Long> idsFor(QuestaoFilter filter) {
+        entityManager.flush();
+        return questaoRepository.findAll(QuestaoSpecification.withFilter(filter)).stream().map(Questao::getId).toList();
+    }
+
+    @Test
+    void followsReclassificationOfTheQuestao() {
+        assertEquals(List.of(
+                List.of(s1.getId(), constitucional.getId(), direito.getId()),
+                List.of(s2.getId(), constitucional.getId(), direito.getId())), rows());
+
+        questao.setSubtemas(new HashSet<>(List.of(s3)));
+        questaoRepository.save(questao);
+
+        assertEquals(List.of(List.of(s3.getId(), gramatica.getId(), portugues.getId())), rows());
+
+        questaoRepository.delete(questao);
+        assertTrue(rows().isEmpty());
+    }
+
+    @Test
+    void followsSubtemaMovingToAnotherTema() {
+        SubtemaUpdateRequest request = new SubtemaUpdateRequest();
+        request.setNome(s1.getNome());
+        request.setTemaId(gramatica.getId());
+        subtemaService.update(s1.getId(), request);
+
+        assertEquals(List.of(
+                List.of(s1.getId(), gramatica.getId(), portugues.getId()),
+                List.of(s2.getId(), constitucional.getId(), direito.getId())), rows());
+
+        QuestaoFilter byDisciplina = new QuestaoFilter();
+        byDisciplina.setDisciplinaId(portugues.getId());
+        assertEquals(List.of(questao.getId()), idsFor(byDisciplina));
+    }
+
+    @Test
+    void followsTemaMovingToAnotherDisciplina() {
+        TemaUpdateRequest request = new TemaUpdateRequest();
+        request.setNome(constitucional.getNome());
+        request.setDisciplinaId(portugues.getId());
+        temaService.update(constitucional.getId(), request);
+
+        assertTrue(rows().stream().allMatch(row -> row.get(2).equals(portugues.getId())));
+
+        QuestaoFilter byDisciplina = new QuestaoFilter();
+        byDisciplina.setDisciplinaId(direito.getId());
+        assertTrue(idsFor(byDisciplina).isEmpty());
+
+        QuestaoFilter byTema = new QuestaoFilter();
+        byTema.setTemaId(constitucional.getId());
+        assertEquals(List.of(questao.getId()), idsFor(byTema));
+
+        List<Object[]> counts = questaoRepository.countQuestoesByDisciplinaIds(List.of(direito.getId(), portugues.getId()));
+        assertEquals(1, counts.size());
+        assertEquals(portugues.getId(), ((Number) counts.get(0)[0]).longValue());
+        assertEquals(1L, ((Number) counts.get(0)[1]).longValue());
+    }
+}
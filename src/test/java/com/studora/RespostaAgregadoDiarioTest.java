@@ -0,0 +1,146 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.analytics.TopicMasteryDto;
+import com.studora.dto.request.SubtemaUpdateRequest;
+import com.studora.entity.*;
+import com.studora.exception.ResourceNotFoundException;
+import com.studora.repository.*;
+import com.studora.service.AnalyticsService;
+import com.studora.service.RespostaService;
+import com.studora.service.SubtemaService;
+import com.studora.util.ReferenceFixture;
+import jakarta.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RespostaAgregadoDiarioTest {
+
+    @Autowired private RespostaService respostaService;
+    @Autowired private SubtemaService subtemaService;
+    @Autowired private AnalyticsService analyticsService;
+    @Autowired private RespostaAgregadoDiarioRepository agregadoRepository;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private EntityManager entityManager;
+
+    private Disciplina direito;
+    private Subtema s1;
+    private Subtema s2;
+    private Questao questao;
+    private Alternativa correta;
+    private Alternativa errada;
+
+    @BeforeEach
+    void setUp() {
+        Concurso concurso = referencias.concurso(referencias.instituicao("Inst Rollup", "TI"), referencias.banca("Banca Rollup"), 2024);
+
+        direito = disciplinaRepository.save(new Disciplina("Direito Rollup"));
+        Tema tema = temaRepository.save(new Tema(direito, "Constitucional"));
+        s1 = subtemaRepository.save(new Subtema(tema, "Direitos Fundamentais"));
+        s2 = subtemaRepository.save(new Subtema(tema, "Organização do Estado"));
+
+        questao = new Questao(concurso, "Questão com dois subtemas");
+        questao.setSubtemas(new HashSet<>(List.of(s1, s2)));
+        questao = questaoRepository.save(questao);
+
+        correta = referencias.alternativa(questao, "Certa", true, 1);
+        errada = referencias.alternativa(questao, "Errada", false, 2);
+        entityManager.flush();
+    }
+
+    @Test
+    void createAndDeleteKeepRollupInSyncWithBackfill() {
+        Long r1 = referencias.responder(questao, correta, Dificuldade.DIFICIL, 30);
+        referencias.responder(questao, errada, Dificuldade.FACIL, 10);
+        referencias.responder(questao, correta, Dificuldade.CHUTE, 20);
+
+        Set<String> incremental = snapshot();
+        agregadoRepository.rebuild();
+        assertEquals(snapshot(), incremental);
+
+        respostaService.delete(r1);
+
+        incremental = snapshot();
+        agregadoRepository.rebuild();
+        assertEquals(snapshot(), incremental);
+    }
+
+    @Test
+    void disciplinaCountsEachRespostaOnceWhileTemaSumsSubtemas() {
+        referencias.responder(questao, correta, Dificuldade.MEDIA, 40);
+        referencias.responder(questao, errada, Dificuldade.CHUTE, 20);
+
+        TopicMasteryDto detail = analyticsService.getDisciplinaMasteryDetail(direito.getId());
+        assertEquals(2, detail.getTotalAttempts());
+        assertEquals(1, detail.getCorrectAttempts());
+        assertEquals(30, detail.getAvgTimeSeconds());
+        assertEquals(1, detail.getDifficultyStats().get("MEDIA").getTotal());
+        assertEquals(0, detail.getDifficultyStats().get("DIFICIL").getTotal());
+        // 2 points earned out of MEDIA(2) + CHUTE(1)
+        assertEquals(200.0 / 3, detail.getMasteryScore(), 1e-9);
+
+        TopicMasteryDto tema = detail.getChildren().get(0);
+        assertEquals(4, tema.getTotalAttempts());
+        assertEquals(2, tema.getChildren().size());
+        tema.getChildren().forEach(s -> assertEquals(2, s.getTotalAttempts()));
+    }
+
+    @Test
+    void deletingLastRespostaRemovesDisciplinaFromMastery() {
+        Long id = referencias.responder(questao, correta, Dificuldade.FACIL, 10);
+        assertEquals(1, analyticsService.getDisciplinaMasteryDetail(direito.getId()).getTotalAttempts());
+
+        respostaService.delete(id);
+
+        assertThrows(ResourceNotFoundException.class, () -> analyticsService.getDisciplinaMasteryDetail(direito.getId()));
+        assertTrue(agregadoRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void movingSubtemaToAnotherDisciplinaMovesItsHistory() {
+        questao.setSubtemas(new HashSet<>(List.of(s1)));
+        questao = questaoRepository.save(questao);
+        entityManager.flush();
+        referencias.responder(questao, correta, Dificuldade.FACIL, 10);
+
+        Disciplina portugues = disciplinaRepository.save(new Disciplina("Português Rollup"));
+        Tema gramatica = temaRepository.save(new Tema(portugues, "Gramática"));
+
+        SubtemaUpdateRequest request = new SubtemaUpdateRequest();
+        request.setNome(s1.getNome());
+        request.setTemaId(gramatica.getId());
+        subtemaService.update(s1.getId(), request);
+
+        assertThrows(ResourceNotFoundException.class, () -> analyticsService.getDisciplinaMasteryDetail(direito.getId()));
+        assertEquals(1, analyticsService.getDisciplinaMasteryDetail(portugues.getId()).getTotalAttempts());
+
+        Set<String> incremental = snapshot();
+        agregadoRepository.rebuild();
+        assertEquals(snapshot(), incremental);
+    }
+
+    private Set<String> snapshot() {
+        entityManager.flush();
+        entityManager.clear();
+        return agregadoRepository.findAll().stream()
+                .map(a -> a.getEscopo() + ":" + a.getEscopoId() + ":" + a.getDificuldadeId() + ":" + a.getDia()
+                        + "=" + a.getTotal() + "/" + a.getCorretas() + "/" + a.getTempoTotal())
+                .collect(Collectors.toSet());
+    }
+}
@@ -13,9 +13,11 @@ import com.studora.entity.Resposta;
 import com.studora.entity.Simulado;
 import com.studora.repository.AlternativaRepository;
 import com.studora.repository.QuestaoRepository;
+import com.studora.repository.RespostaAgregadoDiarioRepository;
 import com.studora.repository.RespostaRepository;
 import com.studora.repository.SimuladoRepository;
 import com.studora.service.RespostaService;
+import com.studora.service.StatsCacheInvalidator;
 import com.studora.mapper.RespostaMapper;
 import java.util.Optional;
 import java.util.List;
@@ -35,6 +37,8 @@ class RespostaServiceTest {
     @Mock private QuestaoRepository questaoRepository;
     @Mock private AlternativaRepository alternativaRepository;
     @Mock private SimuladoRepository simuladoRepository;
+    @Mock private RespostaAgregadoDiarioRepository agregadoRepository;
+    @Mock private StatsCacheInvalidator statsCacheInvalidator;
 
     private RespostaService respostaService;
 
@@ -42,7 +46,7 @@ class RespostaServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         RespostaMapper realMapper = org.mapstruct.factory.Mappers.getMapper(RespostaMapper.class);
-        respostaService = new RespostaService(respostaRepository, questaoRepository, alternativaRepository, simuladoRepository, realMapper);
+        respostaService = new RespostaService(respostaRepository, questaoRepository, alternativaRepository, simuladoRepository, realMapper, agregadoRepository, statsCacheInvalidator);
     }
 
     @Test
@@ -0,0 +1,138 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.config.BoundedCache;
+import com.studora.config.BoundedRegionFactory;
+import com.studora.dto.request.BancaCreateRequest;
+import com.studora.dto.request.BancaUpdateRequest;
+import com.studora.entity.Banca;
+import com.studora.entity.Cargo;
+import com.studora.entity.NivelCargo;
+import com.studora.repository.BancaRepository;
+import com.studora.repository.CargoRepository;
+import com.studora.service.BancaService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Not transactional: entries only reach the second-level cache when a transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired private BancaService bancaService;
+    @Autowired private BancaRepository bancaRepository;
+    @Autowired private CargoRepository cargoRepository;
+    @Autowired private BoundedRegionFactory regionFactory;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private final List<Long> bancas = new ArrayList<>();
+    private final List<Long> cargos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            bancaRepository.deleteAllById(bancas);
+            cargoRepository.deleteAllById(cargos);
+        });
+    }
+
+    @Test
+    void committedEntitiesAreReadWithoutStatements() {
+        Long id = banca("Banca L2");
+        // Hibernate does not cache rows inserted with identity ids; the first committed read does
+        tx.execute(status -> bancaRepository.findById(id));
+        statistics.clear();
+
+        Banca banca = tx.execute(status -> bancaRepository.findById(id).orElseThrow());
+
+        assertEquals("Banca L2", banca.getNome());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        BoundedCache.Stats region = regionFactory.getStats().stream()
+                .filter(s -> s.name().equals(Banca.class.getName()))
+                .findFirst().orElseThrow();
+        assertEquals(1, region.hits());
+        assertEquals(1.0, region.hitRate());
+    }
+
+    @Test
+    void updatesThroughTheServiceReplaceTheCachedEntry() {
+        Long id = banca("Banca Antiga");
+        BancaUpdateRequest request = new BancaUpdateRequest();
+        request.setNome("Banca Nova");
+        bancaService.update(id, request);
+
+        assertEquals("Banca Nova", tx.execute(status -> bancaRepository.findById(id).orElseThrow().getNome()));
+
+        bancaService.delete(id);
+        bancas.remove(id);
+        assertTrue(tx.execute(status -> bancaRepository.findById(id)).isEmpty());
+    }
+
+    @Test
+    void rolledBackReadsAreNotCached() {
+        Long id = banca("Banca Rollback");
+        entityManagerFactory.getCache().evict(Banca.class, id);
+
+        tx.executeWithoutResult(status -> {
+            bancaRepository.findById(id).orElseThrow();
+            status.setRollbackOnly();
+        });
+        assertFalse(entityManagerFactory.getCache().contains(Banca.class, id));
+
+        tx.executeWithoutResult(status -> bancaRepository.findById(id).orElseThrow());
+        assertTrue(entityManagerFactory.getCache().contains(Banca.class, id));
+    }
+
+    @Test
+    void cachedQueriesSeeNewRows() {
+        cargo("Área L2 Um");
+        assertTrue(tx.execute(status -> cargoRepository.findDistinctAreas()).contains("Área L2 Um"));
+        statistics.clear();
+
+        tx.execute(status -> cargoRepository.findDistinctAreas());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        cargo("Área L2 Dois");
+        assertTrue(tx.execute(status -> cargoRepository.findDistinctAreas()).contains("Área L2 Dois"));
+    }
+
+    private Long banca(String nome) {
+        BancaCreateRequest request = new BancaCreateRequest();
+        request.setNome(nome);
+        Long id = bancaService.create(request);
+        bancas.add(id);
+        return id;
+    }
+
+    private void cargo(String area) {
+        Cargo cargo = new Cargo();
+        cargo.setNome("Cargo " + area);
+        cargo.setNivel(NivelCargo.SUPERIOR);
+        cargo.setArea(area);
+        cargos.add(tx.execute(status -> cargoRepository.save(cargo).getId()));
+    }
+}
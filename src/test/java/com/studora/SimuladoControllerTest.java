@@ -2,6 +2,7 @@ package com.studora;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import com.studora.dto.request.SimuladoGenerationRequest;
@@ -175,6 +176,97 @@ class SimuladoControllerTest {
         assertFalse(simuladoRepository.existsById(id));
     }
 
+    @Test
+    void testResponderEmLote_FinalizaNaMesmaChamada() throws Exception {
+        List<Questao> questoes = questaoRepository.findAll();
+        Questao q1 = questoes.get(0);
+        Questao q2 = questoes.get(1);
+        Alternativa q1Certa = alternativa(q1, 1, true);
+        alternativa(q1, 2, false);
+        Alternativa q2Errada = alternativa(q2, 1, false);
+        alternativa(q2, 2, true);
+        Simulado simulado = simuladoCom(q1, q2);
+
+        com.studora.dto.request.SimuladoRespostasRequest request = new com.studora.dto.request.SimuladoRespostasRequest();
+        request.setRespostas(List.of(resposta(q1, q1Certa), resposta(q2, q2Errada)));
+        request.setFinalizar(true);
+
+        mockMvc.perform(post("/api/v1/simulados/{id}/respostas", simulado.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.respostas.length()").value(2))
+                .andExpect(jsonPath("$.respostas[0].id").isNumber())
+                .andExpect(jsonPath("$.respostas[0].correta").value(true))
+                .andExpect(jsonPath("$.respostas[0].simuladoId").value(simulado.getId()))
+                .andExpect(jsonPath("$.respostas[0].alternativas.length()").value(2))
+                .andExpect(jsonPath("$.respostas[1].correta").value(false))
+                .andExpect(jsonPath("$.resultado.totalQuestoes").value(2))
+                .andExpect(jsonPath("$.resultado.acertos").value(1));
+
+        assertEquals(2, respostaRepository.countBySimuladoId(simulado.getId()));
+        mockMvc.perform(get("/api/v1/simulados/{id}", simulado.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finishedAt").isNotEmpty())
+                .andExpect(jsonPath("$.questoes[0].respostas.length()").value(1));
+    }
+
+    @Test
+    void testResponderEmLote_RespostaInvalidaNaoGravaNenhuma() throws Exception {
+        List<Questao> questoes = questaoRepository.findAll();
+        Questao q1 = questoes.get(0);
+        Questao q2 = questoes.get(1);
+        Alternativa q1Certa = alternativa(q1, 1, true);
+        alternativa(q2, 1, true);
+        Simulado simulado = simuladoCom(q1, q2);
+
+        com.studora.dto.request.SimuladoRespostasRequest request = new com.studora.dto.request.SimuladoRespostasRequest();
+        // The second answer points at an alternativa of the first questão
+        request.setRespostas(List.of(resposta(q1, q1Certa), resposta(q2, q1Certa)));
+
+        mockMvc.perform(post("/api/v1/simulados/{id}/respostas", simulado.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.detail").value("A alternativa ID " + q1Certa.getId() + " não pertence à questão ID " + q2.getId()));
+        assertEquals(0, respostaRepository.countBySimuladoId(simulado.getId()));
+
+        // Finishing in the same call fails while questões are left unanswered
+        request.setRespostas(List.of(resposta(q1, q1Certa)));
+        request.setFinalizar(true);
+        mockMvc.perform(post("/api/v1/simulados/{id}/respostas", simulado.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isUnprocessableEntity());
+
+        request.setRespostas(List.of());
+        mockMvc.perform(post("/api/v1/simulados/{id}/respostas", simulado.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Alternativa alternativa(Questao questao, int ordem, boolean correta) {
+        Alternativa alt = new Alternativa();
+        alt.setQuestao(questao); alt.setOrdem(ordem); alt.setTexto("Alt " + ordem); alt.setCorreta(correta);
+        return alternativaRepository.save(alt);
+    }
+
+    private Simulado simuladoCom(Questao... questoes) {
+        Simulado simulado = new Simulado();
+        simulado.setNome("Lote Test");
+        simulado.setQuestoes(new java.util.ArrayList<>(List.of(questoes)));
+        return simuladoRepository.save(simulado);
+    }
+
+    private com.studora.dto.request.RespostaCreateRequest resposta(Questao questao, Alternativa alternativa) {
+        com.studora.dto.request.RespostaCreateRequest resposta = new com.studora.dto.request.RespostaCreateRequest(questao.getId(), alternativa.getId());
+        resposta.setJustificativa("Lote");
+        resposta.setDificuldadeId(2);
+        resposta.setTempoRespostaSegundos(30);
+        return resposta;
+    }
+
     @Test
     void testGerarSimulado_ValidationMinQuestions() throws Exception {
         // ... (existing code)
@@ -184,13 +276,13 @@ class SimuladoControllerTest {
     void testListSimulados_IncludesFilters() throws Exception {
         Simulado simulado = new Simulado();
         simulado.setNome("List Test");
-        simulado.setBancaId(1L);
+        simulado.setBancaId(savedBanca.getId());
         simuladoRepository.save(simulado);
 
         mockMvc.perform(get("/api/v1/simulados"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].nome").value("List Test"))
-                .andExpect(jsonPath("$.content[0].banca.id").value(1))
+                .andExpect(jsonPath("$.content[0].banca.id").value(savedBanca.getId()))
                 .andExpect(jsonPath("$.content[0].questoes").doesNotExist());
     }
 
@@ -0,0 +1,126 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.questao.QuestaoSummaryDto;
+import com.studora.dto.simulado.SimuladoDetailDto;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.SimuladoService;
+import com.studora.util.ReferenceFixture;
+import com.studora.util.StatementCounter;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SimuladoDetailQueryCountTest {
+
+    @Autowired private SimuladoService simuladoService;
+    @Autowired private SimuladoRepository simuladoRepository;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private AlternativaRepository alternativaRepository;
+    @Autowired private RespostaRepository respostaRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private StatementCounter statements;
+    @Autowired private EntityManager entityManager;
+
+    private Concurso concurso;
+    private ConcursoCargo concursoCargo;
+    private Subtema subtema;
+
+    @BeforeEach
+    void setUp() {
+        concurso = referencias.concurso(referencias.instituicao("Inst Detalhe", "Fiscal"), referencias.banca("Banca Detalhe"), 2024);
+        concursoCargo = referencias.concursoCargo(concurso, referencias.cargo("Auditor", "Fiscal"));
+
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina("Detalhe"));
+        subtema = subtemaRepository.save(new Subtema(temaRepository.save(new Tema(disciplina, "Detalhe")), "Detalhe"));
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithQuestoes() {
+        long small = statementsFor(simuladoWith(2));
+        long large = statementsFor(simuladoWith(25));
+
+        assertEquals(small, large, "statements should not depend on the number of questões");
+    }
+
+    @Test
+    void onlyThisSimuladosRespostasAreLoaded() {
+        Simulado simulado = simuladoWith(3);
+        Questao respondida = simulado.getQuestoes().get(0);
+        statements.flushAndClear();
+
+        SimuladoDetailDto dto = simuladoService.getSimuladoDetailById(simulado.getId());
+
+        assertEquals(3, dto.getQuestoes().size());
+        assertEquals(respondida.getId(), dto.getQuestoes().get(0).getId());
+        for (QuestaoSummaryDto questao : dto.getQuestoes()) {
+            assertTrue(questao.getRespondida());
+            assertEquals(2, questao.getAlternativas().size());
+            assertEquals("Detalhe", questao.getSubtemas().get(0).getTema().getNome());
+            assertEquals("Auditor", questao.getCargos().get(0).getNome());
+            assertEquals("Banca Detalhe", questao.getConcurso().getBancaNome());
+            assertTrue(questao.getRespostas().stream().allMatch(r -> simulado.getId().equals(r.getSimuladoId())));
+        }
+
+        // The first questão was answered in the simulado, the others only outside of it
+        assertEquals(1, dto.getQuestoes().get(0).getRespostas().size());
+        assertNotNull(dto.getQuestoes().get(0).getAlternativas().get(0).getCorreta());
+        assertTrue(dto.getQuestoes().get(1).getRespostas().isEmpty());
+        assertNull(dto.getQuestoes().get(1).getAlternativas().get(0).getCorreta());
+        assertNull(dto.getQuestoes().get(1).getAlternativas().get(0).getJustificativa());
+    }
+
+    private long statementsFor(Simulado simulado) {
+        return statements.count(() -> assertEquals(simulado.getQuestoes().size(),
+                simuladoService.getSimuladoDetailById(simulado.getId()).getQuestoes().size()));
+    }
+
+    // Each questão has two alternativas, a cargo and a resposta outside the simulado;
+    // only the first one is also answered inside it
+    private Simulado simuladoWith(int questoes) {
+        // Fixtures may have been detached by a previous flushAndClear
+        Concurso concurso = entityManager.getReference(Concurso.class, this.concurso.getId());
+        ConcursoCargo concursoCargo = entityManager.getReference(ConcursoCargo.class, this.concursoCargo.getId());
+        Subtema subtema = entityManager.getReference(Subtema.class, this.subtema.getId());
+
+        Simulado simulado = new Simulado();
+        simulado.setNome("Simulado " + questoes);
+        List<Questao> list = new ArrayList<>();
+        for (int i = 0; i < questoes; i++) {
+            Questao questao = new Questao(concurso, "Questão " + i);
+            questao.setSubtemas(new HashSet<>(List.of(subtema)));
+            QuestaoCargo questaoCargo = new QuestaoCargo();
+            questaoCargo.setQuestao(questao);
+            questaoCargo.setConcursoCargo(concursoCargo);
+            questao.getQuestaoCargos().add(questaoCargo);
+            questao = questaoRepository.save(questao);
+
+            Alternativa certa = referencias.alternativa(questao, "Certa", true, 1, "Justificativa 1");
+            referencias.alternativa(questao, "Errada", false, 2, "Justificativa 2");
+            respostaRepository.save(new Resposta(questao, certa));
+            list.add(questao);
+        }
+        simulado.setQuestoes(list);
+        simulado = simuladoRepository.save(simulado);
+
+        Resposta noSimulado = new Resposta(list.get(0), alternativaRepository.findByQuestaoIdOrderByOrdemAsc(list.get(0).getId()).get(0));
+        noSimulado.setSimulado(simulado);
+        respostaRepository.save(noSimulado);
+        return simulado;
+    }
+}
@@ -0,0 +1,98 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.simulado.SimuladoSummaryDto;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.SimuladoService;
+import com.studora.util.ReferenceFixture;
+import com.studora.util.StatementCounter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SimuladoListQueryCountTest {
+
+    @Autowired private SimuladoService simuladoService;
+    @Autowired private SimuladoRepository simuladoRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private StatementCounter statements;
+
+    private Banca banca;
+    private Cargo cargo;
+    private Disciplina disciplina;
+    private Tema tema;
+    private Subtema subtema;
+
+    @BeforeEach
+    void setUp() {
+        banca = referencias.banca("Banca Lista");
+        cargo = referencias.cargo("Analista Lista", "Fiscal");
+
+        disciplina = disciplinaRepository.save(new Disciplina("Lista"));
+        tema = temaRepository.save(new Tema(disciplina, "Lista"));
+        subtema = subtemaRepository.save(new Subtema(tema, "Lista"));
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithThePage() {
+        long small = statementsForPageOf(2);
+        long large = statementsForPageOf(8);
+
+        assertEquals(small, large, "statements should not depend on the number of simulados on the page");
+    }
+
+    @Test
+    void everySimuladoGetsItsReferences() {
+        createSimulados(3);
+        statements.flushAndClear();
+
+        Page<SimuladoSummaryDto> page = simuladoService.findAll(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertEquals(3, page.getContent().size());
+        for (SimuladoSummaryDto dto : page.getContent()) {
+            assertEquals("Banca Lista", dto.getBanca().getNome());
+            assertEquals("Analista Lista", dto.getCargo().getNome());
+            assertEquals("Lista", dto.getDisciplinas().get(0).getNome());
+            assertEquals(2, dto.getDisciplinas().get(0).getQuantidade());
+            assertEquals("Lista", dto.getTemas().get(0).getNome());
+            assertEquals("Lista", dto.getSubtemas().get(0).getNome());
+            assertEquals(List.of("Fiscal"), dto.getAreas());
+        }
+    }
+
+    private long statementsForPageOf(int size) {
+        createSimulados(size);
+        return statements.count(() -> assertEquals(size, simuladoService
+                .findAll(PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"))).getContent().size()));
+    }
+
+    private void createSimulados(int count) {
+        for (int i = 0; i < count; i++) {
+            Simulado simulado = new Simulado();
+            simulado.setNome("Simulado lista " + i);
+            simulado.setBancaId(banca.getId());
+            simulado.setCargoId(cargo.getId());
+            simulado.setAreas(new ArrayList<>(List.of("Fiscal")));
+            simulado.setDisciplinas(new ArrayList<>(List.of(new SimuladoItemSelection(disciplina.getId(), 2))));
+            simulado.setTemas(new ArrayList<>(List.of(new SimuladoItemSelection(tema.getId(), 1))));
+            simulado.setSubtemas(new ArrayList<>(List.of(new SimuladoItemSelection(subtema.getId(), 1))));
+            simuladoRepository.save(simulado);
+        }
+    }
+}
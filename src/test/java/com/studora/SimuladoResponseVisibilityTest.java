@@ -5,9 +5,6 @@ import static org.mockito.Mockito.*;
 
 import com.studora.dto.questao.QuestaoSummaryDto;
 import com.studora.dto.simulado.SimuladoDetailDto;
-import com.studora.entity.Alternativa;
-import com.studora.entity.Questao;
-import com.studora.entity.Resposta;
 import com.studora.entity.Simulado;
 import com.studora.repository.QuestaoRepository;
 import com.studora.repository.RespostaRepository;
@@ -18,7 +15,6 @@ import com.studora.mapper.QuestaoMapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -69,31 +65,19 @@ class SimuladoResponseVisibilityTest {
         simulado.setId(simuladoId);
         simulado.setNome("Simulado Teste");
 
-        Questao questao = new Questao();
-        questao.setId(questaoId);
-        questao.setEnunciado("Enunciado Teste");
+        simulado.setQuestoes(new ArrayList<>());
 
-        Alternativa alt = new Alternativa();
-        alt.setId(8L);
-        alt.setQuestao(questao);
-        alt.setTexto("Alternativa Correta");
-        alt.setCorreta(true);
-        alt.setJustificativa("Porque sim");
-        alt.setOrdem(1);
-        questao.setAlternativas(Set.of(alt));
-
-        // Response NOT for this simulado (simulado_id is null or different)
-        Resposta globalResposta = new Resposta();
-        globalResposta.setId(2L);
-        globalResposta.setQuestao(questao);
-        globalResposta.setAlternativaEscolhida(alt);
-        globalResposta.setSimulado(null); // Global response
-        questao.setRespostas(Set.of(globalResposta));
-
-        simulado.setQuestoes(new ArrayList<>(List.of(questao)));
+        // Questão with a global response (outside this simulado) and no response in it
+        List<Object[]> questaoRows = new ArrayList<>();
+        questaoRows.add(new Object[]{questaoId, "Enunciado Teste", false, false, false, null, true,
+                null, null, null, null, null, null, null, null, null});
+        List<Object[]> alternativaRows = new ArrayList<>();
+        alternativaRows.add(new Object[]{questaoId, 8L, 1, "Alternativa Correta", true, "Porque sim"});
 
         when(simuladoRepository.findById(simuladoId)).thenReturn(Optional.of(simulado));
-        when(respostaRepository.findBySimuladoId(simuladoId)).thenReturn(List.of());
+        when(simuladoRepository.findQuestaoRowsBySimuladoId(simuladoId)).thenReturn(questaoRows);
+        when(simuladoRepository.findAlternativaRowsBySimuladoId(simuladoId)).thenReturn(alternativaRows);
+        when(simuladoRepository.findRespostaRowsBySimuladoId(simuladoId)).thenReturn(List.of());
 
         // Act
         SimuladoDetailDto result = simuladoService.getSimuladoDetailById(simuladoId);
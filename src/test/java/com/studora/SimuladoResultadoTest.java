@@ -0,0 +1,152 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.simulado.DisciplinaResultadoDto;
+import com.studora.dto.simulado.SimuladoResultadoDto;
+import com.studora.entity.*;
+import com.studora.exception.ValidationException;
+import com.studora.repository.*;
+import com.studora.service.SimuladoService;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SimuladoResultadoTest {
+
+    @Autowired private SimuladoService simuladoService;
+    @Autowired private SimuladoRepository simuladoRepository;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private AlternativaRepository alternativaRepository;
+    @Autowired private RespostaRepository respostaRepository;
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private Subtema direito;
+    private Subtema portugues;
+    private final Map<Long, Alternativa> certas = new HashMap<>();
+    private final Map<Long, Alternativa> erradas = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Disciplina d1 = disciplinaRepository.save(new Disciplina("Direito Resultado"));
+        Disciplina d2 = disciplinaRepository.save(new Disciplina("Português Resultado"));
+        direito = subtemaRepository.save(new Subtema(temaRepository.save(new Tema(d1, "Constitucional")), "Direitos"));
+        portugues = subtemaRepository.save(new Subtema(temaRepository.save(new Tema(d2, "Gramática")), "Crase"));
+    }
+
+    @Test
+    void finalizationStoresTheResultOfTheLastAnswers() {
+        Questao q1 = questao(direito);
+        Questao q2 = questao(direito);
+        Questao q3 = questao(portugues);
+        Simulado simulado = simulado(q1, q2, q3);
+
+        // q1 is answered wrong, then right: only the last answer counts
+        responder(simulado, q1, false, Dificuldade.DIFICIL, 100);
+        responder(simulado, q1, true, Dificuldade.MEDIA, 60);
+        responder(simulado, q2, false, Dificuldade.CHUTE, 20);
+        responder(simulado, q3, true, Dificuldade.MEDIA, 40);
+        entityManager.flush();
+
+        SimuladoResultadoDto resultado = simuladoService.finalizarSimulado(simulado.getId()).getResultado();
+
+        assertEquals(3, resultado.getTotalQuestoes());
+        assertEquals(2, resultado.getAcertos());
+        assertEquals(66.7, resultado.getPercentualAcerto());
+        assertEquals(120, resultado.getTempoTotalSegundos());
+        assertEquals(40, resultado.getTempoMedioSegundos());
+
+        assertEquals(2, resultado.getPorDisciplina().size());
+        DisciplinaResultadoDto porDireito = resultado.getPorDisciplina().get(0);
+        assertEquals("Direito Resultado", porDireito.getNome());
+        assertEquals(2, porDireito.getQuestoes());
+        assertEquals(1, porDireito.getAcertos());
+        assertEquals(40, porDireito.getTempoMedioSegundos());
+        assertEquals(1, resultado.getPorDisciplina().get(1).getAcertos());
+
+        assertEquals(List.of("MEDIA", "CHUTE"), List.copyOf(resultado.getPorDificuldade().keySet()));
+        assertEquals(2, resultado.getPorDificuldade().get("MEDIA").getAcertos());
+        assertEquals(0, resultado.getPorDificuldade().get("CHUTE").getAcertos());
+    }
+
+    @Test
+    void detailReadsTheStoredResult() {
+        Questao q1 = questao(direito);
+        Simulado simulado = simulado(q1);
+        responder(simulado, q1, true, Dificuldade.FACIL, 30);
+        entityManager.flush();
+        simuladoService.finalizarSimulado(simulado.getId());
+        entityManager.flush();
+
+        // The respostas are no longer read once the simulado is finished
+        jdbcTemplate.update("UPDATE resposta SET correta = 0 WHERE simulado_id = ?", simulado.getId());
+        entityManager.clear();
+
+        SimuladoResultadoDto resultado = simuladoService.getSimuladoDetailById(simulado.getId()).getResultado();
+        assertEquals(1, resultado.getAcertos());
+        assertEquals(1, resultado.getPorDificuldade().get("FACIL").getAcertos());
+        assertEquals("Direito Resultado", resultado.getPorDisciplina().get(0).getNome());
+    }
+
+    @Test
+    void repeatedAnswersDoNotCoverUnansweredQuestoes() {
+        Questao q1 = questao(direito);
+        Questao q2 = questao(portugues);
+        Simulado simulado = simulado(q1, q2);
+        responder(simulado, q1, true, Dificuldade.FACIL, 30);
+        responder(simulado, q1, true, Dificuldade.FACIL, 30);
+        entityManager.flush();
+
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> simuladoService.finalizarSimulado(simulado.getId()));
+        assertTrue(e.getMessage().contains("1 questões sem resposta"));
+        assertNull(simuladoService.getSimuladoDetailById(simulado.getId()).getResultado());
+    }
+
+    private Questao questao(Subtema subtema) {
+        Questao questao = new Questao(null, "Questão " + subtema.getNome());
+        questao.setSubtemas(new HashSet<>(List.of(subtema)));
+        questao = questaoRepository.save(questao);
+        for (int ordem = 1; ordem <= 2; ordem++) {
+            Alternativa alternativa = new Alternativa();
+            alternativa.setQuestao(questao);
+            alternativa.setTexto(ordem == 1 ? "Certa" : "Errada");
+            alternativa.setCorreta(ordem == 1);
+            alternativa.setOrdem(ordem);
+            (ordem == 1 ? certas : erradas).put(questao.getId(), alternativaRepository.save(alternativa));
+        }
+        return questao;
+    }
+
+    private Simulado simulado(Questao... questoes) {
+        Simulado simulado = new Simulado();
+        simulado.setNome("Simulado resultado");
+        simulado.setQuestoes(new ArrayList<>(List.of(questoes)));
+        return simuladoRepository.save(simulado);
+    }
+
+    private void responder(Simulado simulado, Questao questao, boolean certa, Dificuldade dificuldade, int tempo) {
+        Resposta resposta = new Resposta(questao, (certa ? certas : erradas).get(questao.getId()));
+        resposta.setSimulado(simulado);
+        resposta.setDificuldade(dificuldade);
+        resposta.setTempoRespostaSegundos(tempo);
+        respostaRepository.save(resposta);
+    }
+}
@@ -0,0 +1,87 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.request.SimuladoGenerationRequest;
+import com.studora.entity.NivelCargo;
+import com.studora.repository.SimuladoCandidato;
+import com.studora.service.SimuladoSampler;
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+
+class SimuladoSamplerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Test
+    void preferredBancaAndCargoComeFirstAndTiesAreRandom() {
+        List<SimuladoCandidato> pool = new ArrayList<>();
+        pool.add(candidato(1, 1, 10, 100, 7L, Set.of(), Set.of(), null));
+        pool.add(candidato(2, 1, 10, 100, null, Set.of(55L), Set.of(), null));
+        for (long id = 3; id <= 40; id++) pool.add(candidato(id, 1, 10, 100, null, Set.of(), Set.of(), null));
+
+        SimuladoGenerationRequest request = request();
+        request.setBancaId(7L);
+        request.setCargoId(55L);
+
+        Set<List<Long>> tails = new HashSet<>();
+        for (int seed = 0; seed < 10; seed++) {
+            List<Long> ids = new SimuladoSampler(pool, request, NOW, new Random(seed)).bySubtema(1, 5, Set.of());
+            assertEquals(List.of(1L, 2L), ids.subList(0, 2));
+            assertEquals(5, new HashSet<>(ids).size());
+            tails.add(ids.subList(2, 5));
+        }
+        assertTrue(tails.size() > 1, "ties should be broken randomly");
+    }
+
+    @Test
+    void filtersAnsweredAnuladaAndNivelAboveCeiling() {
+        List<SimuladoCandidato> pool = List.of(
+                candidato(1, 1, 10, 100, null, Set.of(), Set.of(NivelCargo.MEDIO), null),
+                candidato(2, 1, 10, 100, null, Set.of(), Set.of(NivelCargo.SUPERIOR), null),
+                candidato(3, 1, 10, 100, null, Set.of(), Set.of(NivelCargo.FUNDAMENTAL), NOW.minusDays(3)),
+                candidato(4, 1, 10, 100, null, Set.of(), Set.of(NivelCargo.FUNDAMENTAL), NOW.minusMonths(2)),
+                new SimuladoCandidato(5, true, false, false, null, null, new long[]{1}, new long[]{10}, new long[]{100},
+                        Set.of(), Set.of(), List.of(), null),
+                new SimuladoCandidato(6, false, false, true, null, null, new long[]{1}, new long[]{10}, new long[]{100},
+                        Set.of(), Set.of(), List.of(), null));
+
+        SimuladoGenerationRequest request = request();
+        request.setNivel(NivelCargo.MEDIO);
+        assertEquals(Set.of(1L, 4L, 6L), new HashSet<>(new SimuladoSampler(pool, request, NOW, new Random(1)).bySubtema(1, 10, Set.of())));
+
+        request.setIgnorarRespondidas(true);
+        assertEquals(Set.of(1L, 6L), new HashSet<>(new SimuladoSampler(pool, request, NOW, new Random(1)).bySubtema(1, 10, Set.of())));
+    }
+
+    @Test
+    void temaAndDisciplinaSelectionsSkipAvoidedLinksAndCollectedIds() {
+        List<SimuladoCandidato> pool = List.of(
+                candidato(1, 1, 10, 100, null, Set.of(), Set.of(), null),
+                candidato(2, 2, 10, 100, null, Set.of(), Set.of(), null),
+                candidato(3, 3, 20, 100, null, Set.of(), Set.of(), null),
+                // Linked to an avoided subtema and to a free one in the same tema
+                new SimuladoCandidato(4, false, false, false, null, null, new long[]{1, 2}, new long[]{10, 10},
+                        new long[]{100, 100}, Set.of(), Set.of(), List.of(), null));
+
+        SimuladoSampler sampler = new SimuladoSampler(pool, request(), NOW, new Random(3));
+
+        assertEquals(Set.of(2L, 4L), new HashSet<>(sampler.byTema(10, List.of(1L), 10, Set.of())));
+        assertEquals(Set.of(3L), new HashSet<>(sampler.byDisciplina(100, List.of(10L), List.of(), 10, Set.of())));
+        assertEquals(Set.of(1L, 3L), new HashSet<>(sampler.byDisciplina(100, List.of(), List.of(), 10, Set.of(2L, 4L))));
+    }
+
+    private static SimuladoGenerationRequest request() {
+        SimuladoGenerationRequest request = new SimuladoGenerationRequest();
+        request.setNome("Sampler");
+        return request;
+    }
+
+    private static SimuladoCandidato candidato(long id, long subtema, long tema, long disciplina, Long banca,
+                                               Set<Long> cargos, Set<NivelCargo> niveis, LocalDateTime ultimaResposta) {
+        return new SimuladoCandidato(id, false, false, false, banca, null,
+                new long[]{subtema}, new long[]{tema}, new long[]{disciplina},
+                cargos, niveis, List.of(), ultimaResposta);
+    }
+}
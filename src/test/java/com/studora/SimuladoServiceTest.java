@@ -10,6 +10,7 @@ import com.studora.entity.Questao;
 import com.studora.entity.Simulado;
 import com.studora.repository.QuestaoRepository;
 import com.studora.repository.RespostaRepository;
+import com.studora.repository.SimuladoCandidato;
 import com.studora.repository.SimuladoRepository;
 import com.studora.service.SimuladoService;
 import com.studora.mapper.SimuladoMapper;
@@ -75,12 +76,17 @@ class SimuladoServiceTest {
         item.setQuantidade(20);
         request.setDisciplinas(java.util.List.of(item));
 
-        // Mock randomization query returning 20 IDs
+        // Mock the candidate pool: 20 questões linked to disciplina 1
         java.util.List<Long> ids = new java.util.ArrayList<>();
-        for (long i = 1; i <= 20; i++) ids.add(i);
+        java.util.List<SimuladoCandidato> pool = new java.util.ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            ids.add(i);
+            pool.add(new SimuladoCandidato(i, false, false, false, null, null,
+                    new long[]{100 + i}, new long[]{10}, new long[]{1},
+                    java.util.Set.of(), java.util.Set.of(), java.util.List.of(), null));
+        }
 
-        when(questaoRepository.findIdsByDisciplinaWithPreferences(anyLong(), any(), any(), any(), any(), any()))
-            .thenReturn(ids);
+        when(questaoRepository.findSimuladoCandidatos(any(), any(), any())).thenReturn(pool);
 
         // Mock loading entities for these IDs
         java.util.List<Questao> questoes = new java.util.ArrayList<>();
@@ -99,7 +105,8 @@ class SimuladoServiceTest {
         simuladoService.gerarSimulado(request);
 
         // Assert
-        verify(questaoRepository, times(1)).findIdsByDisciplinaWithPreferences(eq(1L), any(), any(), any(), any(), any());
+        verify(questaoRepository, times(1)).findSimuladoCandidatos(eq(java.util.List.of()), eq(java.util.List.of()), eq(java.util.List.of(1L)));
+        verify(questaoRepository).findAllById(argThat(c -> new java.util.HashSet<>((java.util.Collection<Long>) c).equals(new java.util.HashSet<>(ids))));
         verify(simuladoRepository).save(argThat(s -> s.getNome().equals("Test Mock Exam")));
     }
 
@@ -126,19 +133,21 @@ class SimuladoServiceTest {
         simulado.setId(1L);
         simulado.setStartedAt(java.time.LocalDateTime.now().minusHours(1));
 
-        Questao q1 = new Questao(); q1.setId(10L);
-        simulado.setQuestoes(new java.util.ArrayList<>(java.util.List.of(q1)));
-
-        when(simuladoRepository.findByIdWithQuestoes(1L)).thenReturn(Optional.of(simulado));
-        when(respostaRepository.countBySimuladoId(1L)).thenReturn(1);
+        when(simuladoRepository.findById(1L)).thenReturn(Optional.of(simulado));
+        // One questão, answered correctly in 30s
+        when(simuladoRepository.findResultadoTotais(1L)).thenReturn(java.util.Collections.singletonList(new Object[]{1, 1, 1, 30, 30}));
+        when(simuladoRepository.findResultadoPorDisciplina(1L)).thenReturn(java.util.Collections.singletonList(new Object[]{5L, "Direito", 1, 1, 30}));
         when(simuladoRepository.save(any())).thenReturn(simulado);
 
         // Act
-        simuladoService.finalizarSimulado(1L);
+        SimuladoDetailDto result = simuladoService.finalizarSimulado(1L);
 
         // Assert
         assertNotNull(simulado.getFinishedAt());
         verify(simuladoRepository).save(simulado);
+        assertEquals(1, result.getResultado().getAcertos());
+        assertEquals(100.0, result.getResultado().getPercentualAcerto());
+        assertEquals("Direito", result.getResultado().getPorDisciplina().get(0).getNome());
     }
 
     @Test
@@ -148,13 +157,9 @@ class SimuladoServiceTest {
         simulado.setId(1L);
         simulado.setStartedAt(java.time.LocalDateTime.now().minusHours(1));
 
-        Questao q1 = new Questao(); q1.setId(10L);
-        Questao q2 = new Questao(); q2.setId(11L);
-        simulado.setQuestoes(new java.util.ArrayList<>(java.util.List.of(q1, q2)));
-
-        when(simuladoRepository.findByIdWithQuestoes(1L)).thenReturn(Optional.of(simulado));
-        // Only one question answered
-        when(respostaRepository.countBySimuladoId(1L)).thenReturn(1);
+        when(simuladoRepository.findById(1L)).thenReturn(Optional.of(simulado));
+        // Two questões, only one answered
+        when(simuladoRepository.findResultadoTotais(1L)).thenReturn(java.util.Collections.singletonList(new Object[]{2, 1, 1, 30, 30}));
 
         // Act & Assert
         com.studora.exception.ValidationException exception = assertThrows(
@@ -0,0 +1,165 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studora.dto.MetricsLevel;
+import com.studora.dto.QuestaoStatsDto;
+import com.studora.entity.*;
+import com.studora.repository.*;
+import com.studora.service.StatsAssembler;
+import com.studora.util.ReferenceFixture;
+import com.studora.util.StatementCounter;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StatsAssemblerBatchTest {
+
+    @Autowired private StatsAssembler statsAssembler;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private EntityManager entityManager;
+    @Autowired private ReferenceFixture referencias;
+    @Autowired private StatementCounter statements;
+
+    @Autowired private DisciplinaRepository disciplinaRepository;
+    @Autowired private TemaRepository temaRepository;
+    @Autowired private SubtemaRepository subtemaRepository;
+    @Autowired private QuestaoRepository questaoRepository;
+    @Autowired private RespostaRepository respostaRepository;
+    @Autowired private QuestaoCargoRepository questaoCargoRepository;
+
+    private Long disciplinaA;
+    private Long disciplinaB;
+    private Long disciplinaVazia;
+    private Long subtemaA;
+    private Long subtemaB;
+    private Long bancaId;
+    private Concurso concurso;
+
+    @BeforeEach
+    void setUp() {
+        Banca banca = referencias.banca("Banca Batch");
+        bancaId = banca.getId();
+        concurso = referencias.concurso(referencias.instituicao("Inst Batch", "Fiscal"), banca, 2023);
+
+        Subtema a = hierarquia("Disciplina Batch A");
+        Subtema b = hierarquia("Disciplina Batch B");
+        disciplinaA = a.getTema().getDisciplina().getId();
+        disciplinaB = b.getTema().getDisciplina().getId();
+        disciplinaVazia = disciplinaRepository.save(new Disciplina("Disciplina Batch Vazia")).getId();
+        subtemaA = a.getId();
+        subtemaB = b.getId();
+
+        questao(a, false, 3);
+        questao(a, true, 2);
+        questao(b, false, 1);
+        questao(b, false, 0);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void batchMatchesPerIdStatsForEveryLevel() throws Exception {
+        List<Long> disciplinas = List.of(disciplinaA, disciplinaB, disciplinaVazia);
+        for (MetricsLevel level : MetricsLevel.values()) {
+            assertSameAsSingle(disciplinas, "DISCIPLINA", level);
+            assertSameAsSingle(List.of(subtemaA, subtemaB), "SUBTEMA", level);
+            assertSameAsSingle(List.of(bancaId), "BANCA", level);
+        }
+    }
+
+    @Test
+    void batchKeepsAutoralOnlyForScopesThatHaveIt() {
+        Map<Long, QuestaoStatsDto> stats = statsAssembler.buildStatsBatch(
+                List.of(disciplinaA, disciplinaB), "DISCIPLINA", MetricsLevel.FULL);
+
+        assertEquals(2L, stats.get(disciplinaA).getTotal().getTotalQuestoes());
+        assertEquals(1L, stats.get(disciplinaA).getPorAutoral().getTotalQuestoes());
+        assertEquals(1L, stats.get(disciplinaA).getPorAutoral().getRespondidas());
+        assertNull(stats.get(disciplinaB).getPorAutoral());
+        assertTrue(statsAssembler.buildStatsBatch(List.of(), "DISCIPLINA", MetricsLevel.FULL).isEmpty());
+    }
+
+    @Test
+    void referenceBreakdownsDoNotGrowWithTheNumberOfIds() throws Exception {
+        List<ConcursoCargo> cargos = List.of(cargoRespondido("Ref 1"), cargoRespondido("Ref 2"), cargoRespondido("Ref 3"));
+        statements.flushAndClear();
+
+        Map<String, List<Long>> idsByScope = Map.of(
+                "BANCA", cargos.stream().map(cc -> cc.getConcurso().getBanca().getId()).toList(),
+                "INSTITUICAO", cargos.stream().map(cc -> cc.getConcurso().getInstituicao().getId()).toList(),
+                "CARGO", cargos.stream().map(cc -> cc.getCargo().getId()).toList());
+        for (Map.Entry<String, List<Long>> scope : idsByScope.entrySet()) {
+            assertSameAsSingle(scope.getValue(), scope.getKey(), MetricsLevel.FULL);
+
+            long one = statements.count(() -> statsAssembler.buildStatsBatch(scope.getValue().subList(0, 1), scope.getKey(), MetricsLevel.FULL));
+            long all = statements.count(() -> statsAssembler.buildStatsBatch(scope.getValue(), scope.getKey(), MetricsLevel.FULL));
+            assertEquals(one, all, scope.getKey());
+        }
+    }
+
+    private void assertSameAsSingle(List<Long> ids, String scope, MetricsLevel level) throws Exception {
+        Map<Long, QuestaoStatsDto> batch = statsAssembler.buildStatsBatch(ids, scope, level);
+        assertEquals(ids.size(), batch.size());
+        for (Long id : ids) {
+            assertEquals(
+                    objectMapper.valueToTree(statsAssembler.buildStats(id, scope, level)),
+                    objectMapper.valueToTree(batch.get(id)),
+                    scope + " " + id + " " + level);
+        }
+    }
+
+    // A cargo of a concurso with its own banca and instituição, and one answered questão
+    private ConcursoCargo cargoRespondido(String nome) {
+        ConcursoCargo concursoCargo = referencias.concursoCargo(nome, "Área " + nome);
+        Questao questao = questaoRepository.save(new Questao(concursoCargo.getConcurso(), "Questão " + nome));
+        QuestaoCargo qc = new QuestaoCargo();
+        qc.setQuestao(questao);
+        qc.setConcursoCargo(concursoCargo);
+        questaoCargoRepository.save(qc);
+
+        Resposta resp = new Resposta();
+        resp.setQuestao(questao);
+        resp.setAlternativaEscolhida(referencias.alternativa(questao, "Certa", true, 1));
+        resp.setTempoRespostaSegundos(40);
+        resp.setCreatedAt(LocalDateTime.now().minusDays(1));
+        respostaRepository.save(resp);
+        return concursoCargo;
+    }
+
+    private Subtema hierarquia(String nome) {
+        Disciplina disciplina = disciplinaRepository.save(new Disciplina(nome));
+        Tema tema = temaRepository.save(new Tema(disciplina, "Tema " + nome));
+        return subtemaRepository.save(new Subtema(tema, "Subtema " + nome));
+    }
+
+    private void questao(Subtema subtema, boolean autoral, int respostas) {
+        Questao questao = new Questao(autoral ? null : concurso, "Questão " + subtema.getNome());
+        questao.setAutoral(autoral);
+        questao.getSubtemas().add(subtema);
+        questao = questaoRepository.save(questao);
+
+        Alternativa certa = referencias.alternativa(questao, "Certa", true, 1);
+        Alternativa errada = referencias.alternativa(questao, "Errada", false, 2);
+        for (int i = 0; i < respostas; i++) {
+            Resposta resp = new Resposta();
+            resp.setQuestao(questao);
+            resp.setAlternativaEscolhida(i % 2 == 0 ? certa : errada);
+            resp.setDificuldade(i == 0 ? Dificuldade.FACIL : Dificuldade.DIFICIL);
+            resp.setTempoRespostaSegundos(20 + i * 15);
+            resp.setCreatedAt(LocalDateTime.now().minusDays(respostas - i));
+            respostaRepository.save(resp);
+        }
+    }
+}
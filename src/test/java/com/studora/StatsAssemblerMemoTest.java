@@ -0,0 +1,123 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.dto.MetricsLevel;
+import com.studora.dto.QuestaoStatsDto;
+import com.studora.dto.StatSliceDto;
+import com.studora.service.StatsAssembler;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Not transactional: the memo is only used by read-only transactions, which each check opens itself.
+ * The stats are of ids with no questões; only the statements they take matter here.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StatsAssemblerMemoTest {
+
+    private static final Long SUBTEMA = 990001L;
+    private static final Long OUTRO_SUBTEMA = 990002L;
+    private static final Long CONCURSO_CARGO = 990003L;
+
+    @Autowired private StatsAssembler statsAssembler;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        newRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void repeatedStatsInOneRequestAreBuiltOnce() {
+        QuestaoStatsDto first = read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL));
+
+        statistics.clear();
+        QuestaoStatsDto again = read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL));
+        assertSame(first, again);
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        // Only the subtema not seen yet is built
+        Map<Long, QuestaoStatsDto> batch = read(() ->
+                statsAssembler.buildStatsBatch(List.of(SUBTEMA, OUTRO_SUBTEMA), "SUBTEMA", MetricsLevel.FULL));
+        assertSame(first, batch.get(SUBTEMA));
+        assertNotNull(batch.get(OUTRO_SUBTEMA));
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+    }
+
+    @Test
+    void keysIncludeScopeTypeAndMetrics() {
+        QuestaoStatsDto full = read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL));
+
+        assertNotSame(full, read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.SUMMARY)));
+        assertNotSame(full, read(() -> statsAssembler.buildStats(SUBTEMA, "TEMA", MetricsLevel.FULL)));
+    }
+
+    @Test
+    void concursoCargoStatsAreMemoizedPerTopico() {
+        Map<Long, Map<Long, StatSliceDto>> first = read(() ->
+                statsAssembler.buildBatchConcursoCargoStats(Map.of(CONCURSO_CARGO, List.of(SUBTEMA)), MetricsLevel.FULL));
+
+        statistics.clear();
+        Map<Long, Map<Long, StatSliceDto>> again = read(() ->
+                statsAssembler.buildBatchConcursoCargoStats(Map.of(CONCURSO_CARGO, List.of(SUBTEMA)), MetricsLevel.FULL));
+        assertSame(first.get(CONCURSO_CARGO).get(SUBTEMA), again.get(CONCURSO_CARGO).get(SUBTEMA));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void memoEndsWithTheRequest() {
+        QuestaoStatsDto first = read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL));
+
+        newRequest();
+        assertNotSame(first, read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL)));
+
+        RequestContextHolder.resetRequestAttributes();
+        QuestaoStatsDto outsideRequest = read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL));
+        assertNotSame(outsideRequest, read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL)));
+    }
+
+    @Test
+    void writeTransactionsDoNotUseTheMemo() {
+        QuestaoStatsDto first = read(() -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL));
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        assertNotSame(first, readWrite.execute(status -> statsAssembler.buildStats(SUBTEMA, "SUBTEMA", MetricsLevel.FULL)));
+    }
+
+    private <T> T read(Supplier<T> work) {
+        return readOnly.execute(status -> work.get());
+    }
+
+    private void newRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.studora.config.BoundedCache;
+import com.studora.dto.banca.BancaSummaryDto;
+import com.studora.dto.disciplina.DisciplinaSummaryDto;
+import com.studora.dto.subtema.SubtemaSummaryDto;
+import com.studora.repository.QuestaoRepository;
+import com.studora.repository.SubtemaRepository;
+import com.studora.service.StatsCacheInvalidator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.SimpleCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class StatsCacheInvalidatorTest {
+
+    @Mock private QuestaoRepository questaoRepository;
+    @Mock private SubtemaRepository subtemaRepository;
+
+    private BoundedCache disciplinas;
+    private BoundedCache subtemas;
+    private BoundedCache bancas;
+    private StatsCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        disciplinas = new BoundedCache("disciplina-stats", 10, null, ids(DisciplinaSummaryDto.class, DisciplinaSummaryDto::getId));
+        subtemas = new BoundedCache("subtema-stats", 10, null, ids(SubtemaSummaryDto.class, SubtemaSummaryDto::getId));
+        bancas = new BoundedCache("banca-stats", 10, null, ids(BancaSummaryDto.class, BancaSummaryDto::getId));
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(disciplinas, subtemas, bancas));
+        cacheManager.afterPropertiesSet();
+        invalidator = new StatsCacheInvalidator(cacheManager, questaoRepository, subtemaRepository);
+
+        disciplinas.put("page-0", List.of(disciplina(1L), disciplina(2L)));
+        disciplinas.put("page-1", List.of(disciplina(3L)));
+        subtemas.put("tema-10", List.of(subtema(100L), subtema(101L)));
+        subtemas.put("tema-11", List.of(subtema(110L)));
+        bancas.put("page-0", List.of(banca(7L)));
+        bancas.put("page-1", List.of(banca(8L)));
+    }
+
+    @Test
+    void answerEvictsOnlyEntriesOfTheQuestaoScopes() {
+        when(questaoRepository.findTaxonomyIdsById(5L)).thenReturn(List.<Object[]>of(new Object[]{101L, 10L, 1L}));
+        when(questaoRepository.findBancaIdsById(5L)).thenReturn(List.of(7L));
+
+        invalidator.evictForQuestao(5L);
+
+        assertNull(disciplinas.get("page-0"));
+        assertNotNull(disciplinas.get("page-1"));
+        assertNull(subtemas.get("tema-10"));
+        assertNotNull(subtemas.get("tema-11"));
+        assertNull(bancas.get("page-0"));
+        assertNotNull(bancas.get("page-1"));
+    }
+
+    @Test
+    void studySessionLeavesBancaStatsAlone() {
+        when(subtemaRepository.findTaxonomyIdsById(110L)).thenReturn(List.<Object[]>of(new Object[]{110L, 11L, 3L}));
+
+        invalidator.evictForSubtema(110L);
+
+        assertNotNull(disciplinas.get("page-0"));
+        assertNull(disciplinas.get("page-1"));
+        assertNull(subtemas.get("tema-11"));
+        assertNotNull(bancas.get("page-0"));
+        assertNotNull(bancas.get("page-1"));
+    }
+
+    private static <T> Function<Object, Set<Long>> ids(Class<T> type, Function<T, Long> id) {
+        return value -> {
+            Set<Long> ids = new HashSet<>();
+            for (Object item : (Iterable<?>) value) ids.add(id.apply(type.cast(item)));
+            return ids;
+        };
+    }
+
+    private static DisciplinaSummaryDto disciplina(Long id) {
+        DisciplinaSummaryDto dto = new DisciplinaSummaryDto();
+        dto.setId(id);
+        return dto;
+    }
+
+    private static SubtemaSummaryDto subtema(Long id) {
+        SubtemaSummaryDto dto = new SubtemaSummaryDto();
+        dto.setId(id);
+        return dto;
+    }
+
+    private static BancaSummaryDto banca(Long id) {
+        BancaSummaryDto dto = new BancaSummaryDto();
+        dto.setId(id);
+        return dto;
+    }
+}
@@ -42,6 +42,10 @@ class SubtemaServiceTest {
     private com.studora.repository.EstudoSubtemaRepository estudoSubtemaRepository;
     @Mock
     private com.studora.service.StatsAssembler statsAssembler;
+    @Mock
+    private com.studora.repository.RespostaAgregadoDiarioRepository agregadoRepository;
+    @Mock
+    private com.studora.service.QuestaoRandomPool questaoRandomPool;
 
     private SubtemaService subtemaService;
 
@@ -51,7 +55,7 @@ class SubtemaServiceTest {
 
         SubtemaMapper realMapper = org.mapstruct.factory.Mappers.getMapper(SubtemaMapper.class);
 
-        subtemaService = new SubtemaService(subtemaRepository, temaRepository, questaoRepository, estudoSubtemaRepository, realMapper, statsAssembler, Runnable::run);
+        subtemaService = new SubtemaService(subtemaRepository, temaRepository, questaoRepository, estudoSubtemaRepository, realMapper, statsAssembler, Runnable::run, agregadoRepository, questaoRandomPool);
     }
 
     @Test
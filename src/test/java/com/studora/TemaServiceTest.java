@@ -48,6 +48,10 @@ class TemaServiceTest {
     private SubtemaService subtemaService;
     @Mock
     private com.studora.service.StatsAssembler statsAssembler;
+    @Mock
+    private com.studora.repository.RespostaAgregadoDiarioRepository agregadoRepository;
+    @Mock
+    private com.studora.service.QuestaoRandomPool questaoRandomPool;
 
     private TemaService temaService;
 
@@ -60,7 +64,7 @@ class TemaServiceTest {
         ReflectionTestUtils.setField(realMapper, "disciplinaMapper", discMapper);
 
         temaService = new TemaService(temaRepository, disciplinaRepository, subtemaRepository,
-                estudoSubtemaRepository, realMapper, subtemaService, statsAssembler);
+                estudoSubtemaRepository, realMapper, subtemaService, statsAssembler, agregadoRepository, questaoRandomPool);
     }
 
     @Test
@@ -0,0 +1,142 @@
+package com.studora;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.studora.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Answers submitted from many threads against a file database, first through one shared pool of
+ * 16 connections (the previous setup) and then through {@link DataSourceConfig}'s single writer,
+ * with read-only transactions running alongside. Prints answers per second and how many
+ * transactions SQLite turned away with SQLITE_BUSY. Run with {@code -Dtest=WriteConcurrencyIT}.
+ */
+class WriteConcurrencyIT {
+
+    private static final int WRITERS = 16;
+    private static final int ANSWERS_PER_WRITER = 250;
+    private static final int READERS = 4;
+
+    @TempDir Path dir;
+
+    private record Result(double answersPerSecond, long busy, long reads, long stored) {}
+
+    @Test
+    void singleWriterRemovesBusyRetries() throws Exception {
+        Result pooled;
+        try (HikariDataSource pool = pool(dir.resolve("pooled.db"), 16)) {
+            pooled = run(pool, pool);
+        }
+
+        Result single;
+        try (HikariDataSource writer = pool(dir.resolve("single.db"), 16);
+             HikariDataSource reader = pool(dir.resolve("single.db"), 8)) {
+            reader.setConnectionInitSql("PRAGMA query_only = 1");
+            single = run(new DataSourceConfig().dataSource(writer, reader, 64), writer);
+        }
+
+        System.out.printf("shared pool (16):  %8.0f respostas/s, %5d SQLITE_BUSY, %7d leituras%n",
+                pooled.answersPerSecond(), pooled.busy(), pooled.reads());
+        System.out.printf("single writer:     %8.0f respostas/s, %5d SQLITE_BUSY, %7d leituras%n",
+                single.answersPerSecond(), single.busy(), single.reads());
+
+        long expected = (long) WRITERS * ANSWERS_PER_WRITER;
+        assertEquals(expected, pooled.stored());
+        assertEquals(expected, single.stored());
+        assertEquals(0, single.busy());
+        assertTrue(single.reads() > 0);
+    }
+
+    private static HikariDataSource pool(Path file, int size) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setJdbcUrl("jdbc:sqlite:" + file + "?journal_mode=WAL&synchronous=NORMAL");
+        ds.setMaximumPoolSize(size);
+        ds.setConnectionTimeout(60_000);
+        return ds;
+    }
+
+    private Result run(DataSource dataSource, DataSource schema) throws Exception {
+        Flyway.configure().dataSource(schema).locations("classpath:db/migration").load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO questao (enunciado, anulada, desatualizada, autoral, created_at, updated_at) "
+                + "VALUES ('Carga', 0, 0, 1, '2026-01-01 00:00:00', '2026-01-01 00:00:00')");
+        long questaoId = jdbc.queryForObject("SELECT MAX(id) FROM questao", Long.class);
+        jdbc.update("INSERT INTO alternativa (questao_id, ordem, texto, correta, created_at, updated_at) "
+                + "VALUES (?, 1, 'A', 1, '2026-01-01 00:00:00', '2026-01-01 00:00:00')", questaoId);
+        long alternativaId = jdbc.queryForObject("SELECT MAX(id) FROM alternativa", Long.class);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+
+        AtomicLong busy = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int r = 0; r < READERS; r++) {
+            readers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    read.executeWithoutResult(status -> jdbc.queryForObject(
+                            "SELECT COUNT(*) FROM resposta WHERE questao_id = ?", Long.class, questaoId));
+                    reads.incrementAndGet();
+                }
+            }));
+        }
+        for (int w = 0; w < WRITERS; w++) {
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < ANSWERS_PER_WRITER; i++) {
+                    while (true) {
+                        try {
+                            // Read, then write: what submitting an answer does
+                            write.executeWithoutResult(status -> {
+                                jdbc.queryForObject("SELECT correta FROM alternativa WHERE id = ?", Boolean.class, alternativaId);
+                                jdbc.update("INSERT INTO resposta (questao_id, alternativa_id, dificuldade_id, tempo_resposta_segundos, "
+                                        + "created_at, updated_at) VALUES (?, ?, 2, 30, datetime('now'), datetime('now'))",
+                                        questaoId, alternativaId);
+                            });
+                            break;
+                        } catch (RuntimeException e) {
+                            if (!isBusy(e)) throw e;
+                            busy.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> writer : writers) writer.get();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        writing.set(false);
+        for (Future<?> reader : readers) reader.get();
+        executor.shutdown();
+
+        long stored = jdbc.queryForObject("SELECT COUNT(*) FROM resposta", Long.class);
+        return new Result(WRITERS * ANSWERS_PER_WRITER / seconds, busy.get(), reads.get(), stored);
+    }
+
+    private static boolean isBusy(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("SQLITE_BUSY")) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package com.studora.util;
+
+import com.studora.dto.request.RespostaCreateRequest;
+import com.studora.entity.*;
+import com.studora.service.RespostaService;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists the instituições, bancas, cargos and concursos that questões and simulados point to,
+ * and the alternativas and respostas of questões. Every cargo is SUPERIOR and every concurso is
+ * from January.
+ */
+@Component
+public class ReferenceFixture {
+
+    private final EntityManager entityManager;
+    private final RespostaService respostaService;
+
+    public ReferenceFixture(EntityManager entityManager, RespostaService respostaService) {
+        this.entityManager = entityManager;
+        this.respostaService = respostaService;
+    }
+
+    public Instituicao instituicao(String nome, String area) {
+        Instituicao instituicao = new Instituicao();
+        instituicao.setNome(nome);
+        instituicao.setArea(area);
+        entityManager.persist(instituicao);
+        return instituicao;
+    }
+
+    public Banca banca(String nome) {
+        Banca banca = new Banca();
+        banca.setNome(nome);
+        entityManager.persist(banca);
+        return banca;
+    }
+
+    public Cargo cargo(String nome, String area) {
+        Cargo cargo = new Cargo();
+        cargo.setNome(nome);
+        cargo.setNivel(NivelCargo.SUPERIOR);
+        cargo.setArea(area);
+        entityManager.persist(cargo);
+        return cargo;
+    }
+
+    public Concurso concurso(Instituicao instituicao, Banca banca, int ano) {
+        Concurso concurso = new Concurso(instituicao, banca, ano, 1);
+        entityManager.persist(concurso);
+        return concurso;
+    }
+
+    public ConcursoCargo concursoCargo(Concurso concurso, Cargo cargo) {
+        ConcursoCargo concursoCargo = new ConcursoCargo();
+        concursoCargo.setConcurso(concurso);
+        concursoCargo.setCargo(cargo);
+        entityManager.persist(concursoCargo);
+        return concursoCargo;
+    }
+
+    /** A cargo of a concurso, with its own instituição, banca and cargo, all named after {@code nome}. */
+    public ConcursoCargo concursoCargo(String nome, String area) {
+        Concurso concurso = concurso(instituicao("Inst " + nome, area), banca("Banca " + nome), 2024);
+        return concursoCargo(concurso, cargo("Cargo " + nome, area));
+    }
+
+    public Alternativa alternativa(Questao questao, String texto, boolean correta, int ordem) {
+        return alternativa(questao, texto, correta, ordem, null);
+    }
+
+    /** Also added to the questão's alternativas, which services read the gabarito from. */
+    public Alternativa alternativa(Questao questao, String texto, boolean correta, int ordem, String justificativa) {
+        Alternativa alternativa = new Alternativa();
+        alternativa.setQuestao(questao);
+        alternativa.setTexto(texto);
+        alternativa.setCorreta(correta);
+        alternativa.setOrdem(ordem);
+        alternativa.setJustificativa(justificativa);
+        entityManager.persist(alternativa);
+        questao.getAlternativas().add(alternativa);
+        return alternativa;
+    }
+
+    /** Answers through RespostaService, so the roll-ups it maintains are kept up to date. */
+    public Long responder(Questao questao, Alternativa alternativa, Dificuldade dificuldade, Integer tempo) {
+        RespostaCreateRequest request = new RespostaCreateRequest();
+        request.setQuestaoId(questao.getId());
+        request.setAlternativaId(alternativa.getId());
+        request.setDificuldadeId(dificuldade.getId());
+        request.setTempoRespostaSegundos(tempo);
+        return respostaService.createResposta(request).getId();
+    }
+}
@@ -0,0 +1,39 @@
+package com.studora.util;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the JDBC statements a piece of work prepares, for tests that check a read does not
+ * issue more queries as its data grows.
+ */
+@Component
+public class StatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Statements prepared by {@code work}. Pending writes are flushed and the persistence context
+     * cleared first, so the fixture is neither counted nor served from memory.
+     */
+    public long count(Runnable work) {
+        flushAndClear();
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}